@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import oshi.hardware.SensorReading;
+import oshi.hardware.Sensors;
+import oshi.util.GlobalConfig;
+
+/**
+ * Benchmarks of the Linux {@link Sensors} over a synthetic {@code /sys/class/hwmon} tree, so that the results do not
+ * depend on the sensors of the machine running them. Sampling reads only the sensor value files found by the last
+ * discovery; the {@code rediscover} benchmark adds or removes a device before each sample, forcing the full directory
+ * scan that sampling otherwise avoids.
+ *
+ * <p>
+ * Linux only. The fixture is installed as {@link GlobalConfig#OSHI_UTIL_SYS_PATH}, which must be set before OSHI first
+ * resolves it, so this benchmark relies on JMH running it in a fresh fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-native-access=ALL-UNNAMED")
+public class LinuxSensorsBenchmark {
+
+    private static final int TEMPS_PER_CHIP = 8;
+    private static final int FANS_PER_CHIP = 6;
+    private static final int VOLTAGES_PER_CHIP = 8;
+
+    /** The number of hwmon devices in the fixture; server BMCs and multi-GPU hosts expose dozens. */
+    @Param({ "4", "32" })
+    public int chips;
+
+    private Path sys;
+    private Path hotplug;
+    private Sensors sensors;
+
+    /** Creates a new benchmark instance. Required by JMH for {@code @State} classes. */
+    public LinuxSensorsBenchmark() {
+    }
+
+    /**
+     * Builds the fixture and gets the {@link Sensors} reading it, with memoization disabled.
+     *
+     * @throws IOException if the fixture cannot be written
+     */
+    @Setup
+    public void setup() throws IOException {
+        sys = Files.createTempDirectory("oshi-sys");
+        Path hwmon = Files.createDirectories(sys.resolve("class/hwmon"));
+        Files.createDirectories(sys.resolve("class/thermal"));
+        for (int i = 0; i < chips; i++) {
+            Path chip = Files.createDirectories(hwmon.resolve("hwmon" + i));
+            write(chip.resolve("name"), i == 0 ? "coretemp" : "nct6775");
+            for (int t = 1; t <= TEMPS_PER_CHIP; t++) {
+                write(chip.resolve("temp" + t + "_input"), Integer.toString(40_000 + t * 500));
+                write(chip.resolve("temp" + t + "_label"), "Core " + (t - 1));
+                write(chip.resolve("temp" + t + "_max"), "100000");
+                write(chip.resolve("temp" + t + "_crit"), "105000");
+            }
+            for (int f = 1; f <= FANS_PER_CHIP; f++) {
+                write(chip.resolve("fan" + f + "_input"), Integer.toString(800 + f * 100));
+                write(chip.resolve("fan" + f + "_min"), "300");
+            }
+            for (int v = 0; v < VOLTAGES_PER_CHIP; v++) {
+                write(chip.resolve("in" + v + "_input"), Integer.toString(1000 + v * 50));
+            }
+        }
+        hotplug = hwmon.resolve("hwmon" + chips);
+
+        GlobalConfig.set(GlobalConfig.OSHI_UTIL_SYS_PATH, sys.toString());
+        GlobalConfig.set(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION, 0);
+        sensors = new oshi.SystemInfo().getHardware().getSensors();
+    }
+
+    /**
+     * Deletes the fixture.
+     *
+     * @throws IOException if the fixture cannot be listed
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(sys)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /**
+     * Benchmarks {@link Sensors#getSensorReadings()}, which reads every input of every device.
+     *
+     * @return the readings, to prevent dead-code elimination
+     */
+    @Benchmark
+    public List<SensorReading> readings() {
+        return sensors.getSensorReadings();
+    }
+
+    /**
+     * Benchmarks {@link Sensors#getCpuTemperature()}, which reads the inputs of the device chosen for it.
+     *
+     * @return the temperature, to prevent dead-code elimination
+     */
+    @Benchmark
+    public double cpuTemperature() {
+        return sensors.getCpuTemperature();
+    }
+
+    /**
+     * Benchmarks {@link Sensors#getSensorReadings()} after a device is added or removed, which rediscovers every device
+     * before reading them: the cost each sample would have if discovery were not cached.
+     *
+     * @return the readings, to prevent dead-code elimination
+     * @throws IOException if the device directory cannot be added or removed
+     */
+    @Benchmark
+    public List<SensorReading> rediscover() throws IOException {
+        if (Files.exists(hotplug)) {
+            Files.delete(hotplug);
+        } else {
+            Files.createDirectory(hotplug);
+        }
+        return sensors.getSensorReadings();
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Standalone entry point for running this benchmark outside the fat jar.
+     *
+     * @param args command-line arguments (unused)
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(LinuxSensorsBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -81,6 +81,24 @@ public class NetworkIFBenchmark {
         }
     }
 
+    /**
+     * Benchmarks the FFM implementation of {@link NetworkIF#updateAttributes()} with {@code io_uring} enabled. On Linux
+     * this reads each interface's sysfs counters in one batch of a few system calls rather than with three per file.
+     *
+     * @param bh JMH black hole to prevent dead-code elimination
+     */
+    @Benchmark
+    public void ffmIoUring(Blackhole bh) {
+        GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, true);
+        try {
+            for (NetworkIF nif : ffmIfs) {
+                bh.consume(nif.updateAttributes());
+            }
+        } finally {
+            GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, false);
+        }
+    }
+
     /**
      * Standalone entry point for running this benchmark outside the fat jar.
      *
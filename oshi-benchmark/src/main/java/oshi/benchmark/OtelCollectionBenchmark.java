@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.benchmark;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.CentralProcessor.TickType;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.otel.OshiTelemetry;
+import oshi.software.os.OperatingSystem;
+import oshi.util.GlobalConfig;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+
+/**
+ * Compares one OpenTelemetry collection of OSHI's CPU, memory, disk and process instruments when they are observed by
+ * {@link OshiTelemetry}'s single batch callback, which reads each source once, against one callback per instrument,
+ * each reading its own source, as each Micrometer meter does. Pair with {@code -prof gc} for the allocation per
+ * collection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-native-access=ALL-UNNAMED")
+public class OtelCollectionBenchmark {
+
+    private static final double MS_PER_SECOND = 1000.0;
+
+    private SdkMeterProvider batchProvider;
+    private InMemoryMetricReader batchReader;
+    private SdkMeterProvider perInstrumentProvider;
+    private InMemoryMetricReader perInstrumentReader;
+
+    /** Creates a new benchmark instance. Required by JMH for {@code @State} classes. */
+    public OtelCollectionBenchmark() {
+    }
+
+    /**
+     * Registers the same instruments with two meter providers, one observed by a batch callback and one by a callback
+     * per instrument, with memoization disabled so that neither is served from a cache between collections.
+     */
+    @Setup
+    public void setup() {
+        GlobalConfig.set(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION, 0);
+        oshi.SystemInfo si = new oshi.SystemInfo();
+        HardwareAbstractionLayer hal = si.getHardware();
+        OperatingSystem os = si.getOperatingSystem();
+
+        batchReader = InMemoryMetricReader.create();
+        batchProvider = SdkMeterProvider.builder().registerMetricReader(batchReader).build();
+        OshiTelemetry.builder(hal, os).enableGeneral(false).enablePaging(false).enableFileSystem(false)
+                .enableNetwork(false).build().register(batchProvider.get(OshiTelemetry.INSTRUMENTATION_SCOPE));
+
+        perInstrumentReader = InMemoryMetricReader.create();
+        perInstrumentProvider = SdkMeterProvider.builder().registerMetricReader(perInstrumentReader).build();
+        registerPerInstrument(perInstrumentProvider.get(OshiTelemetry.INSTRUMENTATION_SCOPE), hal, os);
+    }
+
+    /**
+     * Closes the meter providers.
+     */
+    @TearDown
+    public void tearDown() {
+        batchProvider.close();
+        perInstrumentProvider.close();
+    }
+
+    /**
+     * Benchmarks one collection with a single batch callback.
+     *
+     * @return the collected metrics
+     */
+    @Benchmark
+    public Collection<MetricData> batchCallback() {
+        return batchReader.collectAllMetrics();
+    }
+
+    /**
+     * Benchmarks one collection with a callback per instrument.
+     *
+     * @return the collected metrics
+     */
+    @Benchmark
+    public Collection<MetricData> perInstrumentCallbacks() {
+        return perInstrumentReader.collectAllMetrics();
+    }
+
+    private static void registerPerInstrument(Meter meter, HardwareAbstractionLayer hal, OperatingSystem os) {
+        // CPU
+        CentralProcessor processor = hal.getProcessor();
+        AttributeKey<String> mode = AttributeKey.stringKey("cpu.mode");
+        for (TickType type : TickType.values()) {
+            int index = type.getIndex();
+            String name = type == TickType.IRQ ? "interrupt" : type.name().toLowerCase(Locale.ROOT);
+            doubleCounter(meter, "system.cpu.time", "s", Attributes.of(mode, name),
+                    () -> processor.getSystemCpuLoadTicks()[index] / MS_PER_SECOND);
+        }
+        longUpDownCounter(meter, "system.cpu.physical.count", "{cpu}", Attributes.empty(),
+                processor::getPhysicalProcessorCount);
+        longUpDownCounter(meter, "system.cpu.logical.count", "{cpu}", Attributes.empty(),
+                processor::getLogicalProcessorCount);
+        AttributeKey<String> logicalNumber = AttributeKey.stringKey("cpu.logical_number");
+        for (int i = 0; i < processor.getLogicalProcessorCount(); i++) {
+            int cpu = i;
+            doubleGauge(meter, "system.cpu.frequency", "Hz", Attributes.of(logicalNumber, String.valueOf(i)), () -> {
+                long[] freqs = processor.getCurrentFreq();
+                return cpu < freqs.length ? Math.max(0L, freqs[cpu]) : 0d;
+            });
+        }
+
+        // Memory
+        GlobalMemory memory = hal.getMemory();
+        AttributeKey<String> state = AttributeKey.stringKey("system.memory.state");
+        longUpDownCounter(meter, "system.memory.usage", "By", Attributes.of(state, "used"),
+                () -> memory.getTotal() - memory.getAvailable());
+        longUpDownCounter(meter, "system.memory.usage", "By", Attributes.of(state, "free"), memory::getAvailable);
+        longUpDownCounter(meter, "system.memory.limit", "By", Attributes.empty(), memory::getTotal);
+        doubleGauge(meter, "system.memory.utilization", "1", Attributes.of(state, "used"),
+                () -> (double) (memory.getTotal() - memory.getAvailable()) / memory.getTotal());
+        doubleGauge(meter, "system.memory.utilization", "1", Attributes.of(state, "free"),
+                () -> (double) memory.getAvailable() / memory.getTotal());
+
+        // Disks, each refreshed by every callback which reads it
+        AttributeKey<String> device = AttributeKey.stringKey("system.device");
+        AttributeKey<String> direction = AttributeKey.stringKey("disk.io.direction");
+        for (HWDiskStore disk : hal.getDiskStores()) {
+            Attributes attrs = Attributes.of(device, disk.getName());
+            Attributes read = Attributes.of(device, disk.getName(), direction, "read");
+            Attributes write = Attributes.of(device, disk.getName(), direction, "write");
+            longCounter(meter, "system.disk.io", "By", read, () -> disk.updateAttributes() ? disk.getReadBytes() : 0L);
+            longCounter(meter, "system.disk.io", "By", write,
+                    () -> disk.updateAttributes() ? disk.getWriteBytes() : 0L);
+            longCounter(meter, "system.disk.operations", "{operation}", read,
+                    () -> disk.updateAttributes() ? disk.getReads() : 0L);
+            longCounter(meter, "system.disk.operations", "{operation}", write,
+                    () -> disk.updateAttributes() ? disk.getWrites() : 0L);
+            doubleCounter(meter, "system.disk.io_time", "s", attrs,
+                    () -> disk.updateAttributes() ? disk.getTransferTime() / MS_PER_SECOND : 0d);
+            longUpDownCounter(meter, "system.disk.limit", "By", attrs, disk::getSize);
+        }
+
+        // Current process, one snapshot per callback
+        AttributeKey<String> faultType = AttributeKey.stringKey("system.paging.fault.type");
+        doubleCounter(meter, "process.cpu.time", "s", Attributes.of(mode, "user"),
+                () -> os.getCurrentProcessSnapshot().getUserTime() / MS_PER_SECOND);
+        doubleCounter(meter, "process.cpu.time", "s", Attributes.of(mode, "system"),
+                () -> os.getCurrentProcessSnapshot().getKernelTime() / MS_PER_SECOND);
+        longUpDownCounter(meter, "process.memory.usage", "By", Attributes.empty(),
+                () -> os.getCurrentProcessSnapshot().getResidentMemory());
+        longUpDownCounter(meter, "process.memory.virtual", "By", Attributes.empty(),
+                () -> os.getCurrentProcessSnapshot().getVirtualSize());
+        longCounter(meter, "process.disk.io", "By", Attributes.of(direction, "read"),
+                () -> os.getCurrentProcessSnapshot().getBytesRead());
+        longCounter(meter, "process.disk.io", "By", Attributes.of(direction, "write"),
+                () -> os.getCurrentProcessSnapshot().getBytesWritten());
+        longUpDownCounter(meter, "process.thread.count", "{thread}", Attributes.empty(),
+                () -> os.getCurrentProcessSnapshot().getThreadCount());
+        longUpDownCounter(meter, "process.open_file_descriptor.count", "{file_descriptor}", Attributes.empty(),
+                () -> os.getCurrentProcessSnapshot().getOpenFiles());
+        longCounter(meter, "process.paging.faults", "{fault}", Attributes.of(faultType, "minor"),
+                () -> os.getCurrentProcessSnapshot().getMinorFaults());
+        longCounter(meter, "process.paging.faults", "{fault}", Attributes.of(faultType, "major"),
+                () -> os.getCurrentProcessSnapshot().getMajorFaults());
+        doubleGauge(meter, "process.uptime", "s", Attributes.empty(),
+                () -> os.getCurrentProcessSnapshot().getUpTime() / MS_PER_SECOND);
+    }
+
+    private static void longCounter(Meter meter, String name, String unit, Attributes attrs, LongSupplier value) {
+        meter.counterBuilder(name).setUnit(unit).buildWithCallback(m -> m.record(value.getAsLong(), attrs));
+    }
+
+    private static void doubleCounter(Meter meter, String name, String unit, Attributes attrs, DoubleSupplier value) {
+        meter.counterBuilder(name).setUnit(unit).ofDoubles()
+                .buildWithCallback(m -> m.record(value.getAsDouble(), attrs));
+    }
+
+    private static void longUpDownCounter(Meter meter, String name, String unit, Attributes attrs, LongSupplier value) {
+        meter.upDownCounterBuilder(name).setUnit(unit).buildWithCallback(m -> m.record(value.getAsLong(), attrs));
+    }
+
+    private static void doubleGauge(Meter meter, String name, String unit, Attributes attrs, DoubleSupplier value) {
+        meter.gaugeBuilder(name).setUnit(unit).buildWithCallback(m -> m.record(value.getAsDouble(), attrs));
+    }
+
+    /**
+     * Standalone entry point for running this benchmark outside the fat jar.
+     *
+     * @param args command-line arguments (unused)
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(OtelCollectionBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
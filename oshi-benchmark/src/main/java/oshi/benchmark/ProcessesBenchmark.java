@@ -24,6 +24,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import oshi.software.os.OSProcess;
 import oshi.software.os.OperatingSystem;
+import oshi.util.GlobalConfig;
 
 /**
  * Side-by-side benchmarks of JNA vs FFM implementations of {@link OperatingSystem#getProcesses()}.
@@ -51,18 +52,23 @@ public class ProcessesBenchmark {
 
     private OperatingSystem jnaOs;
     private OperatingSystem ffmOs;
+    private List<OSProcess> jnaProcesses;
+    private List<OSProcess> ffmProcesses;
 
     /** Creates a new benchmark instance. Required by JMH for {@code @State} classes. */
     public ProcessesBenchmark() {
     }
 
     /**
-     * Initializes JNA and FFM {@link OperatingSystem} instances.
+     * Initializes JNA and FFM {@link OperatingSystem} instances and the process lists refreshed by the
+     * {@code *UpdateAttributes} benchmarks.
      */
     @Setup
     public void setup() {
         jnaOs = new oshi.SystemInfo().getOperatingSystem();
         ffmOs = new oshi.ffm.SystemInfo().getOperatingSystem();
+        jnaProcesses = jnaOs.getProcesses();
+        ffmProcesses = ffmOs.getProcesses();
     }
 
     /**
@@ -85,6 +91,55 @@ public class ProcessesBenchmark {
         return ffmOs.getProcesses();
     }
 
+    /**
+     * Benchmarks the FFM implementation of {@link OperatingSystem#getProcesses()} with {@code io_uring} enabled. On
+     * Linux this reads the {@code /proc/[pid]} files of all processes in batches of a few system calls rather than with
+     * several per process; elsewhere, or where {@code io_uring} is not permitted, it matches {@link #ffm()}.
+     *
+     * @return the list of OS processes
+     */
+    @Benchmark
+    public List<OSProcess> ffmIoUring() {
+        GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, true);
+        try {
+            return ffmOs.getProcesses();
+        } finally {
+            GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, false);
+        }
+    }
+
+    /**
+     * Benchmarks refreshing every process with the JNA implementation of {@link OSProcess#updateAttributes()}. On Linux
+     * this reads each {@code /proc/[pid]} file by its absolute path.
+     *
+     * @return the number of processes still running
+     */
+    @Benchmark
+    public int jnaUpdateAttributes() {
+        return updateAll(jnaProcesses);
+    }
+
+    /**
+     * Benchmarks refreshing every process with the FFM implementation of {@link OSProcess#updateAttributes()}. On Linux
+     * this opens each {@code /proc/[pid]} directory once and reads its files with {@code openat}.
+     *
+     * @return the number of processes still running
+     */
+    @Benchmark
+    public int ffmUpdateAttributes() {
+        return updateAll(ffmProcesses);
+    }
+
+    private static int updateAll(List<OSProcess> processes) {
+        int running = 0;
+        for (OSProcess p : processes) {
+            if (p.updateAttributes()) {
+                running++;
+            }
+        }
+        return running;
+    }
+
     /**
      * Standalone entry point for running this benchmark outside the fat jar.
      *
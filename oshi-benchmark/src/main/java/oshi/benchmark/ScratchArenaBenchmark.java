@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.benchmark;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.ffm.ForeignFunctions;
+import oshi.util.LogLevel;
+
+/**
+ * Benchmarks of the arena behind the FFM {@code callInArena*} helpers: the per-thread scratch arena they use, which
+ * reuses a preallocated slab, vs. the confined arena they used to open for every call, which allocates and frees native
+ * memory. Each operation allocates a struct the size of a Linux {@code struct statvfs} and a {@code long}, as the
+ * {@code statvfs} and {@code sysctl} wrappers do, without making the native call, so only the arena cost is measured.
+ * <p>
+ * Like {@code ReuseVsRecreateBenchmark}, this is not JNA vs. FFM; pair it with {@code -prof gc} for per-call
+ * allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-native-access=ALL-UNNAMED")
+public class ScratchArenaBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScratchArenaBenchmark.class);
+
+    private static final long STRUCT_SIZE = 112L;
+
+    /** Creates a new benchmark instance. Required by JMH for {@code @State} classes. */
+    public ScratchArenaBenchmark() {
+    }
+
+    /**
+     * Benchmarks one operation in the scratch arena of {@link ForeignFunctions#callInArenaLongOrDefault}.
+     *
+     * @return the value read back, to prevent dead-code elimination
+     */
+    @Benchmark
+    public long scratch() {
+        return ForeignFunctions.callInArenaLongOrDefault(ScratchArenaBenchmark::operation, LOG, LogLevel.DEBUG,
+                "Scratch arena operation failed", -1L);
+    }
+
+    /**
+     * Benchmarks one operation in a new confined arena.
+     *
+     * @return the value read back, to prevent dead-code elimination
+     */
+    @Benchmark
+    public long confined() {
+        try (Arena arena = Arena.ofConfined()) {
+            return operation(arena);
+        }
+    }
+
+    private static long operation(Arena arena) {
+        MemorySegment struct = arena.allocate(STRUCT_SIZE, JAVA_LONG.byteAlignment());
+        MemorySegment size = arena.allocateFrom(JAVA_LONG, STRUCT_SIZE);
+        struct.set(JAVA_LONG, 8, size.get(JAVA_LONG, 0));
+        return struct.get(JAVA_LONG, 8);
+    }
+
+    /**
+     * Standalone entry point for running this benchmark outside the fat jar.
+     *
+     * @param args command-line arguments (unused)
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(ScratchArenaBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
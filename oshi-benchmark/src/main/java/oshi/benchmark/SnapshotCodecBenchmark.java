@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import oshi.SystemInfo;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.software.os.OperatingSystem;
+import oshi.util.snapshot.SnapshotEncoder;
+import oshi.util.snapshot.SystemSnapshot;
+
+/**
+ * Compares the cost of serializing the same system state with Jackson, as {@code oshi-demo}'s {@code OshiHTTPServer}
+ * does, against the binary {@link SnapshotEncoder}, both as a self-contained keyframe and as a delta from the previous
+ * frame.
+ *
+ * <p>
+ * The JSON model holds the OSHI objects captured once in {@link #setup()}, so only serialization is timed. The delta
+ * benchmark re-encodes an unchanged snapshot, the best case; {@link #main(String[])} first prints the frame sizes,
+ * including a delta after a one-second interval, which is the representative case for size.
+ *
+ * <pre>
+ *   java -jar oshi-benchmark/target/benchmarks.jar SnapshotCodecBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsPrepend = "--enable-native-access=ALL-UNNAMED")
+public class SnapshotCodecBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SnapshotEncoder keyframeEncoder = new SnapshotEncoder();
+    private final SnapshotEncoder deltaEncoder = new SnapshotEncoder(0);
+    private final SystemSnapshot snapshot = new SystemSnapshot();
+    private Map<String, Object> jsonModel;
+
+    /** Creates a new benchmark instance. Required by JMH for {@code @State} classes. */
+    public SnapshotCodecBenchmark() {
+    }
+
+    /**
+     * Captures the system state once as OSHI objects for the JSON benchmark and as a {@link SystemSnapshot} for the
+     * binary benchmarks.
+     */
+    @Setup
+    public void setup() {
+        SystemInfo si = new SystemInfo();
+        jsonModel = captureJsonModel(si.getHardware(), si.getOperatingSystem());
+        snapshot.update(si.getHardware(), si.getOperatingSystem());
+        deltaEncoder.encode(snapshot);
+    }
+
+    private static Map<String, Object> captureJsonModel(HardwareAbstractionLayer hal, OperatingSystem os) {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("cpuTicks", hal.getProcessor().getSystemCpuLoadTicks());
+        model.put("processorTicks", hal.getProcessor().getProcessorCpuLoadTicks());
+        model.put("memory", hal.getMemory());
+        model.put("processes", os.getProcesses());
+        model.put("networkIFs", hal.getNetworkIFs());
+        model.put("diskStores", hal.getDiskStores());
+        model.put("fileStores", os.getFileSystem().getFileStores());
+        model.put("connections", os.getInternetProtocolStats().getConnections());
+        return model;
+    }
+
+    /**
+     * Benchmarks Jackson serialization of the captured OSHI objects.
+     *
+     * @return the JSON bytes
+     * @throws JsonProcessingException if serialization fails
+     */
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(jsonModel);
+    }
+
+    /**
+     * Benchmarks encoding the snapshot as a keyframe.
+     *
+     * @return the number of bytes encoded
+     */
+    @Benchmark
+    public int binaryKeyframe() {
+        keyframeEncoder.reset();
+        return keyframeEncoder.encode(snapshot).remaining();
+    }
+
+    /**
+     * Benchmarks encoding the snapshot as a delta from the previous frame.
+     *
+     * @return the number of bytes encoded
+     */
+    @Benchmark
+    public int binaryDelta() {
+        return deltaEncoder.encode(snapshot).remaining();
+    }
+
+    /**
+     * Prints the encoded sizes, then runs the benchmark.
+     *
+     * @param args command-line arguments (unused)
+     * @throws RunnerException         if the benchmark fails
+     * @throws InterruptedException    if interrupted while waiting between snapshots
+     * @throws JsonProcessingException if JSON serialization fails
+     */
+    public static void main(String[] args) throws RunnerException, InterruptedException, JsonProcessingException {
+        SystemInfo si = new SystemInfo();
+        HardwareAbstractionLayer hal = si.getHardware();
+        OperatingSystem os = si.getOperatingSystem();
+        SnapshotEncoder encoder = new SnapshotEncoder();
+        SystemSnapshot snapshot = new SystemSnapshot();
+        snapshot.update(hal, os);
+        int json = new ObjectMapper().writeValueAsBytes(captureJsonModel(hal, os)).length;
+        int keyframe = encoder.encode(snapshot).remaining();
+        Thread.sleep(1000L);
+        snapshot.update(hal, os);
+        int delta = encoder.encode(snapshot).remaining();
+        System.out.printf("%d processes: JSON %,d bytes, keyframe %,d bytes, 1s delta %,d bytes%n",
+                snapshot.getProcesses().size(), json, keyframe, delta);
+
+        Options opt = new OptionsBuilder().include(SnapshotCodecBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -72,6 +72,8 @@ import org.jspecify.annotations.NullMarked;
     exports oshi.util.driver.linux.proc;
     exports oshi.util.driver.unix;
     exports oshi.util.linux;
+    exports oshi.util.monitor;
+    exports oshi.util.snapshot;
     exports oshi.util.tuples;
 
     uses oshi.spi.SystemInfoProvider;
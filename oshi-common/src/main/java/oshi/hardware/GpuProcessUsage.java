@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.hardware;
+
+import java.util.Collections;
+import java.util.Map;
+
+import oshi.annotation.PublicApi;
+import oshi.annotation.concurrent.Immutable;
+
+/**
+ * The use one process makes of a GPU, as sampled by {@link GpuStats#getProcessUsage()}. A process may have several
+ * clients of the GPU, as when it opens the device more than once; their usage is summed.
+ *
+ * <p>
+ * Engines are named by the driver, e.g. {@code gfx}, {@code compute} and {@code dec} for amdgpu, or {@code render},
+ * {@code copy} and {@code video} for i915. Memory regions are likewise named by the driver, e.g. {@code vram} and
+ * {@code gtt} for amdgpu, or {@code system} and {@code local0} for i915.
+ */
+@PublicApi
+@Immutable
+public final class GpuProcessUsage {
+
+    private final int processId;
+    private final int clientCount;
+    private final Map<String, Long> engineTime;
+    private final Map<String, Double> engineUtilization;
+    private final Map<String, Long> memory;
+
+    /**
+     * Creates a new usage sample.
+     *
+     * @param processId         the process ID
+     * @param clientCount       the number of GPU clients of the process
+     * @param engineTime        cumulative busy time in nanoseconds, by engine
+     * @param engineUtilization utilization in percent since the previous sample, by engine
+     * @param memory            resident memory in bytes, by memory region
+     */
+    public GpuProcessUsage(int processId, int clientCount, Map<String, Long> engineTime,
+            Map<String, Double> engineUtilization, Map<String, Long> memory) {
+        this.processId = processId;
+        this.clientCount = clientCount;
+        this.engineTime = Collections.unmodifiableMap(engineTime);
+        this.engineUtilization = Collections.unmodifiableMap(engineUtilization);
+        this.memory = Collections.unmodifiableMap(memory);
+    }
+
+    /**
+     * Gets the process ID.
+     *
+     * @return the process ID
+     */
+    public int getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Gets the number of GPU clients of the process. A client shared with other processes is counted only for the one
+     * with the lowest process ID.
+     *
+     * @return the number of clients
+     */
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    /**
+     * Gets the cumulative time each engine spent busy with the work of this process.
+     *
+     * @return nanoseconds, by engine name
+     */
+    public Map<String, Long> getEngineTime() {
+        return engineTime;
+    }
+
+    /**
+     * Gets the share of each engine's capacity used by this process since the previous sample taken by the same
+     * session. Empty on the first sample of a process, which records the baseline.
+     *
+     * @return utilization in the range 0.0 to 100.0, by engine name
+     */
+    public Map<String, Double> getEngineUtilization() {
+        return engineUtilization;
+    }
+
+    /**
+     * Gets the GPU memory this process has resident in each memory region.
+     *
+     * @return bytes, by region name
+     */
+    public Map<String, Long> getMemory() {
+        return memory;
+    }
+
+    @Override
+    public String toString() {
+        return "GpuProcessUsage{processId=" + processId + ", clientCount=" + clientCount + ", engineUtilization="
+                + engineUtilization + ", memory=" + memory + '}';
+    }
+}
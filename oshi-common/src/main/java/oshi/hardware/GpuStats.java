@@ -4,6 +4,9 @@
  */
 package oshi.hardware;
 
+import java.util.Collections;
+import java.util.List;
+
 import oshi.annotation.PublicApi;
 import oshi.annotation.concurrent.ThreadSafe;
 
@@ -213,4 +216,27 @@ public interface GpuStats extends AutoCloseable {
      *                               {@link GraphicsCard#createStatsSession()}
      */
     double getFanSpeedPercent();
+
+    /**
+     * Returns the use each process makes of this GPU: the busy time of each engine, the utilization computed as a delta
+     * against the previous call on this session, and the memory resident in each region.
+     *
+     * <p>
+     * Currently available on Linux only, for drivers reporting DRM client usage in {@code /proc/[pid]/fdinfo}, such as
+     * amdgpu, i915 and xe from Linux 5.19. Without privileges, only the processes of the same user are visible. The
+     * first call records a baseline for each process, whose {@link GpuProcessUsage#getEngineUtilization()} is empty
+     * until the next call.
+     *
+     * <p>
+     * Finding the processes using the GPU reads the {@code fdinfo} of every open file of every process, once. Later
+     * calls on the same session read only those of the GPU and those opened since, so hold one session open when
+     * polling.
+     *
+     * @return the usage of each process with a client of this GPU, ordered by process ID; empty if unavailable
+     * @throws IllegalStateException if the session has been closed; obtain a new session via
+     *                               {@link GraphicsCard#createStatsSession()}
+     */
+    default List<GpuProcessUsage> getProcessUsage() {
+        return Collections.emptyList();
+    }
 }
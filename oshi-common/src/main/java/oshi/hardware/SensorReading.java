@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.hardware;
+
+import java.util.Locale;
+
+import oshi.annotation.PublicApi;
+import oshi.annotation.concurrent.Immutable;
+
+/**
+ * A single reading of one hardware sensor, such as one temperature input of a hardware monitoring chip.
+ * <p>
+ * Readings are obtained from {@link Sensors#getSensorReadings()}.
+ */
+@PublicApi
+@Immutable
+public final class SensorReading {
+
+    /**
+     * The quantity a sensor measures. Each reading's value is in the unit given for its type.
+     */
+    public enum Type {
+        /**
+         * Temperature, in degrees Celsius.
+         */
+        TEMPERATURE,
+        /**
+         * Fan speed, in revolutions per minute.
+         */
+        FAN,
+        /**
+         * Voltage, in Volts.
+         */
+        VOLTAGE,
+        /**
+         * Current, in Amperes.
+         */
+        CURRENT,
+        /**
+         * Power, in Watts.
+         */
+        POWER,
+        /**
+         * Energy consumed, in Joules.
+         */
+        ENERGY,
+        /**
+         * Relative humidity, in percent.
+         */
+        HUMIDITY
+    }
+
+    private final String chip;
+    private final String label;
+    private final Type type;
+    private final double value;
+
+    /**
+     * Creates a SensorReading.
+     *
+     * @param chip  the name of the device the sensor belongs to
+     * @param label the name of the sensor on its device
+     * @param type  the quantity measured
+     * @param value the value, in the unit of the type
+     */
+    public SensorReading(String chip, String label, Type type, double value) {
+        this.chip = chip;
+        this.label = label;
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * Gets the name of the device the sensor belongs to, such as {@code coretemp} or {@code nct6775} for a Linux hwmon
+     * chip.
+     *
+     * @return the chip name
+     */
+    public String getChip() {
+        return chip;
+    }
+
+    /**
+     * Gets the name of the sensor on its device, such as {@code Package id 0}, or the sensor's input name, such as
+     * {@code temp1}, if the device does not label it.
+     *
+     * @return the label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets the quantity the sensor measures.
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the value read.
+     *
+     * @return the value, in the unit of {@link #getType()}
+     */
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s/%s %s=%s", chip, label, type, value);
+    }
+}
@@ -4,6 +4,9 @@
  */
 package oshi.hardware;
 
+import java.util.Collections;
+import java.util.List;
+
 import oshi.annotation.PublicApi;
 import oshi.annotation.concurrent.ThreadSafe;
 
@@ -64,4 +67,18 @@ public interface Sensors {
      *         reliable values.
      */
     double getCpuVoltage();
+
+    /**
+     * All hardware sensors the operating system exposes, rather than only those chosen for the CPU temperature, fan
+     * speeds and CPU voltage.
+     *
+     * @return one reading of each sensor. May be empty if sensors are not available or are not enumerated on this
+     *         platform.
+     *         <p>
+     *         On Linux, lists the hwmon and thermal zone sensors. Sensors are discovered once, and again only when a
+     *         hwmon device is added or removed; each call reads only the sensors' value files.
+     */
+    default List<SensorReading> getSensorReadings() {
+        return Collections.emptyList();
+    }
 }
@@ -4,6 +4,7 @@
  */
 package oshi.hardware.common;
 
+import static oshi.util.Memoizer.cpuTicksExpiration;
 import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
 
@@ -44,9 +45,11 @@ public abstract class AbstractCentralProcessor implements CentralProcessor {
     private final Supplier<Long> contextSwitches = memoize(this::queryContextSwitches, defaultExpiration());
     private final Supplier<Long> interrupts = memoize(this::queryInterrupts, defaultExpiration());
 
-    private final Supplier<long[]> systemCpuLoadTicks = memoize(this::querySystemCpuLoadTicks, defaultExpiration());
+    // Never refreshed in the background: getSystemCpuLoad(delay) and getProcessorCpuLoad(delay) need a new reading
+    // after the delay
+    private final Supplier<long[]> systemCpuLoadTicks = memoize(this::querySystemCpuLoadTicks, cpuTicksExpiration());
     private final Supplier<long[][]> processorCpuLoadTicks = memoize(this::queryProcessorCpuLoadTicks,
-            defaultExpiration());
+            cpuTicksExpiration());
 
     // Logical and Physical Processor Counts
     private final int physicalPackageCount;
@@ -8,9 +8,12 @@ import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.SensorReading;
 import oshi.hardware.Sensors;
 
 /**
@@ -31,6 +34,9 @@ public abstract class AbstractSensors implements Sensors {
 
     private final Supplier<Double> cpuVoltage = memoize(this::queryCpuVoltage, defaultExpiration());
 
+    private final Supplier<List<SensorReading>> sensorReadings = memoize(this::querySensorReadings,
+            defaultExpiration());
+
     @Override
     public double getCpuTemperature() {
         return cpuTemperature.get();
@@ -67,6 +73,20 @@ public abstract class AbstractSensors implements Sensors {
      */
     protected abstract double queryCpuVoltage();
 
+    @Override
+    public List<SensorReading> getSensorReadings() {
+        return sensorReadings.get();
+    }
+
+    /**
+     * Queries every sensor. Platforms which do not enumerate their sensors need not override this.
+     *
+     * @return an unmodifiable list of readings, empty by default
+     */
+    protected List<SensorReading> querySensorReadings() {
+        return Collections.emptyList();
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
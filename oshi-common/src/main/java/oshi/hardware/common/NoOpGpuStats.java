@@ -4,9 +4,12 @@
  */
 package oshi.hardware.common;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.GpuProcessUsage;
 import oshi.hardware.GpuStats;
 import oshi.hardware.GpuTicks;
 
@@ -93,6 +96,12 @@ public final class NoOpGpuStats implements GpuStats {
         return -1d;
     }
 
+    @Override
+    public List<GpuProcessUsage> getProcessUsage() {
+        checkOpen();
+        return Collections.emptyList();
+    }
+
     private void checkOpen() {
         if (closed.get()) {
             throw new IllegalStateException(
@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.linux;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -35,7 +36,8 @@ public final class LinuxGlobalMemory extends AbstractGlobalMemory {
         this.pageSize = pageSize;
     }
 
-    private final Supplier<Pair<Long, Long>> availTotal = memoize(LinuxGlobalMemory::readMemInfo, defaultExpiration());
+    private final Supplier<Pair<Long, Long>> availTotal = memoizeConfigured(LinuxGlobalMemory::readMemInfo,
+            memoryExpiration());
 
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
 
@@ -5,15 +5,23 @@
 package oshi.hardware.common.platform.linux;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.GpuProcessUsage;
 import oshi.hardware.GpuStats;
 import oshi.hardware.GpuTicks;
 import oshi.util.FileUtil;
 import oshi.util.ParseUtil;
+import oshi.util.driver.linux.proc.DrmFdInfo;
 
 /**
  * Linux {@link GpuStats} session. Dynamic metrics are sourced in priority order: NVML (NVIDIA GPUs), then sysfs DRM
@@ -22,7 +30,8 @@ import oshi.util.ParseUtil;
  *
  * <p>
  * GPU ticks are not available on Linux and always return {@code (0L, 0L)}. Shared memory is read from the amdgpu GTT
- * counter and returns -1 on every other driver.
+ * counter and returns -1 on every other driver. Process usage is read from the DRM client keys of
+ * {@code /proc/[pid]/fdinfo}, matched to this card by PCI address, or by driver for cards without one.
  *
  * <p>
  * Subclasses provide the NVML integration via JNA or FFM by implementing the {@code nvml*} methods.
@@ -38,6 +47,11 @@ public abstract class LinuxGpuStats implements GpuStats {
     private final String hwmonPath;
     private final String gt0Path;
 
+    private final DrmFdInfo fdInfo;
+    // Engine busy times of each client at the previous process usage sample, by device and client ID
+    private Map<String, Map<String, Long>> clientEngineTime = Collections.emptyMap();
+    private long processSampleNanos;
+
     private boolean closed;
 
     /**
@@ -49,6 +63,20 @@ public abstract class LinuxGpuStats implements GpuStats {
      * @param cardName      card name for NVML fallback lookup
      */
     protected LinuxGpuStats(String drmDevicePath, String driverName, String pciBusId, String cardName) {
+        this(drmDevicePath, driverName, pciBusId, cardName, new DrmFdInfo());
+    }
+
+    /**
+     * Constructor reading process usage from the given {@link DrmFdInfo}, for testability.
+     *
+     * @param drmDevicePath sysfs device path
+     * @param driverName    driver name
+     * @param pciBusId      PCI bus ID for NVML correlation
+     * @param cardName      card name for NVML fallback lookup
+     * @param fdInfo        source of the DRM clients of each process
+     */
+    LinuxGpuStats(String drmDevicePath, String driverName, String pciBusId, String cardName, DrmFdInfo fdInfo) {
+        this.fdInfo = fdInfo;
         this.drmDevicePath = drmDevicePath;
         this.driverName = driverName;
         this.pciBusId = pciBusId;
@@ -385,6 +413,70 @@ public abstract class LinuxGpuStats implements GpuStats {
         return -1d;
     }
 
+    @Override
+    public synchronized List<GpuProcessUsage> getProcessUsage() {
+        checkOpen();
+        long now = System.nanoTime();
+        double elapsed = processSampleNanos == 0L ? 0d : now - processSampleNanos;
+        Map<String, Map<String, Long>> engineTime = new HashMap<>();
+        // Keyed by process ID, in the order of the clients
+        Map<Integer, ProcessUsageBuilder> builders = new LinkedHashMap<>();
+        for (DrmFdInfo.Client client : fdInfo.query()) {
+            if (!isClientOfThisCard(client)) {
+                continue;
+            }
+            String key = client.getKey();
+            engineTime.put(key, client.getEngineTime());
+            Map<String, Long> previous = clientEngineTime.get(key);
+            ProcessUsageBuilder builder = builders.computeIfAbsent(client.getProcessId(),
+                    pid -> new ProcessUsageBuilder());
+            builder.clients++;
+            for (Map.Entry<String, Long> e : client.getEngineTime().entrySet()) {
+                String engine = e.getKey();
+                builder.engineTime.merge(engine, e.getValue(), Long::sum);
+                Long before = previous == null ? null : previous.get(engine);
+                if (before != null && elapsed > 0 && e.getValue() >= before) {
+                    builder.engineBusy.merge(engine,
+                            (e.getValue() - before) / (elapsed * client.getEngineCapacity(engine)), Double::sum);
+                }
+            }
+            client.getMemory().forEach((region, bytes) -> builder.memory.merge(region, bytes, Long::sum));
+        }
+        clientEngineTime = engineTime;
+        processSampleNanos = now;
+
+        List<GpuProcessUsage> usage = new ArrayList<>(builders.size());
+        for (Map.Entry<Integer, ProcessUsageBuilder> e : builders.entrySet()) {
+            ProcessUsageBuilder builder = e.getValue();
+            Map<String, Double> utilization = new LinkedHashMap<>();
+            builder.engineBusy.forEach((engine, busy) -> utilization.put(engine, Math.min(100d, busy * 100d)));
+            usage.add(
+                    new GpuProcessUsage(e.getKey(), builder.clients, builder.engineTime, utilization, builder.memory));
+        }
+        return Collections.unmodifiableList(usage);
+    }
+
+    /*
+     * Clients report the PCI address of their device, if it has one, and always their driver
+     */
+    private boolean isClientOfThisCard(DrmFdInfo.Client client) {
+        if (!pciBusId.isEmpty() && !client.getPciDevice().isEmpty()) {
+            return pciBusId.equalsIgnoreCase(client.getPciDevice());
+        }
+        return !driverName.isEmpty() && driverName.equalsIgnoreCase(client.getDriver());
+    }
+
+    /**
+     * The clients of one process, summed.
+     */
+    private static final class ProcessUsageBuilder {
+        private int clients;
+        private final Map<String, Long> engineTime = new LinkedHashMap<>();
+        // Busy fraction of each engine's capacity over the elapsed time
+        private final Map<String, Double> engineBusy = new LinkedHashMap<>();
+        private final Map<String, Long> memory = new LinkedHashMap<>();
+    }
+
     private void checkOpen() {
         if (closed) {
             throw new IllegalStateException(
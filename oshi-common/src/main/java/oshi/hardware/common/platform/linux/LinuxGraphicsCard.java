@@ -6,9 +6,12 @@ package oshi.hardware.common.platform.linux;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.ToLongFunction;
 
 import org.jspecify.annotations.Nullable;
@@ -20,17 +23,26 @@ import oshi.util.Constants;
 import oshi.util.ExecutingCommand;
 import oshi.util.FileUtil;
 import oshi.util.ParseUtil;
+import oshi.util.driver.linux.PciIds;
+import oshi.util.linux.SysPath;
 import oshi.util.tuples.Pair;
 import oshi.util.tuples.Triplet;
 
 /**
- * Graphics card info obtained by lshw, with dynamic metrics from sysfs DRM driver files.
+ * Graphics card info obtained from the PCI devices in sysfs, named from {@code pci.ids}, or by lspci or lshw where
+ * sysfs has no PCI devices, with dynamic metrics from sysfs DRM driver files.
  */
 @ThreadSafe
 public abstract class LinuxGraphicsCard extends AbstractGraphicsCard {
 
     private static final String DRM_PATH = "/sys/class/drm/";
 
+    // Flags of a sysfs PCI resource, from the kernel's ioport.h
+    private static final long IORESOURCE_MEM = 0x200L;
+    private static final long IORESOURCE_PREFETCH = 0x2000L;
+    // The resource file lists the 6 BARs, then the expansion ROM and any bridge windows
+    private static final int PCI_BAR_COUNT = 6;
+
     // sysfs path for this card's device directory, e.g. /sys/class/drm/card0/device
     // Empty string if this card has no associated DRM sysfs entry.
     private final String drmDevicePath;
@@ -187,12 +199,12 @@ public abstract class LinuxGraphicsCard extends AbstractGraphicsCard {
     }
 
     /**
-     * Returns the total VRAM for a card from sysfs when the driver publishes it, falling back to the size parsed from
-     * lspci or lshw.
+     * Returns the total VRAM for a card from sysfs when the driver publishes it, falling back to the size read from
+     * sysfs, lspci or lshw.
      *
      * <p>
-     * The lspci and lshw values are memory BAR sizes, which are the aperture the card exposes to the host rather than
-     * the memory it has. amdgpu publishes the real total, so read that when it is there. NVML takes precedence on
+     * The sysfs, lspci and lshw values are memory BAR sizes, which are the aperture the card exposes to the host rather
+     * than the memory it has. amdgpu publishes the real total, so read that when it is there. NVML takes precedence on
      * NVIDIA cards, so a backend that has an NVML lookup calls this only after that lookup comes back empty.
      *
      * @param attrs the parsed attributes for the card
@@ -209,20 +221,103 @@ public abstract class LinuxGraphicsCard extends AbstractGraphicsCard {
     }
 
     /**
-     * Queries graphics cards from lspci/lshw and constructs instances using the provided factory.
+     * Queries graphics cards from sysfs, or lspci/lshw, and constructs instances using the provided factory.
      *
      * @param factory function that creates a concrete {@link GraphicsCard} from parsed attributes
      * @return list of graphics cards
      */
     public static List<GraphicsCard> getGraphicsCards(Function<Attrs, GraphicsCard> factory) {
-        List<GraphicsCard> cardList = getGraphicsCardsFromLspci(factory);
+        // sysfs lists the same devices lspci reads, without a fork per query and per card
+        List<GraphicsCard> cardList = new File(SysPath.PCI_DEVICES).isDirectory()
+                ? getGraphicsCardsFromSysfs(SysPath.PCI_DEVICES, factory, PciIds::queryVendorName,
+                        PciIds::queryDeviceName, LinuxGraphicsCard::findDrmInfo)
+                : getGraphicsCardsFromLspci(factory);
         if (cardList.isEmpty()) {
             cardList = getGraphicsCardsFromLshw(factory);
         }
         return cardList;
     }
 
-    // Faster, use as primary
+    /**
+     * Looks up a PCI device name by vendor and device ID.
+     */
+    @FunctionalInterface
+    interface DeviceNameLookup {
+        @Nullable
+        String apply(int vendorId, int deviceId);
+    }
+
+    /**
+     * Reads graphics card information from the PCI devices in sysfs, in the form lspci reports it.
+     *
+     * @param pciPath      the sysfs PCI device directory, e.g. {@code /sys/bus/pci/devices/}
+     * @param factory      function that creates a concrete {@link GraphicsCard} from parsed attributes
+     * @param vendorLookup function to look up a vendor name by vendor ID
+     * @param deviceLookup function to look up a device name by vendor and device ID
+     * @param drmLookup    function to look up DRM info for a PCI slot address
+     * @return list of graphics cards, in PCI address order
+     */
+    static List<GraphicsCard> getGraphicsCardsFromSysfs(String pciPath, Function<Attrs, GraphicsCard> factory,
+            IntFunction<@Nullable String> vendorLookup, DeviceNameLookup deviceLookup,
+            Function<@Nullable String, Triplet<String, String, String>> drmLookup) {
+        List<GraphicsCard> cardList = new ArrayList<>();
+        File[] devices = new File(pciPath).listFiles();
+        if (devices == null) {
+            return cardList;
+        }
+        Arrays.sort(devices, Comparator.comparing(File::getName));
+        for (File device : devices) {
+            String path = device.getPath();
+            // 24 bits of base class, subclass and programming interface; base class 0x03 is Display controller
+            if (ParseUtil.hexStringToInt(FileUtil.getStringFromFile(path + "/class").trim(), 0) >>> 16 != 0x03) {
+                continue;
+            }
+            int vendorId = ParseUtil.hexStringToInt(FileUtil.getStringFromFile(path + "/vendor").trim(), 0);
+            int deviceId = ParseUtil.hexStringToInt(FileUtil.getStringFromFile(path + "/device").trim(), 0);
+            String vendorHex = String.format(Locale.ROOT, "0x%04x", vendorId);
+            String vendorName = vendorLookup.apply(vendorId);
+            String deviceName = deviceLookup.apply(vendorId, deviceId);
+            // e.g. 0xa1, which lspci reports as a1
+            String revision = FileUtil.getStringFromFile(path + "/revision").trim();
+            if (revision.startsWith("0x")) {
+                revision = revision.substring(2);
+            }
+            Triplet<String, String, String> drmInfo = drmLookup.apply(device.getName());
+            cardList.add(factory.apply(new Attrs(deviceName == null ? Constants.UNKNOWN : deviceName,
+                    String.format(Locale.ROOT, "0x%04x", deviceId),
+                    vendorName == null ? vendorHex : vendorName + " (" + vendorHex + ")",
+                    revision.isEmpty() ? Constants.UNKNOWN : "Rev:\t" + revision,
+                    queryResourceMemorySize(FileUtil.readFile(path + "/resource", false)), drmInfo.getA(),
+                    drmInfo.getB(), drmInfo.getC())));
+        }
+        return cardList;
+    }
+
+    /**
+     * Sums the prefetchable memory BARs of a sysfs PCI {@code resource} file, as {@link #queryLspciMemorySize} does for
+     * lspci output.
+     *
+     * @param resource the lines of the {@code resource} file, each the start, end and flags of a region
+     * @return total prefetchable memory size in bytes
+     */
+    static long queryResourceMemorySize(List<String> resource) {
+        long vram = 0L;
+        for (int i = 0; i < resource.size() && i < PCI_BAR_COUNT; i++) {
+            String[] split = ParseUtil.whitespaces.split(resource.get(i).trim());
+            if (split.length < 3) {
+                continue;
+            }
+            long start = ParseUtil.hexStringToLong(split[0], 0L);
+            long end = ParseUtil.hexStringToLong(split[1], 0L);
+            long flags = ParseUtil.hexStringToLong(split[2], 0L);
+            if ((flags & IORESOURCE_MEM) != 0 && (flags & IORESOURCE_PREFETCH) != 0 && end > start) {
+                vram += end - start + 1;
+            }
+        }
+        return vram;
+    }
+
+    // Faster than lshw; used where sysfs has no PCI devices
     private static List<GraphicsCard> getGraphicsCardsFromLspci(Function<Attrs, GraphicsCard> factory) {
         return getGraphicsCardsFromLspci(ExecutingCommand.runNative("lspci -vnnmm"), factory,
                 slot -> queryLspciMemorySize(ExecutingCommand.runNative("lspci -v -s " + slot)),
@@ -4,7 +4,15 @@
  */
 package oshi.hardware.common.platform.linux;
 
+import static oshi.util.Memoizer.defaultExpiration;
+import static oshi.util.Memoizer.memoize;
+
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
 
 import oshi.annotation.concurrent.ThreadSafe;
 import oshi.hardware.BluetoothDevice;
@@ -12,11 +20,15 @@ import oshi.hardware.CentralProcessor;
 import oshi.hardware.ComputerSystem;
 import oshi.hardware.Display;
 import oshi.hardware.GlobalMemory;
+import oshi.hardware.LogicalVolumeGroup;
 import oshi.hardware.Sensors;
 import oshi.hardware.SoundCard;
 import oshi.hardware.common.AbstractHardwareAbstractionLayer;
 import oshi.hardware.common.platform.unix.UnixDisplay;
 import oshi.util.driver.linux.DrmEdid;
+import oshi.util.driver.linux.proc.PressureStall;
+import oshi.util.driver.linux.proc.PressureStall.Pressure;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
 import oshi.util.tuples.Triplet;
 
 /**
@@ -25,10 +37,27 @@ import oshi.util.tuples.Triplet;
 @ThreadSafe
 public abstract class LinuxHardwareAbstractionLayer extends AbstractHardwareAbstractionLayer {
 
+    private final Map<Resource, Supplier<@Nullable Pressure>> pressure = new EnumMap<>(Resource.class);
+
     /**
      * Default constructor.
      */
     protected LinuxHardwareAbstractionLayer() {
+        for (Resource r : Resource.values()) {
+            pressure.put(r, memoize(() -> PressureStall.queryPressure(r), defaultExpiration()));
+        }
+    }
+
+    /**
+     * Gets the system-wide Pressure Stall Information for a resource: the percentage of time over the last 10, 60 and
+     * 300 seconds in which some or all tasks were stalled waiting for it, and the total stall time. Unlike the load
+     * average, this distinguishes waiting for CPU, memory and I/O.
+     *
+     * @param resource the resource
+     * @return the pressure, or null if the kernel does not provide PSI
+     */
+    public @Nullable Pressure getPressure(Resource resource) {
+        return pressure.get(resource).get();
     }
 
     @Override
@@ -62,4 +91,9 @@ public abstract class LinuxHardwareAbstractionLayer extends AbstractHardwareAbst
     public List<BluetoothDevice> getBluetoothDevices() {
         return LinuxBluetoothDevice.getBluetoothDevices();
     }
+
+    @Override
+    public List<LogicalVolumeGroup> getLogicalVolumeGroups() {
+        return LinuxLogicalVolumeGroup.queryLogicalVolumeGroups(LinuxLogicalVolumeGroup::new);
+    }
 }
@@ -19,12 +19,27 @@ import org.jspecify.annotations.Nullable;
 import oshi.hardware.LogicalVolumeGroup;
 import oshi.hardware.common.AbstractLogicalVolumeGroup;
 import oshi.util.ExecutingCommand;
+import oshi.util.FileUtil;
+import oshi.util.GlobalConfig;
 import oshi.util.ParseUtil;
 import oshi.util.Util;
 import oshi.util.linux.DevPath;
+import oshi.util.linux.SysPath;
 
 /**
  * Linux implementation of LogicalVolumeGroup.
+ *
+ * <p>
+ * Volume groups are assembled from sysfs without running LVM tools, which take global locks and can block for seconds
+ * on busy storage hosts. Each device-mapper device whose {@code dm/uuid} marks it as LVM's is a logical volume, named
+ * by the {@code DM_VG_NAME} and {@code DM_LV_NAME} properties of the udev database where udev has recorded them, and
+ * otherwise by its {@code dm/name}. Its {@code slaves} are the physical volumes it spans, followed through any
+ * device-mapper devices LVM stacks beneath it, such as the data volume of a thin pool.
+ *
+ * <p>
+ * The groups are scanned again only after the kernel has emitted a uevent, as when a volume is activated, removed or
+ * renamed. A physical volume without any extent of an active logical volume is not visible in sysfs; set
+ * {@link GlobalConfig#OSHI_OS_LINUX_LVM_PVS} to also list physical volumes with {@code pvs}.
  */
 public class LinuxLogicalVolumeGroup extends AbstractLogicalVolumeGroup {
 
@@ -37,6 +52,14 @@ public class LinuxLogicalVolumeGroup extends AbstractLogicalVolumeGroup {
     /** Device-mapper logical volume name property. */
     protected static final String DM_LV_NAME = "DM_LV_NAME";
 
+    private static final String LVM_UUID_PREFIX = "LVM-";
+    // The udev database entry of a block device is named b<major>:<minor>
+    private static final String UDEV_DATA = "/run/udev/data/b";
+    private static final String UDEV_PROPERTY = "E:";
+
+    // The groups found by the last scan. A racing scan stores an equal inventory
+    private static volatile @Nullable Inventory inventory;
+
     /**
      * Creates a LinuxLogicalVolumeGroup.
      *
@@ -50,7 +73,7 @@ public class LinuxLogicalVolumeGroup extends AbstractLogicalVolumeGroup {
 
     /**
      * Populates the physical volumes map from the {@code pvs} command output. Requires elevated permissions; may return
-     * an empty map if the command fails.
+     * an empty map if the command fails. Only run if {@link GlobalConfig#OSHI_OS_LINUX_LVM_PVS} is set.
      *
      * @return map of VG name to set of PV device paths
      */
@@ -77,8 +100,8 @@ public class LinuxLogicalVolumeGroup extends AbstractLogicalVolumeGroup {
     }
 
     /**
-     * The udev attributes of one block device, read by the bindings so the device-mapper filtering and volume-group
-     * assembly can be shared. Any field may be null if udev did not report that property.
+     * The udev attributes of one block device, so the device-mapper filtering and volume-group assembly can be shared
+     * between sources. Any field may be null if udev did not report that property.
      */
     public static final class UdevBlockDevice {
         private final @Nullable String syspath;
@@ -123,16 +146,114 @@ public class LinuxLogicalVolumeGroup extends AbstractLogicalVolumeGroup {
     }
 
     /**
-     * Assembles volume groups from enumerated block devices, keeping only the device-mapper devices that LVM owns and
-     * reading each one's physical volumes from its sysfs {@code slaves} directory.
+     * Gets the volume groups, scanning sysfs only if a uevent has been emitted since the last scan.
      *
-     * @param devices the block devices reported by udev
      * @param factory creates the binding's volume group type
      * @return the volume groups, never null
      */
-    protected static List<LogicalVolumeGroup> buildLogicalVolumeGroups(List<UdevBlockDevice> devices,
-            LogicalVolumeGroupFactory factory) {
-        return buildLogicalVolumeGroups(devices, queryPhysicalVolumes(), factory);
+    protected static List<LogicalVolumeGroup> queryLogicalVolumeGroups(LogicalVolumeGroupFactory factory) {
+        return queryLogicalVolumeGroups(factory, SysPath.UEVENT_SEQNUM, SysPath.BLOCK, UDEV_DATA);
+    }
+
+    /**
+     * Gets the volume groups from the given paths. Package-private for testing.
+     *
+     * @param factory      creates the binding's volume group type
+     * @param seqnumPath   the file holding the kernel uevent sequence number
+     * @param blockPath    the sysfs block device directory
+     * @param udevDataPath the prefix of udev database entries of block devices
+     * @return the volume groups, never null
+     */
+    static List<LogicalVolumeGroup> queryLogicalVolumeGroups(LogicalVolumeGroupFactory factory, String seqnumPath,
+            String blockPath, String udevDataPath) {
+        // Incremented by the kernel for every uevent, including the add, remove and change of any block device
+        String seqnum = FileUtil.getStringFromFile(seqnumPath);
+        boolean runPvs = GlobalConfig.get(GlobalConfig.OSHI_OS_LINUX_LVM_PVS, false);
+        Inventory current = inventory;
+        if (current == null || seqnum.isEmpty() || !seqnum.equals(current.seqnum) || runPvs != current.runPvs) {
+            Map<String, Set<String>> physicalVolumesMap = runPvs ? queryPhysicalVolumes() : new HashMap<>();
+            current = assemble(seqnum, runPvs, querySysfsBlockDevices(blockPath, udevDataPath), physicalVolumesMap);
+            inventory = current;
+        }
+        return current.toGroups(factory);
+    }
+
+    /**
+     * Lists the LVM device-mapper devices of sysfs, with their udev properties if udev has recorded them.
+     * Package-private for testing.
+     *
+     * @param blockPath    the sysfs block device directory, e.g. {@code /sys/block/}
+     * @param udevDataPath the prefix of udev database entries of block devices, e.g. {@code /run/udev/data/b}
+     * @return the devices
+     */
+    static List<UdevBlockDevice> querySysfsBlockDevices(String blockPath, String udevDataPath) {
+        List<UdevBlockDevice> devices = new ArrayList<>();
+        File[] dms = new File(blockPath).listFiles(f -> f.getName().startsWith("dm-"));
+        if (dms == null) {
+            return devices;
+        }
+        for (File dm : dms) {
+            String syspath = dm.getPath();
+            String uuid = FileUtil.getStringFromFile(syspath + "/dm/uuid").trim();
+            if (!uuid.startsWith(LVM_UUID_PREFIX)) {
+                continue;
+            }
+            Map<String, String> udev = readUdevProperties(
+                    udevDataPath + FileUtil.getStringFromFile(syspath + "/dev").trim());
+            String vgName = udev.get(DM_VG_NAME);
+            String lvName = udev.get(DM_LV_NAME);
+            if (Util.isBlank(vgName) || Util.isBlank(lvName)) {
+                String[] names = splitDeviceMapperName(FileUtil.getStringFromFile(syspath + "/dm/name").trim());
+                vgName = names[0];
+                lvName = names[1];
+            }
+            devices.add(new UdevBlockDevice(syspath, DevPath.DEV + dm.getName(), uuid, vgName, lvName));
+        }
+        return devices;
+    }
+
+    private static Map<String, String> readUdevProperties(String path) {
+        Map<String, String> properties = new HashMap<>();
+        for (String line : FileUtil.readFile(path, false)) {
+            int eq = line.indexOf('=');
+            if (line.startsWith(UDEV_PROPERTY) && eq > 0) {
+                properties.put(line.substring(UDEV_PROPERTY.length(), eq), line.substring(eq + 1));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Splits the device-mapper name LVM gives a logical volume, {@code vg-lv} with any hyphen in either name doubled,
+     * and with a layer suffix on the devices LVM stacks beneath a volume, such as {@code vg-pool-tpool}.
+     * Package-private for testing.
+     *
+     * @param dmName the device-mapper name
+     * @return the volume group and logical volume names, empty if the name has no separator
+     */
+    static String[] splitDeviceMapperName(String dmName) {
+        String[] names = { "", "" };
+        StringBuilder sb = new StringBuilder();
+        int part = 0;
+        for (int i = 0; i < dmName.length() && part < names.length; i++) {
+            char c = dmName.charAt(i);
+            if (c != '-') {
+                sb.append(c);
+            } else if (i + 1 < dmName.length() && dmName.charAt(i + 1) == '-') {
+                sb.append(c);
+                i++;
+            } else {
+                names[part++] = sb.toString();
+                sb.setLength(0);
+            }
+        }
+        if (part == 0) {
+            return new String[] { "", "" };
+        }
+        if (part == 1) {
+            names[1] = sb.toString();
+        }
+        return names;
     }
 
     /**
@@ -146,34 +267,98 @@ public class LinuxLogicalVolumeGroup extends AbstractLogicalVolumeGroup {
      */
     static List<LogicalVolumeGroup> buildLogicalVolumeGroups(List<UdevBlockDevice> devices,
             Map<String, Set<String>> physicalVolumesMap, LogicalVolumeGroupFactory factory) {
+        return assemble("", false, devices, physicalVolumesMap).toGroups(factory);
+    }
+
+    /**
+     * Assembles volume groups, keeping only the device-mapper devices that LVM owns and reading each one's physical
+     * volumes from its sysfs {@code slaves} directory.
+     */
+    private static Inventory assemble(String seqnum, boolean runPvs, List<UdevBlockDevice> devices,
+            Map<String, Set<String>> physicalVolumesMap) {
+        // Keyed by kernel name, e.g. dm-0, to follow slaves which are themselves logical volumes
+        Map<String, UdevBlockDevice> lvmDevices = new HashMap<>();
+        for (UdevBlockDevice device : devices) {
+            if (isLogicalVolume(device) && device.syspath != null) {
+                lvmDevices.put(new File(device.syspath).getName(), device);
+            }
+        }
         Map<String, Map<String, Set<String>>> logicalVolumesMap = new HashMap<>();
         for (UdevBlockDevice device : devices) {
-            if (device.devnode == null || !device.devnode.startsWith(DevPath.DM) || device.uuid == null
-                    || !device.uuid.startsWith("LVM-") || Util.isBlank(device.vgName) || Util.isBlank(device.lvName)) {
+            if (!isLogicalVolume(device)) {
                 continue;
             }
-            // The isBlank guards above already establish these, but a predicate does not narrow for the analyzer;
-            // the normalizer's return type does.
+            // The isBlank guards already establish these, but a predicate does not narrow for the analyzer; the
+            // normalizer's return type does.
             String vgName = ParseUtil.getStringValueOrEmpty(device.vgName);
             String lvName = ParseUtil.getStringValueOrEmpty(device.lvName);
             Map<String, Set<String>> lvMapForGroup = logicalVolumesMap.computeIfAbsent(vgName, k -> new HashMap<>());
             Set<String> pvSetForGroup = physicalVolumesMap.computeIfAbsent(vgName, k -> new HashSet<>());
-            File[] slaves = new File(device.syspath + "/slaves").listFiles();
-            if (slaves != null) {
-                for (File f : slaves) {
-                    String pvName = DevPath.DEV + f.getName();
-                    lvMapForGroup.computeIfAbsent(lvName, k -> new HashSet<>()).add(pvName);
-                    pvSetForGroup.add(pvName);
+            Set<String> pvs = new HashSet<>();
+            addPhysicalVolumes(device, vgName, lvmDevices, new HashSet<>(), pvs);
+            if (!pvs.isEmpty()) {
+                lvMapForGroup.computeIfAbsent(lvName, k -> new HashSet<>()).addAll(pvs);
+                pvSetForGroup.addAll(pvs);
+            }
+        }
+        return new Inventory(seqnum, runPvs, logicalVolumesMap, physicalVolumesMap);
+    }
+
+    private static boolean isLogicalVolume(UdevBlockDevice device) {
+        return device.devnode != null && device.devnode.startsWith(DevPath.DM) && device.uuid != null
+                && device.uuid.startsWith(LVM_UUID_PREFIX) && !Util.isBlank(device.vgName)
+                && !Util.isBlank(device.lvName);
+    }
+
+    /*
+     * Adds the slaves of a logical volume, or their slaves if they are logical volumes of the same group
+     */
+    private static void addPhysicalVolumes(UdevBlockDevice device, String vgName,
+            Map<String, UdevBlockDevice> lvmDevices, Set<String> visited, Set<String> pvs) {
+        File[] slaves = new File(device.syspath + "/slaves").listFiles();
+        if (slaves == null) {
+            return;
+        }
+        for (File f : slaves) {
+            String name = f.getName();
+            UdevBlockDevice stacked = lvmDevices.get(name);
+            if (stacked != null && vgName.equals(stacked.vgName)) {
+                if (visited.add(name)) {
+                    addPhysicalVolumes(stacked, vgName, lvmDevices, visited, pvs);
                 }
+            } else {
+                pvs.add(DevPath.DEV + name);
             }
         }
-        List<LogicalVolumeGroup> lvgList = new ArrayList<>();
-        for (Entry<String, Map<String, Set<String>>> entry : logicalVolumesMap.entrySet()) {
-            // Every key here was added to physicalVolumesMap above, but default rather than risk a null set reaching
-            // the immutable-copy constructor.
-            lvgList.add(factory.create(entry.getKey(), entry.getValue(),
-                    physicalVolumesMap.getOrDefault(entry.getKey(), Collections.emptySet())));
+    }
+
+    /**
+     * The volume groups found by one scan.
+     */
+    private static final class Inventory {
+        private final String seqnum;
+        // Whether pvs was run, so that changing the property takes effect without waiting for a uevent
+        private final boolean runPvs;
+        private final Map<String, Map<String, Set<String>>> logicalVolumesMap;
+        private final Map<String, Set<String>> physicalVolumesMap;
+
+        Inventory(String seqnum, boolean runPvs, Map<String, Map<String, Set<String>>> logicalVolumesMap,
+                Map<String, Set<String>> physicalVolumesMap) {
+            this.seqnum = seqnum;
+            this.runPvs = runPvs;
+            this.logicalVolumesMap = logicalVolumesMap;
+            this.physicalVolumesMap = physicalVolumesMap;
+        }
+
+        List<LogicalVolumeGroup> toGroups(LogicalVolumeGroupFactory factory) {
+            List<LogicalVolumeGroup> lvgList = new ArrayList<>();
+            for (Entry<String, Map<String, Set<String>>> entry : logicalVolumesMap.entrySet()) {
+                // Every key here was added to physicalVolumesMap by assemble, but default rather than risk a null set
+                // reaching the immutable-copy constructor.
+                lvgList.add(factory.create(entry.getKey(), entry.getValue(),
+                        physicalVolumesMap.getOrDefault(entry.getKey(), Collections.emptySet())));
+            }
+            return lvgList;
         }
-        return lvgList;
     }
 }
@@ -13,6 +13,7 @@ import org.jspecify.annotations.Nullable;
 import oshi.annotation.concurrent.ThreadSafe;
 import oshi.hardware.common.AbstractNetworkIF;
 import oshi.util.FileUtil;
+import oshi.util.ParseUtil;
 import oshi.util.Util;
 import oshi.util.linux.SysPath;
 
@@ -22,6 +23,12 @@ import oshi.util.linux.SysPath;
 @ThreadSafe
 public abstract class LinuxNetworkIF extends AbstractNetworkIF {
 
+    // Read on each update, relative to the interface's sysfs directory; updateAttributes indexes the values by position
+    private static final String[] ATTRIBUTE_FILES = { "/type", "/carrier", "/statistics/tx_bytes",
+            "/statistics/rx_bytes", "/statistics/tx_packets", "/statistics/rx_packets", "/statistics/tx_errors",
+            "/statistics/rx_errors", "/statistics/collisions", "/statistics/rx_dropped", "/speed", "/ifalias",
+            "/operstate" };
+
     private volatile int ifType;
     private volatile boolean connectorPresent;
     private volatile String ifAlias = "";
@@ -102,25 +109,45 @@ public abstract class LinuxNetworkIF extends AbstractNetworkIF {
         }
 
         this.timeStamp = System.currentTimeMillis();
-        this.ifType = FileUtil.getIntFromFile(name + "/type");
-        this.connectorPresent = FileUtil.getIntFromFile(name + "/carrier") > 0;
-        this.bytesSent = FileUtil.getUnsignedLongFromFile(name + "/statistics/tx_bytes");
-        this.bytesRecv = FileUtil.getUnsignedLongFromFile(name + "/statistics/rx_bytes");
-        this.packetsSent = FileUtil.getUnsignedLongFromFile(name + "/statistics/tx_packets");
-        this.packetsRecv = FileUtil.getUnsignedLongFromFile(name + "/statistics/rx_packets");
-        this.outErrors = FileUtil.getUnsignedLongFromFile(name + "/statistics/tx_errors");
-        this.inErrors = FileUtil.getUnsignedLongFromFile(name + "/statistics/rx_errors");
-        this.collisions = FileUtil.getUnsignedLongFromFile(name + "/statistics/collisions");
-        this.inDrops = FileUtil.getUnsignedLongFromFile(name + "/statistics/rx_dropped");
-        long speedMbps = FileUtil.getUnsignedLongFromFile(name + "/speed");
+        String[] paths = new String[ATTRIBUTE_FILES.length];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = name + ATTRIBUTE_FILES[i];
+        }
+        String[] values = queryAttributeFiles(paths);
+        this.ifType = ParseUtil.parseIntOrDefault(values[0], 0);
+        this.connectorPresent = ParseUtil.parseIntOrDefault(values[1], 0) > 0;
+        this.bytesSent = ParseUtil.parseUnsignedLongOrDefault(values[2], 0L);
+        this.bytesRecv = ParseUtil.parseUnsignedLongOrDefault(values[3], 0L);
+        this.packetsSent = ParseUtil.parseUnsignedLongOrDefault(values[4], 0L);
+        this.packetsRecv = ParseUtil.parseUnsignedLongOrDefault(values[5], 0L);
+        this.outErrors = ParseUtil.parseUnsignedLongOrDefault(values[6], 0L);
+        this.inErrors = ParseUtil.parseUnsignedLongOrDefault(values[7], 0L);
+        this.collisions = ParseUtil.parseUnsignedLongOrDefault(values[8], 0L);
+        this.inDrops = ParseUtil.parseUnsignedLongOrDefault(values[9], 0L);
+        long speedMbps = ParseUtil.parseUnsignedLongOrDefault(values[10], 0L);
         // speed may be -1 from file.
         this.speed = speedMbps < 0 ? 0 : speedMbps * 1000000L;
-        this.ifAlias = FileUtil.getStringFromFile(name + "/ifalias");
-        this.ifOperStatus = parseIfOperStatus(FileUtil.getStringFromFile(name + "/operstate"));
+        this.ifAlias = values[11];
+        this.ifOperStatus = parseIfOperStatus(values[12]);
 
         return true;
     }
 
+    /**
+     * Reads the first line of each of the sysfs attribute files read on each update. The default reads the files one at
+     * a time; implementations may override this to read them together.
+     *
+     * @param paths the files to read
+     * @return the first line of each file, in the same order, or an empty string for any file that could not be read
+     */
+    protected String[] queryAttributeFiles(String[] paths) {
+        String[] values = new String[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            values[i] = FileUtil.getStringFromFile(paths[i]);
+        }
+        return values;
+    }
+
     /**
      * Parses the operational status from a sysfs operstate string.
      *
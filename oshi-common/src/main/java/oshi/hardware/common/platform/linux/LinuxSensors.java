@@ -7,18 +7,28 @@ package oshi.hardware.common.platform.linux;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
+
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.SensorReading;
 import oshi.hardware.common.AbstractSensors;
 import oshi.util.ExecutingCommand;
 import oshi.util.FileUtil;
@@ -66,13 +76,76 @@ class LinuxSensors extends AbstractSensors {
     private static final String HWMON = "hwmon";
     private static final String THERMAL_ZONE = "thermal_zone";
 
+    // Every sensor input, e.g. temp1_input; power sensors may report an average instead
+    private static final Pattern CHANNEL_PATTERN = Pattern
+            .compile("^(" + TEMP + "|" + FAN + "|" + VOLTAGE + "|curr|power|energy|humidity)(\\d+)_(input|average)$");
+    private static final String LABEL_SUFFIX = "_label";
+    private static final Map<String, SensorReading.Type> CHANNEL_TYPES = new HashMap<>();
+    // Multiplier from the sysfs unit to the SensorReading unit
+    private static final Map<SensorReading.Type, Double> CHANNEL_SCALES = new EnumMap<>(SensorReading.Type.class);
+
+    static {
+        CHANNEL_TYPES.put(TEMP, SensorReading.Type.TEMPERATURE);
+        CHANNEL_TYPES.put(FAN, SensorReading.Type.FAN);
+        CHANNEL_TYPES.put(VOLTAGE, SensorReading.Type.VOLTAGE);
+        CHANNEL_TYPES.put("curr", SensorReading.Type.CURRENT);
+        CHANNEL_TYPES.put("power", SensorReading.Type.POWER);
+        CHANNEL_TYPES.put("energy", SensorReading.Type.ENERGY);
+        CHANNEL_TYPES.put("humidity", SensorReading.Type.HUMIDITY);
+        CHANNEL_SCALES.put(SensorReading.Type.TEMPERATURE, 1e-3);
+        CHANNEL_SCALES.put(SensorReading.Type.FAN, 1d);
+        CHANNEL_SCALES.put(SensorReading.Type.VOLTAGE, 1e-3);
+        CHANNEL_SCALES.put(SensorReading.Type.CURRENT, 1e-3);
+        CHANNEL_SCALES.put(SensorReading.Type.POWER, 1e-6);
+        CHANNEL_SCALES.put(SensorReading.Type.ENERGY, 1e-6);
+        CHANNEL_SCALES.put(SensorReading.Type.HUMIDITY, 1e-3);
+    }
+
     // Instance fields set by constructor
     private final String hwmonPath;
     private final String thermalZonePath;
     private final boolean isPi;
 
-    // Map from sensor to path. Built by constructor, so thread safe
-    private final Map<String, String> sensorsMap = new HashMap<>();
+    // The sensor files found by the last discovery. Replaced, never modified, when the hwmon devices change
+    private volatile @Nullable Topology topology;
+
+    /**
+     * The sensor files chosen by one discovery, so that sampling reads only value files.
+     */
+    private static final class Topology {
+        // The hwmon device indices present at discovery; a different set means devices were added or removed
+        private final List<Integer> hwmonIndices;
+        // Map from sensor to path prefix, e.g. temp to /sys/class/hwmon/hwmon0/temp
+        private final Map<String, String> sensorsMap;
+        // The consecutive fan inputs of the selected fan device
+        private final List<String> fanInputs;
+        private final List<Channel> channels;
+
+        Topology(List<Integer> hwmonIndices, Map<String, String> sensorsMap, List<String> fanInputs,
+                List<Channel> channels) {
+            this.hwmonIndices = hwmonIndices;
+            this.sensorsMap = sensorsMap;
+            this.fanInputs = fanInputs;
+            this.channels = channels;
+        }
+    }
+
+    /**
+     * One sensor input file and how to report it.
+     */
+    private static final class Channel {
+        private final String chip;
+        private final String label;
+        private final SensorReading.Type type;
+        private final String input;
+
+        Channel(String chip, String label, SensorReading.Type type, String input) {
+            this.chip = chip;
+            this.label = label;
+            this.type = type;
+            this.input = input;
+        }
+    }
 
     /**
      * <p>
@@ -95,23 +168,144 @@ class LinuxSensors extends AbstractSensors {
         this.thermalZonePath = thermalZoneBasePath;
         this.isPi = isPi;
         if (!isPi) {
-            populateSensorsMapFromHwmon();
-            // if no temperature sensor is found in hwmon, try thermal_zone
-            if (!this.sensorsMap.containsKey(TEMP)) {
-                populateSensorsMapFromThermalZone();
+            this.topology = discover(getIndices(hwmonPath));
+        }
+    }
+
+    /**
+     * Gets the sensor files, discovering them again if hwmon devices were added or removed since they were last
+     * discovered. Checking costs one directory listing.
+     *
+     * @return the current topology
+     */
+    private Topology getTopology() {
+        List<Integer> indices = getIndices(hwmonPath);
+        Topology current = this.topology;
+        if (current == null || !current.hwmonIndices.equals(indices)) {
+            synchronized (this) {
+                current = this.topology;
+                if (current == null || !current.hwmonIndices.equals(indices)) {
+                    current = discover(indices);
+                    this.topology = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Lists the indices of the numbered directories of a base path, e.g. 0 and 2 for hwmon0 and hwmon2 under
+     * /sys/class/hwmon/hwmon. Unlike probing hwmon0, hwmon1, ... in turn, this finds every device even after one with a
+     * lower index was removed.
+     *
+     * @param basePath the base path, a directory and a name prefix
+     * @return the indices present, in ascending order
+     */
+    static List<Integer> getIndices(String basePath) {
+        File base = new File(basePath);
+        File parent = base.getParentFile();
+        String prefix = base.getName();
+        String[] names = parent == null ? null : parent.list();
+        if (names == null) {
+            return Collections.emptyList();
+        }
+        List<Integer> indices = new ArrayList<>();
+        for (String name : names) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                int index = ParseUtil.parseIntOrDefault(name.substring(prefix.length()), -1);
+                if (index >= 0) {
+                    indices.add(index);
+                }
+            }
+        }
+        Collections.sort(indices);
+        return indices;
+    }
+
+    /*
+     * Finds the sensor files: those chosen for the CPU temperature, fan speeds and CPU voltage, and every input for the
+     * full list of readings
+     */
+    private Topology discover(List<Integer> hwmonIndices) {
+        Map<String, String> sensorsMap = new HashMap<>();
+        populateSensorsMapFromHwmon(hwmonIndices, sensorsMap);
+        List<Integer> thermalZoneIndices = getIndices(thermalZonePath);
+        // if no temperature sensor is found in hwmon, try thermal_zone
+        if (!sensorsMap.containsKey(TEMP)) {
+            populateSensorsMapFromThermalZone(thermalZoneIndices, sensorsMap);
+        }
+
+        List<String> fanInputs = new ArrayList<>();
+        String fanStr = sensorsMap.get(FAN);
+        if (fanStr != null) {
+            for (int fan = 1;; fan++) {
+                String fanPath = String.format(Locale.ROOT, "%s%d%s", fanStr, fan, INPUT_SUFFIX);
+                if (!new File(fanPath).exists()) {
+                    // No file found, we've reached max fans
+                    break;
+                }
+                fanInputs.add(fanPath);
+            }
+        }
+
+        List<Channel> channels = new ArrayList<>();
+        for (int i : hwmonIndices) {
+            addHwmonChannels(hwmonPath + i, channels);
+        }
+        for (int i : thermalZoneIndices) {
+            String path = thermalZonePath + i;
+            if (new File(path, TEMP).isFile()) {
+                channels.add(new Channel(new File(path).getName(), FileUtil.getStringFromFile(path + "/" + TYPE).trim(),
+                        SensorReading.Type.TEMPERATURE, path + "/" + TEMP));
+            }
+        }
+        return new Topology(Collections.unmodifiableList(new ArrayList<>(hwmonIndices)),
+                Collections.unmodifiableMap(sensorsMap), Collections.unmodifiableList(fanInputs),
+                Collections.unmodifiableList(channels));
+    }
+
+    /*
+     * Adds every input of one hwmon device, e.g. /sys/class/hwmon/hwmon0/temp1_input, labelled from its _label file if
+     * it has one
+     */
+    private static void addHwmonChannels(String path, List<Channel> channels) {
+        String[] names = new File(path).list();
+        if (names == null) {
+            return;
+        }
+        Set<String> files = new HashSet<>(Arrays.asList(names));
+        String chip = FileUtil.getStringFromFile(path + NAME).trim();
+        // Keyed by sensor, e.g. temp1, in type then number order; an input replaces a power average
+        Map<String, Channel> found = new TreeMap<>(
+                Comparator.comparing((String sensor) -> CHANNEL_TYPES.get(sensor.replaceAll("\\d+$", "")))
+                        .thenComparingInt(sensor -> ParseUtil.parseIntOrDefault(sensor.replaceAll("^\\D+", ""), 0)));
+        for (String name : names) {
+            Matcher m = CHANNEL_PATTERN.matcher(name);
+            if (!m.matches()) {
+                continue;
+            }
+            SensorReading.Type type = CHANNEL_TYPES.get(m.group(1));
+            boolean average = "average".equals(m.group(3));
+            String sensor = m.group(1) + m.group(2);
+            if (average && (type != SensorReading.Type.POWER || files.contains(sensor + INPUT_SUFFIX))) {
+                continue;
             }
+            String label = files.contains(sensor + LABEL_SUFFIX)
+                    ? FileUtil.getStringFromFile(path + "/" + sensor + LABEL_SUFFIX).trim()
+                    : sensor;
+            found.put(sensor, new Channel(chip, label, type, path + "/" + name));
         }
+        channels.addAll(found.values());
     }
 
     /*
      * Iterate over all hwmon* directories and look for sensor files, e.g., /sys/class/hwmon/hwmon0/temp1_input
      */
-    private void populateSensorsMapFromHwmon() {
+    private void populateSensorsMapFromHwmon(List<Integer> hwmonIndices, Map<String, String> sensorsMap) {
         String selectedTempPath = null;
         int selectedPriority = Integer.MAX_VALUE;
 
-        int i = 0;
-        while (Paths.get(hwmonPath + i).toFile().isDirectory()) {
+        for (int i : hwmonIndices) {
             String path = hwmonPath + i;
 
             // Read the name file
@@ -135,64 +329,54 @@ class LinuxSensors extends AbstractSensors {
                     }
                 }
             }
-
-            i++;
         }
 
         if (selectedTempPath != null) {
-            this.sensorsMap.put(TEMP, selectedTempPath + "/temp");
+            sensorsMap.put(TEMP, selectedTempPath + "/temp");
         }
 
         // Scan all hwmon directories for fan and voltage sensors
         for (String sensor : new String[] { FAN, VOLTAGE }) {
             final String sensorPrefix = sensor;
-            getSensorFilesFromPath(hwmonPath, sensor, f -> {
+            getSensorFilesFromPath(hwmonPath, hwmonIndices, sensor, f -> {
                 try {
                     return f.getName().startsWith(sensorPrefix) && f.getName().endsWith(INPUT_SUFFIX)
                             && FileUtil.getIntFromFile(f.getCanonicalPath()) > 0;
                 } catch (IOException e) {
                     return false;
                 }
-            });
+            }, files -> 0, sensorsMap);
         }
     }
 
     /*
      * Iterate over all thermal_zone* directories and look for sensor files, e.g., /sys/class/thermal/thermal_zone0/temp
      */
-    private void populateSensorsMapFromThermalZone() {
-        getSensorFilesFromPath(thermalZonePath, TEMP, f -> f.getName().equals(TYPE) || f.getName().equals(TEMP),
+    private void populateSensorsMapFromThermalZone(List<Integer> thermalZoneIndices, Map<String, String> sensorsMap) {
+        getSensorFilesFromPath(thermalZonePath, thermalZoneIndices, TEMP,
+                f -> f.getName().equals(TYPE) || f.getName().equals(TEMP),
                 files -> Stream.of(files).filter(f -> TYPE.equals(f.getName())).findFirst().map(File::getPath)
                         .map(FileUtil::getStringFromFile).map(THERMAL_ZONE_TYPE_PRIORITY::indexOf)
-                        .filter(index -> index >= 0).orElse(THERMAL_ZONE_TYPE_PRIORITY.size()));
-    }
-
-    /**
-     * Find all sensor files in a specific path and adds them to the sensorsMap
-     *
-     * @param sensorPath       A string containing the sensor path
-     * @param sensor           A string containing the sensor
-     * @param sensorFileFilter A FileFilter for detecting valid sensor files
-     */
-    private void getSensorFilesFromPath(String sensorPath, String sensor, FileFilter sensorFileFilter) {
-        getSensorFilesFromPath(sensorPath, sensor, sensorFileFilter, files -> 0);
+                        .filter(index -> index >= 0).orElse(THERMAL_ZONE_TYPE_PRIORITY.size()),
+                sensorsMap);
     }
 
     /**
      * Find all sensor files in a specific path and adds them to the sensorsMap
      *
      * @param sensorPath       A string containing the sensor path
+     * @param indices          The indices of the directories under the sensor path
      * @param sensor           A string containing the sensor
      * @param sensorFileFilter A FileFilter for detecting valid sensor files
      * @param prioritizer      A callback to prioritize between multiple sensors
+     * @param sensorsMap       The map to add the selected sensor to
      */
-    private void getSensorFilesFromPath(String sensorPath, String sensor, FileFilter sensorFileFilter,
-            ToIntFunction<File[]> prioritizer) {
+    private static void getSensorFilesFromPath(String sensorPath, List<Integer> indices, String sensor,
+            FileFilter sensorFileFilter, ToIntFunction<File[]> prioritizer, Map<String, String> sensorsMap) {
         String selectedPath = null;
         int selectedPriority = Integer.MAX_VALUE;
 
-        int i = 0;
-        while (Paths.get(sensorPath + i).toFile().isDirectory()) {
+        for (int i : indices) {
             String path = sensorPath + i;
             File dir = new File(path);
             File[] matchingFiles = dir.listFiles(sensorFileFilter);
@@ -205,11 +389,10 @@ class LinuxSensors extends AbstractSensors {
                     selectedPath = path;
                 }
             }
-            i++;
         }
 
         if (selectedPath != null) {
-            this.sensorsMap.put(sensor, String.format(Locale.ROOT, "%s/%s", selectedPath, sensor));
+            sensorsMap.put(sensor, String.format(Locale.ROOT, "%s/%s", selectedPath, sensor));
         }
     }
 
@@ -218,7 +401,7 @@ class LinuxSensors extends AbstractSensors {
         if (isPi) {
             return queryCpuTemperatureFromVcGenCmd();
         }
-        String tempStr = this.sensorsMap.get(TEMP);
+        String tempStr = getTopology().sensorsMap.get(TEMP);
         if (tempStr != null) {
             long millidegrees = 0;
             if (tempStr.contains(HWMON)) {
@@ -272,27 +455,13 @@ class LinuxSensors extends AbstractSensors {
     @Override
     public int[] queryFanSpeeds() {
         if (!isPi) {
-            String fanStr = this.sensorsMap.get(FAN);
-            if (fanStr != null) {
-                List<Integer> speeds = new ArrayList<>();
-                int fan = 1;
-                for (;;) {
-                    String fanPath = String.format(Locale.ROOT, "%s%d%s", fanStr, fan, INPUT_SUFFIX);
-                    if (!new File(fanPath).exists()) {
-                        // No file found, we've reached max fans
-                        break;
-                    }
-                    // Should return a single line of RPM
-                    speeds.add(FileUtil.getIntFromFile(fanPath));
-                    // Done reading data for current fan, read next fan
-                    fan++;
-                }
-                int[] fanSpeeds = new int[speeds.size()];
-                for (int i = 0; i < speeds.size(); i++) {
-                    fanSpeeds[i] = speeds.get(i);
-                }
-                return fanSpeeds;
+            List<String> fanInputs = getTopology().fanInputs;
+            int[] fanSpeeds = new int[fanInputs.size()];
+            for (int i = 0; i < fanSpeeds.length; i++) {
+                // Should return a single line of RPM
+                fanSpeeds[i] = FileUtil.getIntFromFile(fanInputs.get(i));
             }
+            return fanSpeeds;
         }
         return new int[0];
     }
@@ -302,7 +471,7 @@ class LinuxSensors extends AbstractSensors {
         if (isPi) {
             return queryCpuVoltageFromVcGenCmd();
         }
-        String voltageStr = this.sensorsMap.get(VOLTAGE);
+        String voltageStr = getTopology().sensorsMap.get(VOLTAGE);
         if (voltageStr != null) {
             // Should return a single line of millivolt
             return FileUtil.getIntFromFile(String.format(Locale.ROOT, "%s1%s", voltageStr, INPUT_SUFFIX)) / 1000d;
@@ -324,4 +493,15 @@ class LinuxSensors extends AbstractSensors {
         }
         return 0d;
     }
+
+    @Override
+    protected List<SensorReading> querySensorReadings() {
+        List<Channel> channels = getTopology().channels;
+        List<SensorReading> readings = new ArrayList<>(channels.size());
+        for (Channel channel : channels) {
+            readings.add(new SensorReading(channel.chip, channel.label, channel.type,
+                    FileUtil.getLongFromFile(channel.input) * CHANNEL_SCALES.get(channel.type)));
+        }
+        return Collections.unmodifiableList(readings);
+    }
 }
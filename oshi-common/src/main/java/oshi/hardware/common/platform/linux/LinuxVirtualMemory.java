@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.linux;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -26,10 +26,11 @@ final class LinuxVirtualMemory extends AbstractVirtualMemory {
 
     private final LinuxGlobalMemory global;
 
-    private final Supplier<Triplet<Long, Long, Long>> usedTotalCommitLim = memoize(LinuxVirtualMemory::queryMemInfo,
-            defaultExpiration());
+    private final Supplier<Triplet<Long, Long, Long>> usedTotalCommitLim = memoizeConfigured(
+            LinuxVirtualMemory::queryMemInfo, memoryExpiration());
 
-    private final Supplier<Pair<Long, Long>> inOut = memoize(LinuxVirtualMemory::queryVmStat, defaultExpiration());
+    private final Supplier<Pair<Long, Long>> inOut = memoizeConfigured(LinuxVirtualMemory::queryVmStat,
+            memoryExpiration());
 
     /**
      * Constructor for LinuxVirtualMemory.
@@ -15,8 +15,8 @@ import oshi.hardware.common.platform.linux.LinuxGpuStats;
 import oshi.hardware.common.platform.linux.LinuxGraphicsCard;
 
 /**
- * Native-free Linux graphics card implementation. Uses {@code lspci}/{@code lshw} for enumeration (already in
- * superclass) and provides a {@link GpuStats} that reads sysfs for AMD/Intel but has no NVML support.
+ * Native-free Linux graphics card implementation. Uses sysfs, or {@code lspci}/{@code lshw}, for enumeration (already
+ * in superclass) and provides a {@link GpuStats} that reads sysfs for AMD/Intel but has no NVML support.
  */
 @ThreadSafe
 final class LinuxGraphicsCardNF extends LinuxGraphicsCard {
@@ -32,7 +32,7 @@ final class LinuxGraphicsCardNF extends LinuxGraphicsCard {
     }
 
     /**
-     * Gets graphics cards using command-line tools (lspci/lshw).
+     * Gets graphics cards from sysfs, or command-line tools (lspci/lshw) if sysfs lists no PCI devices.
      *
      * @return list of graphics cards
      */
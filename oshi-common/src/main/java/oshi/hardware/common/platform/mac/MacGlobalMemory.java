@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.mac;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,7 +32,7 @@ public abstract class MacGlobalMemory extends AbstractGlobalMemory {
     protected MacGlobalMemory() {
     }
 
-    private final Supplier<Long> available = memoize(this::queryVmStats, defaultExpiration());
+    private final Supplier<Long> available = memoizeConfigured(this::queryVmStats, memoryExpiration());
 
     private final Supplier<Long> total = memoize(this::queryPhysMem);
 
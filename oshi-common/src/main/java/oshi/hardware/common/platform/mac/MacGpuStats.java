@@ -4,6 +4,8 @@
  */
 package oshi.hardware.common.platform.mac;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.GpuProcessUsage;
 import oshi.hardware.GpuStats;
 import oshi.hardware.GpuTicks;
 
@@ -252,6 +255,12 @@ public abstract class MacGpuStats implements GpuStats {
         return -1d;
     }
 
+    @Override
+    public synchronized List<GpuProcessUsage> getProcessUsage() {
+        checkOpen();
+        return Collections.emptyList();
+    }
+
     private void checkOpen() {
         if (closed) {
             throw new IllegalStateException(
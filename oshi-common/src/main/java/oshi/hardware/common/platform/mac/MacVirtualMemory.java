@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.mac;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -21,9 +21,9 @@ public abstract class MacVirtualMemory extends AbstractVirtualMemory {
 
     private final MacGlobalMemory global;
 
-    private final Supplier<Pair<Long, Long>> usedTotal = memoize(this::querySwapUsage, defaultExpiration());
+    private final Supplier<Pair<Long, Long>> usedTotal = memoizeConfigured(this::querySwapUsage, memoryExpiration());
 
-    private final Supplier<Pair<Long, Long>> inOut = memoize(this::queryVmStat, defaultExpiration());
+    private final Supplier<Pair<Long, Long>> inOut = memoizeConfigured(this::queryVmStat, memoryExpiration());
 
     /**
      * Creates a MacVirtualMemory.
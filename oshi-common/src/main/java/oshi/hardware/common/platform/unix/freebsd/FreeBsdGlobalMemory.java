@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.unix.freebsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -20,7 +21,7 @@ import oshi.util.ParseUtil;
  */
 public abstract class FreeBsdGlobalMemory extends AbstractGlobalMemory {
 
-    private final Supplier<Long> available = memoize(this::queryVmStats, defaultExpiration());
+    private final Supplier<Long> available = memoizeConfigured(this::queryVmStats, memoryExpiration());
     private final Supplier<Long> total = memoize(this::queryPhysMem);
     private final Supplier<Long> pageSize = memoize(FreeBsdGlobalMemory::queryPageSize);
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.unix.freebsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -23,10 +23,10 @@ public abstract class FreeBsdVirtualMemory extends AbstractVirtualMemory {
 
     private final FreeBsdGlobalMemory global;
 
-    private final Supplier<Long> used = memoize(FreeBsdVirtualMemory::querySwapUsed, defaultExpiration());
-    private final Supplier<Long> total = memoize(this::querySwapTotal, defaultExpiration());
-    private final Supplier<Long> pagesIn = memoize(this::queryPagesIn, defaultExpiration());
-    private final Supplier<Long> pagesOut = memoize(this::queryPagesOut, defaultExpiration());
+    private final Supplier<Long> used = memoizeConfigured(FreeBsdVirtualMemory::querySwapUsed, memoryExpiration());
+    private final Supplier<Long> total = memoizeConfigured(this::querySwapTotal, memoryExpiration());
+    private final Supplier<Long> pagesIn = memoizeConfigured(this::queryPagesIn, memoryExpiration());
+    private final Supplier<Long> pagesOut = memoizeConfigured(this::queryPagesOut, memoryExpiration());
 
     /**
      * Constructs a new {@code FreeBsdVirtualMemory}.
@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.unix.netbsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -22,7 +23,7 @@ import oshi.util.common.platform.unix.bsd.BsdSysctlUtil;
 @ThreadSafe
 final class NetBsdGlobalMemory extends AbstractGlobalMemory {
 
-    private final Supplier<Long> available = memoize(NetBsdGlobalMemory::queryAvailable, defaultExpiration());
+    private final Supplier<Long> available = memoizeConfigured(NetBsdGlobalMemory::queryAvailable, memoryExpiration());
 
     private final Supplier<Long> total = memoize(NetBsdGlobalMemory::queryPhysMem);
 
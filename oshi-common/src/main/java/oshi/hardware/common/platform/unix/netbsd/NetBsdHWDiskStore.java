@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.unix.netbsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.diskExpiration;
+import static oshi.util.Memoizer.memoizeConfigured;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -45,7 +45,7 @@ public final class NetBsdHWDiskStore extends AbstractHWDiskStore {
     public static List<HWDiskStore> getDisks() {
         List<HWDiskStore> diskList = new ArrayList<>();
         List<String> dmesg = null;
-        Supplier<List<String>> iostatSupplier = memoize(NetBsdHWDiskStore::queryIostat, defaultExpiration());
+        Supplier<List<String>> iostatSupplier = memoizeConfigured(NetBsdHWDiskStore::queryIostat, diskExpiration());
 
         // Get list of disks from sysctl
         // NetBSD: hw.disknames = ld0 fd0 dk0 dk1 cd0 (space-separated, no colon suffix)
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.unix.netbsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -23,8 +23,8 @@ final class NetBsdVirtualMemory extends AbstractVirtualMemory {
 
     private final NetBsdGlobalMemory global;
 
-    private final Supplier<Quartet<Integer, Integer, Integer, Integer>> swapInfo = memoize(
-            NetBsdVirtualMemory::queryVmstat, defaultExpiration());
+    private final Supplier<Quartet<Integer, Integer, Integer, Integer>> swapInfo = memoizeConfigured(
+            NetBsdVirtualMemory::queryVmstat, memoryExpiration());
 
     NetBsdVirtualMemory(NetBsdGlobalMemory netBsdGlobalMemory) {
         this.global = netBsdGlobalMemory;
@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.unix.openbsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -18,7 +19,7 @@ import oshi.hardware.common.AbstractGlobalMemory;
  */
 public abstract class OpenBsdGlobalMemory extends AbstractGlobalMemory {
 
-    private final Supplier<Long> available = memoize(this::queryAvailable, defaultExpiration());
+    private final Supplier<Long> available = memoizeConfigured(this::queryAvailable, memoryExpiration());
     private final Supplier<Long> total = memoize(this::queryPhysMem);
     private final Supplier<Long> pageSize = memoize(this::queryPageSize);
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.unix.openbsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.diskExpiration;
+import static oshi.util.Memoizer.memoizeConfigured;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -58,7 +58,8 @@ public abstract class OpenBsdHWDiskStore extends AbstractHWDiskStore {
             DiskStoreFactory<T> factory) {
         List<HWDiskStore> diskList = new ArrayList<>();
         List<String> dmesg = null;
-        Supplier<List<String>> iostatSupplier = memoize(OpenBsdHWDiskStore::querySystatIostat, defaultExpiration());
+        Supplier<List<String>> iostatSupplier = memoizeConfigured(OpenBsdHWDiskStore::querySystatIostat,
+                diskExpiration());
 
         String disknames = sysctlStr.apply("hw.disknames", "");
         if (disknames.isEmpty()) {
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.unix.openbsd;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -23,9 +23,9 @@ public class OpenBsdVirtualMemory extends AbstractVirtualMemory {
 
     private final OpenBsdGlobalMemory global;
 
-    private final Supplier<Triplet<Integer, Integer, Integer>> usedTotalPgin = memoize(
-            OpenBsdVirtualMemory::queryVmstat, defaultExpiration());
-    private final Supplier<Integer> pgout = memoize(OpenBsdVirtualMemory::queryUvm, defaultExpiration());
+    private final Supplier<Triplet<Integer, Integer, Integer>> usedTotalPgin = memoizeConfigured(
+            OpenBsdVirtualMemory::queryVmstat, memoryExpiration());
+    private final Supplier<Integer> pgout = memoizeConfigured(OpenBsdVirtualMemory::queryUvm, memoryExpiration());
 
     /**
      * Constructs a new {@code OpenBsdVirtualMemory}.
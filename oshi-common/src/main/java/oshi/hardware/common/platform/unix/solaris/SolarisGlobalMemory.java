@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.unix.solaris;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -19,7 +20,7 @@ import oshi.util.ParseUtil;
  */
 public abstract class SolarisGlobalMemory extends AbstractGlobalMemory {
 
-    private final Supplier<Long> available = memoize(this::queryAvailable, defaultExpiration());
+    private final Supplier<Long> available = memoizeConfigured(this::queryAvailable, memoryExpiration());
     private final Supplier<Long> total = memoize(this::queryTotal);
     private final Supplier<Long> pageSize = memoize(this::queryPageSize);
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
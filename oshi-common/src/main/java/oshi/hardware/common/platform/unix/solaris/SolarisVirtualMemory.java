@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.unix.solaris;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -29,12 +29,12 @@ public class SolarisVirtualMemory extends AbstractVirtualMemory {
     private final SolarisGlobalMemory global;
 
     // Swap
-    private final Supplier<Pair<Long, Long>> usedTotal = memoize(SolarisVirtualMemory::querySwapInfo,
-            defaultExpiration());
+    private final Supplier<Pair<Long, Long>> usedTotal = memoizeConfigured(SolarisVirtualMemory::querySwapInfo,
+            memoryExpiration());
 
-    private final Supplier<Long> pagesIn = memoize(SolarisVirtualMemory::queryPagesIn, defaultExpiration());
+    private final Supplier<Long> pagesIn = memoizeConfigured(SolarisVirtualMemory::queryPagesIn, memoryExpiration());
 
-    private final Supplier<Long> pagesOut = memoize(SolarisVirtualMemory::queryPagesOut, defaultExpiration());
+    private final Supplier<Long> pagesOut = memoizeConfigured(SolarisVirtualMemory::queryPagesOut, memoryExpiration());
 
     /**
      * Constructor for SolarisVirtualMemory.
@@ -4,8 +4,9 @@
  */
 package oshi.hardware.common.platform.windows;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,7 +34,8 @@ public abstract class WindowsGlobalMemory extends AbstractGlobalMemory {
     protected WindowsGlobalMemory() {
     }
 
-    private final Supplier<Triplet<Long, Long, Long>> availTotalSize = memoize(this::readPerfInfo, defaultExpiration());
+    private final Supplier<Triplet<Long, Long, Long>> availTotalSize = memoizeConfigured(this::readPerfInfo,
+            memoryExpiration());
 
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
 
@@ -4,6 +4,7 @@
  */
 package oshi.hardware.common.platform.windows;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -19,6 +20,7 @@ import oshi.driver.common.windows.perfmon.GpuInformation.GpuEngineProperty;
 import oshi.driver.common.windows.wmi.LhmSensor.LhmSensorProperty;
 import oshi.driver.common.windows.wmi.WmiResult;
 import oshi.driver.common.windows.wmi.WmiUtil;
+import oshi.hardware.GpuProcessUsage;
 import oshi.hardware.GpuStats;
 import oshi.hardware.GpuTicks;
 import oshi.util.tuples.Pair;
@@ -462,6 +464,12 @@ public abstract class WindowsGpuStats implements GpuStats {
         return lhmFloatSensor("Control", "GPU Fan 1");
     }
 
+    @Override
+    public synchronized List<GpuProcessUsage> getProcessUsage() {
+        checkOpen();
+        return Collections.emptyList();
+    }
+
     private void checkOpen() {
         if (closed) {
             throw new IllegalStateException(
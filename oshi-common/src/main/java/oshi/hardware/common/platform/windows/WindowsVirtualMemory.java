@@ -4,8 +4,8 @@
  */
 package oshi.hardware.common.platform.windows;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -24,12 +24,12 @@ public abstract class WindowsVirtualMemory extends AbstractVirtualMemory {
 
     private final WindowsGlobalMemory global;
 
-    private final Supplier<Long> used = memoize(this::querySwapUsed, defaultExpiration());
+    private final Supplier<Long> used = memoizeConfigured(this::querySwapUsed, memoryExpiration());
 
-    private final Supplier<Triplet<Long, Long, Long>> totalVmaxVused = memoize(this::querySwapTotalVirtMaxVirtUsed,
-            defaultExpiration());
+    private final Supplier<Triplet<Long, Long, Long>> totalVmaxVused = memoizeConfigured(
+            this::querySwapTotalVirtMaxVirtUsed, memoryExpiration());
 
-    private final Supplier<Pair<Long, Long>> swapInOut = memoize(this::queryPageSwaps, defaultExpiration());
+    private final Supplier<Pair<Long, Long>> swapInOut = memoizeConfigured(this::queryPageSwaps, memoryExpiration());
 
     /**
      * Constructor.
@@ -13,10 +13,15 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+
 import oshi.annotation.concurrent.ThreadSafe;
 import oshi.software.os.CgroupInfo;
 import oshi.util.FileUtil;
 import oshi.util.ParseUtil;
+import oshi.util.driver.linux.proc.PressureStall;
+import oshi.util.driver.linux.proc.PressureStall.Pressure;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
 import oshi.util.linux.ProcPath;
 import oshi.util.linux.SysPath;
 
@@ -146,6 +151,21 @@ public class LinuxCgroupInfo implements CgroupInfo {
         return 0L;
     }
 
+    /**
+     * Gets the Pressure Stall Information of this process's cgroup for a resource: the percentage of time in which some
+     * or all of the group's tasks were stalled waiting for it. Like the other usage values, it is read fresh on each
+     * call.
+     *
+     * @param resource the resource
+     * @return the pressure, or null if not in a cgroup v2 group or the kernel does not provide PSI
+     */
+    public @Nullable Pressure getPressure(Resource resource) {
+        if (getVersion() != 2) {
+            return null;
+        }
+        return PressureStall.queryPressure(PressureStall.getCgroupPressurePath(cgroupPathSupplier.get(), resource));
+    }
+
     private int detectVersion() {
         List<String> filesystems = FileUtil.readFile(ProcPath.FILESYSTEMS);
         boolean hasCgroup2 = filesystems.stream().anyMatch(line -> line.contains("cgroup2"));
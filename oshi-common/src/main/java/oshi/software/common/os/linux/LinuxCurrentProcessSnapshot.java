@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.software.common.os.linux;
+
+import static oshi.util.Memoizer.memoize;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.software.common.AbstractOSProcess;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OSThread;
+import oshi.util.FileUtil;
+import oshi.util.ParseUtil;
+import oshi.util.driver.linux.proc.ProcessStat;
+import oshi.util.driver.linux.proc.ProcessStat.PidStat;
+import oshi.util.driver.linux.proc.ProcessStat.PidStatM;
+import oshi.util.linux.ProcPath;
+import oshi.util.tuples.Triplet;
+
+/**
+ * The current process as returned by {@link LinuxOperatingSystem#getCurrentProcessSnapshot()}.
+ * <p>
+ * Only the counters a monitoring scrape reads are populated, from {@code /proc/self/stat}, {@code statm} and
+ * {@code io}, plus {@code getrusage} where the subclass of the operating system provides it. The open file count is
+ * taken once per update rather than on each call. Descriptive attributes such as the user, command line and limits are
+ * read on first request from a full {@code getCurrentProcess()}.
+ */
+@ThreadSafe
+final class LinuxCurrentProcessSnapshot extends AbstractOSProcess {
+
+    private final LinuxOperatingSystem os;
+    private final Supplier<OSProcess> full;
+
+    private volatile long residentSetSize;
+    private volatile long privateResidentMemory;
+    private volatile long openFiles;
+    private volatile long minorFaults;
+    private volatile long majorFaults;
+    private volatile long voluntaryContextSwitches;
+    private volatile long involuntaryContextSwitches;
+
+    LinuxCurrentProcessSnapshot(LinuxOperatingSystem os) {
+        super(os.getProcessId());
+        this.os = os;
+        this.full = memoize(os::getCurrentProcess);
+        updateAttributes();
+    }
+
+    @Override
+    public synchronized boolean updateAttributes() {
+        int pid = getProcessID();
+        Triplet<String, Character, Map<PidStat, Long>> stat = ProcessStat.getPidStats(pid);
+        if (stat == null) {
+            this.state = State.INVALID;
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Map<PidStat, Long> stats = stat.getC();
+        long hz = os.getHz();
+        this.name = stat.getA();
+        this.state = ProcessStat.getState(stat.getB());
+        this.parentProcessID = stats.getOrDefault(PidStat.PPID, 0L).intValue();
+        this.threadCount = stats.getOrDefault(PidStat.NUM_THREADS, 0L).intValue();
+        this.priority = stats.getOrDefault(PidStat.PRIORITY, 0L).intValue();
+        this.virtualSize = stats.getOrDefault(PidStat.VSIZE, 0L);
+        this.startTime = Math.min(now - 1,
+                (LinuxOperatingSystem.getBootTime() * hz + stats.getOrDefault(PidStat.STARTTIME, 0L)) * 1000L / hz);
+        this.upTime = now - this.startTime;
+
+        long @Nullable [] rusage = os.querySelfRusage();
+        if (rusage != null) {
+            this.userTime = rusage[0];
+            this.kernelTime = rusage[1];
+            this.minorFaults = rusage[2];
+            this.majorFaults = rusage[3];
+            this.voluntaryContextSwitches = rusage[4];
+            this.involuntaryContextSwitches = rusage[5];
+        } else {
+            this.userTime = stats.getOrDefault(PidStat.UTIME, 0L) * 1000L / hz;
+            this.kernelTime = stats.getOrDefault(PidStat.STIME, 0L) * 1000L / hz;
+            this.minorFaults = stats.getOrDefault(PidStat.MINFLT, 0L);
+            this.majorFaults = stats.getOrDefault(PidStat.MAJFLT, 0L);
+            // Context switches are only in status
+            Map<String, String> status = FileUtil
+                    .getKeyValueMapFromFile(String.format(Locale.ROOT, ProcPath.PID_STATUS, pid), ":");
+            this.voluntaryContextSwitches = ParseUtil.parseLongOrDefault(status.get("voluntary_ctxt_switches"), 0L);
+            this.involuntaryContextSwitches = ParseUtil.parseLongOrDefault(status.get("nonvoluntary_ctxt_switches"),
+                    0L);
+        }
+
+        Map<PidStatM, Long> statm = ProcessStat.getPidStatM(pid);
+        if (statm != null) {
+            long resident = statm.getOrDefault(PidStatM.RESIDENT, 0L);
+            long pageSize = os.getPageSize();
+            this.residentSetSize = resident * pageSize;
+            this.privateResidentMemory = (resident - statm.getOrDefault(PidStatM.SHARED, 0L)) * pageSize;
+        }
+
+        Map<String, String> io = FileUtil.getKeyValueMapFromFile(String.format(Locale.ROOT, ProcPath.PID_IO, pid), ":");
+        this.bytesRead = ParseUtil.parseLongOrDefault(io.getOrDefault("read_bytes", ""), 0L);
+        this.bytesWritten = ParseUtil.parseLongOrDefault(io.getOrDefault("write_bytes", ""), 0L);
+
+        this.openFiles = os.countSelfOpenFiles();
+        return true;
+    }
+
+    @Override
+    public long getResidentMemory() {
+        return this.residentSetSize;
+    }
+
+    @Override
+    public long getPrivateResidentMemory() {
+        return this.privateResidentMemory;
+    }
+
+    @Override
+    public long getOpenFiles() {
+        return this.openFiles;
+    }
+
+    @Override
+    public long getMinorFaults() {
+        return this.minorFaults;
+    }
+
+    @Override
+    public long getMajorFaults() {
+        return this.majorFaults;
+    }
+
+    @Override
+    public long getVoluntaryContextSwitches() {
+        return this.voluntaryContextSwitches;
+    }
+
+    @Override
+    public long getInvoluntaryContextSwitches() {
+        return this.involuntaryContextSwitches;
+    }
+
+    @Override
+    public String getPath() {
+        return full.get().getPath();
+    }
+
+    @Override
+    public List<OSThread> getThreadDetails() {
+        return full.get().getThreadDetails();
+    }
+
+    @Override
+    public String getUser() {
+        return full.get().getUser();
+    }
+
+    @Override
+    public String getUserID() {
+        return full.get().getUserID();
+    }
+
+    @Override
+    public String getGroup() {
+        return full.get().getGroup();
+    }
+
+    @Override
+    public String getGroupID() {
+        return full.get().getGroupID();
+    }
+
+    @Override
+    public String getCommandLine() {
+        return full.get().getCommandLine();
+    }
+
+    @Override
+    public List<String> getArguments() {
+        return full.get().getArguments();
+    }
+
+    @Override
+    public Map<String, String> getEnvironmentVariables() {
+        return full.get().getEnvironmentVariables();
+    }
+
+    @Override
+    public String getCurrentWorkingDirectory() {
+        return full.get().getCurrentWorkingDirectory();
+    }
+
+    @Override
+    public long getAffinityMask() {
+        return full.get().getAffinityMask();
+    }
+
+    @Override
+    public int getBitness() {
+        return full.get().getBitness();
+    }
+
+    @Override
+    public long getSoftOpenFileLimit() {
+        return full.get().getSoftOpenFileLimit();
+    }
+
+    @Override
+    public long getHardOpenFileLimit() {
+        return full.get().getHardOpenFileLimit();
+    }
+}
@@ -4,6 +4,11 @@
  */
 package oshi.software.common.os.linux;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -12,19 +17,43 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import oshi.software.os.ApplicationInfo;
 import oshi.util.ExecutingCommand;
+import oshi.util.FileUtil;
+import oshi.util.Memoizer;
 import oshi.util.ParseUtil;
 
 /**
  * Utility class for querying installed applications on Linux.
+ * <p>
+ * Where the package database is a plain text file (dpkg and apk), it is parsed directly, one package stanza at a time,
+ * rather than forking the package manager. Otherwise (rpm) the package manager command is run.
  */
 public final class LinuxInstalledApps {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LinuxInstalledApps.class);
+
     private static final Pattern PIPE_PATTERN = Pattern.compile("\\|");
-    private static final Map<String, String> PACKAGE_MANAGER_COMMANDS = initializePackageManagerCommands();
+
+    /** The dpkg status database, one RFC 822 style stanza per package. */
+    static final String DPKG_STATUS = "/var/lib/dpkg/status";
+    /** The dpkg per-package file lists, whose modification time dpkg-query reports as the install time. */
+    static final String DPKG_INFO = "/var/lib/dpkg/info/";
+    /** The apk installed database, one stanza of single-letter keys per package. */
+    static final String APK_INSTALLED = "/lib/apk/db/installed";
+    /** The rpm database locations, used only to detect changes since rpm's format is not parsed. */
+    private static final String[] RPM_DATABASES = { "/var/lib/rpm/rpmdb.sqlite", "/var/lib/rpm/Packages",
+            "/usr/lib/sysimage/rpm/rpmdb.sqlite", "/usr/lib/sysimage/rpm/Packages" };
+
+    private static final Supplier<Map<String, String>> PACKAGE_MANAGER_COMMANDS = Memoizer
+            .memoize(LinuxInstalledApps::initializePackageManagerCommands);
 
     private LinuxInstalledApps() {
     }
@@ -50,25 +79,59 @@ public final class LinuxInstalledApps {
      * @return A list of {@link ApplicationInfo} objects representing installed applications.
      */
     public static List<ApplicationInfo> queryInstalledApps() {
+        if (Files.isReadable(Paths.get(DPKG_STATUS))) {
+            return parseDpkgStatus(DPKG_STATUS, DPKG_INFO);
+        }
+        if (Files.isReadable(Paths.get(APK_INSTALLED))) {
+            return parseApkInstalled(APK_INSTALLED);
+        }
         List<String> output = fetchInstalledApps();
         return parseLinuxAppInfo(output);
     }
 
+    /**
+     * Gets a cheap indicator of whether the package database has changed, for use with
+     * {@link Memoizer#memoizeOnChange(Supplier, Supplier)}. This is the modification time and size of whichever
+     * database {@link #queryInstalledApps()} reads, costing one {@code stat()} when it exists. Where no database file
+     * is found, the indicator changes every {@link Memoizer#installedAppsExpiration()} so the command output is still
+     * refreshed periodically.
+     *
+     * @return The change indicator
+     */
+    public static long[] queryDatabaseStamp() {
+        long[] stamp = FileUtil.getFileStamps(DPKG_STATUS);
+        if (stamp[0] != 0L) {
+            return stamp;
+        }
+        stamp = FileUtil.getFileStamps(APK_INSTALLED);
+        if (stamp[0] != 0L) {
+            return stamp;
+        }
+        for (String db : RPM_DATABASES) {
+            stamp = FileUtil.getFileStamps(db);
+            if (stamp[0] != 0L) {
+                return stamp;
+            }
+        }
+        return new long[] { System.nanoTime() / Memoizer.installedAppsExpiration() };
+    }
+
     /**
      * Fetches the list of installed applications by executing the appropriate package manager command. The package
-     * manager is determined during class initialization and stored in {@code PACKAGE_MANAGER_COMMANDS}. If no supported
-     * package manager is found, an empty list is returned.
+     * manager is determined on first use and stored in {@code PACKAGE_MANAGER_COMMANDS}. If no supported package
+     * manager is found, an empty list is returned.
      *
      * @return A list of strings, where each entry represents an installed application with its details. Returns an
      *         empty list if no supported package manager is available.
      */
     private static List<String> fetchInstalledApps() {
-        if (PACKAGE_MANAGER_COMMANDS.isEmpty()) {
+        Map<String, String> commands = PACKAGE_MANAGER_COMMANDS.get();
+        if (commands.isEmpty()) {
             return Collections.emptyList();
         }
 
         // Get the first available package manager's command
-        String command = PACKAGE_MANAGER_COMMANDS.values().iterator().next();
+        String command = commands.values().iterator().next();
         return ExecutingCommand.runNative(command);
     }
 
@@ -87,23 +150,126 @@ public final class LinuxInstalledApps {
 
             // Check if we have all 8 fields
             if (parts.length >= 8) {
-                // Additional info map
-                Map<String, String> additionalInfo = new LinkedHashMap<>();
-                additionalInfo.put("architecture", ParseUtil.getStringValueOrUnknown(parts[2]));
-                additionalInfo.put("installedSize", String.valueOf(ParseUtil.parseLongOrDefault(parts[3], 0L)));
-                additionalInfo.put("source", ParseUtil.getStringValueOrUnknown(parts[6]));
-                additionalInfo.put("homepage", ParseUtil.getStringValueOrUnknown(parts[7]));
-
-                ApplicationInfo app = new ApplicationInfo(ParseUtil.getStringValueOrUnknown(parts[0]), // Package name
-                        ParseUtil.getStringValueOrUnknown(parts[1]), // Version
-                        ParseUtil.getStringValueOrUnknown(parts[5]), // Vendor
-                        ParseUtil.parseLongOrDefault(parts[4], 0L), // Date Epoch
-                        additionalInfo);
-
-                appInfoSet.add(app);
+                appInfoSet.add(
+                        buildAppInfo(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6], parts[7]));
             }
         }
 
         return new ArrayList<>(appInfoSet);
     }
+
+    /**
+     * Parses the dpkg status database, producing the same fields as the {@code dpkg-query} command. Packages in the
+     * {@code not-installed} state are omitted, as {@code dpkg-query -W} does.
+     *
+     * @param statusFile The path to the dpkg {@code status} file
+     * @param infoDir    The path to the dpkg {@code info} directory, including a trailing separator, whose
+     *                   {@code .list} file modification times are used as the install time
+     * @return A list of {@link ApplicationInfo} objects representing installed packages
+     */
+    static List<ApplicationInfo> parseDpkgStatus(String statusFile, String infoDir) {
+        Set<ApplicationInfo> appInfoSet = new LinkedHashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(statusFile), StandardCharsets.UTF_8)) {
+            Map<String, String> stanza = new HashMap<>();
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null || line.isEmpty()) {
+                    addDpkgPackage(stanza, infoDir, appInfoSet);
+                    stanza.clear();
+                } else {
+                    putStanzaField(line, ':', stanza);
+                }
+            } while (line != null);
+        } catch (IOException e) {
+            LOG.debug("Error reading dpkg status file {}", statusFile, e);
+        }
+        return new ArrayList<>(appInfoSet);
+    }
+
+    private static void addDpkgPackage(Map<String, String> stanza, String infoDir, Set<ApplicationInfo> appInfoSet) {
+        String name = stanza.get("Package");
+        String status = stanza.getOrDefault("Status", "");
+        if (name == null || status.endsWith("not-installed")) {
+            return;
+        }
+        String arch = stanza.getOrDefault("Architecture", "");
+        // Multi-Arch: same packages qualify their file list with the architecture
+        long lastModified = getLastModifiedSeconds(infoDir + name + ":" + arch + ".list");
+        if (lastModified == 0L) {
+            lastModified = getLastModifiedSeconds(infoDir + name + ".list");
+        }
+        appInfoSet.add(buildAppInfo(name, stanza.get("Version"), arch, stanza.get("Installed-Size"),
+                String.valueOf(lastModified), stanza.get("Maintainer"), stanza.get("Source"), stanza.get("Homepage")));
+    }
+
+    /**
+     * Parses the apk installed database. Alpine does not record an install time, so the package build time is reported
+     * instead.
+     *
+     * @param installedFile The path to the apk {@code installed} file
+     * @return A list of {@link ApplicationInfo} objects representing installed packages
+     */
+    static List<ApplicationInfo> parseApkInstalled(String installedFile) {
+        Set<ApplicationInfo> appInfoSet = new LinkedHashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(installedFile), StandardCharsets.UTF_8)) {
+            Map<String, String> stanza = new HashMap<>();
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null || line.isEmpty()) {
+                    String name = stanza.get("P");
+                    if (name != null) {
+                        appInfoSet.add(buildAppInfo(name, stanza.get("V"), stanza.get("A"), stanza.get("I"),
+                                stanza.get("t"), stanza.get("m"), stanza.get("o"), stanza.get("U")));
+                    }
+                    stanza.clear();
+                } else {
+                    putStanzaField(line, ':', stanza);
+                }
+            } while (line != null);
+        } catch (IOException e) {
+            LOG.debug("Error reading apk installed file {}", installedFile, e);
+        }
+        return new ArrayList<>(appInfoSet);
+    }
+
+    /**
+     * Adds a {@code key: value} line to the stanza map. Continuation lines (beginning with whitespace) and lines
+     * without the separator are ignored, as none of the fields reported span multiple lines.
+     */
+    private static void putStanzaField(String line, char separator, Map<String, String> stanza) {
+        if (Character.isWhitespace(line.charAt(0))) {
+            return;
+        }
+        int idx = line.indexOf(separator);
+        if (idx > 0) {
+            stanza.put(line.substring(0, idx), line.substring(idx + 1).trim());
+        }
+    }
+
+    private static long getLastModifiedSeconds(String filename) {
+        return FileUtil.getFileStamps(filename)[0] / 1000L;
+    }
+
+    private static ApplicationInfo buildAppInfo(@Nullable String name, @Nullable String version, @Nullable String arch,
+            @Nullable String size, @Nullable String timestamp, @Nullable String vendor, @Nullable String source,
+            @Nullable String homepage) {
+        // Additional info map
+        Map<String, String> additionalInfo = new LinkedHashMap<>();
+        additionalInfo.put("architecture", ParseUtil.getStringValueOrUnknown(arch));
+        additionalInfo.put("installedSize", String.valueOf(ParseUtil.parseLongOrDefault(nonNull(size), 0L)));
+        additionalInfo.put("source", ParseUtil.getStringValueOrUnknown(source));
+        additionalInfo.put("homepage", ParseUtil.getStringValueOrUnknown(homepage));
+
+        return new ApplicationInfo(ParseUtil.getStringValueOrUnknown(name), // Package name
+                ParseUtil.getStringValueOrUnknown(version), // Version
+                ParseUtil.getStringValueOrUnknown(vendor), // Vendor
+                ParseUtil.parseLongOrDefault(nonNull(timestamp), 0L), // Date Epoch
+                additionalInfo);
+    }
+
+    private static String nonNull(@Nullable String s) {
+        return s == null ? "" : s;
+    }
 }
@@ -4,6 +4,9 @@
  */
 package oshi.software.common.os.linux;
 
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
@@ -33,6 +36,12 @@ public class LinuxInternetProtocolStats extends AbstractInternetProtocolStats {
     private static final String UDP_COLON = "Udp:";
     private static final String UDP6 = "Udp6";
 
+    // Zero-based column of the state in /proc/net/tcp, after the slot and the local and remote addresses
+    private static final int STATE_FIELD = 3;
+    // Linux TCP states run from 1 to 12
+    private static final int STATE_SLOTS = 16;
+    private static final int READ_BUFFER_SIZE = 65_536;
+
     private enum TcpStat {
         RtoAlgorithm, RtoMin, RtoMax, MaxConn, ActiveOpens, PassiveOpens, AttemptFails, EstabResets, CurrEstab, InSegs,
         OutSegs, RetransSegs, InErrs, OutRsts, InCsumErrors;
@@ -140,6 +149,87 @@ public class LinuxInternetProtocolStats extends AbstractInternetProtocolStats {
         return conns;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Scans the state column of the {@code /proc/net} socket tables without creating a string per line, and without the
+     * socket-to-process mapping {@link #getConnections()} performs.
+     */
+    @Override
+    public ConnectionStateCounts getConnectionStateCounts() {
+        long[] tcp = new long[STATE_SLOTS];
+        countStates(ProcPath.NET + "/tcp", tcp);
+        countStates(ProcPath.NET + "/tcp6", tcp);
+        long[] udp = new long[STATE_SLOTS];
+        long udpCount = countStates(ProcPath.NET + "/udp", udp) + countStates(ProcPath.NET + "/udp6", udp);
+        Map<TcpState, Long> tcpCounts = new EnumMap<>(TcpState.class);
+        for (int i = 0; i < tcp.length; i++) {
+            if (tcp[i] > 0) {
+                tcpCounts.merge(TcpState.fromLinuxState(i), tcp[i], Long::sum);
+            }
+        }
+        return new ConnectionStateCounts(tcpCounts, udpCount);
+    }
+
+    private static long countStates(String path, long[] counts) {
+        try (InputStream in = new FileInputStream(path)) {
+            return countStates(in, counts);
+        } catch (IOException e) {
+            // Absent when the protocol or IPv6 is disabled
+            return 0L;
+        }
+    }
+
+    /**
+     * Counts the sockets of a {@code /proc/net/tcp}-format table by the hexadecimal state in its fourth column.
+     *
+     * @param in     the table, starting with its header line
+     * @param counts incremented at the index of each socket's state; states beyond its length are counted only in the
+     *               total
+     * @return the number of sockets
+     * @throws IOException if the table cannot be read
+     */
+    static long countStates(InputStream in, long[] counts) throws IOException {
+        byte[] buf = new byte[READ_BUFFER_SIZE];
+        long total = 0;
+        boolean skipLine = true;
+        int field = 0;
+        boolean inField = false;
+        int state = 0;
+        int read;
+        while ((read = in.read(buf)) > 0) {
+            for (int i = 0; i < read; i++) {
+                byte c = buf[i];
+                if (c == '\n') {
+                    skipLine = false;
+                    field = 0;
+                    inField = false;
+                    state = 0;
+                } else if (skipLine) {
+                    continue;
+                } else if (c == ' ') {
+                    if (inField) {
+                        inField = false;
+                        if (field == STATE_FIELD) {
+                            if (state >= 0 && state < counts.length) {
+                                counts[state]++;
+                            }
+                            total++;
+                            skipLine = true;
+                        }
+                        field++;
+                    }
+                } else {
+                    inField = true;
+                    if (field == STATE_FIELD) {
+                        state = (state << 4) + Character.digit(c, 16);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
     private static List<IPConnection> queryConnections(String protocol, int ipver, Map<Long, Integer> pidMap) {
         List<IPConnection> conns = new ArrayList<>();
         for (String s : FileUtil.readFile(ProcPath.NET + "/" + protocol + (ipver == 6 ? "6" : ""))) {
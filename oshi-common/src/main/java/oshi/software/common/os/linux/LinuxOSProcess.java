@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -41,8 +42,10 @@ import oshi.util.PrivilegedUtil;
 import oshi.util.UserGroupInfo;
 import oshi.util.Util;
 import oshi.util.driver.linux.proc.ProcessStat;
+import oshi.util.driver.linux.proc.ThreadTable;
 import oshi.util.driver.unix.ProcLimits;
 import oshi.util.linux.ProcPath;
+import oshi.util.tuples.Quartet;
 
 /**
  * OSProcess implementation
@@ -200,9 +203,21 @@ public abstract class LinuxOSProcess extends AbstractOSProcess {
 
     @Override
     public List<OSThread> getThreadDetails() {
-        return ProcessStat.getThreadIds(getProcessID()).stream().parallel()
-                .map(id -> new LinuxOSThread(getProcessID(), id, getOs())).filter(VALID_THREAD)
-                .collect(Collectors.toList());
+        int pid = getProcessID();
+        return Arrays.stream(this.os.queryNumericEntries(String.format(Locale.ROOT, ProcPath.TASK_PATH, pid)))
+                .filter(id -> id != pid).parallel().mapToObj(id -> new LinuxOSThread(pid, id, getOs()))
+                .filter(VALID_THREAD).collect(Collectors.toList());
+    }
+
+    /**
+     * Reads this process's threads into a {@link ThreadTable}, which is much cheaper than {@link #getThreadDetails()}
+     * for processes with many threads, and runs no tasks on the common pool.
+     *
+     * @param executor the executor to split the reads among, or {@code null} to read on the calling thread
+     * @return the threads, including the main thread
+     */
+    public ThreadTable getThreadTable(@Nullable Executor executor) {
+        return ThreadTable.query(getProcessID(), executor);
     }
 
     @Override
@@ -227,7 +242,7 @@ public abstract class LinuxOSProcess extends AbstractOSProcess {
 
     @Override
     public long getOpenFiles() {
-        return ProcessStat.getFileDescriptorFiles(getProcessID()).length;
+        return this.os.queryNumericEntries(String.format(Locale.ROOT, ProcPath.PID_FD, getProcessID())).length;
     }
 
     @Override
@@ -330,6 +345,25 @@ public abstract class LinuxOSProcess extends AbstractOSProcess {
         return null;
     }
 
+    /**
+     * Reads the {@code /proc/[pid]} files parsed on each update. The default reads each file by its absolute path; the
+     * FFM subclass overrides it to open the process directory once and read the files relative to it.
+     *
+     * @return the {@code io} and {@code status} files as modifiable maps, and the first lines of {@code stat} and
+     *         {@code statm}; the {@code stat} line is empty if the process has exited
+     */
+    protected Quartet<Map<String, String>, Map<String, String>, String, String> queryProcPidFiles() {
+        int pid = getProcessID();
+        Map<String, String> io = PrivilegedUtil
+                .getKeyValueMapFromFilePrivileged(String.format(Locale.ROOT, ProcPath.PID_IO, pid), ":");
+        Map<String, String> status = FileUtil
+                .getKeyValueMapFromFile(String.format(Locale.ROOT, ProcPath.PID_STATUS, pid), ":");
+        // Read stat after the others so that a process which exits in between is detected
+        String stat = FileUtil.getStringFromFile(String.format(Locale.ROOT, ProcPath.PID_STAT, pid));
+        String statm = FileUtil.getStringFromFile(String.format(Locale.ROOT, ProcPath.PID_STATM, pid));
+        return new Quartet<>(io, status, stat, statm);
+    }
+
     // ProcPidStat.ordinal() only indexes statArray, built from ProcPidStat.values() itself via PROC_PID_STAT_ORDERS
     @SuppressWarnings("EnumOrdinal")
     private boolean updateAttributesFromProc() {
@@ -348,13 +382,11 @@ public abstract class LinuxOSProcess extends AbstractOSProcess {
             LOG.debug("Unable to open symbolic link {}", procPidExe);
         }
         // Fetch all the values here
-        // check for terminated process race condition after last one.
-        Map<String, String> io = PrivilegedUtil
-                .getKeyValueMapFromFilePrivileged(String.format(Locale.ROOT, ProcPath.PID_IO, getProcessID()), ":");
-        Map<String, String> status = FileUtil
-                .getKeyValueMapFromFile(String.format(Locale.ROOT, ProcPath.PID_STATUS, getProcessID()), ":");
-        String stat = FileUtil.getStringFromFile(String.format(Locale.ROOT, ProcPath.PID_STAT, getProcessID()));
-        String statm = FileUtil.getStringFromFile(String.format(Locale.ROOT, ProcPath.PID_STATM, getProcessID()));
+        Quartet<Map<String, String>, Map<String, String>, String, String> procPidFiles = queryProcPidFiles();
+        Map<String, String> io = procPidFiles.getA();
+        Map<String, String> status = procPidFiles.getB();
+        String stat = procPidFiles.getC();
+        String statm = procPidFiles.getD();
         if (stat.isEmpty()) {
             this.state = INVALID;
             return false;
@@ -6,10 +6,10 @@ package oshi.software.common.os.linux;
 
 import static oshi.software.os.OSService.State.RUNNING;
 import static oshi.software.os.OSService.State.STOPPED;
-import static oshi.util.Memoizer.installedAppsExpiration;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -64,7 +64,13 @@ public abstract class LinuxOperatingSystem extends AbstractOperatingSystem {
     private static final String FILENAME_PROPERTIES = "oshi.linux.filename.properties";
 
     private final Supplier<List<ApplicationInfo>> installedAppsSupplier = Memoizer
-            .memoize(LinuxInstalledApps::queryInstalledApps, installedAppsExpiration());
+            .memoizeOnChange(LinuxInstalledApps::queryInstalledApps, LinuxInstalledApps::queryDatabaseStamp);
+
+    private final Supplier<Set<String>> enabledUnitsSupplier = Memoizer
+            .memoizeOnChange(LinuxServices::queryEnabledUnits, LinuxServices::queryUnitDirStamps);
+    private final Supplier<Map<String, Integer>> runningUnitsSupplier = Memoizer
+            .memoizeOnChange(LinuxServices::queryRunningUnits, LinuxServices::queryCgroupStamps);
+    private final Supplier<Boolean> systemdServicesAvailable = Memoizer.memoize(LinuxServices::isAvailable);
 
     private final Supplier<CgroupInfo> cgroupInfoSupplier = Memoizer.memoize(LinuxCgroupInfo::new);
 
@@ -139,30 +145,47 @@ public abstract class LinuxOperatingSystem extends AbstractOperatingSystem {
 
     @Override
     public List<OSProcess> queryChildProcesses(int parentPid) {
-        File[] pidFiles = ProcessStat.getPidFiles();
+        int[] pids = queryNumericEntries(ProcPath.PROC);
         if (parentPid >= 0) {
-            return queryProcessList(getChildrenOrDescendants(getParentPidsFromProcFiles(pidFiles), parentPid, false));
+            return queryProcessList(getChildrenOrDescendants(getParentPids(pids), parentPid, false));
         }
         Set<Integer> descendantPids = new HashSet<>();
-        for (File procFile : pidFiles) {
-            int pid = ParseUtil.parseIntOrDefault(procFile.getName(), -2);
-            if (pid != -2) {
-                descendantPids.add(pid);
-            }
+        for (int pid : pids) {
+            descendantPids.add(pid);
         }
         return queryProcessList(descendantPids);
     }
 
     @Override
     public List<OSProcess> queryDescendantProcesses(int parentPid) {
-        File[] pidFiles = ProcessStat.getPidFiles();
-        return queryProcessList(getChildrenOrDescendants(getParentPidsFromProcFiles(pidFiles), parentPid, true));
+        int[] pids = queryNumericEntries(ProcPath.PROC);
+        return queryProcessList(getChildrenOrDescendants(getParentPids(pids), parentPid, true));
+    }
+
+    /**
+     * Lists the entries of a procfs directory whose names are numeric: process IDs in {@code /proc}, thread IDs in
+     * {@code /proc/[pid]/task} and descriptors in {@code /proc/[pid]/fd}. These listings are made on every process
+     * enumeration, so implementations with native access may override this to avoid creating an object per entry.
+     *
+     * @param path the directory to list
+     * @return the numeric entry names; empty if the directory does not exist or cannot be read
+     */
+    protected int[] queryNumericEntries(String path) {
+        return ProcessStat.listNumericEntries(path);
+    }
+
+    /**
+     * Lists the IDs of the running processes, the numeric entries in {@code /proc}, as every process enumeration does.
+     *
+     * @return the process IDs, in directory order
+     */
+    public int[] queryProcessIds() {
+        return queryNumericEntries(ProcPath.PROC);
     }
 
     private List<OSProcess> queryProcessList(Set<Integer> descendantPids) {
         List<OSProcess> procs = new ArrayList<>();
-        for (int pid : descendantPids) {
-            OSProcess proc = createOSProcess(pid);
+        for (OSProcess proc : createOSProcesses(descendantPids)) {
             if (!proc.getState().equals(State.INVALID)) {
                 procs.add(proc);
             }
@@ -170,6 +193,21 @@ public abstract class LinuxOperatingSystem extends AbstractOperatingSystem {
         return procs;
     }
 
+    /**
+     * Creates OS processes for the given PIDs. The default creates each with {@link #createOSProcess(int)};
+     * implementations may override this to read the files of all the processes together.
+     *
+     * @param pids the process IDs
+     * @return the OS processes, including any which have since exited and are {@link State#INVALID}
+     */
+    protected List<OSProcess> createOSProcesses(Collection<Integer> pids) {
+        List<OSProcess> procs = new ArrayList<>(pids.size());
+        for (int pid : pids) {
+            procs.add(createOSProcess(pid));
+        }
+        return procs;
+    }
+
     /**
      * Creates an OS process for the given PID.
      *
@@ -185,9 +223,22 @@ public abstract class LinuxOperatingSystem extends AbstractOperatingSystem {
      * @return a map of PID to parent PID
      */
     protected static Map<Integer, Integer> getParentPidsFromProcFiles(File[] pidFiles) {
+        int[] pids = new int[pidFiles.length];
+        for (int i = 0; i < pids.length; i++) {
+            pids[i] = ParseUtil.parseIntOrDefault(pidFiles[i].getName(), 0);
+        }
+        return getParentPids(pids);
+    }
+
+    /**
+     * Gets parent PIDs from the proc filesystem.
+     *
+     * @param pids the process IDs
+     * @return a map of PID to parent PID
+     */
+    protected static Map<Integer, Integer> getParentPids(int[] pids) {
         Map<Integer, Integer> parentPidMap = new HashMap<>();
-        for (File procFile : pidFiles) {
-            int pid = ParseUtil.parseIntOrDefault(procFile.getName(), 0);
+        for (int pid : pids) {
             parentPidMap.put(pid, getParentPidFromProcFile(pid));
         }
         return parentPidMap;
@@ -213,7 +264,39 @@ public abstract class LinuxOperatingSystem extends AbstractOperatingSystem {
 
     @Override
     public int getProcessCount() {
-        return ProcessStat.getPidFiles().length;
+        return queryNumericEntries(ProcPath.PROC).length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads {@code /proc/self/stat}, {@code statm} and {@code io} and counts {@code /proc/self/fd}, taking times,
+     * faults and context switches from {@link #querySelfRusage()} where available, and from {@code stat} and
+     * {@code status} otherwise.
+     */
+    @Override
+    public OSProcess getCurrentProcessSnapshot() {
+        return new LinuxCurrentProcessSnapshot(this);
+    }
+
+    /**
+     * Reads the current process's resource usage via native {@code getrusage(RUSAGE_SELF)}. The default returns
+     * {@code null} (the native-free build has no {@code getrusage}); the JNA and FFM subclasses override it.
+     *
+     * @return a six-element array of user time and kernel time in milliseconds, minor and major faults, and voluntary
+     *         and involuntary context switches, or {@code null} if unavailable
+     */
+    protected long @Nullable [] querySelfRusage() {
+        return null;
+    }
+
+    /**
+     * Counts the current process's open file descriptors.
+     *
+     * @return the number of entries in {@code /proc/self/fd}
+     */
+    long countSelfOpenFiles() {
+        return queryNumericEntries(String.format(Locale.ROOT, ProcPath.PID_FD, getProcessId())).length;
     }
 
     @Override
@@ -543,6 +626,9 @@ public abstract class LinuxOperatingSystem extends AbstractOperatingSystem {
 
     @Override
     public List<OSService> getServices() {
+        if (systemdServicesAvailable.get()) {
+            return LinuxServices.queryServices(enabledUnitsSupplier.get(), runningUnitsSupplier.get());
+        }
         List<OSService> services = new ArrayList<>();
         Set<String> running = new HashSet<>();
         for (OSProcess p : getChildProcesses(1, ProcessFiltering.ALL_PROCESSES, ProcessSorting.PID_ASC, 0)) {
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.software.common.os.linux;
+
+import static oshi.software.os.OSService.State.RUNNING;
+import static oshi.software.os.OSService.State.STOPPED;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.software.os.OSService;
+import oshi.util.FileUtil;
+import oshi.util.Memoizer;
+import oshi.util.ParseUtil;
+import oshi.util.linux.SysPath;
+
+/**
+ * Utility class for enumerating systemd services on Linux without running {@code systemctl}.
+ * <p>
+ * The enabled unit inventory is derived from the {@code .wants} and {@code .requires} links in the administrator's and
+ * the distribution's unit directories, and the running state and process IDs from the {@code cgroup.procs} files
+ * systemd maintains for each service under {@code system.slice}. Both directory trees change their modification time
+ * when an entry is added or removed, so the results are suited to {@link Memoizer#memoizeOnChange} keyed on
+ * {@link #queryUnitDirStamps()} and {@link #queryCgroupStamps()}.
+ */
+@ThreadSafe
+public final class LinuxServices {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LinuxServices.class);
+
+    private static final String SERVICE_SUFFIX = ".service";
+    private static final String SLICE_SUFFIX = ".slice";
+    private static final String CGROUP_PROCS = "cgroup.procs";
+
+    /** Present only when systemd is the running init system, the same check {@code sd_booted()} makes. */
+    static final String SYSTEMD_RUNTIME_DIR = "/run/systemd/system";
+    /** The administrator's unit directory, where {@code systemctl enable} creates its links. */
+    static final String SYSTEMD_CONFIG_DIR = "/etc/systemd/system";
+    /** The distribution's unit directory, where packages install units and their default links. */
+    static final String SYSTEMD_VENDOR_DIR = "/usr/lib/systemd/system";
+    /** The cgroup v2 (unified) location of system services. */
+    static final String CGROUP2_SYSTEM_SLICE = SysPath.CGROUP + "system.slice";
+    /** The cgroup v1 location of system services, in systemd's named hierarchy. */
+    static final String CGROUP1_SYSTEM_SLICE = SysPath.CGROUP + "systemd/system.slice";
+
+    private LinuxServices() {
+    }
+
+    /**
+     * Whether services can be enumerated from the unit directories and cgroup filesystem: systemd must be the running
+     * init system and its {@code system.slice} cgroup must be visible.
+     *
+     * @return {@code true} if {@link #queryServices(Set, Map)} may be used in place of {@code systemctl}
+     */
+    public static boolean isAvailable() {
+        return Files.isDirectory(Paths.get(SYSTEMD_RUNTIME_DIR)) && Files.isDirectory(Paths.get(SYSTEMD_CONFIG_DIR))
+                && Files.isDirectory(Paths.get(getSystemSlice()));
+    }
+
+    private static String getSystemSlice() {
+        return Files.isDirectory(Paths.get(CGROUP2_SYSTEM_SLICE)) ? CGROUP2_SYSTEM_SLICE : CGROUP1_SYSTEM_SLICE;
+    }
+
+    /**
+     * Gets the names of the enabled services, without the {@code .service} suffix.
+     *
+     * @return the set of enabled service names
+     */
+    public static Set<String> queryEnabledUnits() {
+        return queryEnabledUnits(SYSTEMD_CONFIG_DIR, SYSTEMD_VENDOR_DIR);
+    }
+
+    /**
+     * Gets the names of the services linked into any {@code .wants} or {@code .requires} directory of the given unit
+     * directories, which is how {@code systemctl enable} records an enabled unit, and how packages pull in the units
+     * they always start. Units masked by a link to {@code /dev/null} in the administrator's directory are excluded.
+     *
+     * @param configDir the administrator's unit directory, normally {@code /etc/systemd/system}
+     * @param vendorDir the distribution's unit directory, normally {@code /usr/lib/systemd/system}
+     * @return the set of enabled service names, without the {@code .service} suffix
+     */
+    static Set<String> queryEnabledUnits(String configDir, String vendorDir) {
+        Set<String> enabled = new HashSet<>();
+        for (String unitDir : new String[] { configDir, vendorDir }) {
+            for (Path dependencyDir : listDependencyDirs(unitDir)) {
+                try (DirectoryStream<Path> units = Files.newDirectoryStream(dependencyDir, "*" + SERVICE_SUFFIX)) {
+                    for (Path unit : units) {
+                        String fileName = String.valueOf(unit.getFileName());
+                        if (!isMasked(configDir, fileName)) {
+                            enabled.add(fileName.substring(0, fileName.length() - SERVICE_SUFFIX.length()));
+                        }
+                    }
+                } catch (IOException e) {
+                    LOG.debug("Unable to list unit directory {}", dependencyDir, e);
+                }
+            }
+        }
+        return enabled;
+    }
+
+    private static boolean isMasked(String configDir, String fileName) {
+        Path unit = Paths.get(configDir, fileName);
+        if (Files.isSymbolicLink(unit)) {
+            String target = FileUtil.readSymlinkTarget(unit.toFile());
+            return "/dev/null".equals(target);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the running services and their process IDs from the cgroup filesystem.
+     *
+     * @return a map of running service names, without the {@code .service} suffix, to their process IDs
+     */
+    public static Map<String, Integer> queryRunningUnits() {
+        return queryRunningUnits(getSystemSlice());
+    }
+
+    /**
+     * Gets the services with at least one process in their cgroup, including those nested one level down in a sub-slice
+     * such as {@code system-getty.slice}. systemd does not publish the main PID in the cgroup filesystem, so the lowest
+     * PID in the cgroup is reported, which is the main process for all but services that fork a longer-lived child
+     * after their PIDs wrap.
+     *
+     * @param systemSlice the {@code system.slice} cgroup directory
+     * @return a map of running service names, without the {@code .service} suffix, to their process IDs, sorted by name
+     */
+    static Map<String, Integer> queryRunningUnits(String systemSlice) {
+        Map<String, Integer> running = new TreeMap<>();
+        for (Path slice : listSliceDirs(systemSlice)) {
+            try (DirectoryStream<Path> units = Files.newDirectoryStream(slice, "*" + SERVICE_SUFFIX)) {
+                for (Path unit : units) {
+                    int pid = queryLowestPid(unit.resolve(CGROUP_PROCS));
+                    if (pid > 0) {
+                        String fileName = String.valueOf(unit.getFileName());
+                        running.put(fileName.substring(0, fileName.length() - SERVICE_SUFFIX.length()), pid);
+                    }
+                }
+            } catch (IOException e) {
+                LOG.debug("Unable to list cgroup directory {}", slice, e);
+            }
+        }
+        return running;
+    }
+
+    private static int queryLowestPid(Path cgroupProcs) {
+        int lowest = 0;
+        for (String line : FileUtil.readFile(cgroupProcs.toString(), false)) {
+            int pid = ParseUtil.parseIntOrDefault(line.trim(), 0);
+            if (pid > 0 && (lowest == 0 || pid < lowest)) {
+                lowest = pid;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * Combines the enabled and running services into the list {@code getServices()} reports: every running service with
+     * its process ID, followed by every enabled service which is not running.
+     *
+     * @param enabled the enabled service names
+     * @param running the running service names and process IDs
+     * @return the list of services
+     */
+    public static List<OSService> queryServices(Set<String> enabled, Map<String, Integer> running) {
+        List<OSService> services = new ArrayList<>(running.size() + enabled.size());
+        for (Map.Entry<String, Integer> e : running.entrySet()) {
+            services.add(new OSService(e.getKey(), e.getValue(), RUNNING));
+        }
+        List<String> stopped = new ArrayList<>();
+        for (String name : enabled) {
+            if (!running.containsKey(name)) {
+                stopped.add(name);
+            }
+        }
+        Collections.sort(stopped);
+        for (String name : stopped) {
+            services.add(new OSService(name, 0, STOPPED));
+        }
+        return services;
+    }
+
+    /**
+     * Gets the modification times of the unit directories that determine {@link #queryEnabledUnits()}, changing when a
+     * unit is enabled, disabled or masked. Costs one directory listing and one {@code stat()} per dependency directory.
+     *
+     * @return the change indicator
+     */
+    public static long[] queryUnitDirStamps() {
+        List<Path> dirs = new ArrayList<>();
+        for (String unitDir : new String[] { SYSTEMD_CONFIG_DIR, SYSTEMD_VENDOR_DIR }) {
+            dirs.add(Paths.get(unitDir));
+            dirs.addAll(listDependencyDirs(unitDir));
+        }
+        return FileUtil.getFileStamps(toStrings(dirs));
+    }
+
+    /**
+     * Gets the modification times of the cgroup directories that determine {@link #queryRunningUnits()}, changing when
+     * a service starts or stops and systemd creates or removes its cgroup. A service's processes can change without its
+     * cgroup being recreated, for example when its main process exits and leaves a child running, so the indicator also
+     * changes once per {@link Memoizer#processExpiration()}.
+     *
+     * @return the change indicator
+     */
+    public static long[] queryCgroupStamps() {
+        return queryCgroupStamps(getSystemSlice(), System.nanoTime(), Memoizer.processExpiration());
+    }
+
+    /**
+     * Gets the modification times of the cgroup directories under a {@code system.slice} directory, followed by the
+     * number of whole expiration periods elapsed.
+     *
+     * @param systemSlice the {@code system.slice} cgroup directory
+     * @param nanoTime    the current {@link System#nanoTime()}
+     * @param ttlNanos    the expiration period, or a negative value to never expire
+     * @return the change indicator
+     */
+    static long[] queryCgroupStamps(String systemSlice, long nanoTime, long ttlNanos) {
+        long[] dirStamps = FileUtil.getFileStamps(toStrings(listSliceDirs(systemSlice)));
+        long[] stamps = Arrays.copyOf(dirStamps, dirStamps.length + 1);
+        stamps[dirStamps.length] = ttlNanos > 0 ? nanoTime / ttlNanos : 0L;
+        return stamps;
+    }
+
+    private static String[] toStrings(List<Path> dirs) {
+        String[] names = new String[dirs.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = dirs.get(i).toString();
+        }
+        return names;
+    }
+
+    private static List<Path> listDependencyDirs(String configDir) {
+        List<Path> dirs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(configDir),
+                p -> Files.isDirectory(p) && (p.toString().endsWith(".wants") || p.toString().endsWith(".requires")))) {
+            for (Path p : stream) {
+                dirs.add(p);
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to list unit directory {}", configDir, e);
+        }
+        Collections.sort(dirs);
+        return dirs;
+    }
+
+    private static List<Path> listSliceDirs(String systemSlice) {
+        List<Path> dirs = new ArrayList<>();
+        Path slice = Paths.get(systemSlice);
+        dirs.add(slice);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(slice, "*" + SLICE_SUFFIX)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    dirs.add(p);
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to list cgroup directory {}", systemSlice, e);
+        }
+        Collections.sort(dirs.subList(1, dirs.size()));
+        return dirs;
+    }
+}
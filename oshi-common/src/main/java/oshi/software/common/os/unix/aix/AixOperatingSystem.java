@@ -7,9 +7,9 @@ package oshi.software.common.os.unix.aix;
 import static oshi.software.os.OSProcess.State.INVALID;
 import static oshi.software.os.OSService.State.RUNNING;
 import static oshi.software.os.OSService.State.STOPPED;
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.installedAppsExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.processExpiration;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -50,7 +50,8 @@ import oshi.util.tuples.Quartet;
 @ThreadSafe
 public abstract class AixOperatingSystem extends AbstractOperatingSystem {
 
-    private final Supplier<AixPerfstatProcess[]> procCpu = memoize(this::queryPerfstatProcesses, defaultExpiration());
+    private final Supplier<AixPerfstatProcess[]> procCpu = memoizeConfigured(this::queryPerfstatProcesses,
+            processExpiration());
     private final Supplier<List<ApplicationInfo>> installedAppsSupplier = Memoizer
             .memoize(AixInstalledApps::queryInstalledApps, installedAppsExpiration());
 
@@ -132,7 +132,7 @@ public abstract class SolarisOperatingSystem extends AbstractOperatingSystem {
 
     @Override
     public int getProcessCount() {
-        return ProcessStat.getPidFiles().length;
+        return ProcessStat.getPids().length;
     }
 
     @Override
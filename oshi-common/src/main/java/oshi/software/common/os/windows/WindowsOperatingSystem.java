@@ -5,8 +5,8 @@
 package oshi.software.common.os.windows;
 
 import static oshi.software.os.OperatingSystem.ProcessFiltering.VALID_PROCESS;
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.processExpiration;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -52,17 +52,17 @@ public abstract class WindowsOperatingSystem extends AbstractOperatingSystem {
     /*
      * Cache full process stats queries. The second query only populates if the first one returns nothing.
      */
-    private final Supplier<@Nullable Map<Integer, ProcessPerfCounterBlock>> processMapFromRegistry = memoize(
-            () -> buildProcessMapFromRegistry(null), defaultExpiration());
-    private final Supplier<@Nullable Map<Integer, ProcessPerfCounterBlock>> processMapFromPerfCounters = memoize(
-            () -> buildProcessMapFromPerfCounters(null), defaultExpiration());
+    private final Supplier<@Nullable Map<Integer, ProcessPerfCounterBlock>> processMapFromRegistry = memoizeConfigured(
+            () -> buildProcessMapFromRegistry(null), processExpiration());
+    private final Supplier<@Nullable Map<Integer, ProcessPerfCounterBlock>> processMapFromPerfCounters = memoizeConfigured(
+            () -> buildProcessMapFromPerfCounters(null), processExpiration());
     /*
      * Cache full thread stats queries. Only used if USE_PROCSTATE_SUSPENDED is set true.
      */
-    private final Supplier<@Nullable Map<Integer, ThreadPerfCounterBlock>> threadMapFromRegistry = memoize(
-            () -> buildThreadMapFromRegistry(null), defaultExpiration());
-    private final Supplier<@Nullable Map<Integer, ThreadPerfCounterBlock>> threadMapFromPerfCounters = memoize(
-            () -> buildThreadMapFromPerfCounters(null), defaultExpiration());
+    private final Supplier<@Nullable Map<Integer, ThreadPerfCounterBlock>> threadMapFromRegistry = memoizeConfigured(
+            () -> buildThreadMapFromRegistry(null), processExpiration());
+    private final Supplier<@Nullable Map<Integer, ThreadPerfCounterBlock>> threadMapFromPerfCounters = memoizeConfigured(
+            () -> buildThreadMapFromPerfCounters(null), processExpiration());
 
     /**
      * Reads process performance data from {@code HKEY_PERFORMANCE_DATA}.
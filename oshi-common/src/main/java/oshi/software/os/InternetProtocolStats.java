@@ -7,7 +7,10 @@ package oshi.software.os;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -99,6 +102,29 @@ public interface InternetProtocolStats {
      */
     List<IPConnection> getConnections();
 
+    /**
+     * Counts TCP connections by state, and UDP sockets, without listing the connections.
+     * <p>
+     * The default counts the result of {@link #getConnections()}. Implementations which can read the states alone, such
+     * as Linux, override this to avoid building a connection object per socket and mapping sockets to processes, which
+     * on hosts with many connections is orders of magnitude cheaper.
+     *
+     * @return the connection counts
+     */
+    default ConnectionStateCounts getConnectionStateCounts() {
+        Map<TcpState, Long> tcp = new EnumMap<>(TcpState.class);
+        long udp = 0;
+        for (IPConnection conn : getConnections()) {
+            if (conn.getType().startsWith("tcp")) {
+                TcpState state = conn.getState();
+                tcp.merge(state == null ? TcpState.UNKNOWN : state, 1L, Long::sum);
+            } else if (conn.getType().startsWith("udp")) {
+                udp++;
+            }
+        }
+        return new ConnectionStateCounts(tcp, udp);
+    }
+
     /**
      * Encapsulates statistics associated with a TCP connection.
      */
@@ -329,6 +355,75 @@ public interface InternetProtocolStats {
         }
     }
 
+    /**
+     * Counts of TCP connections by state and of UDP sockets, over IPv4 and IPv6.
+     */
+    @PublicApi
+    @Immutable
+    final class ConnectionStateCounts {
+        private final Map<TcpState, Long> tcpCounts;
+        private final long udpCount;
+
+        /**
+         * Constructs a new ConnectionStateCounts instance with the given counts.
+         *
+         * @param tcpCounts the number of TCP connections in each state; states absent from the map have none
+         * @param udpCount  the number of UDP sockets
+         */
+        public ConnectionStateCounts(Map<TcpState, Long> tcpCounts, long udpCount) {
+            Map<TcpState, Long> copy = new EnumMap<>(TcpState.class);
+            copy.putAll(tcpCounts);
+            this.tcpCounts = Collections.unmodifiableMap(copy);
+            this.udpCount = udpCount;
+        }
+
+        /**
+         * The number of TCP connections in each state.
+         *
+         * @return an unmodifiable map holding the states with at least one connection
+         */
+        public Map<TcpState, Long> getTcpCounts() {
+            return tcpCounts;
+        }
+
+        /**
+         * The number of TCP connections in a state.
+         *
+         * @param state the state
+         * @return the number of connections in the state
+         */
+        public long getTcpCount(TcpState state) {
+            return tcpCounts.getOrDefault(state, 0L);
+        }
+
+        /**
+         * The number of TCP connections in any state.
+         *
+         * @return the total TCP connections
+         */
+        public long getTcpTotal() {
+            long total = 0;
+            for (long count : tcpCounts.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * The number of UDP sockets.
+         *
+         * @return the udpCount
+         */
+        public long getUdpCount() {
+            return udpCount;
+        }
+
+        @Override
+        public String toString() {
+            return "ConnectionStateCounts [tcpCounts=" + tcpCounts + ", udpCount=" + udpCount + "]";
+        }
+    }
+
     /**
      * The TCP connection state as described in RFC 793.
      */
@@ -279,6 +279,21 @@ public interface OperatingSystem {
         return proc == null ? new CurrentProcessStub(pid) : proc;
     }
 
+    /**
+     * Gets the current process for frequent sampling of its resource usage, as by a metrics exporter.
+     * <p>
+     * Where supported, the returned process is read with fewer and cheaper queries than {@link #getCurrentProcess()}:
+     * CPU times, memory, I/O, thread count, open files, page faults and context switches are current, while descriptive
+     * attributes such as the user and command line are read on first request. Calling
+     * {@link OSProcess#updateAttributes()} refreshes the counters the same way. The default returns
+     * {@link #getCurrentProcess()}.
+     *
+     * @return the current process, never null
+     */
+    default OSProcess getCurrentProcessSnapshot() {
+        return getCurrentProcess();
+    }
+
     /**
      * Get the number of processes currently running
      *
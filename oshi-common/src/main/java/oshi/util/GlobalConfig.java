@@ -94,6 +94,88 @@ public final class GlobalConfig {
      * positive (a negative value will never refresh). Should be less than 1 second. Default is 300 milliseconds.
      */
     public static final String OSHI_UTIL_MEMOIZER_EXPIRATION = "oshi.util.memoizer.expiration";
+    /**
+     * Memoizer expiration of CPU load ticks in milliseconds, overriding {@link #OSHI_UTIL_MEMOIZER_EXPIRATION}. Not set
+     * by default.
+     */
+    public static final String OSHI_UTIL_MEMOIZER_EXPIRATION_CPU_TICKS = "oshi.util.memoizer.expiration.cputicks";
+    /**
+     * Memoizer expiration of memory statistics in milliseconds, overriding {@link #OSHI_UTIL_MEMOIZER_EXPIRATION}. Not
+     * set by default.
+     */
+    public static final String OSHI_UTIL_MEMOIZER_EXPIRATION_MEMORY = "oshi.util.memoizer.expiration.memory";
+    /**
+     * Memoizer expiration of disk and file store statistics in milliseconds, overriding
+     * {@link #OSHI_UTIL_MEMOIZER_EXPIRATION}. Not set by default.
+     */
+    public static final String OSHI_UTIL_MEMOIZER_EXPIRATION_DISKS = "oshi.util.memoizer.expiration.disks";
+    /**
+     * Memoizer expiration of network interface statistics in milliseconds, overriding
+     * {@link #OSHI_UTIL_MEMOIZER_EXPIRATION}. Not set by default.
+     */
+    public static final String OSHI_UTIL_MEMOIZER_EXPIRATION_NETWORK = "oshi.util.memoizer.expiration.network";
+    /**
+     * Memoizer expiration of process and thread lists in milliseconds, overriding
+     * {@link #OSHI_UTIL_MEMOIZER_EXPIRATION}. Not set by default.
+     */
+    public static final String OSHI_UTIL_MEMOIZER_EXPIRATION_PROCESSES = "oshi.util.memoizer.expiration.processes";
+    /**
+     * Whether the memoizers with individually configurable expirations return the previous value at once after it
+     * expires and refresh it in the background, rather than making the caller wait for the refresh. CPU load ticks are
+     * always refreshed by the caller. Read when each memoizer is created. Default is {@code false}.
+     */
+    public static final String OSHI_UTIL_MEMOIZER_ASYNC = "oshi.util.memoizer.async";
+    /**
+     * Sampling interval of CPU load ticks in milliseconds for {@link oshi.util.monitor.SystemMonitor}. Zero or negative
+     * disables sampling. Default is 1000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_INTERVAL_CPU_TICKS = "oshi.monitor.interval.cputicks";
+    /**
+     * Sampling interval of memory statistics in milliseconds for {@link oshi.util.monitor.SystemMonitor}. Zero or
+     * negative disables sampling. Default is 1000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_INTERVAL_MEMORY = "oshi.monitor.interval.memory";
+    /**
+     * Sampling interval of disk stores in milliseconds for {@link oshi.util.monitor.SystemMonitor}. Zero or negative
+     * disables sampling. Default is 5000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_INTERVAL_DISKS = "oshi.monitor.interval.disks";
+    /**
+     * Sampling interval of network interfaces in milliseconds for {@link oshi.util.monitor.SystemMonitor}. Zero or
+     * negative disables sampling. Default is 5000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_INTERVAL_NETWORK = "oshi.monitor.interval.network";
+    /**
+     * Sampling interval of the process list in milliseconds for {@link oshi.util.monitor.SystemMonitor}. Zero or
+     * negative disables sampling. Default is 15000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_INTERVAL_PROCESSES = "oshi.monitor.interval.processes";
+    /**
+     * Sampling interval of file stores in milliseconds for {@link oshi.util.monitor.SystemMonitor}. Zero or negative
+     * disables sampling. Default is 60000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_INTERVAL_FILE_STORES = "oshi.monitor.interval.filestores";
+    /**
+     * The fraction of each sampling interval of {@link oshi.util.monitor.SystemMonitor} by which each sample may be
+     * randomly delayed, so that monitors in many processes started together do not read the system in step. Default is
+     * 0.1.
+     */
+    public static final String OSHI_MONITOR_JITTER = "oshi.monitor.jitter";
+    /**
+     * The number of full-resolution samples retained by each series of a {@link oshi.util.monitor.HistoryStore}.
+     * Default is 300.
+     */
+    public static final String OSHI_MONITOR_HISTORY_SAMPLES = "oshi.monitor.history.samples";
+    /**
+     * The length in milliseconds of the periods which each series of a {@link oshi.util.monitor.HistoryStore} reduces
+     * to one downsampled entry. Default is 60000 milliseconds.
+     */
+    public static final String OSHI_MONITOR_HISTORY_DOWNSAMPLE = "oshi.monitor.history.downsample";
+    /**
+     * The number of downsampled entries retained by each series of a {@link oshi.util.monitor.HistoryStore}. Default is
+     * 1440.
+     */
+    public static final String OSHI_MONITOR_HISTORY_DOWNSAMPLED = "oshi.monitor.history.downsampled";
     /**
      * The WMI query timeout in milliseconds. Default is -1 (no timeout).
      */
@@ -142,6 +224,13 @@ public final class GlobalConfig {
      * Default is {@code false}.
      */
     public static final String OSHI_OS_LINUX_PROCFS_LOGWARNING = "oshi.os.linux.procfs.logwarning";
+    /**
+     * Whether to batch the many small procfs and sysfs reads of a bulk collection, such as all processes or a network
+     * interface's counters, into {@code io_uring} submissions on Linux. Only the FFM implementation supports this; it
+     * falls back to sequential reads if the kernel lacks {@code io_uring} (5.6 or later is needed) or it has been
+     * disabled, as it commonly is in containers. Default is {@code false}.
+     */
+    public static final String OSHI_OS_LINUX_IOURING = "oshi.os.linux.iouring";
     /**
      * Whether to probe NFS servers for reachability before querying filesystem statistics on Linux. When enabled, a
      * short parallel TCP probe (port 2049, 2-second timeout) is performed for {@code nfs}/{@code nfs4} mounts whose
@@ -150,6 +239,12 @@ public final class GlobalConfig {
      * parseable address, and all non-NFS filesystems, always call {@code statvfs}. Default is {@code true}.
      */
     public static final String OSHI_OS_LINUX_FILESYSTEM_CHECKNFS = "oshi.os.linux.filesystem.checknfs";
+    /**
+     * Whether to also run {@code pvs} when listing logical volume groups on Linux. Groups are otherwise assembled from
+     * sysfs, which shows only the physical volumes holding extents of an active logical volume; {@code pvs} adds the
+     * rest, but needs elevated permissions and takes LVM's locks. Default is {@code false}.
+     */
+    public static final String OSHI_OS_LINUX_LVM_PVS = "oshi.os.linux.lvm.pvs";
 
     /**
      * Whether to log warnings when failing to read process information via sysctl on macOS. When running without
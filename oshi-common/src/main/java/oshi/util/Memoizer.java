@@ -4,22 +4,60 @@
  */
 package oshi.util;
 
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import oshi.annotation.concurrent.ThreadSafe;
 
 /**
  * A memoized function stores the output corresponding to some set of specific inputs. Subsequent calls with remembered
  * inputs return the remembered result rather than recalculating it.
+ * <p>
+ * All memoized suppliers share process-wide counters of how often a remembered result was returned and how long the
+ * recalculations took, available from {@link #getStatistics()}.
  */
 @ThreadSafe
 public final class Memoizer {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Memoizer.class);
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder REFRESHES = new LongAdder();
+    private static final LongAdder BACKGROUND_REFRESHES = new LongAdder();
+    private static final LongAdder REFRESH_FAILURES = new LongAdder();
+    private static final LongAdder REFRESH_NANOS = new LongAdder();
+    private static final LongAccumulator MAX_REFRESH_NANOS = new LongAccumulator(Long::max, 0L);
+
     private static final Supplier<Long> DEFAULT_EXPIRATION_NANOS = memoize(Memoizer::queryExpirationConfig,
             TimeUnit.MINUTES.toNanos(1));
+    private static final Supplier<Long> CPU_TICKS_EXPIRATION_NANOS = memoize(
+            () -> queryExpirationConfig(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION_CPU_TICKS),
+            TimeUnit.MINUTES.toNanos(1));
+    private static final Supplier<Long> MEMORY_EXPIRATION_NANOS = memoize(
+            () -> queryExpirationConfig(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION_MEMORY),
+            TimeUnit.MINUTES.toNanos(1));
+    private static final Supplier<Long> DISK_EXPIRATION_NANOS = memoize(
+            () -> queryExpirationConfig(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION_DISKS), TimeUnit.MINUTES.toNanos(1));
+    private static final Supplier<Long> NETWORK_EXPIRATION_NANOS = memoize(
+            () -> queryExpirationConfig(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION_NETWORK),
+            TimeUnit.MINUTES.toNanos(1));
+    private static final Supplier<Long> PROCESS_EXPIRATION_NANOS = memoize(
+            () -> queryExpirationConfig(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION_PROCESSES),
+            TimeUnit.MINUTES.toNanos(1));
 
     private Memoizer() {
     }
@@ -28,6 +66,17 @@ public final class Memoizer {
         return TimeUnit.MILLISECONDS.toNanos(GlobalConfig.get(GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION, 300));
     }
 
+    // package-private for testing
+    static long queryExpirationConfig(String key) {
+        long defaultNanos = defaultExpiration();
+        String millis = GlobalConfig.get(key);
+        if (millis == null) {
+            return defaultNanos;
+        }
+        return TimeUnit.MILLISECONDS
+                .toNanos(ParseUtil.parseLongOrDefault(millis.trim(), TimeUnit.NANOSECONDS.toMillis(defaultNanos)));
+    }
+
     /**
      * Expiration for slowly-changing hardware state (e.g., connected displays) in nanoseconds. Default is 3 seconds.
      *
@@ -56,6 +105,61 @@ public final class Memoizer {
         return DEFAULT_EXPIRATION_NANOS.get();
     }
 
+    /**
+     * Expiration of memoized CPU load ticks in nanoseconds. Update by setting {@link GlobalConfig} property
+     * <code>oshi.util.memoizer.expiration.cputicks</code> to a value in milliseconds; otherwise the same as
+     * {@link #defaultExpiration()}.
+     *
+     * @return The number of nanoseconds to keep memoized values before refreshing
+     */
+    public static long cpuTicksExpiration() {
+        return CPU_TICKS_EXPIRATION_NANOS.get();
+    }
+
+    /**
+     * Expiration of memoized physical and virtual memory statistics in nanoseconds. Update by setting
+     * {@link GlobalConfig} property <code>oshi.util.memoizer.expiration.memory</code> to a value in milliseconds;
+     * otherwise the same as {@link #defaultExpiration()}.
+     *
+     * @return The number of nanoseconds to keep memoized values before refreshing
+     */
+    public static long memoryExpiration() {
+        return MEMORY_EXPIRATION_NANOS.get();
+    }
+
+    /**
+     * Expiration of memoized disk and file store statistics in nanoseconds. Update by setting {@link GlobalConfig}
+     * property <code>oshi.util.memoizer.expiration.disks</code> to a value in milliseconds; otherwise the same as
+     * {@link #defaultExpiration()}.
+     *
+     * @return The number of nanoseconds to keep memoized values before refreshing
+     */
+    public static long diskExpiration() {
+        return DISK_EXPIRATION_NANOS.get();
+    }
+
+    /**
+     * Expiration of memoized network interface statistics in nanoseconds. Update by setting {@link GlobalConfig}
+     * property <code>oshi.util.memoizer.expiration.network</code> to a value in milliseconds; otherwise the same as
+     * {@link #defaultExpiration()}.
+     *
+     * @return The number of nanoseconds to keep memoized values before refreshing
+     */
+    public static long networkExpiration() {
+        return NETWORK_EXPIRATION_NANOS.get();
+    }
+
+    /**
+     * Expiration of memoized process and thread lists in nanoseconds. Update by setting {@link GlobalConfig} property
+     * <code>oshi.util.memoizer.expiration.processes</code> to a value in milliseconds; otherwise the same as
+     * {@link #defaultExpiration()}.
+     *
+     * @return The number of nanoseconds to keep memoized values before refreshing
+     */
+    public static long processExpiration() {
+        return PROCESS_EXPIRATION_NANOS.get();
+    }
+
     /**
      * Store a supplier in a delegate function to be computed once, and only again after time to live (ttl) has expired.
      *
@@ -80,7 +184,8 @@ public final class Memoizer {
                 if (nanos == 0 || (ttlNanos >= 0 && now - nanos >= 0)) {
                     synchronized (this) {
                         if (nanos == expirationNanos) { // recheck for lost race
-                            T t = delegate.get();
+                            MISSES.increment();
+                            T t = timedGet(delegate);
                             value = t;
                             nanos = now + ttlNanos;
                             expirationNanos = (nanos == 0) ? 1 : nanos;
@@ -88,6 +193,147 @@ public final class Memoizer {
                         }
                     }
                 }
+                HITS.increment();
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Store a supplier in a delegate function to be computed once, and again in the background after time to live (ttl)
+     * has expired. Only the first call waits for the computation. Calls after expiry return the previous value at once
+     * and start a single refresh on the given executor, which callers see once it completes: stale-while-revalidate.
+     * <p>
+     * This suits suppliers which take long enough, such as process lists or WMI queries, that a caller arriving just
+     * after expiry should not pay for them. A refresh which throws leaves the previous value in place and is retried on
+     * the next call. If the executor rejects the refresh, it runs on the calling thread.
+     *
+     * @param <T>      The type of object supplied
+     * @param original The {@link Supplier} to memoize
+     * @param ttlNanos Time in nanoseconds to retain calculation. If negative, retain indefinitely.
+     * @param executor The executor to refresh expired values on
+     * @return A memoized version of the supplier
+     */
+    public static <T extends @Nullable Object> Supplier<T> memoizeAsync(Supplier<T> original, long ttlNanos,
+            Executor executor) {
+        return new Supplier<T>() {
+            private final Supplier<T> delegate = original;
+            private final AtomicBoolean refreshing = new AtomicBoolean();
+            // NullAway.Init: populated lazily on first get(); a non-zero expirationNanos implies it has been set
+            @SuppressWarnings({ "java:S3077", "NullAway.Init" }) // holder is swapped wholesale, never mutated in place
+            private volatile T value;
+            private volatile long expirationNanos;
+
+            @Override
+            public T get() {
+                long nanos = expirationNanos;
+                if (nanos == 0) {
+                    synchronized (this) {
+                        if (expirationNanos == 0) { // recheck for lost race
+                            MISSES.increment();
+                            T t = timedGet(delegate);
+                            value = t;
+                            setExpiration();
+                            return t;
+                        }
+                    }
+                } else if (ttlNanos >= 0 && System.nanoTime() - nanos >= 0 && refreshing.compareAndSet(false, true)) {
+                    try {
+                        executor.execute(this::refresh);
+                    } catch (RejectedExecutionException e) {
+                        refresh();
+                    }
+                }
+                HITS.increment();
+                return value;
+            }
+
+            private void refresh() {
+                try {
+                    value = timedGet(delegate);
+                    setExpiration();
+                    BACKGROUND_REFRESHES.increment();
+                } catch (RuntimeException e) {
+                    REFRESH_FAILURES.increment();
+                    LOG.debug("Background refresh of memoized value failed: {}", e.toString());
+                } finally {
+                    refreshing.set(false);
+                }
+            }
+
+            private void setExpiration() {
+                long nanos = System.nanoTime() + ttlNanos;
+                expirationNanos = (nanos == 0) ? 1 : nanos;
+            }
+        };
+    }
+
+    /**
+     * Store a supplier in a delegate function to be computed once, and again in the background after time to live (ttl)
+     * has expired, using a shared pool of daemon threads. See {@link #memoizeAsync(Supplier, long, Executor)}.
+     *
+     * @param <T>      The type of object supplied
+     * @param original The {@link Supplier} to memoize
+     * @param ttlNanos Time in nanoseconds to retain calculation. If negative, retain indefinitely.
+     * @return A memoized version of the supplier
+     */
+    public static <T extends @Nullable Object> Supplier<T> memoizeAsync(Supplier<T> original, long ttlNanos) {
+        return memoizeAsync(original, ttlNanos, RefreshExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Store a supplier in a delegate function with {@link #memoizeAsync(Supplier, long)} if {@link GlobalConfig}
+     * property <code>oshi.util.memoizer.async</code> is {@code true}, and otherwise with
+     * {@link #memoize(Supplier, long)}. Used for the suppliers whose expirations may be configured individually.
+     *
+     * @param <T>      The type of object supplied
+     * @param original The {@link Supplier} to memoize
+     * @param ttlNanos Time in nanoseconds to retain calculation. If negative, retain indefinitely.
+     * @return A memoized version of the supplier
+     */
+    public static <T extends @Nullable Object> Supplier<T> memoizeConfigured(Supplier<T> original, long ttlNanos) {
+        return GlobalConfig.get(GlobalConfig.OSHI_UTIL_MEMOIZER_ASYNC, false) ? memoizeAsync(original, ttlNanos)
+                : memoize(original, ttlNanos);
+    }
+
+    /**
+     * Store a supplier in a delegate function to be computed once, and only again when the value of a cheap change
+     * indicator differs from the value it had at the previous computation. This suits data backed by files whose
+     * modification time and size (see {@link FileUtil#getFileStamps(String...)}) reveal whether the expensive parse
+     * needs to be repeated.
+     *
+     * @param <T>      The type of object supplied
+     * @param original The {@link Supplier} to memoize
+     * @param stamp    A {@link Supplier} of the change indicator, compared with {@link Arrays#equals(long[], long[])}.
+     *                 Queried on every call, so it should be inexpensive.
+     * @return A memoized version of the supplier
+     */
+    public static <T extends @Nullable Object> Supplier<T> memoizeOnChange(Supplier<T> original,
+            Supplier<long[]> stamp) {
+        return new Supplier<T>() {
+            private final Supplier<T> delegate = original;
+            // NullAway.Init: populated lazily on first get(); a non-null lastStamp implies it has been set
+            @SuppressWarnings({ "java:S3077", "NullAway.Init" }) // holder is swapped wholesale, never mutated in place
+            private volatile T value;
+            @SuppressWarnings("java:S3077") // array is replaced, never mutated in place
+            private volatile long @Nullable [] lastStamp;
+
+            @Override
+            public T get() {
+                long[] current = stamp.get();
+                long[] last = lastStamp;
+                if (last == null || !Arrays.equals(last, current)) {
+                    synchronized (this) {
+                        if (last == lastStamp) { // recheck for lost race
+                            MISSES.increment();
+                            T t = timedGet(delegate);
+                            value = t;
+                            lastStamp = current;
+                            return t;
+                        }
+                    }
+                }
+                HITS.increment();
                 return value;
             }
         };
@@ -103,4 +349,134 @@ public final class Memoizer {
     public static <T extends @Nullable Object> Supplier<T> memoize(Supplier<T> original) {
         return memoize(original, -1L);
     }
+
+    private static <T extends @Nullable Object> T timedGet(Supplier<T> delegate) {
+        long start = System.nanoTime();
+        T t = delegate.get();
+        long elapsed = System.nanoTime() - start;
+        REFRESHES.increment();
+        REFRESH_NANOS.add(elapsed);
+        MAX_REFRESH_NANOS.accumulate(elapsed);
+        return t;
+    }
+
+    /**
+     * Gets the counters shared by all memoized suppliers since the process started.
+     *
+     * @return a snapshot of the counters
+     */
+    public static Statistics getStatistics() {
+        return new Statistics(HITS.sum(), MISSES.sum(), REFRESHES.sum(), BACKGROUND_REFRESHES.sum(),
+                REFRESH_FAILURES.sum(), REFRESH_NANOS.sum(), MAX_REFRESH_NANOS.get());
+    }
+
+    /**
+     * A snapshot of the counters shared by all memoized suppliers. Counters only increase, so the activity over an
+     * interval is the difference between two snapshots.
+     */
+    public static final class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long refreshes;
+        private final long backgroundRefreshes;
+        private final long refreshFailures;
+        private final long refreshNanos;
+        private final long maxRefreshNanos;
+
+        Statistics(long hits, long misses, long refreshes, long backgroundRefreshes, long refreshFailures,
+                long refreshNanos, long maxRefreshNanos) {
+            this.hits = hits;
+            this.misses = misses;
+            this.refreshes = refreshes;
+            this.backgroundRefreshes = backgroundRefreshes;
+            this.refreshFailures = refreshFailures;
+            this.refreshNanos = refreshNanos;
+            this.maxRefreshNanos = maxRefreshNanos;
+        }
+
+        /**
+         * Gets the number of calls which returned a remembered value, including stale values returned while a
+         * background refresh was pending.
+         *
+         * @return the number of hits
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Gets the number of calls which computed the value and waited for it.
+         *
+         * @return the number of misses
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Gets the number of computations which completed, whether a caller waited for them or not.
+         *
+         * @return the number of refreshes
+         */
+        public long getRefreshes() {
+            return refreshes;
+        }
+
+        /**
+         * Gets the number of refreshes completed in the background by suppliers from
+         * {@link Memoizer#memoizeAsync(Supplier, long, Executor)}.
+         *
+         * @return the number of background refreshes
+         */
+        public long getBackgroundRefreshes() {
+            return backgroundRefreshes;
+        }
+
+        /**
+         * Gets the number of background refreshes which threw an exception, leaving the previous value in place.
+         *
+         * @return the number of failed background refreshes
+         */
+        public long getRefreshFailures() {
+            return refreshFailures;
+        }
+
+        /**
+         * Gets the total time spent in completed refreshes.
+         *
+         * @return the total refresh time in nanoseconds
+         */
+        public long getRefreshNanos() {
+            return refreshNanos;
+        }
+
+        /**
+         * Gets the longest time a single completed refresh took.
+         *
+         * @return the maximum refresh time in nanoseconds
+         */
+        public long getMaxRefreshNanos() {
+            return maxRefreshNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics [hits=" + hits + ", misses=" + misses + ", refreshes=" + refreshes
+                    + ", backgroundRefreshes=" + backgroundRefreshes + ", refreshFailures=" + refreshFailures
+                    + ", refreshNanos=" + refreshNanos + ", maxRefreshNanos=" + maxRefreshNanos + "]";
+        }
+    }
+
+    /**
+     * Lazily creates the shared refresh executor, so that no thread is started unless asynchronous memoizers are used.
+     */
+    private static final class RefreshExecutorHolder {
+        // Threads are created as refreshes overlap, one per supplier at most, and exit after a minute idle
+        static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+                    Thread t = new Thread(r, "oshi-memoizer-refresh");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
 }
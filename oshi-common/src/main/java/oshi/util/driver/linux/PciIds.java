@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.ThreadSafe;
+
+/**
+ * Looks up PCI vendor and device names in the system's copy of the {@code pci.ids} database, as {@code lspci} does.
+ * <p>
+ * The database is memory-mapped on first use rather than read onto the heap, and indexed by the offset of each vendor's
+ * line. The device lines of a vendor are indexed the first time one of its devices is looked up, and searched by binary
+ * search thereafter. If no database is installed, no names are found.
+ */
+@ThreadSafe
+public final class PciIds {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PciIds.class);
+
+    // Installed by hwdata, by pciutils, and by older pciutils or update-pciids
+    private static final String[] PCI_IDS_PATHS = { "/usr/share/hwdata/pci.ids", "/usr/share/misc/pci.ids",
+            "/usr/share/pci.ids", "/var/lib/pciutils/pci.ids" };
+
+    // An ID is 4 lowercase hex digits, separated from its name by 2 spaces
+    private static final int NAME_OFFSET = 6;
+
+    private final ByteBuffer ids;
+    // Vendor IDs in ascending order, and the offset of each vendor's line
+    private final int[] vendorIds;
+    private final int[] vendorOffsets;
+    // The offsets of each vendor's device lines in ascending order of device ID, indexed when first needed. A racing
+    // lookup builds an equal index
+    private final AtomicReferenceArray<int[]> deviceOffsets;
+
+    private static final class Holder {
+        static final PciIds INSTANCE = load(PCI_IDS_PATHS);
+    }
+
+    /**
+     * Indexes a database. Package-private for testing.
+     *
+     * @param ids the contents of a {@code pci.ids} file
+     */
+    PciIds(ByteBuffer ids) {
+        this.ids = ids;
+        long[] vendors = new long[64];
+        int count = 0;
+        for (int pos = 0; pos < ids.limit(); pos = nextLine(pos)) {
+            // The vendors are followed by the device classes, whose lines start with a C
+            if (ids.get(pos) == 'C' && pos + 1 < ids.limit() && ids.get(pos + 1) == ' ') {
+                break;
+            }
+            int id = parseId(pos);
+            if (id >= 0) {
+                if (count == vendors.length) {
+                    vendors = Arrays.copyOf(vendors, count * 2);
+                }
+                vendors[count++] = (long) id << 32 | pos;
+            }
+        }
+        vendors = sort(vendors, count);
+        this.vendorIds = new int[count];
+        this.vendorOffsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            vendorIds[i] = (int) (vendors[i] >>> 32);
+            vendorOffsets[i] = (int) vendors[i];
+        }
+        this.deviceOffsets = new AtomicReferenceArray<>(count);
+    }
+
+    /**
+     * Gets the name of a PCI vendor from the system's {@code pci.ids}.
+     *
+     * @param vendorId the vendor ID
+     * @return the vendor name, or {@code null} if not found
+     */
+    public static @Nullable String queryVendorName(int vendorId) {
+        return Holder.INSTANCE.getVendorName(vendorId);
+    }
+
+    /**
+     * Gets the name of a PCI device from the system's {@code pci.ids}.
+     *
+     * @param vendorId the vendor ID
+     * @param deviceId the device ID
+     * @return the device name, or {@code null} if not found
+     */
+    public static @Nullable String queryDeviceName(int vendorId, int deviceId) {
+        return Holder.INSTANCE.getDeviceName(vendorId, deviceId);
+    }
+
+    /**
+     * Maps the first of the given files which can be read. Package-private for testing.
+     *
+     * @param paths the candidate paths
+     * @return the database, empty if none of the files could be read
+     */
+    static PciIds load(String... paths) {
+        for (String path : paths) {
+            Path file = Paths.get(path);
+            if (!Files.isReadable(file)) {
+                continue;
+            }
+            // The mapping remains valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return new PciIds(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (IOException e) {
+                LOG.debug("Unable to map {}: {}", path, e.getMessage());
+            }
+        }
+        return new PciIds(ByteBuffer.allocate(0));
+    }
+
+    /**
+     * Gets the name of a vendor.
+     *
+     * @param vendorId the vendor ID
+     * @return the vendor name, or {@code null} if not found
+     */
+    @Nullable
+    String getVendorName(int vendorId) {
+        int i = Arrays.binarySearch(vendorIds, vendorId);
+        return i < 0 ? null : readName(vendorOffsets[i]);
+    }
+
+    /**
+     * Gets the name of a device.
+     *
+     * @param vendorId the vendor ID
+     * @param deviceId the device ID
+     * @return the device name, or {@code null} if not found
+     */
+    @Nullable
+    String getDeviceName(int vendorId, int deviceId) {
+        int i = Arrays.binarySearch(vendorIds, vendorId);
+        if (i < 0) {
+            return null;
+        }
+        int[] devices = deviceOffsets.get(i);
+        if (devices == null) {
+            devices = indexDevices(vendorOffsets[i]);
+            deviceOffsets.set(i, devices);
+        }
+        int lo = 0;
+        int hi = devices.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int id = parseId(devices[mid]);
+            if (id < deviceId) {
+                lo = mid + 1;
+            } else if (id > deviceId) {
+                hi = mid - 1;
+            } else {
+                return readName(devices[mid]);
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Finds the device lines following a vendor line, which are indented by one tab; their subsystems by two
+     */
+    private int[] indexDevices(int vendorOffset) {
+        long[] devices = new long[16];
+        int count = 0;
+        for (int pos = nextLine(vendorOffset); pos < ids.limit(); pos = nextLine(pos)) {
+            byte b = ids.get(pos);
+            if (b == '\t') {
+                int id = parseId(pos + 1);
+                if (id >= 0) {
+                    if (count == devices.length) {
+                        devices = Arrays.copyOf(devices, count * 2);
+                    }
+                    devices[count++] = (long) id << 32 | (pos + 1);
+                }
+            } else if (b != '#' && b != '\n') {
+                // The next vendor, or the device classes
+                break;
+            }
+        }
+        devices = sort(devices, count);
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = (int) devices[i];
+        }
+        return offsets;
+    }
+
+    /*
+     * Sorts IDs packed with their offsets by ID, the order the file is already in
+     */
+    private static long[] sort(long[] packed, int count) {
+        long[] sorted = Arrays.copyOf(packed, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /*
+     * Parses the ID at the start of a line, or returns -1 if the line does not start with one
+     */
+    private int parseId(int pos) {
+        if (pos + NAME_OFFSET > ids.limit() || ids.get(pos + 4) != ' ' || ids.get(pos + 5) != ' ') {
+            return -1;
+        }
+        int id = 0;
+        for (int i = pos; i < pos + 4; i++) {
+            int digit = Character.digit(ids.get(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            id = id << 4 | digit;
+        }
+        return id;
+    }
+
+    private String readName(int pos) {
+        int start = pos + NAME_OFFSET;
+        int end = start;
+        while (end < ids.limit() && ids.get(end) != '\n') {
+            end++;
+        }
+        byte[] name = new byte[end - start];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = ids.get(start + i);
+        }
+        return new String(name, StandardCharsets.UTF_8).trim();
+    }
+
+    private int nextLine(int pos) {
+        int next = pos;
+        while (next < ids.limit() && ids.get(next) != '\n') {
+            next++;
+        }
+        return next + 1;
+    }
+}
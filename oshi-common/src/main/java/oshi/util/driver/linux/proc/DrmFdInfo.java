@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.Immutable;
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.util.FileUtil;
+import oshi.util.ParseUtil;
+import oshi.util.linux.ProcPath;
+
+/**
+ * Reads the GPU usage of DRM clients from the {@code drm-*} keys the kernel adds to {@code /proc/[pid]/fdinfo/[fd]} for
+ * file descriptors of DRM devices, as described in the kernel's DRM client usage stats documentation. Supported by the
+ * amdgpu, i915, xe, msm, panfrost, v3d and other drivers from Linux 5.19.
+ * <p>
+ * A process may hold several descriptors of one client, and a client may be shared between processes, so clients are
+ * reported once per driver, device and client ID, under the lowest process ID holding them.
+ * <p>
+ * Finding the clients means examining every descriptor of every process. Only the fdinfo of descriptors whose link
+ * target is a DRM device node under {@code /dev/dri/} is read; the link is read afresh on every query, so a descriptor
+ * number reused for another file is classified by what it now refers to.
+ */
+@ThreadSafe
+public final class DrmFdInfo {
+
+    private static final String CLIENT_ID = "drm-client-id";
+    private static final String DRIVER = "drm-driver";
+    private static final String PDEV = "drm-pdev";
+    private static final String ENGINE = "drm-engine-";
+    private static final String CAPACITY = "drm-engine-capacity-";
+    // drm-memory-<region> is the older name of drm-resident-<region>, which drivers since Linux 6.4 report
+    private static final String MEMORY = "drm-memory-";
+    private static final String RESIDENT = "drm-resident-";
+
+    // The device nodes of DRM cards and render nodes, all of character major 226
+    private static final String DRI_DEVICE = "/dev/dri/";
+
+    private final String procPath;
+
+    /**
+     * Creates an instance reading {@link ProcPath#PROC}.
+     */
+    public DrmFdInfo() {
+        this(ProcPath.PROC);
+    }
+
+    /**
+     * Creates an instance reading the proc filesystem at the given path, such as the host's proc filesystem mounted in
+     * a container, or a copy of one.
+     *
+     * @param procPath the proc filesystem path, without a trailing separator
+     */
+    public DrmFdInfo(String procPath) {
+        this.procPath = procPath;
+    }
+
+    /**
+     * Reads the DRM clients of every process whose descriptors this process may read. Without privileges, those are the
+     * processes of the same user.
+     *
+     * @return the clients, ordered by process ID and descriptor
+     */
+    public List<Client> query() {
+        int[] pids = ProcessStat.listNumericEntries(procPath);
+        Arrays.sort(pids);
+        // Keyed by driver, device and client ID
+        Map<String, Client> clients = new LinkedHashMap<>();
+        for (int pid : pids) {
+            String dir = procPath + "/" + pid;
+            int[] fds = ProcessStat.listNumericEntries(dir + "/fd");
+            Arrays.sort(fds);
+            for (int fd : fds) {
+                String target = FileUtil.readSymlinkTarget(new File(dir + "/fd/" + fd));
+                if (target == null || !target.startsWith(DRI_DEVICE)) {
+                    continue;
+                }
+                Client client = parse(pid, FileUtil.readFile(dir + "/fdinfo/" + fd, false));
+                if (client != null) {
+                    clients.putIfAbsent(client.getKey(), client);
+                }
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(clients.values()));
+    }
+
+    /**
+     * Parses the fdinfo of one descriptor.
+     *
+     * @param pid   the process ID
+     * @param lines the lines of the fdinfo file
+     * @return the client, or {@code null} if the descriptor is not a DRM client
+     */
+    static @Nullable Client parse(int pid, List<String> lines) {
+        long clientId = -1L;
+        String driver = "";
+        String pdev = "";
+        Map<String, Long> engines = new LinkedHashMap<>();
+        Map<String, Integer> capacities = new HashMap<>();
+        Map<String, Long> memory = new LinkedHashMap<>();
+        Map<String, Long> resident = new LinkedHashMap<>();
+        for (String line : lines) {
+            int colon = line.indexOf(':');
+            if (colon <= 0 || !line.startsWith("drm-")) {
+                continue;
+            }
+            String key = line.substring(0, colon);
+            String value = line.substring(colon + 1).trim();
+            if (CLIENT_ID.equals(key)) {
+                clientId = ParseUtil.parseLongOrDefault(value, -1L);
+            } else if (DRIVER.equals(key)) {
+                driver = value;
+            } else if (PDEV.equals(key)) {
+                pdev = value;
+            } else if (key.startsWith(CAPACITY)) {
+                capacities.put(key.substring(CAPACITY.length()), ParseUtil.parseIntOrDefault(value, 1));
+            } else if (key.startsWith(ENGINE)) {
+                // e.g. 123456 ns
+                engines.put(key.substring(ENGINE.length()), ParseUtil.parseLongOrDefault(firstWord(value), 0L));
+            } else if (key.startsWith(RESIDENT)) {
+                resident.put(key.substring(RESIDENT.length()), parseBytes(value));
+            } else if (key.startsWith(MEMORY)) {
+                memory.put(key.substring(MEMORY.length()), parseBytes(value));
+            }
+        }
+        if (clientId < 0) {
+            return null;
+        }
+        memory.putAll(resident);
+        return new Client(pid, clientId, driver, pdev, engines, capacities, memory);
+    }
+
+    private static String firstWord(String value) {
+        int space = value.indexOf(' ');
+        return space < 0 ? value : value.substring(0, space);
+    }
+
+    /*
+     * Parses a size such as 1024 KiB; the kernel uses no unit for bytes, and KiB or MiB otherwise
+     */
+    private static long parseBytes(String value) {
+        long size = ParseUtil.parseLongOrDefault(firstWord(value), 0L);
+        String unit = value.substring(firstWord(value).length()).trim().toLowerCase(Locale.ROOT);
+        switch (unit) {
+            case "kib":
+                return size << 10;
+            case "mib":
+                return size << 20;
+            case "gib":
+                return size << 30;
+            default:
+                return size;
+        }
+    }
+
+    /**
+     * The usage of one DRM client, as read from the fdinfo of one of its descriptors.
+     */
+    @Immutable
+    public static final class Client {
+        private final int processId;
+        private final long clientId;
+        private final String driver;
+        private final String pciDevice;
+        private final Map<String, Long> engineTime;
+        private final Map<String, Integer> engineCapacity;
+        private final Map<String, Long> memory;
+
+        Client(int processId, long clientId, String driver, String pciDevice, Map<String, Long> engineTime,
+                Map<String, Integer> engineCapacity, Map<String, Long> memory) {
+            this.processId = processId;
+            this.clientId = clientId;
+            this.driver = driver;
+            this.pciDevice = pciDevice;
+            this.engineTime = Collections.unmodifiableMap(engineTime);
+            this.engineCapacity = Collections.unmodifiableMap(engineCapacity);
+            this.memory = Collections.unmodifiableMap(memory);
+        }
+
+        /**
+         * Gets a key identifying this client among the clients of every device. Client IDs are unique only per device,
+         * and devices not on PCI report no address, so the key combines the driver, the address and the client ID.
+         *
+         * @return the key
+         */
+        public String getKey() {
+            return driver + '/' + pciDevice + '/' + clientId;
+        }
+
+        /**
+         * Gets the lowest ID of the processes holding this client.
+         *
+         * @return the process ID
+         */
+        public int getProcessId() {
+            return processId;
+        }
+
+        /**
+         * Gets the client ID, unique among the clients of a device.
+         *
+         * @return the {@code drm-client-id}
+         */
+        public long getClientId() {
+            return clientId;
+        }
+
+        /**
+         * Gets the name of the DRM driver, e.g. {@code amdgpu}.
+         *
+         * @return the {@code drm-driver}, or an empty string if not reported
+         */
+        public String getDriver() {
+            return driver;
+        }
+
+        /**
+         * Gets the PCI address of the device, e.g. {@code 0000:03:00.0}.
+         *
+         * @return the {@code drm-pdev}, or an empty string for devices not on PCI
+         */
+        public String getPciDevice() {
+            return pciDevice;
+        }
+
+        /**
+         * Gets the cumulative time each engine spent busy with this client's work.
+         *
+         * @return nanoseconds, by engine name such as {@code gfx} or {@code render}
+         */
+        public Map<String, Long> getEngineTime() {
+            return engineTime;
+        }
+
+        /**
+         * Gets the number of engines of a kind, by which its busy time can exceed elapsed time.
+         *
+         * @param engine the engine name
+         * @return the {@code drm-engine-capacity-} of the engine, or 1 if not reported
+         */
+        public int getEngineCapacity(String engine) {
+            return Math.max(1, engineCapacity.getOrDefault(engine, 1));
+        }
+
+        /**
+         * Gets the memory this client has resident in each memory region.
+         *
+         * @return bytes, by region name such as {@code vram}, {@code gtt} or {@code system}
+         */
+        public Map<String, Long> getMemory() {
+            return memory;
+        }
+    }
+}
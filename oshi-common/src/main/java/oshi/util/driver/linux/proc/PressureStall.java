@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.Immutable;
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.util.FileUtil;
+import oshi.util.ParseUtil;
+import oshi.util.linux.ProcPath;
+import oshi.util.linux.SysPath;
+
+/**
+ * Utility to read Pressure Stall Information (PSI) from {@code /proc/pressure/{cpu,memory,io}} and from the
+ * {@code cpu.pressure}, {@code memory.pressure} and {@code io.pressure} files of cgroup v2 groups. PSI is available
+ * from Linux 4.20 when the kernel is built with {@code CONFIG_PSI}.
+ */
+@ThreadSafe
+public final class PressureStall {
+
+    /**
+     * The resources for which the kernel reports stalls.
+     */
+    public enum Resource {
+        /**
+         * Tasks waiting for a CPU.
+         */
+        CPU,
+        /**
+         * Tasks waiting for memory, in reclaim, refaults or swap-in.
+         */
+        MEMORY,
+        /**
+         * Tasks waiting for block I/O.
+         */
+        IO;
+
+        /**
+         * Gets the name of the pressure file in {@code /proc/pressure}, which is also the prefix of the cgroup file.
+         *
+         * @return the file name
+         */
+        public String getFileName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * The two lines of a pressure file.
+     */
+    public enum StallType {
+        /**
+         * The share of time in which at least one task was stalled.
+         */
+        SOME,
+        /**
+         * The share of time in which all non-idle tasks were stalled at once.
+         */
+        FULL;
+
+        /**
+         * Gets the keyword which starts this line of a pressure file, and which starts a trigger written to it.
+         *
+         * @return the keyword
+         */
+        public String getKeyword() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private PressureStall() {
+    }
+
+    /**
+     * Gets the path of a system-wide pressure file.
+     *
+     * @param resource the resource
+     * @return the path under {@code /proc/pressure}
+     */
+    public static String getPressurePath(Resource resource) {
+        return ProcPath.PRESSURE + '/' + resource.getFileName();
+    }
+
+    /**
+     * Gets the path of the pressure file of a cgroup v2 group.
+     *
+     * @param cgroup   the group, relative to the root of the cgroup file system, as in the last field of
+     *                 {@code /proc/self/cgroup}
+     * @param resource the resource
+     * @return the path of the group's {@code <resource>.pressure} file
+     */
+    public static String getCgroupPressurePath(String cgroup, Resource resource) {
+        String group = cgroup.startsWith("/") ? cgroup.substring(1) : cgroup;
+        String dir = group.isEmpty() || group.endsWith("/") ? SysPath.CGROUP + group : SysPath.CGROUP + group + '/';
+        return dir + resource.getFileName() + ".pressure";
+    }
+
+    /**
+     * Tests whether the kernel reports system-wide pressure stall information.
+     *
+     * @return true if {@code /proc/pressure} exists
+     */
+    public static boolean isSupported() {
+        return new File(ProcPath.PRESSURE).isDirectory();
+    }
+
+    /**
+     * Reads the system-wide pressure of a resource.
+     *
+     * @param resource the resource
+     * @return the pressure, or null if PSI is unavailable
+     */
+    public static @Nullable Pressure queryPressure(Resource resource) {
+        return queryPressure(getPressurePath(resource));
+    }
+
+    /**
+     * Reads a pressure file, such as the {@code memory.pressure} file of a cgroup.
+     *
+     * @param path the path of the file
+     * @return the pressure, or null if the file does not exist or cannot be parsed
+     */
+    public static @Nullable Pressure queryPressure(String path) {
+        return parsePressure(FileUtil.readFile(path, false));
+    }
+
+    /**
+     * Parses the lines of a pressure file. Package-private for testing.
+     *
+     * @param lines the lines, such as {@code some avg10=0.00 avg60=0.00 avg300=0.00 total=0}
+     * @return the pressure, or null if there is no {@code some} line
+     */
+    static @Nullable Pressure parsePressure(List<String> lines) {
+        @Nullable
+        Stall some = null;
+        @Nullable
+        Stall full = null;
+        for (String line : lines) {
+            String[] split = ParseUtil.whitespaces.split(line.trim());
+            if (split.length < 5) {
+                continue;
+            }
+            double avg10 = 0d;
+            double avg60 = 0d;
+            double avg300 = 0d;
+            long total = 0L;
+            for (int i = 1; i < split.length; i++) {
+                int eq = split[i].indexOf('=');
+                if (eq < 0) {
+                    continue;
+                }
+                String value = split[i].substring(eq + 1);
+                switch (split[i].substring(0, eq)) {
+                    case "avg10":
+                        avg10 = ParseUtil.parseDoubleOrDefault(value, 0d);
+                        break;
+                    case "avg60":
+                        avg60 = ParseUtil.parseDoubleOrDefault(value, 0d);
+                        break;
+                    case "avg300":
+                        avg300 = ParseUtil.parseDoubleOrDefault(value, 0d);
+                        break;
+                    case "total":
+                        total = ParseUtil.parseLongOrDefault(value, 0L);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if ("some".equals(split[0])) {
+                some = new Stall(avg10, avg60, avg300, total);
+            } else if ("full".equals(split[0])) {
+                full = new Stall(avg10, avg60, avg300, total);
+            }
+        }
+        return some == null ? null : new Pressure(some, full);
+    }
+
+    /**
+     * The stall averages and total of one line of a pressure file.
+     */
+    @Immutable
+    public static final class Stall {
+        private final double avg10;
+        private final double avg60;
+        private final double avg300;
+        private final long total;
+
+        Stall(double avg10, double avg60, double avg300, long total) {
+            this.avg10 = avg10;
+            this.avg60 = avg60;
+            this.avg300 = avg300;
+            this.total = total;
+        }
+
+        /**
+         * Gets the percentage of time stalled over the last 10 seconds.
+         *
+         * @return the percentage, from 0 to 100
+         */
+        public double getAvg10() {
+            return avg10;
+        }
+
+        /**
+         * Gets the percentage of time stalled over the last 60 seconds.
+         *
+         * @return the percentage, from 0 to 100
+         */
+        public double getAvg60() {
+            return avg60;
+        }
+
+        /**
+         * Gets the percentage of time stalled over the last 300 seconds.
+         *
+         * @return the percentage, from 0 to 100
+         */
+        public double getAvg300() {
+            return avg300;
+        }
+
+        /**
+         * Gets the total time stalled. Short stalls which barely move the averages show in the change of this value
+         * between two readings.
+         *
+         * @return the cumulative stall time in microseconds
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "avg10=" + avg10 + " avg60=" + avg60 + " avg300=" + avg300 + " total=" + total;
+        }
+    }
+
+    /**
+     * The contents of a pressure file.
+     */
+    @Immutable
+    public static final class Pressure {
+        private final Stall some;
+        private final @Nullable Stall full;
+
+        Pressure(Stall some, @Nullable Stall full) {
+            this.some = some;
+            this.full = full;
+        }
+
+        /**
+         * Gets the share of time in which at least one task was stalled.
+         *
+         * @return the {@code some} line
+         */
+        public Stall getSome() {
+            return some;
+        }
+
+        /**
+         * Gets the share of time in which all non-idle tasks were stalled at once.
+         *
+         * @return the {@code full} line, or null if the kernel does not report one, as for system-wide CPU pressure
+         *         before Linux 5.13
+         */
+        public @Nullable Stall getFull() {
+            return full;
+        }
+
+        /**
+         * Gets one line of the pressure file.
+         *
+         * @param type the line
+         * @return the stall values, or null for a {@code full} line the kernel does not report
+         */
+        public @Nullable Stall getStall(StallType type) {
+            return type == StallType.SOME ? some : full;
+        }
+
+        @Override
+        public String toString() {
+            return "some " + some + (full == null ? "" : ", full " + full);
+        }
+    }
+}
@@ -12,6 +12,12 @@ import static oshi.software.os.OSProcess.State.WAITING;
 import static oshi.software.os.OSProcess.State.ZOMBIE;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -432,6 +438,15 @@ public final class ProcessStat {
         return listNumericFiles(ProcPath.PROC);
     }
 
+    /**
+     * Gets the process IDs of the numeric entries in the /proc directory, without creating a {@link File} for each.
+     *
+     * @return An array of process IDs, in directory order
+     */
+    public static int[] getPids() {
+        return listNumericEntries(ProcPath.PROC);
+    }
+
     /**
      * Gets a map of sockets and their corresponding process ID
      *
@@ -439,8 +454,7 @@ public final class ProcessStat {
      */
     public static Map<Long, Integer> querySocketToPidMap() {
         Map<Long, Integer> pidMap = new HashMap<>();
-        for (File f : getPidFiles()) {
-            int pid = ParseUtil.parseIntOrDefault(f.getName(), -1);
+        for (int pid : getPids()) {
             File[] fds = getFileDescriptorFiles(pid);
             for (File fd : fds) {
                 String symLink = FileUtil.readSymlinkTarget(fd);
@@ -463,9 +477,8 @@ public final class ProcessStat {
      * @return A list of thread id.
      */
     public static List<Integer> getThreadIds(int pid) {
-        File[] threads = listNumericFiles(String.format(Locale.ROOT, ProcPath.TASK_PATH, pid));
-        return Arrays.stream(threads).map(thread -> ParseUtil.parseIntOrDefault(thread.getName(), 0))
-                .filter(threadId -> threadId != pid).collect(Collectors.toList());
+        int[] threads = listNumericEntries(String.format(Locale.ROOT, ProcPath.TASK_PATH, pid));
+        return Arrays.stream(threads).filter(threadId -> threadId != pid).boxed().collect(Collectors.toList());
     }
 
     private static File[] listNumericFiles(String path) {
@@ -474,6 +487,57 @@ public final class ProcessStat {
         return numericFiles == null ? new File[0] : numericFiles;
     }
 
+    /**
+     * Lists the entries of a directory whose names are non-negative decimal integers, such as the process directories
+     * of {@code /proc} or the entries of {@code /proc/[pid]/task} and {@code /proc/[pid]/fd}, parsing the names in
+     * place rather than matching them against a pattern.
+     *
+     * @param path the directory to list
+     * @return the numeric entry names, in directory order; empty if the directory does not exist or cannot be read
+     */
+    public static int[] listNumericEntries(String path) {
+        int[] entries = new int[64];
+        int count = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(path))) {
+            for (Path entry : stream) {
+                int value = parseNumericName(String.valueOf(entry.getFileName()));
+                if (value >= 0) {
+                    if (count == entries.length) {
+                        entries = Arrays.copyOf(entries, count * 2);
+                    }
+                    entries[count++] = value;
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // The directory is gone, as when a process exits; treat as empty, as File.listFiles did
+            return new int[0];
+        }
+        return Arrays.copyOf(entries, count);
+    }
+
+    /**
+     * Parses a directory entry name consisting only of decimal digits.
+     *
+     * @param name the entry name
+     * @return the value, or -1 if the name is empty, contains a non-digit or does not fit in an {@code int}
+     */
+    static int parseNumericName(CharSequence name) {
+        int length = name.length();
+        // Ten digits may overflow; none of the kernel's IDs come close
+        if (length == 0 || length > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = name.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     /***
      * Returns Enum STATE for the state value obtained from status file of any process/thread.
      *
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.software.os.OSProcess;
+import oshi.util.FileUtil;
+import oshi.util.linux.ProcPath;
+
+/**
+ * A snapshot of a set of processes, usually all of them, read from {@code /proc/[pid]/stat} alone and held in primitive
+ * columns indexed from 0 to {@link #size()} - 1.
+ * <p>
+ * Building an {@code OSProcess} per process reads around ten files for each, which on hosts with tens of thousands of
+ * processes is too costly to repeat at a monitoring interval. This table reads one file per process with a reusable
+ * buffer, parses it in place, and reads process names from {@code comm} only when asked for. Disk I/O, which is not in
+ * {@code stat}, is read from {@code /proc/[pid]/io} only if requested; it is readable only for the caller's own
+ * processes unless the caller has {@code CAP_SYS_PTRACE}.
+ * <p>
+ * Times are in clock ticks ({@code USER_HZ}) and resident memory is in pages, as the kernel reports them; virtual
+ * memory is in bytes.
+ */
+@ThreadSafe
+public final class ProcessStatTable {
+
+    // Processes read by one task when an executor is given
+    private static final int CHUNK_SIZE = 256;
+    // Comfortably larger than any stat or io file; a longer one is read whole into a new array
+    private static final int BUFFER_SIZE = 1024;
+
+    // Fields after the parenthesized comm, numbered as in proc(5)
+    private static final int PPID = 4;
+    private static final int MINFLT = 10;
+    private static final int MAJFLT = 12;
+    private static final int UTIME = 14;
+    private static final int STIME = 15;
+    private static final int PRIORITY = 18;
+    private static final int NUM_THREADS = 20;
+    private static final int STARTTIME = 22;
+    private static final int VSIZE = 23;
+    private static final int RSS = 24;
+
+    private static final byte[] READ_BYTES = "read_bytes:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WRITE_BYTES = "write_bytes:".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ProcessStatTable EMPTY = new ProcessStatTable(0L, new int[0], new byte[0], new int[0],
+            new long[0], new long[0], new int[0], new int[0], new long[0], new long[0], new long[0], new long[0],
+            new long[0], null, null);
+
+    private final long timestamp;
+    private final int[] pids;
+    private final byte[] states;
+    private final int[] parentPids;
+    private final long[] userTicks;
+    private final long[] kernelTicks;
+    private final int[] threadCounts;
+    private final int[] priorities;
+    private final long[] startTicks;
+    private final long[] virtualSizes;
+    private final long[] residentPages;
+    private final long[] minorFaults;
+    private final long[] majorFaults;
+    private final long @Nullable [] bytesRead;
+    private final long @Nullable [] bytesWritten;
+    // Read on first request; a racing read stores an equal string
+    private final @Nullable String[] names;
+
+    private ProcessStatTable(long timestamp, int[] pids, byte[] states, int[] parentPids, long[] userTicks,
+            long[] kernelTicks, int[] threadCounts, int[] priorities, long[] startTicks, long[] virtualSizes,
+            long[] residentPages, long[] minorFaults, long[] majorFaults, long @Nullable [] bytesRead,
+            long @Nullable [] bytesWritten) {
+        this.timestamp = timestamp;
+        this.pids = pids;
+        this.states = states;
+        this.parentPids = parentPids;
+        this.userTicks = userTicks;
+        this.kernelTicks = kernelTicks;
+        this.threadCounts = threadCounts;
+        this.priorities = priorities;
+        this.startTicks = startTicks;
+        this.virtualSizes = virtualSizes;
+        this.residentPages = residentPages;
+        this.minorFaults = minorFaults;
+        this.majorFaults = majorFaults;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.names = new String[pids.length];
+    }
+
+    /**
+     * Reads the given processes' {@code stat} on the calling thread.
+     *
+     * @param pids the process IDs, such as those listed by
+     *             {@link oshi.software.common.os.linux.LinuxOperatingSystem#queryProcessIds()}
+     * @return the processes
+     */
+    public static ProcessStatTable query(int[] pids) {
+        return query(pids, false, null);
+    }
+
+    /**
+     * Reads the given processes' {@code stat}, and optionally {@code io}, splitting the reads among tasks run on the
+     * given executor. The calling thread waits for the tasks to complete.
+     *
+     * @param pids     the process IDs, such as those listed by
+     *                 {@link oshi.software.common.os.linux.LinuxOperatingSystem#queryProcessIds()}
+     * @param io       whether to also read each process's disk I/O counters
+     * @param executor the executor to read with, or {@code null} to read on the calling thread
+     * @return the processes
+     */
+    public static ProcessStatTable query(int[] pids, boolean io, @Nullable Executor executor) {
+        if (pids.length == 0) {
+            return EMPTY;
+        }
+        int n = pids.length;
+        Columns c = new Columns(n, io);
+        long timestamp = System.currentTimeMillis();
+        if (executor == null || n <= CHUNK_SIZE) {
+            readRange(pids, 0, n, c);
+        } else {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int from = 0; from < n; from += CHUNK_SIZE) {
+                int start = from;
+                int end = Math.min(n, from + CHUNK_SIZE);
+                tasks.add(CompletableFuture.runAsync(() -> readRange(pids, start, end, c), executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        }
+        // Drop processes which exited between listing and reading
+        int[] ids = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (c.states[i] != 0) {
+                ids[count] = pids[i];
+                c.move(i, count);
+                count++;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new ProcessStatTable(timestamp, Arrays.copyOf(ids, count), Arrays.copyOf(c.states, count),
+                Arrays.copyOf(c.parentPids, count), Arrays.copyOf(c.userTicks, count),
+                Arrays.copyOf(c.kernelTicks, count), Arrays.copyOf(c.threadCounts, count),
+                Arrays.copyOf(c.priorities, count), Arrays.copyOf(c.startTicks, count),
+                Arrays.copyOf(c.virtualSizes, count), Arrays.copyOf(c.residentPages, count),
+                Arrays.copyOf(c.minorFaults, count), Arrays.copyOf(c.majorFaults, count),
+                c.bytesRead == null ? null : Arrays.copyOf(c.bytesRead, count),
+                c.bytesWritten == null ? null : Arrays.copyOf(c.bytesWritten, count));
+    }
+
+    /** The columns being filled by a query, before exited processes are dropped. */
+    private static final class Columns {
+        final byte[] states;
+        final int[] parentPids;
+        final long[] userTicks;
+        final long[] kernelTicks;
+        final int[] threadCounts;
+        final int[] priorities;
+        final long[] startTicks;
+        final long[] virtualSizes;
+        final long[] residentPages;
+        final long[] minorFaults;
+        final long[] majorFaults;
+        final long @Nullable [] bytesRead;
+        final long @Nullable [] bytesWritten;
+
+        Columns(int n, boolean io) {
+            this.states = new byte[n];
+            this.parentPids = new int[n];
+            this.userTicks = new long[n];
+            this.kernelTicks = new long[n];
+            this.threadCounts = new int[n];
+            this.priorities = new int[n];
+            this.startTicks = new long[n];
+            this.virtualSizes = new long[n];
+            this.residentPages = new long[n];
+            this.minorFaults = new long[n];
+            this.majorFaults = new long[n];
+            this.bytesRead = io ? new long[n] : null;
+            this.bytesWritten = io ? new long[n] : null;
+        }
+
+        void move(int from, int to) {
+            states[to] = states[from];
+            parentPids[to] = parentPids[from];
+            userTicks[to] = userTicks[from];
+            kernelTicks[to] = kernelTicks[from];
+            threadCounts[to] = threadCounts[from];
+            priorities[to] = priorities[from];
+            startTicks[to] = startTicks[from];
+            virtualSizes[to] = virtualSizes[from];
+            residentPages[to] = residentPages[from];
+            minorFaults[to] = minorFaults[from];
+            majorFaults[to] = majorFaults[from];
+            if (bytesRead != null && bytesWritten != null) {
+                bytesRead[to] = bytesRead[from];
+                bytesWritten[to] = bytesWritten[from];
+            }
+        }
+    }
+
+    private static void readRange(int[] pids, int from, int to, Columns c) {
+        byte[] buf = new byte[BUFFER_SIZE];
+        long[] fields = new long[RSS + 1];
+        long[] io = new long[2];
+        for (int i = from; i < to; i++) {
+            String path = String.format(Locale.ROOT, ProcPath.PID_STAT, pids[i]);
+            byte[] line = buf;
+            int length = ThreadTable.readStat(path, buf);
+            if (length > buf.length) {
+                line = FileUtil.readAllBytes(path, false);
+                length = line.length;
+            }
+            if (length == 0) {
+                continue;
+            }
+            byte state = ThreadTable.parseStat(line, length, fields);
+            if (state == 0) {
+                continue;
+            }
+            c.states[i] = state;
+            c.parentPids[i] = (int) fields[PPID];
+            c.userTicks[i] = fields[UTIME];
+            c.kernelTicks[i] = fields[STIME];
+            c.threadCounts[i] = (int) fields[NUM_THREADS];
+            c.priorities[i] = (int) fields[PRIORITY];
+            c.startTicks[i] = fields[STARTTIME];
+            c.virtualSizes[i] = fields[VSIZE];
+            c.residentPages[i] = fields[RSS];
+            c.minorFaults[i] = fields[MINFLT];
+            c.majorFaults[i] = fields[MAJFLT];
+            if (c.bytesRead != null && c.bytesWritten != null) {
+                length = ThreadTable.readStat(String.format(Locale.ROOT, ProcPath.PID_IO, pids[i]), buf);
+                if (length > 0 && length <= buf.length && parseIo(buf, length, io)) {
+                    c.bytesRead[i] = io[0];
+                    c.bytesWritten[i] = io[1];
+                } else {
+                    // Not permitted, or the process exited
+                    c.bytesRead[i] = -1L;
+                    c.bytesWritten[i] = -1L;
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the storage byte counts of an {@code io} file.
+     *
+     * @param buf    the file contents
+     * @param length the length of the contents
+     * @param io     receives {@code read_bytes} and {@code write_bytes}
+     * @return {@code true} if both were found
+     */
+    static boolean parseIo(byte[] buf, int length, long[] io) {
+        int found = 0;
+        int pos = 0;
+        while (pos < length) {
+            int slot = startsWith(buf, pos, length, READ_BYTES) ? 0
+                    : startsWith(buf, pos, length, WRITE_BYTES) ? 1 : -1;
+            if (slot >= 0) {
+                pos += slot == 0 ? READ_BYTES.length : WRITE_BYTES.length;
+                while (pos < length && buf[pos] == ' ') {
+                    pos++;
+                }
+                long value = 0L;
+                while (pos < length && buf[pos] >= '0' && buf[pos] <= '9') {
+                    value = value * 10 + (buf[pos] - '0');
+                    pos++;
+                }
+                io[slot] = value;
+                found |= 1 << slot;
+            }
+            // Skip to the start of the next line
+            while (pos < length && buf[pos] != '\n') {
+                pos++;
+            }
+            pos++;
+        }
+        return found == 3;
+    }
+
+    private static boolean startsWith(byte[] buf, int pos, int length, byte[] prefix) {
+        if (length - pos < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buf[pos + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the time the table was read.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Gets the number of processes.
+     *
+     * @return the number of processes read
+     */
+    public int size() {
+        return this.pids.length;
+    }
+
+    /**
+     * Gets a process's ID.
+     *
+     * @param i the index
+     * @return the process ID
+     */
+    public int getProcessId(int i) {
+        return this.pids[i];
+    }
+
+    /**
+     * Gets a process's parent.
+     *
+     * @param i the index
+     * @return the parent process ID
+     */
+    public int getParentProcessId(int i) {
+        return this.parentPids[i];
+    }
+
+    /**
+     * Gets a process's state.
+     *
+     * @param i the index
+     * @return the state
+     */
+    public OSProcess.State getState(int i) {
+        return ProcessStat.getState((char) this.states[i]);
+    }
+
+    /**
+     * Gets a process's time in user mode, summed over its threads.
+     *
+     * @param i the index
+     * @return the time in clock ticks
+     */
+    public long getUserTicks(int i) {
+        return this.userTicks[i];
+    }
+
+    /**
+     * Gets a process's time in kernel mode, summed over its threads.
+     *
+     * @param i the index
+     * @return the time in clock ticks
+     */
+    public long getKernelTicks(int i) {
+        return this.kernelTicks[i];
+    }
+
+    /**
+     * Gets a process's thread count.
+     *
+     * @param i the index
+     * @return the number of threads
+     */
+    public int getThreadCount(int i) {
+        return this.threadCounts[i];
+    }
+
+    /**
+     * Gets a process's scheduling priority.
+     *
+     * @param i the index
+     * @return the priority, as the kernel reports it
+     */
+    public int getPriority(int i) {
+        return this.priorities[i];
+    }
+
+    /**
+     * Gets a process's start time, which with its ID identifies it across tables.
+     *
+     * @param i the index
+     * @return the time the process started after boot, in clock ticks
+     */
+    public long getStartTicks(int i) {
+        return this.startTicks[i];
+    }
+
+    /**
+     * Gets a process's resident set size.
+     *
+     * @param i the index
+     * @return the resident memory in pages
+     */
+    public long getResidentPages(int i) {
+        return this.residentPages[i];
+    }
+
+    /**
+     * Gets a process's virtual memory size.
+     *
+     * @param i the index
+     * @return the virtual memory in bytes
+     */
+    public long getVirtualSize(int i) {
+        return this.virtualSizes[i];
+    }
+
+    /**
+     * Gets a process's minor page faults.
+     *
+     * @param i the index
+     * @return the faults which did not load a page from disk
+     */
+    public long getMinorFaults(int i) {
+        return this.minorFaults[i];
+    }
+
+    /**
+     * Gets a process's major page faults.
+     *
+     * @param i the index
+     * @return the faults which loaded a page from disk
+     */
+    public long getMajorFaults(int i) {
+        return this.majorFaults[i];
+    }
+
+    /**
+     * Whether the table holds disk I/O counters.
+     *
+     * @return {@code true} if the table was queried with I/O
+     */
+    public boolean hasIo() {
+        return this.bytesRead != null;
+    }
+
+    /**
+     * Gets the bytes a process read from storage.
+     *
+     * @param i the index
+     * @return the bytes read, or -1 if not read or not permitted
+     */
+    public long getBytesRead(int i) {
+        return this.bytesRead == null ? -1L : this.bytesRead[i];
+    }
+
+    /**
+     * Gets the bytes a process wrote to storage.
+     *
+     * @param i the index
+     * @return the bytes written, or -1 if not read or not permitted
+     */
+    public long getBytesWritten(int i) {
+        return this.bytesWritten == null ? -1L : this.bytesWritten[i];
+    }
+
+    /**
+     * Gets a process's name, reading it on first request.
+     *
+     * @param i the index
+     * @return the name, or an empty string if the process has exited
+     */
+    public String getName(int i) {
+        String name = this.names[i];
+        if (name == null) {
+            name = FileUtil.getStringFromFile(String.format(Locale.ROOT, ProcPath.PID_COMM, this.pids[i]));
+            this.names[i] = name;
+        }
+        return name;
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.software.os.OSProcess;
+import oshi.util.FileUtil;
+import oshi.util.linux.ProcPath;
+
+/**
+ * A snapshot of all the threads of a process, read from {@code /proc/[pid]/task/[tid]/stat} alone and held in primitive
+ * columns indexed from 0 to {@link #size()} - 1, in ascending order of thread ID.
+ * <p>
+ * Building an {@code OSThread} per thread reads three files for each and parses them into strings and maps, which for
+ * processes with thousands of threads dominates the cost of listing them. This table reads one file per thread with a
+ * reusable buffer, parses it in place, and reads thread names from {@code comm} only when asked for.
+ * <p>
+ * Unlike {@code OSProcess.getThreadDetails()}, the table includes the main thread, whose ID is the process ID. Times
+ * are in clock ticks ({@code USER_HZ}), as the kernel reports them.
+ */
+@ThreadSafe
+public final class ThreadTable {
+
+    // Threads read by one task when an executor is given
+    private static final int CHUNK_SIZE = 256;
+    // Comfortably larger than any stat line; a longer one is read whole into a new array
+    private static final int BUFFER_SIZE = 1024;
+
+    // Fields after the parenthesized comm, numbered from 3 as in proc(5)
+    private static final int FIRST_FIELD = 3;
+    private static final int UTIME = 14;
+    private static final int STIME = 15;
+    private static final int PRIORITY = 18;
+    private static final int STARTTIME = 22;
+
+    private static final ThreadTable EMPTY = new ThreadTable(0, 0L, new int[0], new byte[0], new long[0], new long[0],
+            new int[0], new long[0]);
+
+    private final int pid;
+    private final long timestamp;
+    private final int[] tids;
+    private final byte[] states;
+    private final long[] userTicks;
+    private final long[] kernelTicks;
+    private final int[] priorities;
+    private final long[] startTicks;
+    // Read on first request; a racing read stores an equal string
+    private final @Nullable String[] names;
+
+    private ThreadTable(int pid, long timestamp, int[] tids, byte[] states, long[] userTicks, long[] kernelTicks,
+            int[] priorities, long[] startTicks) {
+        this.pid = pid;
+        this.timestamp = timestamp;
+        this.tids = tids;
+        this.states = states;
+        this.userTicks = userTicks;
+        this.kernelTicks = kernelTicks;
+        this.priorities = priorities;
+        this.startTicks = startTicks;
+        this.names = new String[tids.length];
+    }
+
+    /**
+     * Reads the threads of a process on the calling thread.
+     *
+     * @param pid the process ID
+     * @return the threads; empty if the process does not exist
+     */
+    public static ThreadTable query(int pid) {
+        return query(pid, null);
+    }
+
+    /**
+     * Reads the threads of a process, splitting the reads among tasks run on the given executor for processes with many
+     * threads. The calling thread waits for the tasks to complete.
+     *
+     * @param pid      the process ID
+     * @param executor the executor to read with, or {@code null} to read on the calling thread
+     * @return the threads; empty if the process does not exist
+     */
+    public static ThreadTable query(int pid, @Nullable Executor executor) {
+        int[] tids = ProcessStat.listNumericEntries(String.format(Locale.ROOT, ProcPath.TASK_PATH, pid));
+        if (tids.length == 0) {
+            return EMPTY;
+        }
+        // Sorted so that threads can be found, and matched with an earlier table, without a scan per thread
+        Arrays.sort(tids);
+        int n = tids.length;
+        byte[] states = new byte[n];
+        long[] userTicks = new long[n];
+        long[] kernelTicks = new long[n];
+        int[] priorities = new int[n];
+        long[] startTicks = new long[n];
+        long timestamp = System.currentTimeMillis();
+        if (executor == null || n <= CHUNK_SIZE) {
+            readRange(pid, tids, 0, n, states, userTicks, kernelTicks, priorities, startTicks);
+        } else {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int from = 0; from < n; from += CHUNK_SIZE) {
+                int start = from;
+                int end = Math.min(n, from + CHUNK_SIZE);
+                tasks.add(CompletableFuture.runAsync(
+                        () -> readRange(pid, tids, start, end, states, userTicks, kernelTicks, priorities, startTicks),
+                        executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        }
+        // Drop threads which exited between listing and reading
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (states[i] != 0) {
+                tids[count] = tids[i];
+                states[count] = states[i];
+                userTicks[count] = userTicks[i];
+                kernelTicks[count] = kernelTicks[i];
+                priorities[count] = priorities[i];
+                startTicks[count] = startTicks[i];
+                count++;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new ThreadTable(pid, timestamp, Arrays.copyOf(tids, count), Arrays.copyOf(states, count),
+                Arrays.copyOf(userTicks, count), Arrays.copyOf(kernelTicks, count), Arrays.copyOf(priorities, count),
+                Arrays.copyOf(startTicks, count));
+    }
+
+    private static void readRange(int pid, int[] tids, int from, int to, byte[] states, long[] userTicks,
+            long[] kernelTicks, int[] priorities, long[] startTicks) {
+        byte[] buf = new byte[BUFFER_SIZE];
+        long[] fields = new long[STARTTIME + 1];
+        for (int i = from; i < to; i++) {
+            String path = String.format(Locale.ROOT, ProcPath.TASK_STAT, pid, tids[i]);
+            byte[] line = buf;
+            int length = readStat(path, buf);
+            if (length > buf.length) {
+                line = FileUtil.readAllBytes(path, false);
+                length = line.length;
+            }
+            if (length > 0) {
+                byte state = parseStat(line, length, fields);
+                if (state != 0) {
+                    states[i] = state;
+                    userTicks[i] = fields[UTIME];
+                    kernelTicks[i] = fields[STIME];
+                    priorities[i] = (int) fields[PRIORITY];
+                    startTicks[i] = fields[STARTTIME];
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a stat file, or another short file, into the buffer.
+     *
+     * @return the number of bytes read, 0 if the file could not be read, or more than the buffer length if it did not
+     *         fit
+     */
+    static int readStat(String path, byte[] buf) {
+        try (FileInputStream in = new FileInputStream(path)) {
+            int length = 0;
+            int read;
+            while (length < buf.length && (read = in.read(buf, length, buf.length - length)) > 0) {
+                length += read;
+            }
+            return length < buf.length || in.read() < 0 ? length : buf.length + 1;
+        } catch (IOException e) {
+            // The thread or process exited
+            return 0;
+        }
+    }
+
+    /**
+     * Parses the fields of a {@code stat} line up to the start time.
+     *
+     * @param buf    the line
+     * @param length the length of the line
+     * @param fields receives numeric fields, indexed by their number in proc(5)
+     * @return the state character, or 0 if the line is malformed
+     */
+    static byte parseStat(byte[] buf, int length, long[] fields) {
+        // comm may contain spaces and parentheses, so fields start after the last ')'
+        int pos = length - 1;
+        while (pos >= 0 && buf[pos] != ')') {
+            pos--;
+        }
+        if (pos < 0) {
+            return 0;
+        }
+        pos += 2;
+        if (pos >= length) {
+            return 0;
+        }
+        byte state = buf[pos];
+        int field = FIRST_FIELD;
+        while (field < fields.length - 1) {
+            // Skip to the start of the next field
+            while (pos < length && buf[pos] != ' ') {
+                pos++;
+            }
+            pos++;
+            if (pos >= length) {
+                return 0;
+            }
+            field++;
+            boolean negative = buf[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+            long value = 0L;
+            while (pos < length && buf[pos] >= '0' && buf[pos] <= '9') {
+                value = value * 10 + (buf[pos] - '0');
+                pos++;
+            }
+            fields[field] = negative ? -value : value;
+        }
+        return state;
+    }
+
+    /**
+     * Gets the process ID.
+     *
+     * @return the process whose threads these are
+     */
+    public int getProcessId() {
+        return this.pid;
+    }
+
+    /**
+     * Gets the time the table was read.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Gets the number of threads.
+     *
+     * @return the number of threads read
+     */
+    public int size() {
+        return this.tids.length;
+    }
+
+    /**
+     * Gets a thread's ID.
+     *
+     * @param i the index
+     * @return the thread ID
+     */
+    public int getThreadId(int i) {
+        return this.tids[i];
+    }
+
+    /**
+     * Finds a thread.
+     *
+     * @param tid the thread ID
+     * @return the thread's index, or -1 if it is not in this table
+     */
+    public int indexOf(int tid) {
+        int i = Arrays.binarySearch(this.tids, tid);
+        return i < 0 ? -1 : i;
+    }
+
+    /**
+     * Gets a thread's state.
+     *
+     * @param i the index
+     * @return the state
+     */
+    public OSProcess.State getState(int i) {
+        return ProcessStat.getState((char) this.states[i]);
+    }
+
+    /**
+     * Gets a thread's time in user mode.
+     *
+     * @param i the index
+     * @return the time in clock ticks
+     */
+    public long getUserTicks(int i) {
+        return this.userTicks[i];
+    }
+
+    /**
+     * Gets a thread's time in kernel mode.
+     *
+     * @param i the index
+     * @return the time in clock ticks
+     */
+    public long getKernelTicks(int i) {
+        return this.kernelTicks[i];
+    }
+
+    /**
+     * Gets a thread's priority.
+     *
+     * @param i the index
+     * @return the kernel priority, as in {@code OSThread.getPriority()}
+     */
+    public int getPriority(int i) {
+        return this.priorities[i];
+    }
+
+    /**
+     * Gets a thread's start time.
+     *
+     * @param i the index
+     * @return the time the thread started after boot, in clock ticks
+     */
+    public long getStartTicks(int i) {
+        return this.startTicks[i];
+    }
+
+    /**
+     * Gets a thread's name, reading it on first request.
+     *
+     * @param i the index
+     * @return the name, or an empty string if the thread has exited
+     */
+    public String getName(int i) {
+        String name = this.names[i];
+        if (name == null) {
+            name = FileUtil.getStringFromFile(String.format(Locale.ROOT, ProcPath.TASK_COMM, this.pid, this.tids[i]));
+            this.names[i] = name;
+        }
+        return name;
+    }
+
+    /**
+     * Computes the CPU time each thread used since an earlier table of the same process. A thread absent from the
+     * earlier table, or whose ID was reused by a thread started since, is charged its whole CPU time.
+     *
+     * @param previous the earlier table
+     * @return the user plus kernel ticks used by each thread, indexed as in this table
+     */
+    public long[] getCpuDeltas(ThreadTable previous) {
+        long[] deltas = new long[size()];
+        // Both tables are in ascending order of thread ID, so the threads are matched in one pass over each
+        int j = 0;
+        for (int i = 0; i < deltas.length; i++) {
+            long total = this.userTicks[i] + this.kernelTicks[i];
+            while (j < previous.size() && previous.tids[j] < this.tids[i]) {
+                j++;
+            }
+            if (j < previous.size() && previous.tids[j] == this.tids[i]
+                    && previous.startTicks[j] == this.startTicks[i]) {
+                total -= previous.userTicks[j] + previous.kernelTicks[j];
+            }
+            deltas[i] = Math.max(0L, total);
+        }
+        return deltas;
+    }
+
+    /**
+     * Finds the threads which used the most CPU time since an earlier table of the same process.
+     *
+     * @param previous the earlier table
+     * @param limit    the maximum number of threads to return
+     * @return indices into this table of the threads with the largest {@link #getCpuDeltas(ThreadTable)}, largest
+     *         first, omitting threads which used none
+     */
+    public int[] getHottest(ThreadTable previous, int limit) {
+        long[] deltas = getCpuDeltas(previous);
+        int[] hottest = new int[Math.max(0, Math.min(limit, deltas.length))];
+        if (hottest.length == 0) {
+            return hottest;
+        }
+        int count = 0;
+        // Insertion into a short sorted array; limits are small compared to thread counts
+        for (int i = 0; i < deltas.length; i++) {
+            if (deltas[i] == 0L || count == hottest.length && deltas[i] <= deltas[hottest[count - 1]]) {
+                continue;
+            }
+            int pos = count < hottest.length ? count++ : count - 1;
+            while (pos > 0 && deltas[hottest[pos - 1]] < deltas[i]) {
+                hottest[pos] = hottest[pos - 1];
+                pos--;
+            }
+            hottest[pos] = i;
+        }
+        return Arrays.copyOf(hottest, count);
+    }
+}
@@ -43,6 +43,8 @@ public final class ProcPath {
     public static final String NET = PROC + "/net";
     /** Path to /proc/[pid]/cmdline. */
     public static final String PID_CMDLINE = PROC + "/%d/cmdline";
+    /** Path to /proc/[pid]/comm. */
+    public static final String PID_COMM = PROC + "/%d/comm";
     /** Path to /proc/[pid]/cwd. */
     public static final String PID_CWD = PROC + "/%d/cwd";
     /** Path to /proc/[pid]/exe. */
@@ -59,6 +61,8 @@ public final class ProcPath {
     public static final String PID_STATM = PROC + "/%d/statm";
     /** Path to /proc/[pid]/status. */
     public static final String PID_STATUS = PROC + "/%d/status";
+    /** Path to the pressure stall information directory. */
+    public static final String PRESSURE = PROC + "/pressure";
     /** Path to /proc/self/stat. */
     public static final String SELF_STAT = PROC + "/self/stat";
     /** Path to net/ipv6_route. Declared here rather than alphabetically because it derives from {@link #NET}. */
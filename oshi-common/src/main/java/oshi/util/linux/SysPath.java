@@ -41,6 +41,12 @@ public final class SysPath {
     public static final String CGROUP = SYS + "fs/cgroup/";
     /** Path to DRM (Direct Rendering Manager) class. */
     public static final String DRM = SYS + "class/drm/";
+    /** Path to PCI devices. */
+    public static final String PCI_DEVICES = SYS + "bus/pci/devices/";
+    /** Path to block devices. */
+    public static final String BLOCK = SYS + "block/";
+    /** Path to the sequence number of the last kernel uevent. */
+    public static final String UEVENT_SEQNUM = SYS + "kernel/uevent_seqnum";
 
     private SysPath() {
     }
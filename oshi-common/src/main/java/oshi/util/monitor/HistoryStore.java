@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.GuardedBy;
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.CentralProcessor.TickType;
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.NetworkIF;
+import oshi.software.os.OSFileStore;
+import oshi.util.GlobalConfig;
+import oshi.util.monitor.SystemMonitor.Subsystem;
+import oshi.util.monitor.TimeSeries.Kind;
+
+/**
+ * An opt-in, in-memory history of the measurements sampled by a {@link SystemMonitor}, kept as named
+ * {@link TimeSeries}. Register it with {@link SystemMonitor#addListener(SystemMonitor.Listener)} and query the series
+ * for rates, moving averages and percentiles; for example the 95th percentile of CPU load over five minutes, in
+ * percent, is {@code store.get(HistoryStore.CPU_LOAD).percentile(95, 300_000) / 100}.
+ * <p>
+ * The series recorded are:
+ * <ul>
+ * <li>{@value #CPU_LOAD}, a gauge of the system-wide CPU load between successive samples, in hundredths of a
+ * percent</li>
+ * <li>{@value #MEMORY_USED} and {@value #SWAP_USED}, gauges in bytes</li>
+ * <li>{@code disk.<name>.reads}, {@code .writes}, {@code .readBytes} and {@code .writeBytes}, counters of each disk
+ * store</li>
+ * <li>{@code net.<name>.bytesRecv}, {@code .bytesSent}, {@code .packetsRecv} and {@code .packetsSent}, counters of each
+ * network interface</li>
+ * <li>{@value #PROCESS_COUNT}, a gauge</li>
+ * <li>{@code filestore.<mount>.used}, a gauge in bytes of each file store</li>
+ * </ul>
+ * Each series retains a fixed number of samples, so memory is bounded by the number of series. Series of disks,
+ * interfaces and file stores which have gone away are kept until {@link #remove(String)}d.
+ */
+@ThreadSafe
+public final class HistoryStore implements SystemMonitor.Listener {
+
+    /** The series of system-wide CPU load, in hundredths of a percent. */
+    public static final String CPU_LOAD = "cpu.load";
+    /** The series of physical memory in use, in bytes. */
+    public static final String MEMORY_USED = "memory.used";
+    /** The series of swap in use, in bytes. */
+    public static final String SWAP_USED = "swap.used";
+    /** The series of the number of processes. */
+    public static final String PROCESS_COUNT = "process.count";
+
+    private static final int IDLE = TickType.IDLE.getIndex();
+    private static final int IOWAIT = TickType.IOWAIT.getIndex();
+
+    private final ConcurrentHashMap<String, TimeSeries> series = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final long downsampleMillis;
+    private final int downsampledCapacity;
+
+    @GuardedBy("this")
+    private long[] previousTicks = new long[0];
+
+    /**
+     * Creates a store whose series have the sizes configured with {@link GlobalConfig}.
+     */
+    public HistoryStore() {
+        this(GlobalConfig.get(GlobalConfig.OSHI_MONITOR_HISTORY_SAMPLES, 300),
+                GlobalConfig.get(GlobalConfig.OSHI_MONITOR_HISTORY_DOWNSAMPLE, 60_000),
+                GlobalConfig.get(GlobalConfig.OSHI_MONITOR_HISTORY_DOWNSAMPLED, 1440));
+    }
+
+    /**
+     * Creates a store whose series have the given sizes.
+     *
+     * @param capacity            the number of full-resolution samples each series retains
+     * @param downsampleMillis    the length in milliseconds of the periods each series reduces to one coarse entry
+     * @param downsampledCapacity the number of coarse entries each series retains
+     * @see TimeSeries#TimeSeries(Kind, int, long, int)
+     */
+    public HistoryStore(int capacity, long downsampleMillis, int downsampledCapacity) {
+        // Fail now rather than when the first series is created
+        new TimeSeries(Kind.GAUGE, capacity, downsampleMillis, downsampledCapacity);
+        this.capacity = capacity;
+        this.downsampleMillis = downsampleMillis;
+        this.downsampledCapacity = downsampledCapacity;
+    }
+
+    /**
+     * Gets a series, creating it if it does not exist. Applications may record their own series this way.
+     *
+     * @param name the name of the series
+     * @param kind the interpretation of the values, used if the series is created
+     * @return the series
+     */
+    public TimeSeries getOrCreate(String name, Kind kind) {
+        TimeSeries ts = series.get(name);
+        return ts != null ? ts
+                : series.computeIfAbsent(name,
+                        k -> new TimeSeries(kind, capacity, downsampleMillis, downsampledCapacity));
+    }
+
+    /**
+     * Gets a series.
+     *
+     * @param name the name of the series
+     * @return the series, or null if nothing has been recorded under that name
+     */
+    public @Nullable TimeSeries get(String name) {
+        return series.get(name);
+    }
+
+    /**
+     * Gets the names of the series.
+     *
+     * @return an unmodifiable view of the names
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(series.keySet());
+    }
+
+    /**
+     * Removes a series, releasing its memory.
+     *
+     * @param name the name of the series
+     */
+    public void remove(String name) {
+        series.remove(name);
+    }
+
+    @Override
+    public void sampled(Subsystem subsystem, MonitorSnapshot snapshot) {
+        long now = snapshot.getTimestamp(subsystem);
+        switch (subsystem) {
+            case CPU_TICKS:
+                recordCpuLoad(now, snapshot.getSystemCpuLoadTicks());
+                break;
+            case MEMORY:
+                getOrCreate(MEMORY_USED, Kind.GAUGE).add(now,
+                        snapshot.getMemoryTotal() - snapshot.getMemoryAvailable());
+                getOrCreate(SWAP_USED, Kind.GAUGE).add(now, snapshot.getSwapUsed());
+                break;
+            case DISKS:
+                for (HWDiskStore disk : snapshot.getDiskStores()) {
+                    String prefix = "disk." + disk.getName() + '.';
+                    long t = disk.getTimeStamp() > 0 ? disk.getTimeStamp() : now;
+                    getOrCreate(prefix + "reads", Kind.COUNTER).add(t, disk.getReads());
+                    getOrCreate(prefix + "writes", Kind.COUNTER).add(t, disk.getWrites());
+                    getOrCreate(prefix + "readBytes", Kind.COUNTER).add(t, disk.getReadBytes());
+                    getOrCreate(prefix + "writeBytes", Kind.COUNTER).add(t, disk.getWriteBytes());
+                }
+                break;
+            case NETWORK:
+                for (NetworkIF nif : snapshot.getNetworkIFs()) {
+                    String prefix = "net." + nif.getName() + '.';
+                    long t = nif.getTimeStamp() > 0 ? nif.getTimeStamp() : now;
+                    getOrCreate(prefix + "bytesRecv", Kind.COUNTER).add(t, nif.getBytesRecv());
+                    getOrCreate(prefix + "bytesSent", Kind.COUNTER).add(t, nif.getBytesSent());
+                    getOrCreate(prefix + "packetsRecv", Kind.COUNTER).add(t, nif.getPacketsRecv());
+                    getOrCreate(prefix + "packetsSent", Kind.COUNTER).add(t, nif.getPacketsSent());
+                }
+                break;
+            case PROCESSES:
+                getOrCreate(PROCESS_COUNT, Kind.GAUGE).add(now, snapshot.getProcesses().size());
+                break;
+            case FILE_STORES:
+                for (OSFileStore fs : snapshot.getFileStores()) {
+                    getOrCreate("filestore." + fs.getMount() + ".used", Kind.GAUGE).add(now,
+                            fs.getTotalSpace() - fs.getUsableSpace());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private synchronized void recordCpuLoad(long timestamp, long[] ticks) {
+        if (previousTicks.length == ticks.length && ticks.length > Math.max(IDLE, IOWAIT)) {
+            long total = 0L;
+            for (int i = 0; i < ticks.length; i++) {
+                total += ticks[i] - previousTicks[i];
+            }
+            long idle = ticks[IDLE] - previousTicks[IDLE] + ticks[IOWAIT] - previousTicks[IOWAIT];
+            if (total > 0) {
+                getOrCreate(CPU_LOAD, Kind.GAUGE).add(timestamp, Math.max(0L, (total - idle) * 10_000L / total));
+            }
+        }
+        previousTicks = ticks;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+
+import oshi.annotation.concurrent.Immutable;
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.NetworkIF;
+import oshi.software.os.OSFileStore;
+import oshi.software.os.OSProcess;
+import oshi.util.monitor.SystemMonitor.Subsystem;
+
+/**
+ * The most recent samples of each subsystem read by a {@link SystemMonitor}. Each subsystem carries the time at which
+ * it was sampled; a subsystem not yet sampled, or not monitored, has a timestamp of zero and empty values.
+ * <p>
+ * A snapshot never changes once published. The monitor replaces it with a new instance sharing the values of the
+ * subsystems which were not resampled. The disk stores, network interfaces, processes and file stores it holds are
+ * those returned by the sampling query; their {@code updateAttributes()} methods must not be called, since they are
+ * shared with every other reader of the snapshot.
+ */
+@Immutable
+public final class MonitorSnapshot {
+
+    static final MonitorSnapshot EMPTY = new MonitorSnapshot();
+
+    private final EnumMap<Subsystem, Long> timestamps = new EnumMap<>(Subsystem.class);
+
+    private long[] systemCpuLoadTicks = new long[0];
+    private long[][] processorCpuLoadTicks = new long[0][];
+    private long memoryTotal;
+    private long memoryAvailable;
+    private long swapTotal;
+    private long swapUsed;
+    private List<HWDiskStore> diskStores = Collections.emptyList();
+    private List<NetworkIF> networkIFs = Collections.emptyList();
+    private List<OSProcess> processes = Collections.emptyList();
+    private List<OSFileStore> fileStores = Collections.emptyList();
+
+    private MonitorSnapshot() {
+    }
+
+    private MonitorSnapshot(MonitorSnapshot other) {
+        this.timestamps.putAll(other.timestamps);
+        this.systemCpuLoadTicks = other.systemCpuLoadTicks;
+        this.processorCpuLoadTicks = other.processorCpuLoadTicks;
+        this.memoryTotal = other.memoryTotal;
+        this.memoryAvailable = other.memoryAvailable;
+        this.swapTotal = other.swapTotal;
+        this.swapUsed = other.swapUsed;
+        this.diskStores = other.diskStores;
+        this.networkIFs = other.networkIFs;
+        this.processes = other.processes;
+        this.fileStores = other.fileStores;
+    }
+
+    MonitorSnapshot withCpuTicks(long timestamp, long[] systemTicks, long[][] processorTicks) {
+        MonitorSnapshot s = new MonitorSnapshot(this);
+        s.timestamps.put(Subsystem.CPU_TICKS, timestamp);
+        s.systemCpuLoadTicks = systemTicks.clone();
+        s.processorCpuLoadTicks = new long[processorTicks.length][];
+        for (int i = 0; i < processorTicks.length; i++) {
+            s.processorCpuLoadTicks[i] = processorTicks[i].clone();
+        }
+        return s;
+    }
+
+    MonitorSnapshot withMemory(long timestamp, long total, long available, long swapTotal, long swapUsed) {
+        MonitorSnapshot s = new MonitorSnapshot(this);
+        s.timestamps.put(Subsystem.MEMORY, timestamp);
+        s.memoryTotal = total;
+        s.memoryAvailable = available;
+        s.swapTotal = swapTotal;
+        s.swapUsed = swapUsed;
+        return s;
+    }
+
+    MonitorSnapshot withDiskStores(long timestamp, List<HWDiskStore> disks) {
+        MonitorSnapshot s = new MonitorSnapshot(this);
+        s.timestamps.put(Subsystem.DISKS, timestamp);
+        s.diskStores = copyOf(disks);
+        return s;
+    }
+
+    MonitorSnapshot withNetworkIFs(long timestamp, List<NetworkIF> nics) {
+        MonitorSnapshot s = new MonitorSnapshot(this);
+        s.timestamps.put(Subsystem.NETWORK, timestamp);
+        s.networkIFs = copyOf(nics);
+        return s;
+    }
+
+    MonitorSnapshot withProcesses(long timestamp, List<OSProcess> procs) {
+        MonitorSnapshot s = new MonitorSnapshot(this);
+        s.timestamps.put(Subsystem.PROCESSES, timestamp);
+        s.processes = copyOf(procs);
+        return s;
+    }
+
+    MonitorSnapshot withFileStores(long timestamp, List<OSFileStore> stores) {
+        MonitorSnapshot s = new MonitorSnapshot(this);
+        s.timestamps.put(Subsystem.FILE_STORES, timestamp);
+        s.fileStores = copyOf(stores);
+        return s;
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * Gets the time at which a subsystem was last sampled.
+     *
+     * @param subsystem the subsystem
+     * @return the time of the sample in milliseconds since the epoch, or zero if it has not been sampled
+     */
+    public long getTimestamp(Subsystem subsystem) {
+        return timestamps.getOrDefault(subsystem, 0L);
+    }
+
+    /**
+     * Gets the system-wide CPU load ticks, as returned by
+     * {@link oshi.hardware.CentralProcessor#getSystemCpuLoadTicks()}.
+     *
+     * @return a copy of the tick array, empty if not sampled
+     */
+    public long[] getSystemCpuLoadTicks() {
+        return systemCpuLoadTicks.clone();
+    }
+
+    /**
+     * Gets the per-processor CPU load ticks, as returned by
+     * {@link oshi.hardware.CentralProcessor#getProcessorCpuLoadTicks()}.
+     *
+     * @return a copy of the tick arrays, empty if not sampled
+     */
+    public long[][] getProcessorCpuLoadTicks() {
+        long[][] ticks = new long[processorCpuLoadTicks.length][];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = processorCpuLoadTicks[i].clone();
+        }
+        return ticks;
+    }
+
+    /**
+     * Gets the amount of physical memory, as returned by {@link oshi.hardware.GlobalMemory#getTotal()}.
+     *
+     * @return total memory in bytes, zero if not sampled
+     */
+    public long getMemoryTotal() {
+        return memoryTotal;
+    }
+
+    /**
+     * Gets the amount of physical memory available, as returned by {@link oshi.hardware.GlobalMemory#getAvailable()}.
+     *
+     * @return available memory in bytes, zero if not sampled
+     */
+    public long getMemoryAvailable() {
+        return memoryAvailable;
+    }
+
+    /**
+     * Gets the size of the swap file, as returned by {@link oshi.hardware.VirtualMemory#getSwapTotal()}.
+     *
+     * @return total swap in bytes, zero if not sampled
+     */
+    public long getSwapTotal() {
+        return swapTotal;
+    }
+
+    /**
+     * Gets the amount of swap in use, as returned by {@link oshi.hardware.VirtualMemory#getSwapUsed()}.
+     *
+     * @return used swap in bytes, zero if not sampled
+     */
+    public long getSwapUsed() {
+        return swapUsed;
+    }
+
+    /**
+     * Gets the disk stores.
+     *
+     * @return an unmodifiable list of the disk stores, empty if not sampled
+     */
+    public List<HWDiskStore> getDiskStores() {
+        return diskStores;
+    }
+
+    /**
+     * Gets the network interfaces.
+     *
+     * @return an unmodifiable list of the network interfaces, empty if not sampled
+     */
+    public List<NetworkIF> getNetworkIFs() {
+        return networkIFs;
+    }
+
+    /**
+     * Gets the processes.
+     *
+     * @return an unmodifiable list of the processes, empty if not sampled
+     */
+    public List<OSProcess> getProcesses() {
+        return processes;
+    }
+
+    /**
+     * Gets the file stores.
+     *
+     * @return an unmodifiable list of the file stores, empty if not sampled
+     */
+    public List<OSFileStore> getFileStores() {
+        return fileStores;
+    }
+}
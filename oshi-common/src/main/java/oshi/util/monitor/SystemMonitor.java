@@ -0,0 +1,392 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.GuardedBy;
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.NetworkIF;
+import oshi.hardware.VirtualMemory;
+import oshi.software.os.OSFileStore;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+import oshi.util.GlobalConfig;
+
+/**
+ * Samples the system in the background so that any number of readers share one set of queries. Each monitored subsystem
+ * is read at its own interval on a small scheduler, and the results are published as an immutable
+ * {@link MonitorSnapshot}; {@link #getSnapshot()} is a single volatile read and never performs I/O.
+ * <p>
+ * Samples of each subsystem are kept on a fixed grid of its interval, each delayed by a random fraction of the interval
+ * (see {@link GlobalConfig#OSHI_MONITOR_JITTER}) so that monitors in many processes do not read the system in step. A
+ * subsystem is never sampled concurrently with itself: a sample which takes longer than its interval causes the missed
+ * grid points to be skipped and counted (see {@link #getOverrunCount(Subsystem)}) rather than queued.
+ * <p>
+ * Sampling threads are daemon threads, but a monitor holds them until {@link #close()}d.
+ */
+@ThreadSafe
+public final class SystemMonitor implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SystemMonitor.class);
+
+    // Enough that the slow process and file store queries do not delay the one second subsystems
+    private static final int SAMPLING_THREADS = 2;
+
+    // A sample delayed by up to half its interval still leaves half for the query before the next grid point
+    private static final double MAX_JITTER = 0.5;
+
+    private static final AtomicInteger MONITOR_COUNT = new AtomicInteger();
+
+    /**
+     * The subsystems sampled by a {@link SystemMonitor}.
+     */
+    public enum Subsystem {
+        /**
+         * System-wide and per-processor CPU load ticks.
+         */
+        CPU_TICKS(GlobalConfig.OSHI_MONITOR_INTERVAL_CPU_TICKS, 1000),
+        /**
+         * Physical memory and swap usage.
+         */
+        MEMORY(GlobalConfig.OSHI_MONITOR_INTERVAL_MEMORY, 1000),
+        /**
+         * Disk stores.
+         */
+        DISKS(GlobalConfig.OSHI_MONITOR_INTERVAL_DISKS, 5000),
+        /**
+         * Network interfaces.
+         */
+        NETWORK(GlobalConfig.OSHI_MONITOR_INTERVAL_NETWORK, 5000),
+        /**
+         * The process list.
+         */
+        PROCESSES(GlobalConfig.OSHI_MONITOR_INTERVAL_PROCESSES, 15_000),
+        /**
+         * File stores.
+         */
+        FILE_STORES(GlobalConfig.OSHI_MONITOR_INTERVAL_FILE_STORES, 60_000);
+
+        private final String configKey;
+        private final int defaultInterval;
+
+        Subsystem(String configKey, int defaultInterval) {
+            this.configKey = configKey;
+            this.defaultInterval = defaultInterval;
+        }
+
+        /**
+         * Gets the sampling interval configured with {@link GlobalConfig}.
+         *
+         * @return the interval in milliseconds; zero or negative if the subsystem is not sampled
+         */
+        public long getConfiguredInterval() {
+            return GlobalConfig.get(configKey, defaultInterval);
+        }
+    }
+
+    /**
+     * Receives each snapshot published by a {@link SystemMonitor}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after a subsystem is sampled.
+         *
+         * @param subsystem the subsystem which was sampled
+         * @param snapshot  the snapshot published with the sample, which may also include later samples of other
+         *                  subsystems
+         */
+        void sampled(Subsystem subsystem, MonitorSnapshot snapshot);
+    }
+
+    private final HardwareAbstractionLayer hal;
+    private final OperatingSystem os;
+    private final EnumMap<Subsystem, Long> intervals = new EnumMap<>(Subsystem.class);
+    private final double jitter;
+
+    private final AtomicReference<MonitorSnapshot> snapshot = new AtomicReference<>(MonitorSnapshot.EMPTY);
+    private final EnumMap<Subsystem, LongAdder> overruns = new EnumMap<>(Subsystem.class);
+    private final EnumMap<Subsystem, LongAdder> failures = new EnumMap<>(Subsystem.class);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @GuardedBy("this")
+    private @Nullable ScheduledExecutorService scheduler;
+    @GuardedBy("this")
+    private boolean closed;
+
+    /**
+     * Creates a monitor sampling each subsystem at the interval configured with {@link GlobalConfig}. Sampling begins
+     * with {@link #start()}.
+     *
+     * @param hal the hardware to sample
+     * @param os  the operating system to sample
+     */
+    public SystemMonitor(HardwareAbstractionLayer hal, OperatingSystem os) {
+        this(hal, os, configuredIntervals());
+    }
+
+    /**
+     * Creates a monitor sampling the given subsystems at the given intervals. Sampling begins with {@link #start()}.
+     *
+     * @param hal       the hardware to sample
+     * @param os        the operating system to sample
+     * @param intervals the sampling interval in milliseconds of each subsystem to monitor; subsystems which are absent
+     *                  or have an interval of zero or less are not sampled
+     */
+    public SystemMonitor(HardwareAbstractionLayer hal, OperatingSystem os, Map<Subsystem, Long> intervals) {
+        this.hal = hal;
+        this.os = os;
+        for (Map.Entry<Subsystem, Long> e : intervals.entrySet()) {
+            if (e.getValue() > 0) {
+                this.intervals.put(e.getKey(), e.getValue());
+            }
+        }
+        double j = GlobalConfig.get(GlobalConfig.OSHI_MONITOR_JITTER, 0.1);
+        this.jitter = j > 0 ? Math.min(j, MAX_JITTER) : 0d;
+        for (Subsystem s : Subsystem.values()) {
+            overruns.put(s, new LongAdder());
+            failures.put(s, new LongAdder());
+        }
+    }
+
+    private static Map<Subsystem, Long> configuredIntervals() {
+        EnumMap<Subsystem, Long> map = new EnumMap<>(Subsystem.class);
+        for (Subsystem s : Subsystem.values()) {
+            map.put(s, s.getConfiguredInterval());
+        }
+        return map;
+    }
+
+    /**
+     * Starts sampling. Each monitored subsystem is first sampled after a random delay within its jitter, so the first
+     * complete snapshot is available shortly after this call. Has no effect if already started.
+     *
+     * @throws IllegalStateException if the monitor has been closed
+     */
+    public synchronized void start() {
+        if (closed) {
+            throw new IllegalStateException("SystemMonitor has been closed");
+        }
+        if (scheduler != null) {
+            return;
+        }
+        int id = MONITOR_COUNT.incrementAndGet();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(SAMPLING_THREADS, r -> {
+            Thread t = new Thread(r, "oshi-system-monitor-" + id);
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler = executor;
+        long now = System.nanoTime();
+        for (Map.Entry<Subsystem, Long> e : intervals.entrySet()) {
+            new SamplingTask(executor, e.getKey(), TimeUnit.MILLISECONDS.toNanos(e.getValue())).schedule(now);
+        }
+    }
+
+    /**
+     * Stops sampling. The last snapshot remains available from {@link #getSnapshot()}. A closed monitor cannot be
+     * restarted.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the latest snapshot. This is a volatile read of the last published instance.
+     *
+     * @return the latest snapshot; before the first samples complete its subsystems have zero timestamps
+     */
+    public MonitorSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Gets the sampling interval of a subsystem.
+     *
+     * @param subsystem the subsystem
+     * @return the interval in milliseconds, or zero if the subsystem is not monitored
+     */
+    public long getInterval(Subsystem subsystem) {
+        Long interval = intervals.get(subsystem);
+        return interval == null ? 0L : interval;
+    }
+
+    /**
+     * Gets the number of scheduled samples of a subsystem which were skipped because the previous sample was still in
+     * progress. A steadily growing count means the interval is shorter than the query takes on this system.
+     *
+     * @param subsystem the subsystem
+     * @return the number of skipped samples
+     */
+    public long getOverrunCount(Subsystem subsystem) {
+        return overruns.get(subsystem).sum();
+    }
+
+    /**
+     * Gets the number of samples of a subsystem which failed with an exception. The previous values of a failed
+     * subsystem are kept in the snapshot.
+     *
+     * @param subsystem the subsystem
+     * @return the number of failed samples
+     */
+    public long getFailureCount(Subsystem subsystem) {
+        return failures.get(subsystem).sum();
+    }
+
+    /**
+     * Registers a listener to be called after each sample is published. Listeners are called on the sampling threads,
+     * and should return quickly so as not to delay other subsystems.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #addListener(Listener)}.
+     *
+     * @param listener the listener
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Samples a subsystem on the calling thread, publishes the result and notifies the listeners. The query is made
+     * before the update, which may be retried if another subsystem publishes concurrently.
+     *
+     * @param subsystem the subsystem to sample
+     */
+    void sample(Subsystem subsystem) {
+        long now = System.currentTimeMillis();
+        UnaryOperator<MonitorSnapshot> update;
+        switch (subsystem) {
+            case CPU_TICKS:
+                CentralProcessor cpu = hal.getProcessor();
+                long[] ticks = cpu.getSystemCpuLoadTicks();
+                long[][] processorTicks = cpu.getProcessorCpuLoadTicks();
+                update = s -> s.withCpuTicks(now, ticks, processorTicks);
+                break;
+            case MEMORY:
+                GlobalMemory memory = hal.getMemory();
+                VirtualMemory vm = memory.getVirtualMemory();
+                long total = memory.getTotal();
+                long available = memory.getAvailable();
+                long swapTotal = vm.getSwapTotal();
+                long swapUsed = vm.getSwapUsed();
+                update = s -> s.withMemory(now, total, available, swapTotal, swapUsed);
+                break;
+            case DISKS:
+                List<HWDiskStore> disks = hal.getDiskStores();
+                update = s -> s.withDiskStores(now, disks);
+                break;
+            case NETWORK:
+                List<NetworkIF> nics = hal.getNetworkIFs();
+                update = s -> s.withNetworkIFs(now, nics);
+                break;
+            case PROCESSES:
+                List<OSProcess> procs = os.getProcesses();
+                update = s -> s.withProcesses(now, procs);
+                break;
+            case FILE_STORES:
+                List<OSFileStore> stores = os.getFileSystem().getFileStores();
+                update = s -> s.withFileStores(now, stores);
+                break;
+            default:
+                return;
+        }
+        MonitorSnapshot published = snapshot.updateAndGet(update);
+        for (Listener listener : listeners) {
+            try {
+                listener.sampled(subsystem, published);
+            } catch (RuntimeException e) {
+                LOG.warn("SystemMonitor listener failed for {}: {}", subsystem, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Computes the number of grid points of a subsystem which passed while its last sample was taken.
+     *
+     * @param due      the time the sample just taken was due, in nanoseconds
+     * @param now      the current time, in nanoseconds
+     * @param interval the interval, in nanoseconds
+     * @return the number of grid points skipped, from which the next due time is {@code due + (skipped + 1) * interval}
+     */
+    static long skippedIntervals(long due, long now, long interval) {
+        return now - due < interval ? 0L : (now - due) / interval;
+    }
+
+    private final class SamplingTask implements Runnable {
+
+        private final ScheduledExecutorService executor;
+        private final Subsystem subsystem;
+        private final long interval;
+        private long due;
+
+        SamplingTask(ScheduledExecutorService executor, Subsystem subsystem, long interval) {
+            this.executor = executor;
+            this.subsystem = subsystem;
+            this.interval = interval;
+        }
+
+        // Rescheduled only once each sample completes, so a subsystem is never sampled concurrently with itself
+        void schedule(long due) {
+            this.due = due;
+            long jitterNanos = (long) (interval * jitter);
+            long delay = due - System.nanoTime()
+                    + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos) : 0L);
+            try {
+                executor.schedule(this, Math.max(delay, 0L), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Closed
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                sample(subsystem);
+            } catch (RuntimeException e) {
+                failures.get(subsystem).increment();
+                LOG.warn("Failed to sample {}: {}", subsystem, e.getMessage());
+            }
+            long skipped = skippedIntervals(due, System.nanoTime(), interval);
+            if (skipped > 0) {
+                overruns.get(subsystem).add(skipped);
+                LOG.debug("Sampling {} overran its interval, skipping {} samples", subsystem, skipped);
+            }
+            schedule(due + (skipped + 1) * interval);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import oshi.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded history of one numeric measurement, held in primitive ring buffers. Recent samples are kept at full
+ * resolution; as each downsampling period ends, its samples are also reduced to one entry in a second, coarser ring, so
+ * a long history costs a fixed amount of memory. Queries whose window reaches back beyond the full-resolution samples
+ * use the coarse entries for the older part.
+ * <p>
+ * A {@link Kind#COUNTER} holds a cumulative count such as bytes read; its queries are about the increase between
+ * samples, and a decrease, as when the counter is reset, counts as no increase. A {@link Kind#GAUGE} holds an
+ * instantaneous level such as memory in use, and its queries are about the values themselves.
+ * <p>
+ * Windows are measured back from the most recent sample, not from the current time. Queries do not allocate.
+ */
+@ThreadSafe
+public final class TimeSeries {
+
+    /**
+     * How the values of a series are interpreted.
+     */
+    public enum Kind {
+        /**
+         * A monotonically increasing count. Downsampling keeps the last value of each period.
+         */
+        COUNTER,
+        /**
+         * An instantaneous level. Downsampling keeps the mean of each period.
+         */
+        GAUGE;
+    }
+
+    private final Kind kind;
+    private final long downsampleMillis;
+
+    private final long[] rawTimes;
+    private final long[] rawValues;
+    private int rawHead;
+    private int rawSize;
+
+    private final long[] coarseTimes;
+    private final long[] coarseValues;
+    private int coarseHead;
+    private int coarseSize;
+
+    // The downsampling period being accumulated
+    private long period = Long.MIN_VALUE;
+    private long periodTime;
+    private long periodLast;
+    private long periodSum;
+    private int periodCount;
+
+    // Reused for percentiles, sized for every retained entry
+    private final double[] scratch;
+
+    /**
+     * Creates an empty series.
+     *
+     * @param kind                the interpretation of the values
+     * @param capacity            the number of full-resolution samples to retain
+     * @param downsampleMillis    the length in milliseconds of the periods reduced to one coarse entry
+     * @param downsampledCapacity the number of coarse entries to retain; zero disables downsampling
+     */
+    public TimeSeries(Kind kind, int capacity, long downsampleMillis, int downsampledCapacity) {
+        if (capacity < 2 || downsampledCapacity < 0 || downsampleMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "Invalid time series size: " + capacity + ", " + downsampleMillis + " ms, " + downsampledCapacity);
+        }
+        this.kind = kind;
+        this.downsampleMillis = downsampleMillis;
+        this.rawTimes = new long[capacity];
+        this.rawValues = new long[capacity];
+        this.coarseTimes = new long[downsampledCapacity];
+        this.coarseValues = new long[downsampledCapacity];
+        this.scratch = new double[capacity + downsampledCapacity];
+    }
+
+    /**
+     * Gets the interpretation of the values.
+     *
+     * @return the kind of this series
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Appends a sample. Samples must be added in time order; one not later than the most recent sample is ignored.
+     *
+     * @param timestamp the time of the sample in milliseconds
+     * @param value     the value
+     */
+    public synchronized void add(long timestamp, long value) {
+        if (rawSize > 0 && timestamp <= rawTimes[index(rawHead, rawSize - 1, rawTimes.length)]) {
+            return;
+        }
+        if (coarseTimes.length > 0) {
+            long p = Math.floorDiv(timestamp, downsampleMillis);
+            if (p != period) {
+                flushPeriod();
+                period = p;
+            }
+            periodTime = timestamp;
+            periodLast = value;
+            periodSum += value;
+            periodCount++;
+        }
+        int slot = index(rawHead, rawSize, rawTimes.length);
+        rawTimes[slot] = timestamp;
+        rawValues[slot] = value;
+        if (rawSize < rawTimes.length) {
+            rawSize++;
+        } else {
+            rawHead = (rawHead + 1) % rawTimes.length;
+        }
+    }
+
+    private void flushPeriod() {
+        if (periodCount == 0) {
+            return;
+        }
+        int slot = index(coarseHead, coarseSize, coarseTimes.length);
+        coarseTimes[slot] = periodTime;
+        coarseValues[slot] = kind == Kind.COUNTER ? periodLast : Math.round((double) periodSum / periodCount);
+        if (coarseSize < coarseTimes.length) {
+            coarseSize++;
+        } else {
+            coarseHead = (coarseHead + 1) % coarseTimes.length;
+        }
+        periodSum = 0L;
+        periodCount = 0;
+    }
+
+    private static int index(int head, int offset, int length) {
+        return (head + offset) % length;
+    }
+
+    /*
+     * The queries walk a merged view: the coarse entries older than the oldest full-resolution sample, then the
+     * full-resolution samples.
+     */
+
+    private int coarseOlder() {
+        if (rawSize == 0) {
+            return 0;
+        }
+        long oldestRaw = rawTimes[rawHead];
+        int n = 0;
+        while (n < coarseSize && coarseTimes[index(coarseHead, n, coarseTimes.length)] < oldestRaw) {
+            n++;
+        }
+        return n;
+    }
+
+    private long time(int i, int older) {
+        return i < older ? coarseTimes[index(coarseHead, i, coarseTimes.length)]
+                : rawTimes[index(rawHead, i - older, rawTimes.length)];
+    }
+
+    private long value(int i, int older) {
+        return i < older ? coarseValues[index(coarseHead, i, coarseTimes.length)]
+                : rawValues[index(rawHead, i - older, rawTimes.length)];
+    }
+
+    /**
+     * Finds the first entry of a window, which is the last entry at or before its start, so that increases across the
+     * whole window are included, or the oldest entry if the history is shorter than the window.
+     */
+    private int windowStart(long windowMillis, int older, int count) {
+        long cutoff = time(count - 1, older) - windowMillis;
+        int i = count - 1;
+        while (i > 0 && time(i, older) > cutoff) {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Gets the number of full-resolution samples held.
+     *
+     * @return the number of samples
+     */
+    public synchronized int size() {
+        return rawSize;
+    }
+
+    /**
+     * Gets the time of the most recent sample.
+     *
+     * @return the time in milliseconds, or zero if there are no samples
+     */
+    public synchronized long getLatestTimestamp() {
+        return rawSize == 0 ? 0L : rawTimes[index(rawHead, rawSize - 1, rawTimes.length)];
+    }
+
+    /**
+     * Gets the most recent value.
+     *
+     * @return the value, or zero if there are no samples
+     */
+    public synchronized long getLatest() {
+        return rawSize == 0 ? 0L : rawValues[index(rawHead, rawSize - 1, rawTimes.length)];
+    }
+
+    /**
+     * Gets the increase of a counter over a window, ignoring decreases. For a gauge, this is the net change of its
+     * value.
+     *
+     * @param windowMillis the length of the window in milliseconds
+     * @return the increase, or zero if there are fewer than two samples
+     */
+    public synchronized long delta(long windowMillis) {
+        int older = coarseOlder();
+        int count = older + rawSize;
+        if (count < 2) {
+            return 0L;
+        }
+        int start = windowStart(windowMillis, older, count);
+        if (kind == Kind.GAUGE) {
+            return value(count - 1, older) - value(start, older);
+        }
+        long sum = 0L;
+        for (int i = start + 1; i < count; i++) {
+            sum += Math.max(0L, value(i, older) - value(i - 1, older));
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the rate of increase per second over a window, as {@link #delta(long)} divided by the time between the first
+     * and last samples of the window.
+     *
+     * @param windowMillis the length of the window in milliseconds
+     * @return the rate per second, or zero if there are fewer than two samples
+     */
+    public synchronized double rate(long windowMillis) {
+        int older = coarseOlder();
+        int count = older + rawSize;
+        if (count < 2) {
+            return 0d;
+        }
+        long elapsed = time(count - 1, older) - time(windowStart(windowMillis, older, count), older);
+        return elapsed > 0 ? delta(windowMillis) * 1000d / elapsed : 0d;
+    }
+
+    /**
+     * Gets an exponentially weighted moving average over the whole history, in which the weight of each entry halves
+     * with every {@code halfLifeMillis} of age. For a gauge this averages the values; for a counter it averages the
+     * rate per second between successive entries.
+     *
+     * @param halfLifeMillis the half-life of the weights in milliseconds
+     * @return the average, or zero if there are too few samples
+     */
+    public synchronized double ewma(long halfLifeMillis) {
+        int older = coarseOlder();
+        int count = older + rawSize;
+        int first = kind == Kind.COUNTER ? 1 : 0;
+        if (count <= first) {
+            return 0d;
+        }
+        double avg = point(first, older);
+        for (int i = first + 1; i < count; i++) {
+            double dt = time(i, older) - time(i - 1, older);
+            double alpha = halfLifeMillis > 0 ? 1d - Math.pow(0.5, dt / halfLifeMillis) : 1d;
+            avg += alpha * (point(i, older) - avg);
+        }
+        return avg;
+    }
+
+    /**
+     * Gets a percentile over a window. For a gauge this ranks the values in the window; for a counter it ranks the
+     * rates per second between successive entries. Where the window reaches beyond the full-resolution samples, the
+     * older part is ranked using the downsampled entries.
+     *
+     * @param percentile   the percentile, from 0 to 100
+     * @param windowMillis the length of the window in milliseconds
+     * @return the nearest-rank percentile, or zero if there are too few samples
+     */
+    public synchronized double percentile(double percentile, long windowMillis) {
+        if (percentile < 0d || percentile > 100d) {
+            throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+        }
+        int older = coarseOlder();
+        int count = older + rawSize;
+        if (count == 0) {
+            return 0d;
+        }
+        int start = windowStart(windowMillis, older, count);
+        // The first entry only anchors a window which starts between samples, or the first rate of a counter
+        if (kind == Kind.COUNTER || time(start, older) < time(count - 1, older) - windowMillis) {
+            start++;
+        }
+        int n = 0;
+        for (int i = start; i < count; i++) {
+            scratch[n++] = point(i, older);
+        }
+        if (n == 0) {
+            return 0d;
+        }
+        int rank = Math.max(0, (int) Math.ceil(percentile / 100d * n) - 1);
+        return select(scratch, n, rank);
+    }
+
+    private double point(int i, int older) {
+        if (kind == Kind.GAUGE) {
+            return value(i, older);
+        }
+        long dt = time(i, older) - time(i - 1, older);
+        return dt > 0 ? Math.max(0L, value(i, older) - value(i - 1, older)) * 1000d / dt : 0d;
+    }
+
+    /**
+     * Finds the k-th smallest of the first n elements in expected linear time, reordering them.
+     *
+     * @param a the values
+     * @param n the number of values
+     * @param k the zero-based rank
+     * @return the value of that rank
+     */
+    static double select(double[] a, int n, int k) {
+        int lo = 0;
+        int hi = n - 1;
+        while (lo < hi) {
+            double pivot = a[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) {
+                    i++;
+                }
+                while (a[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double t = a[i];
+                    a[i++] = a[j];
+                    a[j--] = t;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                break;
+            }
+        }
+        return a[k];
+    }
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.software.common.os.linux.LinuxOperatingSystem;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+import oshi.util.driver.linux.proc.ProcessStatTable;
+
+/**
+ * Ranks the processes of successive scans by the CPU time and disk I/O they used since the previous scan, and by their
+ * resident memory, keeping each process's counters from one scan to the next.
+ * <p>
+ * A process is identified across scans by its ID and start time, so a reused ID is seen as a new process. A process
+ * first seen after the first scan is charged everything it did since it started. Each ranking keeps the given number of
+ * processes in a bounded heap, so ranking costs little beyond the scan itself; names, which may cost a read of their
+ * own, are read only for the processes ranked.
+ */
+@NotThreadSafe
+public final class TopProcesses {
+
+    /** One scan of the processes, indexed from 0 to {@link #size()} - 1. */
+    public interface Scan {
+        /**
+         * Gets the time of the scan.
+         *
+         * @return milliseconds since the epoch
+         */
+        long getTimestamp();
+
+        /**
+         * Gets the number of processes scanned.
+         *
+         * @return the number of processes
+         */
+        int size();
+
+        /**
+         * Gets a process's ID.
+         *
+         * @param i the index
+         * @return the process ID
+         */
+        int getProcessId(int i);
+
+        /**
+         * Gets a process's start time, in any unit which is the same for every scan.
+         *
+         * @param i the index
+         * @return the start time
+         */
+        long getStartTime(int i);
+
+        /**
+         * Gets the CPU time a process has used.
+         *
+         * @param i the index
+         * @return milliseconds in user and kernel mode
+         */
+        long getCpuMillis(int i);
+
+        /**
+         * Gets a process's resident memory.
+         *
+         * @param i the index
+         * @return bytes
+         */
+        long getResidentBytes(int i);
+
+        /**
+         * Gets the bytes a process has read from storage.
+         *
+         * @param i the index
+         * @return bytes, or -1 if unknown
+         */
+        long getBytesRead(int i);
+
+        /**
+         * Gets the bytes a process has written to storage.
+         *
+         * @param i the index
+         * @return bytes, or -1 if unknown
+         */
+        long getBytesWritten(int i);
+
+        /**
+         * Gets a process's thread count.
+         *
+         * @param i the index
+         * @return the number of threads
+         */
+        int getThreadCount(int i);
+
+        /**
+         * Gets a process's name.
+         *
+         * @param i the index
+         * @return the name
+         */
+        String getName(int i);
+    }
+
+    /**
+     * A process's counters as of the latest scan, and its usage since the scan before. One instance represents a
+     * process for as long as it is seen by consecutive scans.
+     */
+    public static final class Process {
+        private final int processId;
+        private final long startTime;
+        private int index;
+        private int generation;
+        private long cpuMillis;
+        private long bytesRead;
+        private long bytesWritten;
+        private long cpuDelta;
+        private long ioDelta;
+        private long residentBytes;
+        private int threadCount;
+        private @Nullable String name;
+
+        Process(int processId, long startTime) {
+            this.processId = processId;
+            this.startTime = startTime;
+        }
+
+        /**
+         * Gets the process ID.
+         *
+         * @return the process ID
+         */
+        public int getProcessId() {
+            return processId;
+        }
+
+        /**
+         * Gets the CPU time used since the previous scan.
+         *
+         * @return milliseconds
+         */
+        public long getCpuDelta() {
+            return cpuDelta;
+        }
+
+        /**
+         * Gets the bytes read and written since the previous scan.
+         *
+         * @return bytes, or 0 if unknown
+         */
+        public long getIoDelta() {
+            return ioDelta;
+        }
+
+        /**
+         * Gets the resident memory as of the latest scan.
+         *
+         * @return bytes
+         */
+        public long getResidentBytes() {
+            return residentBytes;
+        }
+
+        /**
+         * Gets the bytes read as of the latest scan.
+         *
+         * @return bytes, or -1 if unknown
+         */
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        /**
+         * Gets the bytes written as of the latest scan.
+         *
+         * @return bytes, or -1 if unknown
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /**
+         * Gets the thread count as of the latest scan.
+         *
+         * @return the number of threads
+         */
+        public int getThreadCount() {
+            return threadCount;
+        }
+
+        /**
+         * Gets the process name, read when the process was first ranked.
+         *
+         * @return the name, or an empty string if the process has not been ranked
+         */
+        public String getName() {
+            return name == null ? "" : name;
+        }
+    }
+
+    private final boolean io;
+    private final Map<Integer, Process> processes = new HashMap<>();
+    private List<Process> byCpu = Collections.emptyList();
+    private List<Process> byMemory = Collections.emptyList();
+    private List<Process> byIo = Collections.emptyList();
+    private long lastTimestamp;
+    private int generation;
+
+    /**
+     * Creates a ranking.
+     *
+     * @param io whether to rank processes by disk I/O
+     */
+    public TopProcesses(boolean io) {
+        this.io = io;
+    }
+
+    /**
+     * Creates a source of scans of the given operating system's processes. On Linux each scan reads only
+     * {@code /proc/[pid]/stat} for each process, plus {@code /proc/[pid]/io} if I/O is requested, so that it stays
+     * affordable at short intervals on hosts with tens of thousands of processes. Elsewhere it uses
+     * {@link OperatingSystem#getProcesses()}.
+     *
+     * @param os the operating system
+     * @param io whether to read disk I/O counters
+     * @return a supplier of new scans
+     */
+    public static Supplier<Scan> scanner(OperatingSystem os, boolean io) {
+        if (os instanceof LinuxOperatingSystem) {
+            LinuxOperatingSystem linux = (LinuxOperatingSystem) os;
+            long hz = linux.getHz();
+            long pageSize = linux.getPageSize();
+            return () -> new TableScan(ProcessStatTable.query(linux.queryProcessIds(), io, null), hz, pageSize);
+        }
+        return () -> new ProcessListScan(os.getProcesses());
+    }
+
+    /**
+     * Updates each process's counters from a scan and ranks the processes.
+     *
+     * @param scan  the scan
+     * @param limit the number of processes to keep in each ranking
+     * @return the milliseconds since the previous scan, or 0 if this is the first
+     */
+    public long update(Scan scan, int limit) {
+        boolean first = lastTimestamp == 0L;
+        long elapsed = first ? 0L : scan.getTimestamp() - lastTimestamp;
+        int gen = ++generation;
+        PriorityQueue<Process> cpuHeap = new PriorityQueue<>(limit + 1, Comparator.comparingLong(p -> p.cpuDelta));
+        PriorityQueue<Process> memoryHeap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingLong(p -> p.residentBytes));
+        PriorityQueue<Process> ioHeap = new PriorityQueue<>(limit + 1, Comparator.comparingLong(p -> p.ioDelta));
+        for (int i = 0; i < scan.size(); i++) {
+            int pid = scan.getProcessId(i);
+            long startTime = scan.getStartTime(i);
+            long cpu = scan.getCpuMillis(i);
+            long read = scan.getBytesRead(i);
+            long written = scan.getBytesWritten(i);
+            Process p = processes.get(pid);
+            if (p == null || p.startTime != startTime) {
+                // New since the last scan, or a reused ID: charge everything it did, unless there was no last scan
+                p = new Process(pid, startTime);
+                processes.put(pid, p);
+                p.cpuDelta = first ? 0L : cpu;
+                p.ioDelta = first || read < 0 || written < 0 ? 0L : read + written;
+            } else {
+                p.cpuDelta = Math.max(0L, cpu - p.cpuMillis);
+                p.ioDelta = read < 0 || written < 0 || p.bytesRead < 0 || p.bytesWritten < 0 ? 0L
+                        : Math.max(0L, read + written - p.bytesRead - p.bytesWritten);
+            }
+            p.index = i;
+            p.generation = gen;
+            p.cpuMillis = cpu;
+            p.bytesRead = read;
+            p.bytesWritten = written;
+            p.residentBytes = scan.getResidentBytes(i);
+            p.threadCount = scan.getThreadCount(i);
+            if (p.cpuDelta > 0L) {
+                offer(cpuHeap, p, x -> x.cpuDelta, limit);
+            }
+            offer(memoryHeap, p, x -> x.residentBytes, limit);
+            if (io && p.ioDelta > 0L) {
+                offer(ioHeap, p, x -> x.ioDelta, limit);
+            }
+        }
+        processes.values().removeIf(p -> p.generation != gen);
+        byCpu = drain(cpuHeap, scan);
+        byMemory = drain(memoryHeap, scan);
+        byIo = drain(ioHeap, scan);
+        lastTimestamp = Math.max(1L, scan.getTimestamp());
+        return elapsed;
+    }
+
+    private static void offer(PriorityQueue<Process> heap, Process p, ToLongFunction<Process> key, int limit) {
+        if (heap.size() < limit) {
+            heap.add(p);
+        } else if (limit > 0 && key.applyAsLong(p) > key.applyAsLong(heap.peek())) {
+            heap.poll();
+            heap.add(p);
+        }
+    }
+
+    /*
+     * Empties a heap into a list in descending order, naming the processes not yet named
+     */
+    private static List<Process> drain(PriorityQueue<Process> heap, Scan scan) {
+        List<Process> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Process p = heap.poll();
+            if (p.name == null) {
+                p.name = scan.getName(p.index);
+            }
+            ranked.add(p);
+        }
+        Collections.reverse(ranked);
+        return Collections.unmodifiableList(ranked);
+    }
+
+    /**
+     * Gets the processes which used the most CPU time between the last two scans.
+     *
+     * @return the processes, busiest first
+     */
+    public List<Process> getTopByCpu() {
+        return byCpu;
+    }
+
+    /**
+     * Gets the processes with the most resident memory as of the last scan.
+     *
+     * @return the processes, largest first
+     */
+    public List<Process> getTopByMemory() {
+        return byMemory;
+    }
+
+    /**
+     * Gets the processes which read and wrote the most bytes between the last two scans.
+     *
+     * @return the processes, busiest first, or none if not ranking by I/O
+     */
+    public List<Process> getTopByIo() {
+        return byIo;
+    }
+
+    /** A scan of {@code /proc/[pid]/stat}. */
+    private static final class TableScan implements Scan {
+        private final ProcessStatTable table;
+        private final long hz;
+        private final long pageSize;
+
+        TableScan(ProcessStatTable table, long hz, long pageSize) {
+            this.table = table;
+            this.hz = hz;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return table.getTimestamp();
+        }
+
+        @Override
+        public int size() {
+            return table.size();
+        }
+
+        @Override
+        public int getProcessId(int i) {
+            return table.getProcessId(i);
+        }
+
+        @Override
+        public long getStartTime(int i) {
+            return table.getStartTicks(i);
+        }
+
+        @Override
+        public long getCpuMillis(int i) {
+            return (table.getUserTicks(i) + table.getKernelTicks(i)) * 1000L / hz;
+        }
+
+        @Override
+        public long getResidentBytes(int i) {
+            return table.getResidentPages(i) * pageSize;
+        }
+
+        @Override
+        public long getBytesRead(int i) {
+            return table.getBytesRead(i);
+        }
+
+        @Override
+        public long getBytesWritten(int i) {
+            return table.getBytesWritten(i);
+        }
+
+        @Override
+        public int getThreadCount(int i) {
+            return table.getThreadCount(i);
+        }
+
+        @Override
+        public String getName(int i) {
+            return table.getName(i);
+        }
+    }
+
+    /** A scan of {@link OperatingSystem#getProcesses()}, for platforms without a cheaper path. */
+    private static final class ProcessListScan implements Scan {
+        private final List<OSProcess> processes;
+        private final long timestamp = System.currentTimeMillis();
+
+        ProcessListScan(List<OSProcess> processes) {
+            this.processes = processes;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public int size() {
+            return processes.size();
+        }
+
+        @Override
+        public int getProcessId(int i) {
+            return processes.get(i).getProcessID();
+        }
+
+        @Override
+        public long getStartTime(int i) {
+            return processes.get(i).getStartTime();
+        }
+
+        @Override
+        public long getCpuMillis(int i) {
+            return processes.get(i).getUserTime() + processes.get(i).getKernelTime();
+        }
+
+        @Override
+        public long getResidentBytes(int i) {
+            return processes.get(i).getResidentMemory();
+        }
+
+        @Override
+        public long getBytesRead(int i) {
+            return processes.get(i).getBytesRead();
+        }
+
+        @Override
+        public long getBytesWritten(int i) {
+            return processes.get(i).getBytesWritten();
+        }
+
+        @Override
+        public int getThreadCount(int i) {
+            return processes.get(i).getThreadCount();
+        }
+
+        @Override
+        public String getName(int i) {
+            return processes.get(i).getName();
+        }
+    }
+}
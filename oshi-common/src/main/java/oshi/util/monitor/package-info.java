@@ -0,0 +1,14 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+/**
+ * Provides a background {@link oshi.util.monitor.SystemMonitor} which samples each subsystem at its own interval and
+ * publishes the results as immutable {@link oshi.util.monitor.MonitorSnapshot}s, so that many consumers in one process
+ * share a single set of queries. An optional {@link oshi.util.monitor.HistoryStore} keeps a bounded history of the
+ * samples in primitive {@link oshi.util.monitor.TimeSeries} ring buffers for rate, average and percentile queries.
+ */
+@NullMarked
+package oshi.util.monitor;
+
+import org.jspecify.annotations.NullMarked;
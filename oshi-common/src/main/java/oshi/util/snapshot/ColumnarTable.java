@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.Arrays;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Base class for a table holding one row per object of some OSHI type, with one primitive array per attribute. The
+ * arrays grow as rows are added and are retained by {@link #clear()}, so a table repopulated at each collection
+ * allocates only when it outgrows its previous size.
+ * <p>
+ * Views of a row read the arrays in place, and so report the new contents of that row after the table is cleared and
+ * repopulated. Callers needing a stable copy should use the original OSHI objects instead.
+ */
+@NotThreadSafe
+public abstract class ColumnarTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StringDictionary dictionary;
+    private int size;
+    private int capacity;
+
+    /**
+     * Creates a table storing its strings in the given dictionary.
+     *
+     * @param dictionary the dictionary, which may be shared with other tables
+     */
+    protected ColumnarTable(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Gets the dictionary holding this table's strings.
+     *
+     * @return the dictionary
+     */
+    public StringDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets the number of rows in the table.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all rows, retaining the column arrays for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Reserves the next row, growing the columns if needed.
+     *
+     * @return the index of the new row
+     */
+    protected final int nextRow() {
+        if (size == capacity) {
+            capacity = Math.max(INITIAL_CAPACITY, capacity * 2);
+            resize(capacity);
+        }
+        return size++;
+    }
+
+    /**
+     * Checks that a row index refers to a populated row.
+     *
+     * @param row the row index
+     * @return the row index
+     * @throws IndexOutOfBoundsException if the row is not populated
+     */
+    protected final int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for table of size " + size);
+        }
+        return row;
+    }
+
+    /**
+     * Interns a string in the table's dictionary.
+     *
+     * @param s the string
+     * @return its dictionary index
+     */
+    protected final int intern(String s) {
+        return dictionary.intern(s);
+    }
+
+    /**
+     * Looks up a string in the table's dictionary.
+     *
+     * @param index the dictionary index
+     * @return the string
+     */
+    protected final String string(int index) {
+        return dictionary.get(index);
+    }
+
+    /**
+     * Sets the number of rows, growing the columns if needed. Rows beyond the previous size hold stale values until
+     * overwritten.
+     *
+     * @param rows the number of rows
+     */
+    final void setRows(int rows) {
+        if (rows > capacity) {
+            capacity = Math.max(INITIAL_CAPACITY, Math.max(rows, capacity * 2));
+            resize(capacity);
+        }
+        size = rows;
+    }
+
+    /**
+     * Replaces the rows of this table with a copy of the rows of another table of the same type. String columns are
+     * copied as dictionary indices.
+     *
+     * @param other the table to copy
+     */
+    final void copyFrom(ColumnarTable other) {
+        setRows(other.size);
+        int[][] srcInts = other.intColumns();
+        int[][] dstInts = intColumns();
+        for (int c = 0; c < srcInts.length; c++) {
+            System.arraycopy(srcInts[c], 0, dstInts[c], 0, size);
+        }
+        long[][] srcLongs = other.longColumns();
+        long[][] dstLongs = longColumns();
+        for (int c = 0; c < srcLongs.length; c++) {
+            System.arraycopy(srcLongs[c], 0, dstLongs[c], 0, size);
+        }
+        byte[][] srcBytes = other.byteColumns();
+        byte[][] dstBytes = byteColumns();
+        for (int c = 0; c < srcBytes.length; c++) {
+            System.arraycopy(srcBytes[c], 0, dstBytes[c], 0, size * byteStride());
+        }
+    }
+
+    /**
+     * Gets the {@code int} columns, including string columns, in a fixed order which is part of the
+     * {@link SnapshotEncoder} wire format. The arrays are replaced when the table grows, so must be fetched again after
+     * adding rows.
+     *
+     * @return the {@code int} columns
+     */
+    abstract int[][] intColumns();
+
+    /**
+     * Gets the {@code long} columns, in a fixed order which is part of the {@link SnapshotEncoder} wire format.
+     *
+     * @return the {@code long} columns
+     */
+    abstract long[][] longColumns();
+
+    /**
+     * Gets the index, within {@link #intColumns()}, of the column identifying the object a row describes, such as a
+     * process ID. The encoder matches rows with the previous snapshot by this key.
+     *
+     * @return the key column index
+     */
+    abstract int keyColumn();
+
+    /**
+     * Gets the fixed-stride {@code byte} columns, if any.
+     *
+     * @return the {@code byte} columns
+     */
+    byte[][] byteColumns() {
+        return new byte[0][];
+    }
+
+    /**
+     * Gets the columns, within {@link #intColumns()}, holding the number of bytes used in each row of the corresponding
+     * {@link #byteColumns()} column.
+     *
+     * @return the length columns
+     */
+    int[][] byteLengthColumns() {
+        return new int[0][];
+    }
+
+    /**
+     * Gets the number of bytes reserved for each row of the {@link #byteColumns()}.
+     *
+     * @return the stride
+     */
+    int byteStride() {
+        return 0;
+    }
+
+    /**
+     * Grows every column to the given capacity, preserving existing rows.
+     *
+     * @param newCapacity the new number of rows each column can hold
+     */
+    protected abstract void resize(int newCapacity);
+
+    /**
+     * Grows an {@code int} column.
+     *
+     * @param column      the column
+     * @param newCapacity the new length
+     * @return the grown column
+     */
+    protected static int[] grow(int[] column, int newCapacity) {
+        return Arrays.copyOf(column, newCapacity);
+    }
+
+    /**
+     * Grows a {@code long} column.
+     *
+     * @param column      the column
+     * @param newCapacity the new length
+     * @return the grown column
+     */
+    protected static long[] grow(long[] column, int newCapacity) {
+        return Arrays.copyOf(column, newCapacity);
+    }
+
+    /**
+     * Grows a {@code byte} column holding a fixed number of bytes per row.
+     *
+     * @param column      the column
+     * @param newCapacity the new number of rows
+     * @param stride      the number of bytes per row
+     * @return the grown column
+     */
+    protected static byte[] grow(byte[] column, int newCapacity, int stride) {
+        return Arrays.copyOf(column, newCapacity * stride);
+    }
+}
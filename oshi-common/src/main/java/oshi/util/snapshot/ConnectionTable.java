@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.software.os.InternetProtocolStats.IPConnection;
+import oshi.software.os.InternetProtocolStats.TcpState;
+
+/**
+ * A columnar table of IP connections. Addresses are held in a single byte column with room for an IPv6 address in each
+ * row, alongside the number of bytes used. {@link IPConnection} is a final class, so rows are read with the per-column
+ * accessors or copied out with {@link #getConnection(int)}.
+ */
+@NotThreadSafe
+public final class ConnectionTable extends ColumnarTable {
+
+    /** The bytes reserved for each address, enough for IPv6. */
+    static final int ADDRESS_STRIDE = 16;
+
+    private static final TcpState[] TCP_STATES = TcpState.values();
+
+    int[] type = new int[0];
+    byte[] localAddress = new byte[0];
+    int[] localAddressLength = new int[0];
+    int[] localPort = new int[0];
+    byte[] foreignAddress = new byte[0];
+    int[] foreignAddressLength = new int[0];
+    int[] foreignPort = new int[0];
+    /** The {@link TcpState} ordinal, or -1 where the state is {@code null}. */
+    int[] state = new int[0];
+    int[] transmitQueue = new int[0];
+    int[] receiveQueue = new int[0];
+    int[] owningProcessId = new int[0];
+
+    /**
+     * Creates an empty table storing its strings in the given dictionary.
+     *
+     * @param dictionary the dictionary, which may be shared with other tables
+     */
+    public ConnectionTable(StringDictionary dictionary) {
+        super(dictionary);
+    }
+
+    @Override
+    int[][] intColumns() {
+        return new int[][] { localPort, type, localAddressLength, foreignAddressLength, foreignPort, state,
+                transmitQueue, receiveQueue, owningProcessId };
+    }
+
+    @Override
+    long[][] longColumns() {
+        return new long[0][];
+    }
+
+    @Override
+    int keyColumn() {
+        return 0;
+    }
+
+    @Override
+    byte[][] byteColumns() {
+        return new byte[][] { localAddress, foreignAddress };
+    }
+
+    @Override
+    int[][] byteLengthColumns() {
+        return new int[][] { localAddressLength, foreignAddressLength };
+    }
+
+    @Override
+    int byteStride() {
+        return ADDRESS_STRIDE;
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        type = grow(type, newCapacity);
+        localAddress = grow(localAddress, newCapacity, ADDRESS_STRIDE);
+        localAddressLength = grow(localAddressLength, newCapacity);
+        localPort = grow(localPort, newCapacity);
+        foreignAddress = grow(foreignAddress, newCapacity, ADDRESS_STRIDE);
+        foreignAddressLength = grow(foreignAddressLength, newCapacity);
+        foreignPort = grow(foreignPort, newCapacity);
+        state = grow(state, newCapacity);
+        transmitQueue = grow(transmitQueue, newCapacity);
+        receiveQueue = grow(receiveQueue, newCapacity);
+        owningProcessId = grow(owningProcessId, newCapacity);
+    }
+
+    /**
+     * Appends a row holding the attributes of the given connection.
+     *
+     * @param conn the connection
+     * @return the index of the new row
+     */
+    // The state column stores TcpState.ordinal(), read back through TCP_STATES; reordering the constants changes the
+    // wire format, so requires a new SnapshotCodec.VERSION
+    @SuppressWarnings("EnumOrdinal")
+    public int add(IPConnection conn) {
+        int row = nextRow();
+        type[row] = intern(conn.getType());
+        localAddressLength[row] = putAddress(localAddress, row, conn.getLocalAddress());
+        localPort[row] = conn.getLocalPort();
+        foreignAddressLength[row] = putAddress(foreignAddress, row, conn.getForeignAddress());
+        foreignPort[row] = conn.getForeignPort();
+        TcpState s = conn.getState();
+        state[row] = s == null ? -1 : s.ordinal();
+        transmitQueue[row] = conn.getTransmitQueue();
+        receiveQueue[row] = conn.getReceiveQueue();
+        owningProcessId[row] = conn.getowningProcessId();
+        return row;
+    }
+
+    private static int putAddress(byte[] column, int row, byte[] address) {
+        int length = Math.min(address.length, ADDRESS_STRIDE);
+        System.arraycopy(address, 0, column, row * ADDRESS_STRIDE, length);
+        return length;
+    }
+
+    /**
+     * Appends a row for each of the given connections, in iteration order.
+     *
+     * @param connections the connections
+     */
+    public void addAll(Collection<IPConnection> connections) {
+        for (IPConnection conn : connections) {
+            add(conn);
+        }
+    }
+
+    /**
+     * Gets the protocol type of a row.
+     *
+     * @param row the row index
+     * @return the protocol type, e.g., tcp4 or udp6
+     */
+    public String getType(int row) {
+        return string(type[checkRow(row)]);
+    }
+
+    /**
+     * Gets the local port of a row.
+     *
+     * @param row the row index
+     * @return the local port
+     */
+    public int getLocalPort(int row) {
+        return localPort[checkRow(row)];
+    }
+
+    /**
+     * Gets the foreign port of a row.
+     *
+     * @param row the row index
+     * @return the foreign port
+     */
+    public int getForeignPort(int row) {
+        return foreignPort[checkRow(row)];
+    }
+
+    /**
+     * Gets the TCP state of a row.
+     *
+     * @param row the row index
+     * @return the TCP state, or {@code null} if not known or not relevant
+     */
+    public @Nullable TcpState getState(int row) {
+        int s = state[checkRow(row)];
+        return s < 0 ? null : TCP_STATES[s];
+    }
+
+    /**
+     * Gets the owning process ID of a row.
+     *
+     * @param row the row index
+     * @return the owning process ID, or -1 if not known
+     */
+    public int getOwningProcessId(int row) {
+        return owningProcessId[checkRow(row)];
+    }
+
+    /**
+     * Copies a row into a new {@link IPConnection}.
+     *
+     * @param row the row index
+     * @return the connection
+     */
+    public IPConnection getConnection(int row) {
+        checkRow(row);
+        int offset = row * ADDRESS_STRIDE;
+        return new IPConnection(string(type[row]),
+                Arrays.copyOfRange(localAddress, offset, offset + localAddressLength[row]), localPort[row],
+                Arrays.copyOfRange(foreignAddress, offset, offset + foreignAddressLength[row]), foreignPort[row],
+                getState(row), transmitQueue[row], receiveQueue[row], owningProcessId[row]);
+    }
+}
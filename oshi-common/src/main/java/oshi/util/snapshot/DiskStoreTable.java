@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.HWPartition;
+
+/**
+ * A columnar table of disk stores, holding their identity and I/O counters. Partitions are not captured; views report
+ * them as an empty list.
+ */
+@NotThreadSafe
+public final class DiskStoreTable extends ColumnarTable {
+
+    int[] name = new int[0];
+    int[] diskType = new int[0];
+    int[] model = new int[0];
+    int[] serial = new int[0];
+    long[] size = new long[0];
+    long[] reads = new long[0];
+    long[] readBytes = new long[0];
+    long[] writes = new long[0];
+    long[] writeBytes = new long[0];
+    long[] currentQueueLength = new long[0];
+    long[] transferTime = new long[0];
+    long[] timeStamp = new long[0];
+
+    /**
+     * Creates an empty table storing its strings in the given dictionary.
+     *
+     * @param dictionary the dictionary, which may be shared with other tables
+     */
+    public DiskStoreTable(StringDictionary dictionary) {
+        super(dictionary);
+    }
+
+    @Override
+    int[][] intColumns() {
+        return new int[][] { name, diskType, model, serial };
+    }
+
+    @Override
+    long[][] longColumns() {
+        return new long[][] { size, reads, readBytes, writes, writeBytes, currentQueueLength, transferTime, timeStamp };
+    }
+
+    @Override
+    int keyColumn() {
+        return 0;
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        name = grow(name, newCapacity);
+        diskType = grow(diskType, newCapacity);
+        model = grow(model, newCapacity);
+        serial = grow(serial, newCapacity);
+        size = grow(size, newCapacity);
+        reads = grow(reads, newCapacity);
+        readBytes = grow(readBytes, newCapacity);
+        writes = grow(writes, newCapacity);
+        writeBytes = grow(writeBytes, newCapacity);
+        currentQueueLength = grow(currentQueueLength, newCapacity);
+        transferTime = grow(transferTime, newCapacity);
+        timeStamp = grow(timeStamp, newCapacity);
+    }
+
+    /**
+     * Appends a row holding the attributes of the given disk.
+     *
+     * @param disk the disk
+     * @return the index of the new row
+     */
+    public int add(HWDiskStore disk) {
+        int row = nextRow();
+        name[row] = intern(disk.getName());
+        diskType[row] = intern(disk.getDiskType());
+        model[row] = intern(disk.getModel());
+        serial[row] = intern(disk.getSerial());
+        size[row] = disk.getSize();
+        reads[row] = disk.getReads();
+        readBytes[row] = disk.getReadBytes();
+        writes[row] = disk.getWrites();
+        writeBytes[row] = disk.getWriteBytes();
+        currentQueueLength[row] = disk.getCurrentQueueLength();
+        transferTime[row] = disk.getTransferTime();
+        timeStamp[row] = disk.getTimeStamp();
+        return row;
+    }
+
+    /**
+     * Appends a row for each of the given disks, in iteration order.
+     *
+     * @param disks the disks
+     */
+    public void addAll(Collection<? extends HWDiskStore> disks) {
+        for (HWDiskStore disk : disks) {
+            add(disk);
+        }
+    }
+
+    /**
+     * Gets the bytes read by a row without creating a view.
+     *
+     * @param row the row index
+     * @return the bytes read
+     */
+    public long getReadBytes(int row) {
+        return readBytes[checkRow(row)];
+    }
+
+    /**
+     * Gets the bytes written by a row without creating a view.
+     *
+     * @param row the row index
+     * @return the bytes written
+     */
+    public long getWriteBytes(int row) {
+        return writeBytes[checkRow(row)];
+    }
+
+    /**
+     * Gets a view of a row. The view reads the table's columns on each call rather than copying them.
+     *
+     * @param row the row index
+     * @return an {@link HWDiskStore} backed by the row
+     */
+    public HWDiskStore getDiskStore(int row) {
+        return new DiskStoreRow(checkRow(row));
+    }
+
+    /**
+     * Gets a list of views of every row.
+     *
+     * @return an unmodifiable list of {@link HWDiskStore} views, creating each view on access
+     */
+    public List<HWDiskStore> asList() {
+        return new AbstractList<HWDiskStore>() {
+            @Override
+            public HWDiskStore get(int i) {
+                return getDiskStore(i);
+            }
+
+            @Override
+            public int size() {
+                return DiskStoreTable.this.size();
+            }
+        };
+    }
+
+    private final class DiskStoreRow implements HWDiskStore {
+        private final int row;
+
+        private DiskStoreRow(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getName() {
+            return string(name[row]);
+        }
+
+        @Override
+        public String getDiskType() {
+            return string(diskType[row]);
+        }
+
+        @Override
+        public String getModel() {
+            return string(model[row]);
+        }
+
+        @Override
+        public String getSerial() {
+            return string(serial[row]);
+        }
+
+        @Override
+        public long getSize() {
+            return size[row];
+        }
+
+        @Override
+        public long getReads() {
+            return reads[row];
+        }
+
+        @Override
+        public long getReadBytes() {
+            return readBytes[row];
+        }
+
+        @Override
+        public long getWrites() {
+            return writes[row];
+        }
+
+        @Override
+        public long getWriteBytes() {
+            return writeBytes[row];
+        }
+
+        @Override
+        public long getCurrentQueueLength() {
+            return currentQueueLength[row];
+        }
+
+        @Override
+        public long getTransferTime() {
+            return transferTime[row];
+        }
+
+        @Override
+        public List<HWPartition> getPartitions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public long getTimeStamp() {
+            return timeStamp[row];
+        }
+
+        @Override
+        public boolean updateAttributes() {
+            // A view reports the captured row; refresh by repopulating the table
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "HWDiskStore[name=" + getName() + ", model=" + getModel() + ']';
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.software.os.OSFileStore;
+
+/**
+ * A columnar table of file stores, holding their identity and space and inode usage.
+ */
+@NotThreadSafe
+public final class FileStoreTable extends ColumnarTable {
+
+    int[] name = new int[0];
+    int[] volume = new int[0];
+    int[] label = new int[0];
+    int[] logicalVolume = new int[0];
+    int[] mount = new int[0];
+    int[] description = new int[0];
+    int[] type = new int[0];
+    int[] options = new int[0];
+    int[] uuid = new int[0];
+    int[] local = new int[0];
+    long[] freeSpace = new long[0];
+    long[] usableSpace = new long[0];
+    long[] totalSpace = new long[0];
+    long[] freeInodes = new long[0];
+    long[] totalInodes = new long[0];
+
+    /**
+     * Creates an empty table storing its strings in the given dictionary.
+     *
+     * @param dictionary the dictionary, which may be shared with other tables
+     */
+    public FileStoreTable(StringDictionary dictionary) {
+        super(dictionary);
+    }
+
+    @Override
+    int[][] intColumns() {
+        return new int[][] { mount, name, volume, label, logicalVolume, description, type, options, uuid, local };
+    }
+
+    @Override
+    long[][] longColumns() {
+        return new long[][] { freeSpace, usableSpace, totalSpace, freeInodes, totalInodes };
+    }
+
+    @Override
+    int keyColumn() {
+        return 0;
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        name = grow(name, newCapacity);
+        volume = grow(volume, newCapacity);
+        label = grow(label, newCapacity);
+        logicalVolume = grow(logicalVolume, newCapacity);
+        mount = grow(mount, newCapacity);
+        description = grow(description, newCapacity);
+        type = grow(type, newCapacity);
+        options = grow(options, newCapacity);
+        uuid = grow(uuid, newCapacity);
+        local = grow(local, newCapacity);
+        freeSpace = grow(freeSpace, newCapacity);
+        usableSpace = grow(usableSpace, newCapacity);
+        totalSpace = grow(totalSpace, newCapacity);
+        freeInodes = grow(freeInodes, newCapacity);
+        totalInodes = grow(totalInodes, newCapacity);
+    }
+
+    /**
+     * Appends a row holding the attributes of the given file store.
+     *
+     * @param fs the file store
+     * @return the index of the new row
+     */
+    public int add(OSFileStore fs) {
+        int row = nextRow();
+        name[row] = intern(fs.getName());
+        volume[row] = intern(fs.getVolume());
+        label[row] = intern(fs.getLabel());
+        logicalVolume[row] = intern(fs.getLogicalVolume());
+        mount[row] = intern(fs.getMount());
+        description[row] = intern(fs.getDescription());
+        type[row] = intern(fs.getType());
+        options[row] = intern(fs.getOptions());
+        uuid[row] = intern(fs.getUUID());
+        local[row] = fs.isLocal() ? 1 : 0;
+        freeSpace[row] = fs.getFreeSpace();
+        usableSpace[row] = fs.getUsableSpace();
+        totalSpace[row] = fs.getTotalSpace();
+        freeInodes[row] = fs.getFreeInodes();
+        totalInodes[row] = fs.getTotalInodes();
+        return row;
+    }
+
+    /**
+     * Appends a row for each of the given file stores, in iteration order.
+     *
+     * @param fileStores the file stores
+     */
+    public void addAll(Collection<? extends OSFileStore> fileStores) {
+        for (OSFileStore fs : fileStores) {
+            add(fs);
+        }
+    }
+
+    /**
+     * Gets the usable space of a row without creating a view.
+     *
+     * @param row the row index
+     * @return the usable space in bytes
+     */
+    public long getUsableSpace(int row) {
+        return usableSpace[checkRow(row)];
+    }
+
+    /**
+     * Gets the total space of a row without creating a view.
+     *
+     * @param row the row index
+     * @return the total space in bytes
+     */
+    public long getTotalSpace(int row) {
+        return totalSpace[checkRow(row)];
+    }
+
+    /**
+     * Gets a view of a row. The view reads the table's columns on each call rather than copying them.
+     *
+     * @param row the row index
+     * @return an {@link OSFileStore} backed by the row
+     */
+    public OSFileStore getFileStore(int row) {
+        return new FileStoreRow(checkRow(row));
+    }
+
+    /**
+     * Gets a list of views of every row.
+     *
+     * @return an unmodifiable list of {@link OSFileStore} views, creating each view on access
+     */
+    public List<OSFileStore> asList() {
+        return new AbstractList<OSFileStore>() {
+            @Override
+            public OSFileStore get(int i) {
+                return getFileStore(i);
+            }
+
+            @Override
+            public int size() {
+                return FileStoreTable.this.size();
+            }
+        };
+    }
+
+    private final class FileStoreRow implements OSFileStore {
+        private final int row;
+
+        private FileStoreRow(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getName() {
+            return string(name[row]);
+        }
+
+        @Override
+        public String getVolume() {
+            return string(volume[row]);
+        }
+
+        @Override
+        public String getLabel() {
+            return string(label[row]);
+        }
+
+        @Override
+        public String getLogicalVolume() {
+            return string(logicalVolume[row]);
+        }
+
+        @Override
+        public String getMount() {
+            return string(mount[row]);
+        }
+
+        @Override
+        public String getDescription() {
+            return string(description[row]);
+        }
+
+        @Override
+        public String getType() {
+            return string(type[row]);
+        }
+
+        @Override
+        public String getOptions() {
+            return string(options[row]);
+        }
+
+        @Override
+        public String getUUID() {
+            return string(uuid[row]);
+        }
+
+        @Override
+        public boolean isLocal() {
+            return local[row] != 0;
+        }
+
+        @Override
+        public long getFreeSpace() {
+            return freeSpace[row];
+        }
+
+        @Override
+        public long getUsableSpace() {
+            return usableSpace[row];
+        }
+
+        @Override
+        public long getTotalSpace() {
+            return totalSpace[row];
+        }
+
+        @Override
+        public long getFreeInodes() {
+            return freeInodes[row];
+        }
+
+        @Override
+        public long getTotalInodes() {
+            return totalInodes[row];
+        }
+
+        @Override
+        public boolean updateAttributes() {
+            // A view reports the captured row; refresh by repopulating the table
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "OSFileStore[name=" + getName() + ", mount=" + getMount() + ']';
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.hardware.NetworkIF;
+
+/**
+ * A columnar table of network interfaces, holding their identity, status and traffic counters. Address lists are not
+ * captured; views report them as empty arrays.
+ */
+@NotThreadSafe
+public final class NetworkIFTable extends ColumnarTable {
+
+    private static final String[] NO_ADDRESSES = new String[0];
+    private static final Short[] NO_PREFIXES = new Short[0];
+    private static final NetworkIF.IfOperStatus[] OPER_STATUSES = NetworkIF.IfOperStatus.values();
+
+    int[] name = new int[0];
+    int[] index = new int[0];
+    int[] displayName = new int[0];
+    int[] ifAlias = new int[0];
+    int[] ifOperStatus = new int[0];
+    int[] ifType = new int[0];
+    int[] macaddr = new int[0];
+    long[] mtu = new long[0];
+    long[] speed = new long[0];
+    long[] bytesRecv = new long[0];
+    long[] bytesSent = new long[0];
+    long[] packetsRecv = new long[0];
+    long[] packetsSent = new long[0];
+    long[] inErrors = new long[0];
+    long[] outErrors = new long[0];
+    long[] inDrops = new long[0];
+    long[] collisions = new long[0];
+    long[] timeStamp = new long[0];
+
+    /**
+     * Creates an empty table storing its strings in the given dictionary.
+     *
+     * @param dictionary the dictionary, which may be shared with other tables
+     */
+    public NetworkIFTable(StringDictionary dictionary) {
+        super(dictionary);
+    }
+
+    @Override
+    int[][] intColumns() {
+        return new int[][] { name, index, displayName, ifAlias, ifOperStatus, ifType, macaddr };
+    }
+
+    @Override
+    long[][] longColumns() {
+        return new long[][] { mtu, speed, bytesRecv, bytesSent, packetsRecv, packetsSent, inErrors, outErrors, inDrops,
+                collisions, timeStamp };
+    }
+
+    @Override
+    int keyColumn() {
+        return 0;
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        name = grow(name, newCapacity);
+        index = grow(index, newCapacity);
+        displayName = grow(displayName, newCapacity);
+        ifAlias = grow(ifAlias, newCapacity);
+        ifOperStatus = grow(ifOperStatus, newCapacity);
+        ifType = grow(ifType, newCapacity);
+        macaddr = grow(macaddr, newCapacity);
+        mtu = grow(mtu, newCapacity);
+        speed = grow(speed, newCapacity);
+        bytesRecv = grow(bytesRecv, newCapacity);
+        bytesSent = grow(bytesSent, newCapacity);
+        packetsRecv = grow(packetsRecv, newCapacity);
+        packetsSent = grow(packetsSent, newCapacity);
+        inErrors = grow(inErrors, newCapacity);
+        outErrors = grow(outErrors, newCapacity);
+        inDrops = grow(inDrops, newCapacity);
+        collisions = grow(collisions, newCapacity);
+        timeStamp = grow(timeStamp, newCapacity);
+    }
+
+    /**
+     * Appends a row holding the attributes of the given interface.
+     *
+     * @param net the interface
+     * @return the index of the new row
+     */
+    // ifOperStatus stores the ordinal, read back through OPER_STATUSES; the constant order is part of the wire format
+    @SuppressWarnings("EnumOrdinal")
+    public int add(NetworkIF net) {
+        int row = nextRow();
+        name[row] = intern(net.getName());
+        index[row] = net.getIndex();
+        displayName[row] = intern(net.getDisplayName());
+        ifAlias[row] = intern(net.getIfAlias());
+        ifOperStatus[row] = net.getIfOperStatus().ordinal();
+        ifType[row] = net.getIfType();
+        macaddr[row] = intern(net.getMacaddr());
+        mtu[row] = net.getMTU();
+        speed[row] = net.getSpeed();
+        bytesRecv[row] = net.getBytesRecv();
+        bytesSent[row] = net.getBytesSent();
+        packetsRecv[row] = net.getPacketsRecv();
+        packetsSent[row] = net.getPacketsSent();
+        inErrors[row] = net.getInErrors();
+        outErrors[row] = net.getOutErrors();
+        inDrops[row] = net.getInDrops();
+        collisions[row] = net.getCollisions();
+        timeStamp[row] = net.getTimeStamp();
+        return row;
+    }
+
+    /**
+     * Appends a row for each of the given interfaces, in iteration order.
+     *
+     * @param interfaces the interfaces
+     */
+    public void addAll(Collection<? extends NetworkIF> interfaces) {
+        for (NetworkIF net : interfaces) {
+            add(net);
+        }
+    }
+
+    /**
+     * Gets the bytes received by a row without creating a view.
+     *
+     * @param row the row index
+     * @return the bytes received
+     */
+    public long getBytesRecv(int row) {
+        return bytesRecv[checkRow(row)];
+    }
+
+    /**
+     * Gets the bytes sent by a row without creating a view.
+     *
+     * @param row the row index
+     * @return the bytes sent
+     */
+    public long getBytesSent(int row) {
+        return bytesSent[checkRow(row)];
+    }
+
+    /**
+     * Gets a view of a row. The view reads the table's columns on each call rather than copying them.
+     *
+     * @param row the row index
+     * @return a {@link NetworkIF} backed by the row
+     */
+    public NetworkIF getNetworkIF(int row) {
+        return new NetworkIFRow(checkRow(row));
+    }
+
+    /**
+     * Gets a list of views of every row.
+     *
+     * @return an unmodifiable list of {@link NetworkIF} views, creating each view on access
+     */
+    public List<NetworkIF> asList() {
+        return new AbstractList<NetworkIF>() {
+            @Override
+            public NetworkIF get(int i) {
+                return getNetworkIF(i);
+            }
+
+            @Override
+            public int size() {
+                return NetworkIFTable.this.size();
+            }
+        };
+    }
+
+    private final class NetworkIFRow implements NetworkIF {
+        private final int row;
+
+        private NetworkIFRow(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public NetworkInterface queryNetworkInterface() {
+            try {
+                NetworkInterface ni = NetworkInterface.getByName(getName());
+                if (ni != null) {
+                    return ni;
+                }
+            } catch (SocketException e) {
+                throw new IllegalStateException("Unable to query network interface " + getName(), e);
+            }
+            throw new IllegalStateException("Network interface " + getName() + " no longer exists");
+        }
+
+        @Override
+        public String getName() {
+            return string(name[row]);
+        }
+
+        @Override
+        public int getIndex() {
+            return index[row];
+        }
+
+        @Override
+        public String getDisplayName() {
+            return string(displayName[row]);
+        }
+
+        @Override
+        public String getIfAlias() {
+            return string(ifAlias[row]);
+        }
+
+        @Override
+        public IfOperStatus getIfOperStatus() {
+            return OPER_STATUSES[ifOperStatus[row]];
+        }
+
+        @Override
+        public long getMTU() {
+            return mtu[row];
+        }
+
+        @Override
+        public String getMacaddr() {
+            return string(macaddr[row]);
+        }
+
+        @Override
+        public String[] getIPv4addr() {
+            return NO_ADDRESSES;
+        }
+
+        @Override
+        public Short[] getSubnetMasks() {
+            return NO_PREFIXES;
+        }
+
+        @Override
+        public String[] getIPv6addr() {
+            return NO_ADDRESSES;
+        }
+
+        @Override
+        public Short[] getPrefixLengths() {
+            return NO_PREFIXES;
+        }
+
+        @Override
+        public int getIfType() {
+            return ifType[row];
+        }
+
+        @Override
+        public long getBytesRecv() {
+            return bytesRecv[row];
+        }
+
+        @Override
+        public long getBytesSent() {
+            return bytesSent[row];
+        }
+
+        @Override
+        public long getPacketsRecv() {
+            return packetsRecv[row];
+        }
+
+        @Override
+        public long getPacketsSent() {
+            return packetsSent[row];
+        }
+
+        @Override
+        public long getInErrors() {
+            return inErrors[row];
+        }
+
+        @Override
+        public long getOutErrors() {
+            return outErrors[row];
+        }
+
+        @Override
+        public long getInDrops() {
+            return inDrops[row];
+        }
+
+        @Override
+        public long getCollisions() {
+            return collisions[row];
+        }
+
+        @Override
+        public long getSpeed() {
+            return speed[row];
+        }
+
+        @Override
+        public long getTimeStamp() {
+            return timeStamp[row];
+        }
+
+        @Override
+        public boolean isKnownVmMacAddr() {
+            return false;
+        }
+
+        @Override
+        public boolean updateAttributes() {
+            // A view reports the captured row; refresh by repopulating the table
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "NetworkIF[name=" + getName() + ", index=" + getIndex() + ']';
+        }
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OSThread;
+import oshi.util.driver.linux.proc.ProcessStatTable;
+
+/**
+ * A columnar table of processes, holding the attributes each platform reads when enumerating the process list. The
+ * attributes an {@link OSProcess} computes on demand, such as its arguments, environment, working directory, threads
+ * and open file limits, are not captured, since reading them for every process is the expense this table exists to
+ * avoid.
+ */
+@NotThreadSafe
+public final class ProcessTable extends ColumnarTable {
+
+    private static final OSProcess.State[] STATES = OSProcess.State.values();
+
+    int[] processID = new int[0];
+    int[] parentProcessID = new int[0];
+    int[] threadCount = new int[0];
+    int[] priority = new int[0];
+    int[] state = new int[0];
+    int[] name = new int[0];
+    int[] path = new int[0];
+    int[] user = new int[0];
+    int[] userID = new int[0];
+    int[] group = new int[0];
+    int[] groupID = new int[0];
+    long[] virtualSize = new long[0];
+    long[] residentMemory = new long[0];
+    long[] kernelTime = new long[0];
+    long[] userTime = new long[0];
+    long[] upTime = new long[0];
+    long[] startTime = new long[0];
+    long[] bytesRead = new long[0];
+    long[] bytesWritten = new long[0];
+    long[] openFiles = new long[0];
+    long[] minorFaults = new long[0];
+    long[] majorFaults = new long[0];
+    long[] contextSwitches = new long[0];
+
+    /**
+     * Creates an empty table storing its strings in the given dictionary.
+     *
+     * @param dictionary the dictionary, which may be shared with other tables
+     */
+    public ProcessTable(StringDictionary dictionary) {
+        super(dictionary);
+    }
+
+    @Override
+    int[][] intColumns() {
+        return new int[][] { processID, parentProcessID, threadCount, priority, state, name, path, user, userID, group,
+                groupID };
+    }
+
+    @Override
+    long[][] longColumns() {
+        return new long[][] { virtualSize, residentMemory, kernelTime, userTime, upTime, startTime, bytesRead,
+                bytesWritten, openFiles, minorFaults, majorFaults, contextSwitches };
+    }
+
+    @Override
+    int keyColumn() {
+        return 0;
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        processID = grow(processID, newCapacity);
+        parentProcessID = grow(parentProcessID, newCapacity);
+        threadCount = grow(threadCount, newCapacity);
+        priority = grow(priority, newCapacity);
+        state = grow(state, newCapacity);
+        name = grow(name, newCapacity);
+        path = grow(path, newCapacity);
+        user = grow(user, newCapacity);
+        userID = grow(userID, newCapacity);
+        group = grow(group, newCapacity);
+        groupID = grow(groupID, newCapacity);
+        virtualSize = grow(virtualSize, newCapacity);
+        residentMemory = grow(residentMemory, newCapacity);
+        kernelTime = grow(kernelTime, newCapacity);
+        userTime = grow(userTime, newCapacity);
+        upTime = grow(upTime, newCapacity);
+        startTime = grow(startTime, newCapacity);
+        bytesRead = grow(bytesRead, newCapacity);
+        bytesWritten = grow(bytesWritten, newCapacity);
+        openFiles = grow(openFiles, newCapacity);
+        minorFaults = grow(minorFaults, newCapacity);
+        majorFaults = grow(majorFaults, newCapacity);
+        contextSwitches = grow(contextSwitches, newCapacity);
+    }
+
+    /**
+     * Appends a row holding the attributes of the given process.
+     *
+     * @param p the process
+     * @return the index of the new row
+     */
+    // The state column stores State.ordinal(), read back through STATES; the constant order is part of the wire format
+    @SuppressWarnings("EnumOrdinal")
+    public int add(OSProcess p) {
+        int row = nextRow();
+        processID[row] = p.getProcessID();
+        parentProcessID[row] = p.getParentProcessID();
+        threadCount[row] = p.getThreadCount();
+        priority[row] = p.getPriority();
+        state[row] = p.getState().ordinal();
+        name[row] = intern(p.getName());
+        path[row] = intern(p.getPath());
+        user[row] = intern(p.getUser());
+        userID[row] = intern(p.getUserID());
+        group[row] = intern(p.getGroup());
+        groupID[row] = intern(p.getGroupID());
+        virtualSize[row] = p.getVirtualSize();
+        residentMemory[row] = p.getResidentMemory();
+        kernelTime[row] = p.getKernelTime();
+        userTime[row] = p.getUserTime();
+        upTime[row] = p.getUpTime();
+        startTime[row] = p.getStartTime();
+        bytesRead[row] = p.getBytesRead();
+        bytesWritten[row] = p.getBytesWritten();
+        openFiles[row] = p.getOpenFiles();
+        minorFaults[row] = p.getMinorFaults();
+        majorFaults[row] = p.getMajorFaults();
+        contextSwitches[row] = p.getContextSwitches();
+        return row;
+    }
+
+    /**
+     * Appends a row for each of the given processes, in iteration order.
+     *
+     * @param processes the processes
+     */
+    public void addAll(Collection<? extends OSProcess> processes) {
+        for (OSProcess p : processes) {
+            add(p);
+        }
+    }
+
+    /**
+     * Appends a row for each process in a table read from {@code /proc/[pid]/stat}, without creating an
+     * {@link OSProcess} for each. The columns for attributes not in {@code stat} are left empty: the path, user and
+     * group are empty strings, the open files are -1 and the context switches are 0.
+     *
+     * @param stat     the processes
+     * @param hz       the clock ticks per second
+     * @param pageSize the page size in bytes
+     * @param bootTime the system boot time in seconds since the epoch
+     */
+    @SuppressWarnings("EnumOrdinal")
+    void addAll(ProcessStatTable stat, long hz, long pageSize, long bootTime) {
+        int empty = intern("");
+        long now = stat.getTimestamp();
+        for (int i = 0; i < stat.size(); i++) {
+            int row = nextRow();
+            processID[row] = stat.getProcessId(i);
+            parentProcessID[row] = stat.getParentProcessId(i);
+            threadCount[row] = stat.getThreadCount(i);
+            priority[row] = stat.getPriority(i);
+            // As in add(OSProcess), read back through STATES
+            state[row] = stat.getState(i).ordinal();
+            name[row] = intern(stat.getName(i));
+            path[row] = empty;
+            user[row] = empty;
+            userID[row] = empty;
+            group[row] = empty;
+            groupID[row] = empty;
+            virtualSize[row] = stat.getVirtualSize(i);
+            residentMemory[row] = stat.getResidentPages(i) * pageSize;
+            kernelTime[row] = stat.getKernelTicks(i) * 1000L / hz;
+            userTime[row] = stat.getUserTicks(i) * 1000L / hz;
+            // Boot time is rounded to the second, so a process started within the last second may appear to start
+            // in the future
+            long start = Math.min((bootTime * hz + stat.getStartTicks(i)) * 1000L / hz, now - 1);
+            startTime[row] = start;
+            upTime[row] = now - start;
+            bytesRead[row] = Math.max(0L, stat.getBytesRead(i));
+            bytesWritten[row] = Math.max(0L, stat.getBytesWritten(i));
+            openFiles[row] = -1L;
+            minorFaults[row] = stat.getMinorFaults(i);
+            majorFaults[row] = stat.getMajorFaults(i);
+            contextSwitches[row] = 0L;
+        }
+    }
+
+    /**
+     * Gets the process ID of a row without creating a view.
+     *
+     * @param row the row index
+     * @return the process ID
+     */
+    public int getProcessID(int row) {
+        return processID[checkRow(row)];
+    }
+
+    /**
+     * Gets the user time of a row without creating a view.
+     *
+     * @param row the row index
+     * @return the user time in milliseconds
+     */
+    public long getUserTime(int row) {
+        return userTime[checkRow(row)];
+    }
+
+    /**
+     * Gets the kernel time of a row without creating a view.
+     *
+     * @param row the row index
+     * @return the kernel time in milliseconds
+     */
+    public long getKernelTime(int row) {
+        return kernelTime[checkRow(row)];
+    }
+
+    /**
+     * Gets the resident memory of a row without creating a view.
+     *
+     * @param row the row index
+     * @return the resident set size in bytes
+     */
+    public long getResidentMemory(int row) {
+        return residentMemory[checkRow(row)];
+    }
+
+    /**
+     * Gets a view of a row. The view reads the table's columns on each call rather than copying them.
+     *
+     * @param row the row index
+     * @return an {@link OSProcess} backed by the row
+     */
+    public OSProcess getProcess(int row) {
+        return new ProcessRow(checkRow(row));
+    }
+
+    /**
+     * Gets a list of views of every row.
+     *
+     * @return an unmodifiable list of {@link OSProcess} views, creating each view on access
+     */
+    public List<OSProcess> asList() {
+        return new AbstractList<OSProcess>() {
+            @Override
+            public OSProcess get(int index) {
+                return getProcess(index);
+            }
+
+            @Override
+            public int size() {
+                return ProcessTable.this.size();
+            }
+        };
+    }
+
+    private final class ProcessRow implements OSProcess {
+        private final int row;
+
+        private ProcessRow(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getName() {
+            return string(name[row]);
+        }
+
+        @Override
+        public String getPath() {
+            return string(path[row]);
+        }
+
+        @Override
+        public String getCommandLine() {
+            return "";
+        }
+
+        @Override
+        public List<String> getArguments() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Map<String, String> getEnvironmentVariables() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getCurrentWorkingDirectory() {
+            return "";
+        }
+
+        @Override
+        public String getUser() {
+            return string(user[row]);
+        }
+
+        @Override
+        public String getUserID() {
+            return string(userID[row]);
+        }
+
+        @Override
+        public String getGroup() {
+            return string(group[row]);
+        }
+
+        @Override
+        public String getGroupID() {
+            return string(groupID[row]);
+        }
+
+        @Override
+        public State getState() {
+            return STATES[state[row]];
+        }
+
+        @Override
+        public int getProcessID() {
+            return processID[row];
+        }
+
+        @Override
+        public int getParentProcessID() {
+            return parentProcessID[row];
+        }
+
+        @Override
+        public int getThreadCount() {
+            return threadCount[row];
+        }
+
+        @Override
+        public int getPriority() {
+            return priority[row];
+        }
+
+        @Override
+        public long getVirtualSize() {
+            return virtualSize[row];
+        }
+
+        @Override
+        public long getResidentMemory() {
+            return residentMemory[row];
+        }
+
+        @Override
+        public long getKernelTime() {
+            return kernelTime[row];
+        }
+
+        @Override
+        public long getUserTime() {
+            return userTime[row];
+        }
+
+        @Override
+        public long getUpTime() {
+            return upTime[row];
+        }
+
+        @Override
+        public long getStartTime() {
+            return startTime[row];
+        }
+
+        @Override
+        public long getBytesRead() {
+            return bytesRead[row];
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return bytesWritten[row];
+        }
+
+        @Override
+        public long getOpenFiles() {
+            return openFiles[row];
+        }
+
+        @Override
+        public long getSoftOpenFileLimit() {
+            return -1L;
+        }
+
+        @Override
+        public long getHardOpenFileLimit() {
+            return -1L;
+        }
+
+        @Override
+        public double getProcessCpuLoadCumulative() {
+            long up = getUpTime();
+            return up > 0L ? (getKernelTime() + getUserTime()) / (double) up : 0d;
+        }
+
+        @Override
+        public double getProcessCpuLoadBetweenTicks(@Nullable OSProcess priorSnapshot) {
+            if (priorSnapshot != null && getProcessID() == priorSnapshot.getProcessID()
+                    && getUpTime() > priorSnapshot.getUpTime()) {
+                return (getUserTime() - priorSnapshot.getUserTime() + getKernelTime() - priorSnapshot.getKernelTime())
+                        / (double) (getUpTime() - priorSnapshot.getUpTime());
+            }
+            return getProcessCpuLoadCumulative();
+        }
+
+        @Override
+        public int getBitness() {
+            return 0;
+        }
+
+        @Override
+        public long getAffinityMask() {
+            return 0L;
+        }
+
+        @Override
+        public boolean updateAttributes() {
+            // A view reports the captured row; refresh by repopulating the table
+            return false;
+        }
+
+        @Override
+        public List<OSThread> getThreadDetails() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public long getMinorFaults() {
+            return minorFaults[row];
+        }
+
+        @Override
+        public long getMajorFaults() {
+            return majorFaults[row];
+        }
+
+        @Override
+        public long getContextSwitches() {
+            return contextSwitches[row];
+        }
+
+        @Override
+        public String toString() {
+            return "OSProcess@" + Integer.toHexString(hashCode()) + "[processID=" + getProcessID() + ", name="
+                    + getName() + ']';
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+/**
+ * Constants and row matching shared by {@link SnapshotEncoder} and {@link SnapshotDecoder}.
+ */
+final class SnapshotCodec {
+
+    /** The first four bytes of every frame after the length, {@code OSNP}. */
+    static final int MAGIC = 0x4F534E50;
+    /** The wire format version, incremented whenever a table's column order changes. */
+    static final byte VERSION = 1;
+    /** Set in the flags byte of a frame which does not depend on any previous frame. */
+    static final byte FLAG_KEYFRAME = 1;
+    /** The size of the frame length prefix. */
+    static final int LENGTH_BYTES = Integer.BYTES;
+    /** The bytes following the length prefix before the variable-length content: magic, version and flags. */
+    static final int HEADER_BYTES = Integer.BYTES + 2;
+    /** The largest frame a decoder accepts, guarding against allocating for a corrupt length prefix. */
+    static final int MAX_FRAME_LENGTH = 1 << 28;
+    /** How far ahead of the expected position to look for a row's key in the previous snapshot. */
+    static final int MATCH_WINDOW = 16;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * Matches each row with the row of the previous snapshot having the same key. Both tables are usually in the same
+     * order, as each platform lists objects in a stable order, so the previous table is scanned with a cursor which
+     * skips rows removed since, and a row whose key is not found within a short window of the cursor is treated as new.
+     * The encoder and decoder must produce identical matches, so this depends only on the keys.
+     *
+     * @param keys     the current keys
+     * @param rows     the number of current rows
+     * @param prevKeys the previous keys
+     * @param prevRows the number of previous rows
+     * @param match    an array to reuse for the result, if large enough
+     * @return an array whose first {@code rows} elements hold the index of the matching previous row, or -1
+     */
+    static int[] matchRows(int[] keys, int rows, int[] prevKeys, int prevRows, int[] match) {
+        int[] result = match.length >= rows ? match : new int[rows];
+        int cursor = 0;
+        for (int r = 0; r < rows; r++) {
+            result[r] = -1;
+            int end = Math.min(prevRows, cursor + MATCH_WINDOW);
+            for (int j = cursor; j < end; j++) {
+                if (prevKeys[j] == keys[r]) {
+                    result[r] = j;
+                    cursor = j + 1;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maps a signed value to an unsigned one so that values of small magnitude have short varint encodings.
+     *
+     * @param v the signed value
+     * @return the zigzag encoding
+     */
+    static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    /**
+     * Reverses {@link #zigzag(long)}.
+     *
+     * @param v the zigzag encoding
+     * @return the signed value
+     */
+    static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
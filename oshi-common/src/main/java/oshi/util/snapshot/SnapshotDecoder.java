@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Decodes the frames written by a {@link SnapshotEncoder} back into a {@link SystemSnapshot}.
+ * <p>
+ * A decoder follows a single encoder. It must start with a keyframe and then receive every frame in order; a frame
+ * which depends on one that was not received is rejected with an {@link IllegalStateException}, and frames are rejected
+ * until the next keyframe arrives.
+ */
+@NotThreadSafe
+public final class SnapshotDecoder {
+
+    private final SystemSnapshot snapshot = new SystemSnapshot();
+    private final SystemSnapshot previous = new SystemSnapshot();
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(SnapshotCodec.LENGTH_BYTES);
+
+    private ByteBuffer frameBuffer = ByteBuffer.allocate(4096);
+    private int[] match = new int[0];
+
+    private boolean synced;
+    private long nextSequence;
+
+    /**
+     * Creates a decoder which waits for a keyframe.
+     */
+    public SnapshotDecoder() {
+        // Decodes into reused snapshots
+    }
+
+    /**
+     * Discards the decoder's state, so that frames are rejected until the next keyframe.
+     */
+    public void reset() {
+        synced = false;
+    }
+
+    /**
+     * Decodes one frame from the given buffer, advancing its position past the frame.
+     *
+     * @param src the buffer, positioned at the start of a frame
+     * @return the decoded snapshot, which is reused and so valid until the next call to this decoder
+     * @throws BufferUnderflowException if the buffer does not hold a whole frame, in which case its position is not
+     *                                  changed
+     * @throws IllegalArgumentException if the frame is malformed
+     * @throws IllegalStateException    if the frame depends on a frame this decoder has not received
+     */
+    public SystemSnapshot decode(ByteBuffer src) {
+        if (src.remaining() < SnapshotCodec.LENGTH_BYTES) {
+            throw new BufferUnderflowException();
+        }
+        int start = src.position();
+        int length = checkLength((src.get(start) & 0xFF) << 24 | (src.get(start + 1) & 0xFF) << 16
+                | (src.get(start + 2) & 0xFF) << 8 | src.get(start + 3) & 0xFF);
+        if (src.remaining() - SnapshotCodec.LENGTH_BYTES < length) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer frame = src.duplicate();
+        frame.position(start + SnapshotCodec.LENGTH_BYTES);
+        frame.limit(start + SnapshotCodec.LENGTH_BYTES + length);
+        src.position(start + SnapshotCodec.LENGTH_BYTES + length);
+        return decodeFrame(frame);
+    }
+
+    /**
+     * Reads and decodes one frame from the given channel.
+     *
+     * @param channel the channel, positioned at the start of a frame
+     * @return the decoded snapshot, which is reused and so valid until the next call to this decoder
+     * @throws EOFException             if the channel reaches end of stream before a whole frame is read
+     * @throws IOException              if the channel cannot be read
+     * @throws IllegalArgumentException if the frame is malformed
+     * @throws IllegalStateException    if the frame depends on a frame this decoder has not received
+     */
+    public SystemSnapshot decode(ReadableByteChannel channel) throws IOException {
+        lengthBuffer.clear();
+        readFully(channel, lengthBuffer);
+        int length = checkLength(lengthBuffer.getInt(0));
+        if (frameBuffer.capacity() < length) {
+            frameBuffer = ByteBuffer.allocate(Math.max(length, frameBuffer.capacity() * 2));
+        }
+        frameBuffer.clear().limit(length);
+        readFully(channel, frameBuffer);
+        frameBuffer.flip();
+        return decodeFrame(frameBuffer);
+    }
+
+    private void readFully(ReadableByteChannel channel, ByteBuffer dst) throws IOException {
+        while (dst.hasRemaining()) {
+            if (channel.read(dst) < 0) {
+                synced = false;
+                throw new EOFException("End of stream within a snapshot frame");
+            }
+        }
+    }
+
+    private static int checkLength(int length) {
+        if (length < SnapshotCodec.HEADER_BYTES || length > SnapshotCodec.MAX_FRAME_LENGTH) {
+            throw new IllegalArgumentException("Invalid snapshot frame length " + length);
+        }
+        return length;
+    }
+
+    private SystemSnapshot decodeFrame(ByteBuffer frame) {
+        try {
+            decodeContent(frame);
+            if (frame.hasRemaining()) {
+                throw new IllegalArgumentException(frame.remaining() + " unexpected bytes at end of snapshot frame");
+            }
+        } catch (BufferUnderflowException e) {
+            synced = false;
+            throw new IllegalArgumentException("Truncated snapshot frame", e);
+        } catch (RuntimeException e) {
+            synced = false;
+            throw e;
+        }
+        previous.copyFrom(snapshot);
+        synced = true;
+        return snapshot;
+    }
+
+    private void decodeContent(ByteBuffer frame) {
+        if (frame.getInt() != SnapshotCodec.MAGIC) {
+            throw new IllegalArgumentException("Not a snapshot frame");
+        }
+        byte version = frame.get();
+        if (version != SnapshotCodec.VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot format version " + version);
+        }
+        boolean keyframe = (frame.get() & SnapshotCodec.FLAG_KEYFRAME) != 0;
+        long sequence = readVarLong(frame);
+        StringDictionary dictionary = snapshot.getDictionary();
+        if (keyframe) {
+            previous.clear();
+            dictionary.clear();
+        } else if (!synced || sequence != nextSequence) {
+            throw new IllegalStateException(
+                    "Snapshot frame " + sequence + " depends on a frame not received; waiting for a keyframe");
+        }
+        nextSequence = sequence + 1;
+
+        long base = readVarLong(frame);
+        if (base != dictionary.size()) {
+            throw new IllegalArgumentException(
+                    "Snapshot frame adds strings from index " + base + " but " + dictionary.size() + " are known");
+        }
+        long added = readCount(frame);
+        for (long i = 0; i < added; i++) {
+            byte[] utf8 = new byte[(int) readCount(frame)];
+            frame.get(utf8);
+            int expected = dictionary.size();
+            if (dictionary.intern(new String(utf8, StandardCharsets.UTF_8)) != expected) {
+                throw new IllegalArgumentException("Duplicate string in snapshot frame");
+            }
+        }
+
+        snapshot.timestamp = readDelta(frame, previous.timestamp);
+        if (readVarLong(frame) != SystemSnapshot.TICK_TYPES) {
+            throw new IllegalArgumentException("Unexpected number of CPU tick types in snapshot frame");
+        }
+        for (int i = 0; i < SystemSnapshot.TICK_TYPES; i++) {
+            snapshot.systemCpuLoadTicks[i] = readDelta(frame, previous.systemCpuLoadTicks[i]);
+        }
+        snapshot.setProcessorCount((int) readCount(frame));
+        boolean sameProcessors = snapshot.processorCount == previous.processorCount;
+        for (int i = 0; i < snapshot.processorCount * SystemSnapshot.TICK_TYPES; i++) {
+            snapshot.processorCpuLoadTicks[i] = readDelta(frame,
+                    sameProcessors ? previous.processorCpuLoadTicks[i] : 0L);
+        }
+        snapshot.memoryTotal = readDelta(frame, previous.memoryTotal);
+        snapshot.memoryAvailable = readDelta(frame, previous.memoryAvailable);
+
+        ColumnarTable[] tables = snapshot.tables();
+        ColumnarTable[] prevTables = previous.tables();
+        for (int t = 0; t < tables.length; t++) {
+            decodeTable(frame, tables[t], prevTables[t]);
+        }
+    }
+
+    private void decodeTable(ByteBuffer frame, ColumnarTable table, ColumnarTable prev) {
+        int rows = (int) readCount(frame);
+        if (readVarLong(frame) != table.intColumns().length || readVarLong(frame) != table.longColumns().length) {
+            throw new IllegalArgumentException("Unexpected number of columns in snapshot frame");
+        }
+        table.setRows(rows);
+        int[][] ints = table.intColumns();
+        long[][] longs = table.longColumns();
+        int[][] prevInts = prev.intColumns();
+        long[][] prevLongs = prev.longColumns();
+        int key = table.keyColumn();
+
+        int[] keys = ints[key];
+        long last = 0L;
+        for (int r = 0; r < rows; r++) {
+            last = readDelta(frame, last);
+            keys[r] = (int) last;
+        }
+        match = SnapshotCodec.matchRows(keys, rows, prevInts[key], prev.size(), match);
+
+        for (int c = 0; c < ints.length; c++) {
+            if (c != key) {
+                int[] col = ints[c];
+                int[] prevCol = prevInts[c];
+                for (int r = 0; r < rows; r++) {
+                    col[r] = (int) readDelta(frame, match[r] < 0 ? 0L : prevCol[match[r]]);
+                }
+            }
+        }
+        for (int c = 0; c < longs.length; c++) {
+            long[] col = longs[c];
+            long[] prevCol = prevLongs[c];
+            for (int r = 0; r < rows; r++) {
+                col[r] = readDelta(frame, match[r] < 0 ? 0L : prevCol[match[r]]);
+            }
+        }
+        byte[][] bytes = table.byteColumns();
+        int[][] lengths = table.byteLengthColumns();
+        int stride = table.byteStride();
+        for (int c = 0; c < bytes.length; c++) {
+            for (int r = 0; r < rows; r++) {
+                int len = lengths[c][r];
+                if (len < 0 || len > stride) {
+                    throw new IllegalArgumentException("Invalid field length " + len + " in snapshot frame");
+                }
+                frame.get(bytes[c], r * stride, len);
+            }
+        }
+    }
+
+    private static long readDelta(ByteBuffer frame, long prev) {
+        return prev + SnapshotCodec.unzigzag(readVarLong(frame));
+    }
+
+    /**
+     * Reads a count of rows or bytes which follow, each taking at least one byte, so a count exceeding the remaining
+     * bytes is known to be corrupt before anything is allocated for it.
+     */
+    private static long readCount(ByteBuffer frame) {
+        long count = readVarLong(frame);
+        if (count < 0 || count > frame.remaining()) {
+            throw new IllegalArgumentException("Invalid count " + count + " in snapshot frame");
+        }
+        return count;
+    }
+
+    private static long readVarLong(ByteBuffer frame) {
+        long value = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = frame.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in snapshot frame");
+    }
+}
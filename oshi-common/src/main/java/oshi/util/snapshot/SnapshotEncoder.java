@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Encodes a sequence of {@link SystemSnapshot}s from one host as compact binary frames, for shipping to a
+ * {@link SnapshotDecoder} elsewhere.
+ * <p>
+ * Each frame starts with its length as a 4-byte big-endian integer, followed by a header and the snapshot content.
+ * Every numeric value is written as a varint of its zigzag-encoded difference from the same value in the previous
+ * frame: for the system counters the previous frame's value, and for a table row the previous frame's row with the same
+ * key (process ID, interface name, disk name, mount point or local port). Monotonic counters which have barely moved
+ * and attributes which have not changed at all therefore take a single byte. Strings are sent once, as the snapshot's
+ * {@link StringDictionary} grows, and thereafter referenced by index.
+ * <p>
+ * A keyframe, which depends on no earlier frame, is written first, after {@link #reset()}, whenever the snapshot's
+ * dictionary has been cleared, and every {@code keyframeInterval} frames so that a decoder which starts late or misses
+ * a frame can resynchronize.
+ */
+@NotThreadSafe
+public final class SnapshotEncoder {
+
+    /** The default number of frames between keyframes. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 60;
+
+    private final int keyframeInterval;
+    private final SystemSnapshot previous = new SystemSnapshot();
+
+    private byte[] buf = new byte[4096];
+    private int pos;
+    private int[] match = new int[0];
+
+    private long sequence;
+    private boolean keyframeRequired = true;
+    private int sentGeneration;
+    private int sentSize;
+
+    /**
+     * Creates an encoder writing a keyframe every {@link #DEFAULT_KEYFRAME_INTERVAL} frames.
+     */
+    public SnapshotEncoder() {
+        this(DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates an encoder writing a keyframe at the given interval.
+     *
+     * @param keyframeInterval the number of frames between keyframes, or 0 to write keyframes only when required
+     */
+    public SnapshotEncoder(int keyframeInterval) {
+        if (keyframeInterval < 0) {
+            throw new IllegalArgumentException("Keyframe interval must not be negative: " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Causes the next frame to be a keyframe, as when the connection to the decoder is re-established.
+     */
+    public void reset() {
+        keyframeRequired = true;
+    }
+
+    /**
+     * Encodes a snapshot into the encoder's internal buffer.
+     *
+     * @param snapshot the snapshot, which must be the same instance, or share the same dictionary, as the one passed to
+     *                 the previous call unless {@link #reset()} has been called
+     * @return a buffer holding the frame, valid until the next call to this encoder
+     */
+    public ByteBuffer encode(SystemSnapshot snapshot) {
+        encodeFrame(snapshot);
+        return ByteBuffer.wrap(buf, 0, pos);
+    }
+
+    /**
+     * Encodes a snapshot into the given buffer.
+     *
+     * @param snapshot the snapshot
+     * @param dst      the buffer to write the frame to, at its position
+     * @throws BufferOverflowException if the frame does not fit in the remaining space in the buffer, in which case
+     *                                 nothing is written and the next frame is a keyframe
+     */
+    public void encode(SystemSnapshot snapshot, ByteBuffer dst) {
+        encodeFrame(snapshot);
+        if (dst.remaining() < pos) {
+            keyframeRequired = true;
+            throw new BufferOverflowException();
+        }
+        dst.put(buf, 0, pos);
+    }
+
+    /**
+     * Encodes a snapshot and writes it to the given channel.
+     *
+     * @param snapshot the snapshot
+     * @param channel  the channel, which is written to until the whole frame has been written
+     * @throws IOException if the channel cannot be written, in which case the next frame is a keyframe
+     */
+    public void encode(SystemSnapshot snapshot, WritableByteChannel channel) throws IOException {
+        ByteBuffer frame = encode(snapshot);
+        try {
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+        } catch (IOException e) {
+            keyframeRequired = true;
+            throw e;
+        }
+    }
+
+    private void encodeFrame(SystemSnapshot snapshot) {
+        StringDictionary dictionary = snapshot.getDictionary();
+        boolean keyframe = keyframeRequired || keyframeInterval > 0 && sequence % keyframeInterval == 0
+                || dictionary.getGeneration() != sentGeneration || dictionary.size() < sentSize;
+        if (keyframe) {
+            previous.clear();
+            sentSize = 1;
+            sentGeneration = dictionary.getGeneration();
+            keyframeRequired = false;
+        }
+
+        pos = SnapshotCodec.LENGTH_BYTES;
+        writeInt(SnapshotCodec.MAGIC);
+        writeByte(SnapshotCodec.VERSION);
+        writeByte(keyframe ? SnapshotCodec.FLAG_KEYFRAME : 0);
+        writeVarLong(sequence++);
+
+        // Strings added since the previous frame
+        writeVarLong(sentSize);
+        writeVarLong(dictionary.size() - (long) sentSize);
+        for (int i = sentSize; i < dictionary.size(); i++) {
+            byte[] utf8 = dictionary.get(i).getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, buf, pos, utf8.length);
+            pos += utf8.length;
+        }
+        sentSize = dictionary.size();
+
+        writeDelta(snapshot.timestamp, previous.timestamp);
+        writeVarLong(SystemSnapshot.TICK_TYPES);
+        for (int i = 0; i < SystemSnapshot.TICK_TYPES; i++) {
+            writeDelta(snapshot.systemCpuLoadTicks[i], previous.systemCpuLoadTicks[i]);
+        }
+        writeVarLong(snapshot.processorCount);
+        boolean sameProcessors = snapshot.processorCount == previous.processorCount;
+        for (int i = 0; i < snapshot.processorCount * SystemSnapshot.TICK_TYPES; i++) {
+            writeDelta(snapshot.processorCpuLoadTicks[i], sameProcessors ? previous.processorCpuLoadTicks[i] : 0L);
+        }
+        writeDelta(snapshot.memoryTotal, previous.memoryTotal);
+        writeDelta(snapshot.memoryAvailable, previous.memoryAvailable);
+
+        ColumnarTable[] tables = snapshot.tables();
+        ColumnarTable[] prevTables = previous.tables();
+        for (int t = 0; t < tables.length; t++) {
+            encodeTable(tables[t], prevTables[t]);
+        }
+
+        int length = pos - SnapshotCodec.LENGTH_BYTES;
+        buf[0] = (byte) (length >>> 24);
+        buf[1] = (byte) (length >>> 16);
+        buf[2] = (byte) (length >>> 8);
+        buf[3] = (byte) length;
+
+        previous.copyFrom(snapshot);
+    }
+
+    private void encodeTable(ColumnarTable table, ColumnarTable prev) {
+        int rows = table.size();
+        int[][] ints = table.intColumns();
+        long[][] longs = table.longColumns();
+        int[][] prevInts = prev.intColumns();
+        long[][] prevLongs = prev.longColumns();
+        int key = table.keyColumn();
+
+        writeVarLong(rows);
+        writeVarLong(ints.length);
+        writeVarLong(longs.length);
+
+        // Keys are written first, relative to the preceding row, so the decoder can match rows before the other columns
+        int[] keys = ints[key];
+        long last = 0L;
+        for (int r = 0; r < rows; r++) {
+            writeDelta(keys[r], last);
+            last = keys[r];
+        }
+        match = SnapshotCodec.matchRows(keys, rows, prevInts[key], prev.size(), match);
+
+        for (int c = 0; c < ints.length; c++) {
+            if (c != key) {
+                int[] col = ints[c];
+                int[] prevCol = prevInts[c];
+                for (int r = 0; r < rows; r++) {
+                    writeDelta(col[r], match[r] < 0 ? 0L : prevCol[match[r]]);
+                }
+            }
+        }
+        for (int c = 0; c < longs.length; c++) {
+            long[] col = longs[c];
+            long[] prevCol = prevLongs[c];
+            for (int r = 0; r < rows; r++) {
+                writeDelta(col[r], match[r] < 0 ? 0L : prevCol[match[r]]);
+            }
+        }
+        byte[][] bytes = table.byteColumns();
+        int[][] lengths = table.byteLengthColumns();
+        int stride = table.byteStride();
+        for (int c = 0; c < bytes.length; c++) {
+            for (int r = 0; r < rows; r++) {
+                int len = lengths[c][r];
+                ensureCapacity(len);
+                System.arraycopy(bytes[c], r * stride, buf, pos, len);
+                pos += len;
+            }
+        }
+    }
+
+    private void writeDelta(long value, long prev) {
+        writeVarLong(SnapshotCodec.zigzag(value - prev));
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        long v = value;
+        while ((v & ~0x7FL) != 0L) {
+            buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos++] = (byte) v;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        buf[pos++] = (byte) (value >>> 24);
+        buf[pos++] = (byte) (value >>> 16);
+        buf[pos++] = (byte) (value >>> 8);
+        buf[pos++] = (byte) value;
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buf[pos++] = (byte) value;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (pos + bytes > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + bytes));
+        }
+    }
+}
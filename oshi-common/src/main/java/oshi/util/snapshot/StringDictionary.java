@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A deduplicated table of strings, each identified by the index at which it was first added. Columnar tables store the
+ * index in an {@code int[]} column in place of the string, so a value repeated across many rows, such as a user name or
+ * a file system type, is held once.
+ * <p>
+ * Index {@code 0} is always the empty string, which is also used for {@code null}.
+ */
+@NotThreadSafe
+public final class StringDictionary {
+
+    private final Map<String, Integer> indices = new HashMap<>();
+    private String[] strings = new String[64];
+    private int size;
+    private int generation = -1;
+
+    /**
+     * Creates an empty dictionary.
+     */
+    public StringDictionary() {
+        clear();
+    }
+
+    /**
+     * Gets the index of the given string, adding it if it is not already present.
+     *
+     * @param s the string, or {@code null}, which is treated as the empty string
+     * @return the index of the string
+     */
+    public int intern(@Nullable String s) {
+        if (s == null || s.isEmpty()) {
+            return 0;
+        }
+        Integer index = indices.get(s);
+        if (index != null) {
+            return index;
+        }
+        if (size == strings.length) {
+            strings = Arrays.copyOf(strings, size * 2);
+        }
+        strings[size] = s;
+        indices.put(s, size);
+        return size++;
+    }
+
+    /**
+     * Gets the string at the given index.
+     *
+     * @param index an index previously returned by {@link #intern(String)}
+     * @return the string
+     * @throws IndexOutOfBoundsException if the index has not been assigned
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for dictionary of size " + size);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Gets the number of strings in the dictionary, including the empty string at index {@code 0}. Indices are assigned
+     * in increasing order, so strings added since an earlier call are those from its result up to this one.
+     *
+     * @return the number of strings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all strings but the empty string. Any index previously returned is no longer valid.
+     */
+    public void clear() {
+        indices.clear();
+        Arrays.fill(strings, 1, Math.max(1, size), null);
+        strings[0] = "";
+        indices.put("", 0);
+        size = 1;
+        generation++;
+    }
+
+    /**
+     * Gets the number of times the dictionary has been cleared since it was created. Together with {@link #size()} this
+     * identifies the strings a reader of the dictionary has already seen.
+     *
+     * @return the generation
+     */
+    int getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import java.util.Arrays;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.CentralProcessor.TickType;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.software.common.os.linux.LinuxOperatingSystem;
+import oshi.software.os.OperatingSystem;
+import oshi.util.driver.linux.proc.ProcessStatTable;
+
+/**
+ * A point-in-time capture of the system-wide counters and the process, network interface, disk, file store and
+ * connection tables, intended for exporters which serialize or aggregate every object on each collection.
+ * <p>
+ * The tables share one {@link StringDictionary}, so a string such as a user name or file system type is stored once
+ * however many rows refer to it. An instance is meant to be reused:
+ * {@link #update(HardwareAbstractionLayer, OperatingSystem)} repopulates the existing column arrays and retains the
+ * dictionary, so a steady-state collection allocates little beyond what the OSHI getters themselves return. The
+ * dictionary is reset once it holds more than {@link #MAX_RETAINED_STRINGS} entries, bounding the growth caused by
+ * short-lived processes with unique names.
+ * <p>
+ * On Linux the process table, usually by far the largest, is filled from {@code /proc/[pid]/stat} directly rather than
+ * from {@link OperatingSystem#getProcesses()}, so no {@code OSProcess} is created. Its path, user and group columns are
+ * then empty, as those are not in {@code stat}.
+ */
+@NotThreadSafe
+public final class SystemSnapshot {
+
+    /** The dictionary size above which it is cleared at the next update rather than retained. */
+    static final int MAX_RETAINED_STRINGS = 1 << 16;
+
+    static final int TICK_TYPES = TickType.values().length;
+
+    private final StringDictionary dictionary = new StringDictionary();
+    private final ProcessTable processes = new ProcessTable(dictionary);
+    private final NetworkIFTable networkIFs = new NetworkIFTable(dictionary);
+    private final DiskStoreTable diskStores = new DiskStoreTable(dictionary);
+    private final FileStoreTable fileStores = new FileStoreTable(dictionary);
+    private final ConnectionTable connections = new ConnectionTable(dictionary);
+
+    long timestamp;
+    long[] systemCpuLoadTicks = new long[TICK_TYPES];
+    int processorCount;
+    long[] processorCpuLoadTicks = new long[0];
+    long memoryTotal;
+    long memoryAvailable;
+
+    /**
+     * Repopulates this snapshot from the given system.
+     *
+     * @param hal the hardware to read
+     * @param os  the operating system to read
+     */
+    public void update(HardwareAbstractionLayer hal, OperatingSystem os) {
+        clear();
+        timestamp = System.currentTimeMillis();
+
+        CentralProcessor cpu = hal.getProcessor();
+        long[] ticks = cpu.getSystemCpuLoadTicks();
+        System.arraycopy(ticks, 0, systemCpuLoadTicks, 0, Math.min(ticks.length, TICK_TYPES));
+        long[][] perProcessor = cpu.getProcessorCpuLoadTicks();
+        setProcessorCount(perProcessor.length);
+        for (int i = 0; i < processorCount; i++) {
+            System.arraycopy(perProcessor[i], 0, processorCpuLoadTicks, i * TICK_TYPES,
+                    Math.min(perProcessor[i].length, TICK_TYPES));
+        }
+
+        GlobalMemory memory = hal.getMemory();
+        memoryTotal = memory.getTotal();
+        memoryAvailable = memory.getAvailable();
+
+        if (os instanceof LinuxOperatingSystem) {
+            // Reads stat, io and comm per process rather than the ten or so files read to build an OSProcess
+            LinuxOperatingSystem linux = (LinuxOperatingSystem) os;
+            processes.addAll(ProcessStatTable.query(linux.queryProcessIds(), true, null), linux.getHz(),
+                    linux.getPageSize(), LinuxOperatingSystem.getBootTime());
+        } else {
+            processes.addAll(os.getProcesses());
+        }
+        networkIFs.addAll(hal.getNetworkIFs());
+        diskStores.addAll(hal.getDiskStores());
+        fileStores.addAll(os.getFileSystem().getFileStores());
+        connections.addAll(os.getInternetProtocolStats().getConnections());
+    }
+
+    /**
+     * Removes all rows from the tables and zeroes the counters, retaining the column arrays. The dictionary is also
+     * cleared if it has grown beyond {@link #MAX_RETAINED_STRINGS} entries.
+     */
+    public void clear() {
+        processes.clear();
+        networkIFs.clear();
+        diskStores.clear();
+        fileStores.clear();
+        connections.clear();
+        if (dictionary.size() > MAX_RETAINED_STRINGS) {
+            dictionary.clear();
+        }
+        timestamp = 0L;
+        Arrays.fill(systemCpuLoadTicks, 0L);
+        processorCount = 0;
+        memoryTotal = 0L;
+        memoryAvailable = 0L;
+    }
+
+    /**
+     * Replaces the contents of this snapshot with a copy of another's, except for the dictionary, whose indices the
+     * copied string columns continue to refer to.
+     *
+     * @param other the snapshot to copy
+     */
+    void copyFrom(SystemSnapshot other) {
+        timestamp = other.timestamp;
+        System.arraycopy(other.systemCpuLoadTicks, 0, systemCpuLoadTicks, 0, TICK_TYPES);
+        setProcessorCount(other.processorCount);
+        System.arraycopy(other.processorCpuLoadTicks, 0, processorCpuLoadTicks, 0, processorCount * TICK_TYPES);
+        memoryTotal = other.memoryTotal;
+        memoryAvailable = other.memoryAvailable;
+        processes.copyFrom(other.processes);
+        networkIFs.copyFrom(other.networkIFs);
+        diskStores.copyFrom(other.diskStores);
+        fileStores.copyFrom(other.fileStores);
+        connections.copyFrom(other.connections);
+    }
+
+    /**
+     * Sets the number of logical processors, growing the per-processor tick array if needed.
+     *
+     * @param count the processor count
+     */
+    void setProcessorCount(int count) {
+        processorCount = count;
+        if (processorCpuLoadTicks.length < count * TICK_TYPES) {
+            processorCpuLoadTicks = new long[count * TICK_TYPES];
+        }
+    }
+
+    /**
+     * Gets the tables in the fixed order used by the {@link SnapshotEncoder} wire format.
+     *
+     * @return the tables
+     */
+    ColumnarTable[] tables() {
+        return new ColumnarTable[] { processes, networkIFs, diskStores, fileStores, connections };
+    }
+
+    /**
+     * Gets the time this snapshot was last updated.
+     *
+     * @return milliseconds since the epoch, or 0 if never updated
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the system CPU ticks captured by the last update.
+     *
+     * @return a copy of the ticks, indexed by {@link TickType#getIndex()}
+     */
+    public long[] getSystemCpuLoadTicks() {
+        return Arrays.copyOf(systemCpuLoadTicks, TICK_TYPES);
+    }
+
+    /**
+     * Gets the number of logical processors whose ticks were captured by the last update.
+     *
+     * @return the processor count
+     */
+    public int getProcessorCount() {
+        return processorCount;
+    }
+
+    /**
+     * Gets one tick counter of one logical processor without copying the tick arrays.
+     *
+     * @param processor the logical processor index
+     * @param tickType  the tick type
+     * @return the tick count
+     */
+    public long getProcessorCpuLoadTicks(int processor, TickType tickType) {
+        if (processor < 0 || processor >= processorCount) {
+            throw new IndexOutOfBoundsException(
+                    "Processor " + processor + " out of bounds for " + processorCount + " processors");
+        }
+        return processorCpuLoadTicks[processor * TICK_TYPES + tickType.getIndex()];
+    }
+
+    /**
+     * Gets the total physical memory captured by the last update.
+     *
+     * @return total memory in bytes
+     */
+    public long getMemoryTotal() {
+        return memoryTotal;
+    }
+
+    /**
+     * Gets the available physical memory captured by the last update.
+     *
+     * @return available memory in bytes
+     */
+    public long getMemoryAvailable() {
+        return memoryAvailable;
+    }
+
+    /**
+     * Gets the dictionary shared by all the tables.
+     *
+     * @return the dictionary
+     */
+    public StringDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets the process table.
+     *
+     * @return the processes
+     */
+    public ProcessTable getProcesses() {
+        return processes;
+    }
+
+    /**
+     * Gets the network interface table.
+     *
+     * @return the network interfaces
+     */
+    public NetworkIFTable getNetworkIFs() {
+        return networkIFs;
+    }
+
+    /**
+     * Gets the disk store table.
+     *
+     * @return the disk stores
+     */
+    public DiskStoreTable getDiskStores() {
+        return diskStores;
+    }
+
+    /**
+     * Gets the file store table.
+     *
+     * @return the file stores
+     */
+    public FileStoreTable getFileStores() {
+        return fileStores;
+    }
+
+    /**
+     * Gets the connection table.
+     *
+     * @return the connections
+     */
+    public ConnectionTable getConnections() {
+        return connections;
+    }
+}
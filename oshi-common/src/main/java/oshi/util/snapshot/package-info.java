@@ -0,0 +1,18 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+/**
+ * Provides an optional columnar, primitive-backed representation of OSHI query results for bulk export. Each table
+ * holds one primitive array per numeric attribute and stores strings as indices into a shared, deduplicated
+ * {@link oshi.util.snapshot.StringDictionary}, so that a snapshot of thousands of processes is a handful of arrays
+ * rather than thousands of small objects, and the arrays are reused from one capture to the next.
+ * <p>
+ * Rows are exposed through views implementing the existing OSHI interfaces, which read the columns in place rather than
+ * copying them. A {@link oshi.util.snapshot.SystemSnapshot} can be shipped off-host as compact binary frames with
+ * {@link oshi.util.snapshot.SnapshotEncoder} and {@link oshi.util.snapshot.SnapshotDecoder}.
+ */
+@NullMarked
+package oshi.util.snapshot;
+
+import org.jspecify.annotations.NullMarked;
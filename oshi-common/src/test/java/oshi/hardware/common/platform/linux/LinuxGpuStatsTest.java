@@ -5,6 +5,7 @@
 package oshi.hardware.common.platform.linux;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -14,11 +15,16 @@ import static oshi.util.TestFileUtil.writeFile;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import oshi.hardware.GpuProcessUsage;
+import oshi.util.driver.linux.proc.DrmFdInfo;
+
 /**
  * Tests {@link LinuxGpuStats} sysfs parsing logic using temp directory fixtures. A concrete subclass stubs all NVML
  * methods to unavailable, isolating the sysfs code paths.
@@ -35,6 +41,10 @@ class LinuxGpuStatsTest {
             super(drmDevicePath, driverName, pciBusId, cardName);
         }
 
+        StubLinuxGpuStats(String driverName, String pciBusId, DrmFdInfo fdInfo) {
+            super("", driverName, pciBusId, "", fdInfo);
+        }
+
         /**
          * Returns the number of times nvmlFindDevice was called.
          *
@@ -787,4 +797,63 @@ class LinuxGpuStatsTest {
         assertThat(stats.getCardName(), is("RX 7900"));
         stats.close();
     }
+
+    // -------------------------------------------------------------------------
+    // Process usage
+    // -------------------------------------------------------------------------
+
+    @Test
+    void testProcessUsage(@TempDir Path proc) throws IOException {
+        writeFdInfo(proc, 300, 4, drmClient(1, "0000:03:00.0", 1_000L, 4096));
+        writeFdInfo(proc, 300, 5, drmClient(2, "0000:03:00.0", 2_000L, 1024));
+        // Another card
+        writeFdInfo(proc, 400, 4, drmClient(3, "0000:0a:00.0", 5_000L, 1024));
+
+        StubLinuxGpuStats stats = new StubLinuxGpuStats("amdgpu", "0000:03:00.0", new DrmFdInfo(proc.toString()));
+        List<GpuProcessUsage> usage = stats.getProcessUsage();
+        assertThat(usage.size(), is(1));
+        GpuProcessUsage process = usage.get(0);
+        assertThat(process.getProcessId(), is(300));
+        assertThat(process.getClientCount(), is(2));
+        assertThat(process.getEngineTime().get("gfx"), is(3_000L));
+        assertThat(process.getMemory().get("vram"), is(5L << 20));
+        // The first sample is the baseline
+        assertThat(process.getEngineUtilization(), is(anEmptyMap()));
+
+        // Far more busy time than can have elapsed saturates the engine; an unchanged one is idle
+        writeFdInfo(proc, 300, 4, drmClient(1, "0000:03:00.0", 1_000_000_000_000L, 4096));
+        process = stats.getProcessUsage().get(0);
+        assertThat(process.getEngineUtilization().get("gfx"), closeTo(100.0, EPS));
+        assertThat(process.getEngineUtilization().get("compute"), closeTo(0.0, EPS));
+
+        stats.close();
+        assertThrows(IllegalStateException.class, stats::getProcessUsage);
+    }
+
+    @Test
+    void testProcessUsageMatchedByDriverWithoutPciAddress(@TempDir Path proc) throws IOException {
+        writeFdInfo(proc, 500, 3, "drm-driver:\tv3d\ndrm-client-id:\t8\ndrm-engine-render:\t100 ns\n");
+        writeFdInfo(proc, 501, 3, "drm-driver:\tvc4\ndrm-client-id:\t9\n");
+
+        StubLinuxGpuStats stats = new StubLinuxGpuStats("v3d", "", new DrmFdInfo(proc.toString()));
+        List<GpuProcessUsage> usage = stats.getProcessUsage();
+        assertThat(usage.size(), is(1));
+        assertThat(usage.get(0).getProcessId(), is(500));
+        stats.close();
+    }
+
+    private static String drmClient(int clientId, String pdev, long gfxNanos, int vramKib) {
+        return "pos:\t0\nflags:\t02100002\ndrm-driver:\tamdgpu\ndrm-client-id:\t" + clientId + "\ndrm-pdev:\t" + pdev
+                + "\ndrm-memory-vram:\t" + vramKib + " KiB\ndrm-engine-gfx:\t" + gfxNanos
+                + " ns\ndrm-engine-compute:\t0 ns\n";
+    }
+
+    private static void writeFdInfo(Path proc, int pid, int fd, String content) throws IOException {
+        Path fdinfo = Files.createDirectories(proc.resolve(pid + "/fdinfo"));
+        writeFile(fdinfo.resolve(Integer.toString(fd)), content);
+        Path link = Files.createDirectories(proc.resolve(pid + "/fd")).resolve(Integer.toString(fd));
+        if (!Files.isSymbolicLink(link)) {
+            Files.createSymbolicLink(link, Paths.get("/dev/dri/renderD128"));
+        }
+    }
 }
@@ -479,4 +479,75 @@ class LinuxGraphicsCardTest {
         assertThat(LinuxGraphicsCard.getGraphicsCardsFromLshw(Collections.emptyList(), STUB_FACTORY, NO_DRM),
                 is(empty()));
     }
+
+    // -------------------------------------------------------------------------
+    // getGraphicsCardsFromSysfs
+    // -------------------------------------------------------------------------
+
+    // A 64-bit prefetchable BAR takes two lines, the second empty; the 7th line is the expansion ROM
+    private static final String NVIDIA_RESOURCE = "0x00000000fb000000 0x00000000fbffffff 0x0000000000040200\n"
+            + "0x000000f800000000 0x000000ffffffffff 0x000000000014220c\n"
+            + "0x0000000000000000 0x0000000000000000 0x0000000000000000\n"
+            + "0x000000fa00000000 0x000000fa01ffffff 0x000000000014220c\n"
+            + "0x0000000000000000 0x0000000000000000 0x0000000000000000\n"
+            + "0x000000000000e000 0x000000000000e07f 0x0000000000040101\n"
+            + "0x00000000fc000000 0x00000000fc07ffff 0x000000000004e200\n";
+
+    private static void writePciDevice(Path pci, String slot, String pciClass, String vendor, String device,
+            String revision, String resource) throws IOException {
+        Path dir = Files.createDirectories(pci.resolve(slot));
+        writeFile(dir.resolve("class"), pciClass + "\n");
+        writeFile(dir.resolve("vendor"), vendor + "\n");
+        writeFile(dir.resolve("device"), device + "\n");
+        writeFile(dir.resolve("revision"), revision + "\n");
+        writeFile(dir.resolve("resource"), resource);
+    }
+
+    @Test
+    void testGetGraphicsCardsFromSysfs(@TempDir Path pci) throws IOException {
+        writePciDevice(pci, "0000:01:00.0", "0x030000", "0x10de", "0x2204", "0xa1", NVIDIA_RESOURCE);
+        writePciDevice(pci, "0000:00:02.0", "0x030000", "0x8086", "0x3e92", "0x00",
+                "0x00000000db000000 0x00000000dbffffff 0x0000000000040200\n"
+                        + "0x00000000a0000000 0x00000000afffffff 0x000000000014220c\n");
+        // Not a display controller: a Non-VGA unclassified device, and an audio function of the same card
+        writePciDevice(pci, "0000:00:00.0", "0x000000", "0x8086", "0x1234", "0x00", "");
+        writePciDevice(pci, "0000:01:00.1", "0x040300", "0x10de", "0x1aef", "0xa1", "");
+        List<@Nullable String> slots = new ArrayList<>();
+
+        List<GraphicsCard> cards = LinuxGraphicsCard.getGraphicsCardsFromSysfs(pci.toString(), STUB_FACTORY,
+                vendorId -> vendorId == 0x10de ? "NVIDIA Corporation" : null,
+                (vendorId, deviceId) -> deviceId == 0x2204 ? "GA102 [GeForce RTX 3090]" : null, slot -> {
+                    slots.add(slot);
+                    return noDrm(slot);
+                });
+        assertThat(cards.size(), is(2));
+        assertThat(slots, is(Arrays.asList("0000:00:02.0", "0000:01:00.0")));
+
+        GraphicsCard intel = cards.get(0);
+        assertThat(intel.getName(), is(Constants.UNKNOWN));
+        assertThat(intel.getDeviceId(), is("0x3e92"));
+        assertThat(intel.getVendor(), is("0x8086"));
+        assertThat(intel.getVersionInfo(), is("Rev:\t00"));
+        assertThat(intel.getVRam(), is(256L << 20));
+
+        GraphicsCard nvidia = cards.get(1);
+        assertThat(nvidia.getName(), is("GA102 [GeForce RTX 3090]"));
+        assertThat(nvidia.getDeviceId(), is("0x2204"));
+        assertThat(nvidia.getVendor(), is("NVIDIA Corporation (0x10de)"));
+        assertThat(nvidia.getVersionInfo(), is("Rev:\ta1"));
+        // 32 GiB and 32 MiB prefetchable; not the 16 MiB non-prefetchable BAR, I/O ports or expansion ROM
+        assertThat(nvidia.getVRam(), is((32L << 30) + (32L << 20)));
+    }
+
+    @Test
+    void testGetGraphicsCardsFromSysfsMissingDirectory(@TempDir Path tempDir) {
+        assertThat(LinuxGraphicsCard.getGraphicsCardsFromSysfs(tempDir.resolve("absent").toString(), STUB_FACTORY,
+                vendorId -> null, (vendorId, deviceId) -> null, NO_DRM), is(empty()));
+    }
+
+    @Test
+    void testQueryResourceMemorySize() {
+        assertThat(LinuxGraphicsCard.queryResourceMemorySize(Collections.emptyList()), is(0L));
+        assertThat(LinuxGraphicsCard.queryResourceMemorySize(Arrays.asList("malformed", "0x0 0x0 0x0")), is(0L));
+    }
 }
@@ -9,12 +9,15 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static oshi.util.TestFileUtil.writeFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,6 +33,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import oshi.hardware.LogicalVolumeGroup;
 import oshi.hardware.common.platform.linux.LinuxLogicalVolumeGroup.UdevBlockDevice;
+import oshi.util.GlobalConfig;
 import oshi.util.linux.DevPath;
 
 // parsePhysicalVolumes dereferences DevPath.DEV, whose static initializer validates that the configured /dev path
@@ -157,4 +161,116 @@ class LinuxLogicalVolumeGroupTest {
     void testNoDevicesYieldsNoGroups() {
         assertThat(build(Collections.emptyList()), is(empty()));
     }
+
+    @Test
+    void testStackedVolumesResolveToPhysicalVolumes(@TempDir Path tmp) throws IOException {
+        // A thin volume dm-2 sits on the pool dm-1, whose data volume dm-0 spans the disks
+        List<UdevBlockDevice> devices = Arrays.asList(
+                stackedDevice(syspathWithSlaves(tmp, "dm-0", "sda2", "sdb1"), "vg0", "pool_tdata"),
+                stackedDevice(syspathWithSlaves(tmp, "dm-1", "dm-0"), "vg0", "pool"),
+                stackedDevice(syspathWithSlaves(tmp, "dm-2", "dm-1"), "vg0", "thin"),
+                // A volume of another group on an encrypted volume of this one is not followed
+                stackedDevice(syspathWithSlaves(tmp, "dm-3", "dm-2"), "vg1", "inner"));
+        Map<String, LogicalVolumeGroup> lvgs = byName(build(devices));
+
+        assertThat(lvgs.keySet(), containsInAnyOrder("vg0", "vg1"));
+        assertThat(lvgs.get("vg0").getLogicalVolumes().get("thin"), containsInAnyOrder("/dev/sda2", "/dev/sdb1"));
+        assertThat(lvgs.get("vg0").getPhysicalVolumes(), containsInAnyOrder("/dev/sda2", "/dev/sdb1"));
+        assertThat(lvgs.get("vg1").getPhysicalVolumes(), contains("/dev/dm-2"));
+    }
+
+    @Test
+    void testSplitDeviceMapperName() {
+        assertThat(LinuxLogicalVolumeGroup.splitDeviceMapperName("vg0-root"), is(new String[] { "vg0", "root" }));
+        assertThat(LinuxLogicalVolumeGroup.splitDeviceMapperName("my--vg-my--lv"),
+                is(new String[] { "my-vg", "my-lv" }));
+        assertThat(LinuxLogicalVolumeGroup.splitDeviceMapperName("vg0-pool-tpool"), is(new String[] { "vg0", "pool" }));
+        assertThat(LinuxLogicalVolumeGroup.splitDeviceMapperName("luks"), is(new String[] { "", "" }));
+    }
+
+    @Test
+    void testQuerySysfsBlockDevices(@TempDir Path tmp) throws IOException {
+        Path block = Files.createDirectories(tmp.resolve("block"));
+        Path udev = Files.createDirectories(tmp.resolve("udev"));
+        // Named by udev
+        sysfsDevice(block, "dm-0", "253:0", "LVM-abc", "vg0-root", "sda2");
+        writeFile(udev.resolve("b253:0"), "S:mapper/vg0-root\nE:DM_VG_NAME=data\nE:DM_LV_NAME=home\nG:systemd\n");
+        // Named from dm/name, as in a container without the udev database
+        sysfsDevice(block, "dm-1", "253:1", "LVM-def", "my--vg-my--lv", "sdb1");
+        // Not LVM's
+        sysfsDevice(block, "dm-2", "253:2", "CRYPT-LUKS2-abc", "luks", "sdc1");
+        Files.createDirectories(block.resolve("sda"));
+
+        List<UdevBlockDevice> devices = LinuxLogicalVolumeGroup.querySysfsBlockDevices(block.toString(),
+                udev.resolve("b").toString());
+        Map<String, LogicalVolumeGroup> lvgs = byName(build(devices));
+        assertThat(lvgs.keySet(), containsInAnyOrder("data", "my-vg"));
+        assertThat(lvgs.get("data").getLogicalVolumes().get("home"), contains("/dev/sda2"));
+        assertThat(lvgs.get("my-vg").getLogicalVolumes().get("my-lv"), contains("/dev/sdb1"));
+
+        assertThat(LinuxLogicalVolumeGroup.querySysfsBlockDevices(tmp.resolve("absent").toString(), ""), is(empty()));
+    }
+
+    @Test
+    void testQueryIsCachedUntilUevent(@TempDir Path tmp) throws IOException {
+        Path block = Files.createDirectories(tmp.resolve("block"));
+        Path seqnum = tmp.resolve("uevent_seqnum");
+        String udev = tmp.resolve("udev/b").toString();
+        writeFile(seqnum, "1001\n");
+        sysfsDevice(block, "dm-0", "253:0", "LVM-abc", "vg0-root", "sda2");
+        List<LogicalVolumeGroup> lvgs = query(seqnum, block, udev);
+        assertThat(lvgs, hasSize(1));
+
+        // Without a uevent the devices are not scanned again
+        sysfsDevice(block, "dm-1", "253:1", "LVM-def", "vg1-swap", "sdb1");
+        lvgs = query(seqnum, block, udev);
+        assertThat(lvgs, hasSize(1));
+        assertThat(lvgs.get(0).getName(), is("vg0"));
+        assertThat(lvgs.get(0).getLogicalVolumes().keySet(), contains("root"));
+
+        writeFile(seqnum, "1002\n");
+        assertThat(byName(query(seqnum, block, udev)).keySet(), containsInAnyOrder("vg0", "vg1"));
+
+        // Changing whether pvs is run scans again without a uevent
+        sysfsDevice(block, "dm-3", "253:3", "LVM-jkl", "vg3-opt", "sdd1");
+        GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_LVM_PVS, true);
+        try {
+            assertThat(byName(query(seqnum, block, udev)), hasKey("vg3"));
+        } finally {
+            GlobalConfig.remove(GlobalConfig.OSHI_OS_LINUX_LVM_PVS);
+        }
+
+        // Scanned every time if the sequence number cannot be read
+        Files.delete(seqnum);
+        sysfsDevice(block, "dm-2", "253:2", "LVM-ghi", "vg2-tmp", "sdc1");
+        assertThat(byName(query(seqnum, block, udev)).keySet(), containsInAnyOrder("vg0", "vg1", "vg2", "vg3"));
+    }
+
+    private static List<LogicalVolumeGroup> query(Path seqnum, Path block, String udev) {
+        return LinuxLogicalVolumeGroup.queryLogicalVolumeGroups(TestLvg::new, seqnum.toString(), block.toString(),
+                udev);
+    }
+
+    private static UdevBlockDevice stackedDevice(String syspath, String vgName, String lvName) {
+        return new UdevBlockDevice(syspath, DevPath.DEV + Paths.get(syspath).getFileName(), "LVM-" + lvName, vgName,
+                lvName);
+    }
+
+    // Creates a sysfs block device directory with its dm attributes and slaves
+    private static void sysfsDevice(Path block, String name, String dev, String uuid, String dmName, String... slaves)
+            throws IOException {
+        Path dir = Paths.get(syspathWithSlaves(block, name, slaves));
+        Files.createDirectories(dir.resolve("dm"));
+        writeFile(dir.resolve("dev"), dev + "\n");
+        writeFile(dir.resolve("dm/uuid"), uuid + "\n");
+        writeFile(dir.resolve("dm/name"), dmName + "\n");
+    }
+
+    private static Map<String, LogicalVolumeGroup> byName(List<LogicalVolumeGroup> lvgs) {
+        Map<String, LogicalVolumeGroup> map = new HashMap<>();
+        for (LogicalVolumeGroup lvg : lvgs) {
+            map.put(lvg.getName(), lvg);
+        }
+        return map;
+    }
 }
@@ -6,16 +6,21 @@ package oshi.hardware.common.platform.linux;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static oshi.util.TestFileUtil.writeFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import oshi.hardware.SensorReading;
+
 class LinuxSensorsTest {
 
     private static final double EPS = 1e-6;
@@ -164,6 +169,95 @@ class LinuxSensorsTest {
         assertThat(sensors.queryCpuVoltage(), closeTo(1.2, EPS));
     }
 
+    @Test
+    void testSensorReadings(@TempDir Path tempDir) throws IOException {
+        Path hwmon0 = createHwmonDir(tempDir, 0, "nct6775");
+        writeFile(hwmon0.resolve("temp2_input"), "41000");
+        writeFile(hwmon0.resolve("temp1_input"), "38500");
+        writeFile(hwmon0.resolve("temp1_label"), "SYSTIN");
+        writeFile(hwmon0.resolve("temp1_max"), "80000");
+        writeFile(hwmon0.resolve("fan1_input"), "1500");
+        writeFile(hwmon0.resolve("in0_input"), "1104");
+        Path hwmon1 = createHwmonDir(tempDir, 1, "amdgpu");
+        // A power average is reported only if there is no power input
+        writeFile(hwmon1.resolve("power1_average"), "35000000");
+        writeFile(hwmon1.resolve("power2_average"), "1000000");
+        writeFile(hwmon1.resolve("power2_input"), "2500000");
+        Path zone0 = tempDir.resolve("thermal_zone0");
+        Files.createDirectories(zone0);
+        writeFile(zone0.resolve("type"), "acpitz");
+        writeFile(zone0.resolve("temp"), "27800");
+
+        LinuxSensors sensors = new LinuxSensors(tempDir.resolve("hwmon").toString(),
+                tempDir.resolve("thermal_zone").toString(), false);
+        List<SensorReading> readings = sensors.querySensorReadings();
+        assertThat(readings.size(), is(7));
+        assertReading(readings.get(0), "nct6775", "SYSTIN", SensorReading.Type.TEMPERATURE, 38.5);
+        assertReading(readings.get(1), "nct6775", "temp2", SensorReading.Type.TEMPERATURE, 41.0);
+        assertReading(readings.get(2), "nct6775", "fan1", SensorReading.Type.FAN, 1500);
+        assertReading(readings.get(3), "nct6775", "in0", SensorReading.Type.VOLTAGE, 1.104);
+        assertReading(readings.get(4), "amdgpu", "power1", SensorReading.Type.POWER, 35.0);
+        assertReading(readings.get(5), "amdgpu", "power2", SensorReading.Type.POWER, 2.5);
+        assertReading(readings.get(6), "thermal_zone0", "acpitz", SensorReading.Type.TEMPERATURE, 27.8);
+    }
+
+    @Test
+    void testSensorValuesRefreshed(@TempDir Path tempDir) throws IOException {
+        Path hwmon0 = createHwmonDir(tempDir, 0, "coretemp");
+        writeFile(hwmon0.resolve("temp1_input"), "50000");
+        writeFile(hwmon0.resolve("fan1_input"), "900");
+
+        LinuxSensors sensors = new LinuxSensors(tempDir.resolve("hwmon").toString(),
+                tempDir.resolve("thermal_zone").toString(), false);
+        assertThat(sensors.queryCpuTemperature(), closeTo(50.0, EPS));
+
+        writeFile(hwmon0.resolve("temp1_input"), "61000");
+        writeFile(hwmon0.resolve("fan1_input"), "1300");
+        assertThat(sensors.queryCpuTemperature(), closeTo(61.0, EPS));
+        assertThat(sensors.queryFanSpeeds()[0], is(1300));
+        assertThat(sensors.querySensorReadings().get(0).getValue(), closeTo(61.0, EPS));
+    }
+
+    @Test
+    void testHwmonDeviceAdded(@TempDir Path tempDir) throws IOException {
+        // Both names are in the shipped priority list, which GlobalConfig reads when the class is loaded
+        Path hwmon0 = createHwmonDir(tempDir, 0, "k10temp");
+        writeFile(hwmon0.resolve("temp1_input"), "45000");
+
+        LinuxSensors sensors = new LinuxSensors(tempDir.resolve("hwmon").toString(),
+                tempDir.resolve("thermal_zone").toString(), false);
+        assertThat(sensors.queryCpuTemperature(), closeTo(45.0, EPS));
+        assertThat(sensors.queryFanSpeeds().length, is(0));
+        assertThat(sensors.querySensorReadings().size(), is(1));
+
+        // A higher priority device and a fan device appear, e.g. after a module is loaded
+        Path hwmon2 = createHwmonDir(tempDir, 2, "coretemp");
+        writeFile(hwmon2.resolve("temp1_input"), "58000");
+        Path hwmon3 = createHwmonDir(tempDir, 3, "nct6775");
+        writeFile(hwmon3.resolve("fan1_input"), "1100");
+        assertThat(sensors.queryCpuTemperature(), closeTo(58.0, EPS));
+        assertThat(sensors.queryFanSpeeds().length, is(1));
+        assertThat(sensors.querySensorReadings().size(), is(3));
+    }
+
+    @Test
+    void testGetIndices(@TempDir Path tempDir) throws IOException {
+        createHwmonDir(tempDir, 10, "a");
+        createHwmonDir(tempDir, 2, "b");
+        createHwmonDir(tempDir, 0, "c");
+        Files.createDirectories(tempDir.resolve("hwmonX"));
+        assertThat(LinuxSensors.getIndices(tempDir.resolve("hwmon").toString()), contains(0, 2, 10));
+        assertThat(LinuxSensors.getIndices(tempDir.resolve("none/hwmon").toString()), is(empty()));
+    }
+
+    private static void assertReading(SensorReading reading, String chip, String label, SensorReading.Type type,
+            double value) {
+        assertThat(reading.getChip(), is(chip));
+        assertThat(reading.getLabel(), is(label));
+        assertThat(reading.getType(), is(type));
+        assertThat(reading.getValue(), closeTo(value, EPS));
+    }
+
     /**
      * Creates an hwmon directory with a name file.
      *
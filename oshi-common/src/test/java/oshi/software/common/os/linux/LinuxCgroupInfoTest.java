@@ -6,6 +6,7 @@ package oshi.software.common.os.linux;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static oshi.software.os.CgroupInfo.DEFAULT_CPU_PERIOD;
 import static oshi.software.os.CgroupInfo.UNLIMITED;
@@ -23,6 +24,8 @@ import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
 import oshi.software.os.CgroupInfo;
+import oshi.util.driver.linux.proc.PressureStall.Pressure;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
 
 class LinuxCgroupInfoTest {
 
@@ -206,6 +209,20 @@ class LinuxCgroupInfoTest {
         assertTrue(info.getMemoryUsage() >= 0, "Memory usage should be non-negative");
     }
 
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void linuxCgroupInfoPressureOnlyOnV2() {
+        LinuxCgroupInfo info = new LinuxCgroupInfo();
+        for (Resource resource : Resource.values()) {
+            Pressure pressure = info.getPressure(resource);
+            if (info.getVersion() != 2) {
+                assertNull(pressure, "Pressure should be null outside cgroup v2");
+            } else if (pressure != null) {
+                assertTrue(pressure.getSome().getTotal() >= 0, "Stall total should be non-negative");
+            }
+        }
+    }
+
     @Test
     @EnabledOnOs(OS.LINUX)
     void linuxCgroupInfoPidCurrentNonNegative() {
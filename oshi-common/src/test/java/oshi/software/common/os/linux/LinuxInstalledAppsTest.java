@@ -9,6 +9,10 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +20,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 import oshi.software.os.ApplicationInfo;
 
@@ -100,4 +105,68 @@ class LinuxInstalledAppsTest {
         assertThat(result, hasSize(1));
         assertThat(result.get(0).getName(), is("firefox"));
     }
+
+    @Test
+    void testParseDpkgStatus(@TempDir Path dir) throws IOException {
+        Path status = dir.resolve("status");
+        Files.writeString(status,
+                String.join("\n", "Package: libc6", "Status: install ok installed", "Priority: optional",
+                        "Installed-Size: 13000", "Maintainer: GNU Libc Maintainers", "Architecture: amd64",
+                        "Multi-Arch: same", "Source: glibc", "Version: 2.36-9", "Description: C library",
+                        " Contains the standard libraries.", " .", " More text.",
+                        "Homepage: https://www.gnu.org/software/libc/", "", "Package: removed",
+                        "Status: deinstall ok not-installed", "Architecture: all", "", "Package: vim",
+                        "Status: install ok installed", "Installed-Size: 3500", "Maintainer: Vim Maintainers",
+                        "Architecture: amd64", "Version: 9.0", ""));
+        Path info = Files.createDirectory(dir.resolve("info"));
+        Files.setLastModifiedTime(Files.createFile(info.resolve("libc6:amd64.list")),
+                FileTime.fromMillis(1_700_000_000_000L));
+        Files.setLastModifiedTime(Files.createFile(info.resolve("vim.list")), FileTime.fromMillis(1_690_000_000_000L));
+
+        List<ApplicationInfo> result = LinuxInstalledApps.parseDpkgStatus(status.toString(), info + "/");
+
+        assertThat(result, hasSize(2));
+        ApplicationInfo libc = result.get(0);
+        assertThat(libc.getName(), is("libc6"));
+        assertThat(libc.getVersion(), is("2.36-9"));
+        assertThat(libc.getVendor(), is("GNU Libc Maintainers"));
+        assertThat(libc.getTimestamp(), is(1_700_000_000L));
+        assertThat(libc.getAdditionalInfo().get("architecture"), is("amd64"));
+        assertThat(libc.getAdditionalInfo().get("installedSize"), is("13000"));
+        assertThat(libc.getAdditionalInfo().get("source"), is("glibc"));
+        assertThat(libc.getAdditionalInfo().get("homepage"), is("https://www.gnu.org/software/libc/"));
+        ApplicationInfo vim = result.get(1);
+        assertThat(vim.getName(), is("vim"));
+        assertThat(vim.getTimestamp(), is(1_690_000_000L));
+        assertThat(vim.getAdditionalInfo().get("source"), is("unknown"));
+    }
+
+    @Test
+    void testParseApkInstalled(@TempDir Path dir) throws IOException {
+        Path installed = dir.resolve("installed");
+        Files.writeString(installed,
+                String.join("\n", "C:Q1abc=", "P:musl", "V:1.2.4-r2", "A:x86_64", "S:383152", "I:622592",
+                        "T:the musl c library", "U:https://musl.libc.org/", "L:MIT", "o:musl", "m:Maintainer <m@a.org>",
+                        "t:1700000000", "F:lib", "R:ld-musl-x86_64.so.1", "", "P:busybox", "V:1.36.1-r5", ""));
+
+        List<ApplicationInfo> result = LinuxInstalledApps.parseApkInstalled(installed.toString());
+
+        assertThat(result, hasSize(2));
+        ApplicationInfo musl = result.get(0);
+        assertThat(musl.getName(), is("musl"));
+        assertThat(musl.getVersion(), is("1.2.4-r2"));
+        assertThat(musl.getVendor(), is("Maintainer <m@a.org>"));
+        assertThat(musl.getTimestamp(), is(1_700_000_000L));
+        assertThat(musl.getAdditionalInfo().get("architecture"), is("x86_64"));
+        assertThat(musl.getAdditionalInfo().get("installedSize"), is("622592"));
+        assertThat(musl.getAdditionalInfo().get("source"), is("musl"));
+        assertThat(musl.getAdditionalInfo().get("homepage"), is("https://musl.libc.org/"));
+        assertThat(result.get(1).getName(), is("busybox"));
+    }
+
+    @Test
+    void testMissingDatabaseReturnsEmptyResult(@TempDir Path dir) {
+        assertThat(LinuxInstalledApps.parseDpkgStatus(dir.resolve("status").toString(), dir + "/"), is(empty()));
+        assertThat(LinuxInstalledApps.parseApkInstalled(dir.resolve("installed").toString()), is(empty()));
+    }
 }
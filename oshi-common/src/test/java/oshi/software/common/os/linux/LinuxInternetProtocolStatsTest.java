@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.software.common.os.linux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.software.os.InternetProtocolStats;
+import oshi.software.os.InternetProtocolStats.ConnectionStateCounts;
+import oshi.software.os.InternetProtocolStats.TcpState;
+
+class LinuxInternetProtocolStatsTest {
+
+    private static final String TCP_TABLE = "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when "
+            + "retrnsmt   uid  timeout inode\n"
+            + "   0: 0100007F:0277 00000000:0000 0A 00000000:00000000 00:00000000 00000000     0        0 17 1\n"
+            + "   1: 0100007F:0277 0100007F:D2C4 01 00000000:00000000 00:00000000 00000000     0        0 18 1\n"
+            + "   2: 0100007F:0277 0100007F:D2C6 01 00000000:00000000 00:00000000 00000000     0        0 19 1\n"
+            + "   3: 0100007F:D2C8 0100007F:0277 06 00000000:00000000 03:00000A1B 00000000     0        0 0 3\n";
+
+    @Test
+    void testCountStates() throws IOException {
+        long[] counts = new long[16];
+        long total = LinuxInternetProtocolStats
+                .countStates(new ByteArrayInputStream(TCP_TABLE.getBytes(StandardCharsets.US_ASCII)), counts);
+        assertThat(total, is(4L));
+        assertThat(counts[0x0A], is(1L));
+        assertThat(counts[0x01], is(2L));
+        assertThat(counts[0x06], is(1L));
+
+        // A header alone, as when no sockets are open
+        long[] none = new long[16];
+        assertThat(
+                LinuxInternetProtocolStats.countStates(
+                        new ByteArrayInputStream("  sl  local_address\n".getBytes(StandardCharsets.US_ASCII)), none),
+                is(0L));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void testConnectionStateCounts() throws IOException {
+        InternetProtocolStats ipStats = new LinuxInternetProtocolStats();
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            // The listening socket guarantees at least one connection in the table
+            assertThat(server.isBound(), is(true));
+            ConnectionStateCounts counts = ipStats.getConnectionStateCounts();
+            assertThat(counts.getTcpCount(TcpState.LISTEN), is(greaterThanOrEqualTo(1L)));
+            assertThat(counts.getTcpTotal(), is(greaterThanOrEqualTo(1L)));
+            assertThat(counts.getTcpCount(TcpState.UNKNOWN), is(0L));
+        }
+    }
+}
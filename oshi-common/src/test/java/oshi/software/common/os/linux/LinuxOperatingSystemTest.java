@@ -6,6 +6,8 @@ package oshi.software.common.os.linux;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
@@ -26,8 +28,11 @@ import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
+import oshi.nativefree.SystemInfo;
+import oshi.software.os.OSProcess;
 import oshi.software.os.OSService;
 import oshi.software.os.OSService.State;
+import oshi.software.os.OperatingSystem;
 import oshi.util.Constants;
 import oshi.util.tuples.Triplet;
 
@@ -397,4 +402,27 @@ class LinuxOperatingSystemTest {
         // No matching *-release files and no "release" file -> fall back to the "issue" path
         assertThat(LinuxOperatingSystem.getReleaseFilename(etc.toString()), is(etc.resolve("issue").toString()));
     }
+
+    @Test
+    void testCurrentProcessSnapshot() {
+        OperatingSystem os = new SystemInfo().getOperatingSystem();
+        OSProcess full = os.getCurrentProcess();
+        OSProcess snapshot = os.getCurrentProcessSnapshot();
+        assertThat(snapshot.getProcessID(), is(os.getProcessId()));
+        assertThat(snapshot.getName(), is(full.getName()));
+        assertThat(snapshot.getParentProcessID(), is(full.getParentProcessID()));
+        assertThat(snapshot.getThreadCount(), is(greaterThan(0)));
+        assertThat(snapshot.getResidentMemory(), is(greaterThan(0L)));
+        assertThat(snapshot.getVirtualSize(), is(greaterThan(0L)));
+        assertThat(snapshot.getOpenFiles(), is(greaterThan(0L)));
+        assertThat(snapshot.getUserTime() + snapshot.getKernelTime(),
+                is(greaterThanOrEqualTo(full.getUserTime() + full.getKernelTime())));
+        assertThat(snapshot.getMinorFaults(), is(greaterThanOrEqualTo(full.getMinorFaults())));
+        assertThat(snapshot.getContextSwitches(), is(greaterThan(0L)));
+        assertThat(snapshot.getUpTime(), is(greaterThan(0L)));
+        // Descriptive attributes come from a full read
+        assertThat(snapshot.getCommandLine(), is(full.getCommandLine()));
+        assertThat(snapshot.getUserID(), is(full.getUserID()));
+        assertThat(snapshot.updateAttributes(), is(true));
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.software.common.os.linux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import oshi.software.os.OSService;
+
+@EnabledOnOs(OS.LINUX)
+class LinuxServicesTest {
+
+    @Test
+    void testQueryEnabledUnits(@TempDir Path dir) throws IOException {
+        Path unit = Files.createFile(dir.resolve("sshd.service"));
+        Path wants = Files.createDirectory(dir.resolve("multi-user.target.wants"));
+        Files.createSymbolicLink(wants.resolve("sshd.service"), unit);
+        Files.createSymbolicLink(wants.resolve("cron.service"), unit);
+        Files.createSymbolicLink(wants.resolve("remote-fs.target"), unit);
+        Path requires = Files.createDirectory(dir.resolve("getty.target.requires"));
+        Files.createSymbolicLink(requires.resolve("getty@tty1.service"), unit);
+        // Masked units link to /dev/null and are not enabled even if still wanted
+        Files.createSymbolicLink(wants.resolve("masked.service"), unit);
+        Files.createSymbolicLink(dir.resolve("masked.service"), Paths.get("/dev/null"));
+        // Links installed by packages are in the vendor directory, and masked by the administrator's directory
+        Path vendor = Files.createDirectory(dir.resolve("vendor"));
+        Path sysinit = Files.createDirectory(vendor.resolve("sysinit.target.wants"));
+        Files.createSymbolicLink(sysinit.resolve("journald.service"), unit);
+        Files.createSymbolicLink(sysinit.resolve("masked.service"), unit);
+
+        assertThat(LinuxServices.queryEnabledUnits(dir.toString(), vendor.toString()),
+                containsInAnyOrder("sshd", "cron", "getty@tty1", "journald"));
+    }
+
+    @Test
+    void testQueryRunningUnits(@TempDir Path dir) throws IOException {
+        Path sshd = Files.createDirectory(dir.resolve("sshd.service"));
+        Files.writeString(sshd.resolve("cgroup.procs"), "812\n640\n1201\n");
+        Path stopped = Files.createDirectory(dir.resolve("oneshot.service"));
+        Files.writeString(stopped.resolve("cgroup.procs"), "");
+        Path subSlice = Files.createDirectory(dir.resolve("system-getty.slice"));
+        Path getty = Files.createDirectory(subSlice.resolve("getty@tty1.service"));
+        Files.writeString(getty.resolve("cgroup.procs"), "977\n");
+        Files.createDirectory(dir.resolve("init.scope"));
+
+        Map<String, Integer> running = LinuxServices.queryRunningUnits(dir.toString());
+
+        assertThat(running, is(aMapWithSize(2)));
+        assertThat(running, hasEntry("sshd", 640));
+        assertThat(running, hasEntry("getty@tty1", 977));
+    }
+
+    @Test
+    void testQueryCgroupStamps(@TempDir Path dir) throws IOException {
+        Files.createDirectory(dir.resolve("system-getty.slice"));
+        String slice = dir.toString();
+        long ttl = 1_000_000_000L;
+
+        long[] stamps = LinuxServices.queryCgroupStamps(slice, 5 * ttl, ttl);
+        assertThat(stamps.length, is(5));
+        assertThat(LinuxServices.queryCgroupStamps(slice, 5 * ttl + 1, ttl), is(stamps));
+        // The processes are read again once the expiration elapses, even if no cgroup was created or removed
+        assertThat(LinuxServices.queryCgroupStamps(slice, 6 * ttl, ttl), is(not(stamps)));
+        assertThat(LinuxServices.queryCgroupStamps(slice, 6 * ttl, -1L),
+                is(LinuxServices.queryCgroupStamps(slice, 0L, -1L)));
+    }
+
+    @Test
+    void testMissingDirectories(@TempDir Path dir) {
+        assertThat(LinuxServices.queryEnabledUnits(dir.resolve("missing").toString(), dir.resolve("gone").toString()),
+                is(empty()));
+        assertThat(LinuxServices.queryRunningUnits(dir.resolve("missing").toString()), is(anEmptyMap()));
+    }
+
+    @Test
+    void testQueryServices() {
+        Map<String, Integer> running = new TreeMap<>();
+        running.put("sshd", 640);
+        List<OSService> services = LinuxServices.queryServices(new HashSet<>(Arrays.asList("sshd", "cron")), running);
+
+        assertThat(services, hasSize(2));
+        assertThat(services.get(0).getName(), is("sshd"));
+        assertThat(services.get(0).getProcessID(), is(640));
+        assertThat(services.get(0).getState(), is(OSService.State.RUNNING));
+        assertThat(services.get(1).getName(), is("cron"));
+        assertThat(services.get(1).getProcessID(), is(0));
+        assertThat(services.get(1).getState(), is(OSService.State.STOPPED));
+    }
+}
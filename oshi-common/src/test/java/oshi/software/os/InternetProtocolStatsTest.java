@@ -10,8 +10,15 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import oshi.software.os.InternetProtocolStats.ConnectionStateCounts;
 import oshi.software.os.InternetProtocolStats.IPConnection;
 import oshi.software.os.InternetProtocolStats.TcpState;
 import oshi.software.os.InternetProtocolStats.TcpStats;
@@ -130,4 +137,61 @@ class InternetProtocolStatsTest {
         assertThat(TcpState.fromLinuxState(0x00), is(TcpState.UNKNOWN));
         assertThat(TcpState.fromLinuxState(0x0C), is(TcpState.UNKNOWN));
     }
+
+    @Test
+    void testConnectionStateCounts() {
+        Map<TcpState, Long> tcp = new EnumMap<>(TcpState.class);
+        tcp.put(TcpState.ESTABLISHED, 3L);
+        tcp.put(TcpState.LISTEN, 2L);
+        ConnectionStateCounts counts = new ConnectionStateCounts(tcp, 4L);
+        tcp.clear();
+        assertThat(counts.getTcpCount(TcpState.ESTABLISHED), is(3L));
+        assertThat(counts.getTcpCount(TcpState.TIME_WAIT), is(0L));
+        assertThat(counts.getTcpTotal(), is(5L));
+        assertThat(counts.getUdpCount(), is(4L));
+        assertThrows(UnsupportedOperationException.class, () -> counts.getTcpCounts().put(TcpState.CLOSED, 1L));
+        assertThat(counts.toString(), containsString("udpCount=4"));
+    }
+
+    @Test
+    void testDefaultConnectionStateCounts() {
+        byte[] addr = { 127, 0, 0, 1 };
+        List<IPConnection> conns = Arrays.asList(
+                new IPConnection("tcp4", addr, 80, addr, 5000, TcpState.ESTABLISHED, 0, 0, 1),
+                new IPConnection("tcp6", addr, 80, addr, 5001, TcpState.ESTABLISHED, 0, 0, 1),
+                new IPConnection("tcp4", addr, 80, addr, 0, TcpState.LISTEN, 0, 0, 1),
+                new IPConnection("udp4", addr, 53, addr, 0, null, 0, 0, 1));
+        InternetProtocolStats stats = new InternetProtocolStats() {
+            @Override
+            public TcpStats getTCPv4Stats() {
+                return new TcpStats(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+            }
+
+            @Override
+            public TcpStats getTCPv6Stats() {
+                return getTCPv4Stats();
+            }
+
+            @Override
+            public UdpStats getUDPv4Stats() {
+                return new UdpStats(0L, 0L, 0L, 0L);
+            }
+
+            @Override
+            public UdpStats getUDPv6Stats() {
+                return getUDPv4Stats();
+            }
+
+            @Override
+            public List<IPConnection> getConnections() {
+                return conns;
+            }
+        };
+        ConnectionStateCounts counts = stats.getConnectionStateCounts();
+        assertThat(counts.getTcpCount(TcpState.ESTABLISHED), is(2L));
+        assertThat(counts.getTcpCount(TcpState.LISTEN), is(1L));
+        assertThat(counts.getTcpTotal(), is(3L));
+        assertThat(counts.getUdpCount(), is(1L));
+        assertThat(new ConnectionStateCounts(Collections.emptyMap(), 0L).getTcpTotal(), is(0L));
+    }
 }
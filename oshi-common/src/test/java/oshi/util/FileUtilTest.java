@@ -145,6 +145,18 @@ class FileUtilTest {
         assertThat("procio size", actual, anEmptyMap());
     }
 
+    @Test
+    void testGetFileStamps(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("stamped");
+        Files.writeString(file, "12345");
+        long[] stamps = FileUtil.getFileStamps(file.toString(), tempDir.resolve("missing").toString());
+        assertThat("two values per file", stamps.length, is(4));
+        assertThat("last modified", stamps[0], is(Files.getLastModifiedTime(file).toMillis()));
+        assertThat("size", stamps[1], is(5L));
+        assertThat("missing file last modified", stamps[2], is(0L));
+        assertThat("missing file size", stamps[3], is(0L));
+    }
+
     @Test
     void testReadProperties() {
         Properties props = FileUtil.readPropertiesFromFilename("simplelogger.properties");
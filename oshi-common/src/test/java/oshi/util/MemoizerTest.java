@@ -6,6 +6,7 @@ package oshi.util;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
@@ -15,14 +16,18 @@ import static oshi.util.Memoizer.memoize;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterEach;
@@ -163,6 +168,106 @@ final class MemoizerTest {
         }
     }
 
+    @Test
+    void testMemoizeOnChange() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicLong stamp = new AtomicLong();
+        Supplier<Integer> memoized = Memoizer.memoizeOnChange(calls::incrementAndGet,
+                () -> new long[] { stamp.get(), 42L });
+        assertThat("first call computes", memoized.get(), is(1));
+        assertThat("unchanged stamp reuses value", memoized.get(), is(1));
+        stamp.set(1L);
+        assertThat("changed stamp recomputes", memoized.get(), is(2));
+        assertThat("unchanged stamp reuses value", memoized.get(), is(2));
+        assertThat("delegate called once per change", calls.get(), is(2));
+    }
+
+    @Test
+    void testMemoizeAsyncServesStaleValue() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Runnable> pending = new ArrayList<>();
+        Supplier<Integer> memoized = Memoizer.memoizeAsync(calls::incrementAndGet, 0L, pending::add);
+        assertThat("first call computes", memoized.get(), is(1));
+        assertThat("expired value is served while refresh is pending", memoized.get(), is(1));
+        assertThat("only one refresh is scheduled", memoized.get(), is(1));
+        assertThat(pending.size(), is(1));
+        pending.remove(0).run();
+        assertThat("refreshed value is served", memoized.get(), is(2));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void testMemoizeAsyncFailedRefreshKeepsValue() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Runnable> pending = new ArrayList<>();
+        Supplier<Integer> memoized = Memoizer.memoizeAsync(() -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("refresh failure");
+            }
+            return calls.get();
+        }, 0L, pending::add);
+        assertThat(memoized.get(), is(1));
+        long failures = Memoizer.getStatistics().getRefreshFailures();
+        assertThat(memoized.get(), is(1));
+        pending.remove(0).run();
+        assertThat(Memoizer.getStatistics().getRefreshFailures(), is(failures + 1));
+        assertThat("previous value survives the failure", memoized.get(), is(1));
+        // The failed refresh is retried on the next call
+        pending.remove(0).run();
+        assertThat(memoized.get(), is(3));
+    }
+
+    @Test
+    void testMemoizeAsyncRunsRejectedRefreshInline() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> memoized = Memoizer.memoizeAsync(calls::incrementAndGet, 0L, r -> {
+            throw new RejectedExecutionException();
+        });
+        assertThat(memoized.get(), is(1));
+        // With nowhere else to run, the caller refreshes as a synchronous memoizer would
+        assertThat(memoized.get(), is(2));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void testStatistics() {
+        Memoizer.Statistics before = Memoizer.getStatistics();
+        Supplier<Integer> memoized = memoize(() -> 42);
+        memoized.get();
+        memoized.get();
+        memoized.get();
+        Memoizer.Statistics after = Memoizer.getStatistics();
+        // Other tests may run concurrently, so only lower bounds can be checked
+        assertThat(after.getMisses() - before.getMisses(), is(greaterThanOrEqualTo(1L)));
+        assertThat(after.getHits() - before.getHits(), is(greaterThanOrEqualTo(2L)));
+        assertThat(after.getRefreshes() - before.getRefreshes(), is(greaterThanOrEqualTo(1L)));
+        assertThat(after.getMaxRefreshNanos(), is(lessThanOrEqualTo(after.getRefreshNanos())));
+    }
+
+    @Test
+    void testConfiguredExpirations() {
+        String key = GlobalConfig.OSHI_UTIL_MEMOIZER_EXPIRATION_PROCESSES;
+        try {
+            assertThat("unset falls back to the default", Memoizer.queryExpirationConfig(key),
+                    is(Memoizer.defaultExpiration()));
+            GlobalConfig.set(key, 2000);
+            assertThat(Memoizer.queryExpirationConfig(key), is(TimeUnit.SECONDS.toNanos(2)));
+            GlobalConfig.set(key, -1);
+            assertThat("negative never refreshes", Memoizer.queryExpirationConfig(key), is(lessThan(0L)));
+            GlobalConfig.set(key, "invalid");
+            assertThat(Memoizer.queryExpirationConfig(key), is(Memoizer.defaultExpiration()));
+
+            GlobalConfig.set(GlobalConfig.OSHI_UTIL_MEMOIZER_ASYNC, true);
+            AtomicInteger calls = new AtomicInteger();
+            Supplier<Integer> configured = Memoizer.memoizeConfigured(calls::incrementAndGet, -1L);
+            assertThat(configured.get(), is(1));
+            assertThat(configured.get(), is(1));
+        } finally {
+            GlobalConfig.remove(key);
+            GlobalConfig.remove(GlobalConfig.OSHI_UTIL_MEMOIZER_ASYNC);
+        }
+    }
+
     private static void testIncrementCounts(long actualNumberOfIncrements, long iterationDurationNanos, long ttlNanos) {
         if (ttlNanos < 0) {
             assertThat(String.format(Locale.ROOT, "ttlNanos=%d", ttlNanos), actualNumberOfIncrements, is(1L));
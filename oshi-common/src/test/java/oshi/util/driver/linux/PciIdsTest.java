@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static oshi.util.TestFileUtil.writeFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PciIdsTest {
+
+    private static final String PCI_IDS = "#\n#\tList of PCI ID's\n#\n# Version: 2026.01.01\n\n"
+            + "0001  SafeNet (wrong ID)\n" + "1002  Advanced Micro Devices, Inc. [AMD/ATI]\n"
+            + "\t1314  Wrestler HDMI Audio\n" + "\t\t174b 1001  PURE Fusion Mini\n"
+            + "\t744c  Navi 31 [Radeon RX 7900 XT/7900 XTX/7900 GRE/7900M]\n"
+            + "\t\t1da2 e471  NITRO+ Radeon RX 7900 XTX Vapor-X 24GB\n" + "# A comment within a vendor\n"
+            + "\t7480  Navi 33 [Radeon RX 7600/7600 XT/7600M XT/7600S/7700S / PRO W7600]\n"
+            + "10de  NVIDIA Corporation\n" + "\t2204  GA102 [GeForce RTX 3090]\n" + "\t2684  AD102 [GeForce RTX 4090]\n"
+            + "1d0f  Amazon.com, Inc.\n" + "\tefa0  Elastic Fabric Adapter (EFA)\n" + "1af4  Red Hat, Inc.\n"
+            + "\t1050  Virtio 1.0 GPU\n" + "8086  Intel Corporation\n" + "\t56a0  DG2 [Arc A770]\n\n"
+            + "# List of known device classes\n" + "C 00  Unclassified device\n" + "\t00  Non-VGA unclassified device\n"
+            + "C 03  Display controller\n" + "\t00  VGA compatible controller\n";
+
+    @Test
+    void testLookup(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("pci.ids");
+        writeFile(file, PCI_IDS);
+        PciIds ids = PciIds.load(tempDir.resolve("absent").toString(), file.toString());
+
+        assertThat(ids.getVendorName(0x1002), is("Advanced Micro Devices, Inc. [AMD/ATI]"));
+        assertThat(ids.getVendorName(0x0001), is("SafeNet (wrong ID)"));
+        assertThat(ids.getVendorName(0x8086), is("Intel Corporation"));
+        assertThat(ids.getVendorName(0x1234), is(nullValue()));
+
+        assertThat(ids.getDeviceName(0x1002, 0x744c), is("Navi 31 [Radeon RX 7900 XT/7900 XTX/7900 GRE/7900M]"));
+        assertThat(ids.getDeviceName(0x1002, 0x7480),
+                is("Navi 33 [Radeon RX 7600/7600 XT/7600M XT/7600S/7700S / PRO W7600]"));
+        assertThat(ids.getDeviceName(0x1002, 0x1314), is("Wrestler HDMI Audio"));
+        assertThat(ids.getDeviceName(0x10de, 0x2684), is("AD102 [GeForce RTX 4090]"));
+        assertThat(ids.getDeviceName(0x8086, 0x56a0), is("DG2 [Arc A770]"));
+        // Subsystem IDs are not devices, and devices belong to their own vendor
+        assertThat(ids.getDeviceName(0x1002, 0x1da2), is(nullValue()));
+        assertThat(ids.getDeviceName(0x10de, 0x744c), is(nullValue()));
+        assertThat(ids.getDeviceName(0x1234, 0x2684), is(nullValue()));
+        // The device classes are not vendors
+        assertThat(ids.getVendorName(0x0003), is(nullValue()));
+    }
+
+    @Test
+    void testMissingDatabase(@TempDir Path tempDir) {
+        PciIds ids = PciIds.load(tempDir.resolve("absent").toString());
+        assertThat(ids.getVendorName(0x10de), is(nullValue()));
+        assertThat(ids.getDeviceName(0x10de, 0x2204), is(nullValue()));
+    }
+}
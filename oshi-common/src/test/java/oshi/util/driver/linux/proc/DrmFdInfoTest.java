@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static oshi.util.TestFileUtil.writeFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DrmFdInfoTest {
+
+    private static final String AMDGPU = "pos:\t0\nflags:\t02100002\nmnt_id:\t26\nino:\t1090\n"
+            + "drm-driver:\tamdgpu\ndrm-client-id:\t%d\ndrm-pdev:\t0000:03:00.0\npasid:\t32783\n"
+            + "drm-memory-vram:\t%d KiB\ndrm-memory-gtt:\t2048 KiB\ndrm-memory-cpu:\t0 KiB\n"
+            + "drm-engine-gfx:\t%d ns\ndrm-engine-compute:\t0 ns\n";
+    private static final String REGULAR_FILE = "pos:\t0\nflags:\t0100000\nmnt_id:\t25\nino:\t4242\n";
+    private static final String RENDER_NODE = "/dev/dri/renderD128";
+    private static final String FILE = "/var/log/messages";
+
+    @Test
+    void testParse() {
+        List<String> i915 = Arrays.asList("pos:\t0", "drm-driver:\ti915", "drm-client-id:\t42",
+                "drm-pdev:\t0000:00:02.0", "drm-total-system0:\t8 MiB", "drm-resident-system0:\t6 MiB",
+                "drm-memory-system0:\t5 MiB", "drm-engine-render:\t25662044495 ns", "drm-engine-copy:\t0 ns",
+                "drm-engine-capacity-video:\t2", "drm-engine-video:\t312 ns");
+        DrmFdInfo.Client client = DrmFdInfo.parse(1234, i915);
+        assertThat(client.getProcessId(), is(1234));
+        assertThat(client.getClientId(), is(42L));
+        assertThat(client.getDriver(), is("i915"));
+        assertThat(client.getPciDevice(), is("0000:00:02.0"));
+        assertThat(client.getEngineTime().get("render"), is(25_662_044_495L));
+        assertThat(client.getEngineTime().get("video"), is(312L));
+        assertThat(client.getEngineTime().containsKey("capacity-video"), is(false));
+        assertThat(client.getEngineCapacity("video"), is(2));
+        assertThat(client.getEngineCapacity("render"), is(1));
+        // Resident wins over its older name
+        assertThat(client.getMemory().get("system0"), is(6L << 20));
+
+        DrmFdInfo.Client noUsage = DrmFdInfo.parse(1, Arrays.asList("drm-driver:\tv3d", "drm-client-id:\t3"));
+        assertThat(noUsage.getPciDevice(), is(""));
+        assertThat(noUsage.getEngineTime(), is(anEmptyMap()));
+
+        assertThat(DrmFdInfo.parse(1, Arrays.asList(REGULAR_FILE.split("\n"))), is(nullValue()));
+        assertThat(DrmFdInfo.parse(1, Arrays.asList("drm-driver:\tamdgpu")), is(nullValue()));
+    }
+
+    @Test
+    void testQuery(@TempDir Path proc) throws IOException {
+        // Process 100 holds client 7 twice and a regular file; process 200 shares client 7 and holds client 9
+        writeFdInfo(proc, 100, 0, FILE, REGULAR_FILE);
+        writeFdInfo(proc, 100, 3, RENDER_NODE, String.format(Locale.ROOT, AMDGPU, 7, 1024, 1000));
+        writeFdInfo(proc, 100, 4, RENDER_NODE, String.format(Locale.ROOT, AMDGPU, 7, 1024, 1000));
+        writeFdInfo(proc, 200, 5, RENDER_NODE, String.format(Locale.ROOT, AMDGPU, 7, 1024, 1000));
+        writeFdInfo(proc, 200, 6, RENDER_NODE, String.format(Locale.ROOT, AMDGPU, 9, 512, 5000));
+        Files.createDirectories(proc.resolve("self"));
+
+        DrmFdInfo fdInfo = new DrmFdInfo(proc.toString());
+        List<DrmFdInfo.Client> clients = fdInfo.query();
+        assertThat(clients.size(), is(2));
+        assertThat(clients.get(0).getProcessId(), is(100));
+        assertThat(clients.get(0).getClientId(), is(7L));
+        assertThat(clients.get(0).getMemory().get("vram"), is(1024L << 10));
+        assertThat(clients.get(0).getMemory().get("gtt"), is(2048L << 10));
+        assertThat(clients.get(1).getProcessId(), is(200));
+        assertThat(clients.get(1).getClientId(), is(9L));
+        assertThat(clients.get(1).getEngineTime().get("gfx"), is(5000L));
+
+        // Clients are re-read for their new values
+        writeFdInfo(proc, 200, 6, RENDER_NODE, String.format(Locale.ROOT, AMDGPU, 9, 512, 8000));
+        assertThat(fdInfo.query().get(1).getEngineTime().get("gfx"), is(8000L));
+
+        // A descriptor which is not a DRM device is not read
+        writeFdInfo(proc, 100, 0, FILE, String.format(Locale.ROOT, AMDGPU, 11, 64, 0));
+        assertThat(fdInfo.query().size(), is(2));
+
+        // but is once its number is reused for one
+        writeFdInfo(proc, 100, 0, RENDER_NODE, String.format(Locale.ROOT, AMDGPU, 11, 64, 0));
+        clients = fdInfo.query();
+        assertThat(clients.size(), is(3));
+        assertThat(clients.get(0).getClientId(), is(11L));
+
+        // The same client ID on another driver's device is another client
+        writeFdInfo(proc, 200, 7, "/dev/dri/card1",
+                "drm-driver:\tv3d\ndrm-client-id:\t9\ndrm-engine-render:\t100 ns\n");
+        assertThat(fdInfo.query().size(), is(4));
+        Files.delete(proc.resolve("200/fd/7"));
+
+        // A process which exits takes its clients with it
+        deleteFdInfo(proc, 100);
+        clients = fdInfo.query();
+        assertThat(clients.size(), is(2));
+        assertThat(clients.get(0).getProcessId(), is(200));
+        assertThat(clients.get(0).getClientId(), is(7L));
+    }
+
+    private static void writeFdInfo(Path proc, int pid, int fd, String target, String content) throws IOException {
+        Path fdinfo = Files.createDirectories(proc.resolve(pid + "/fdinfo"));
+        writeFile(fdinfo.resolve(Integer.toString(fd)), content);
+        Path link = Files.createDirectories(proc.resolve(pid + "/fd")).resolve(Integer.toString(fd));
+        Files.deleteIfExists(link);
+        Files.createSymbolicLink(link, Paths.get(target));
+    }
+
+    private static void deleteFdInfo(Path proc, int pid) throws IOException {
+        for (String dir : new String[] { "/fdinfo", "/fd" }) {
+            Path fds = proc.resolve(pid + dir);
+            try (Stream<Path> files = Files.list(fds)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(fds);
+        }
+        Files.delete(proc.resolve(Integer.toString(pid)));
+    }
+}
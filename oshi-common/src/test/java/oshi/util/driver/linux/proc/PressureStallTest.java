@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.util.driver.linux.proc.PressureStall.Pressure;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
+import oshi.util.driver.linux.proc.PressureStall.Stall;
+import oshi.util.driver.linux.proc.PressureStall.StallType;
+
+class PressureStallTest {
+
+    @Test
+    void testParsePressure() {
+        Pressure p = PressureStall.parsePressure(Arrays.asList("some avg10=1.50 avg60=0.25 avg300=0.01 total=123456",
+                "full avg10=0.75 avg60=0.00 avg300=0.00 total=789"));
+        assertThat(p, is(notNullValue()));
+        Stall some = p.getSome();
+        assertThat(some.getAvg10(), is(1.5d));
+        assertThat(some.getAvg60(), is(0.25d));
+        assertThat(some.getAvg300(), is(0.01d));
+        assertThat(some.getTotal(), is(123_456L));
+        Stall full = p.getStall(StallType.FULL);
+        assertThat(full, is(notNullValue()));
+        assertThat(full.getAvg10(), is(0.75d));
+        assertThat(full.getTotal(), is(789L));
+
+        // CPU pressure before Linux 5.13 has no full line
+        Pressure cpu = PressureStall
+                .parsePressure(Collections.singletonList("some avg10=0.00 avg60=0.00 avg300=0.00 total=5"));
+        assertThat(cpu, is(notNullValue()));
+        assertThat(cpu.getFull(), is(nullValue()));
+        assertThat(cpu.getSome().getTotal(), is(5L));
+
+        assertThat(PressureStall.parsePressure(Collections.emptyList()), is(nullValue()));
+        assertThat(PressureStall.parsePressure(Collections.singletonList("garbage")), is(nullValue()));
+    }
+
+    @Test
+    void testPaths() {
+        assertThat(PressureStall.getPressurePath(Resource.MEMORY), endsWith("/pressure/memory"));
+        assertThat(PressureStall.getCgroupPressurePath("/system.slice/foo.service", Resource.MEMORY),
+                endsWith("fs/cgroup/system.slice/foo.service/memory.pressure"));
+        assertThat(PressureStall.getCgroupPressurePath("/", Resource.IO), endsWith("fs/cgroup/io.pressure"));
+        assertThat(StallType.SOME.getKeyword(), is("some"));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void testQueryPressure() {
+        for (Resource r : Resource.values()) {
+            Pressure p = PressureStall.queryPressure(r);
+            if (PressureStall.isSupported()) {
+                assertThat(p, is(notNullValue()));
+                assertThat(p.getSome().getAvg300(), is(greaterThanOrEqualTo(0d)));
+                assertThat(p.getSome().getAvg300(), is(lessThanOrEqualTo(100d)));
+                assertThat(p.getSome().getTotal(), is(greaterThanOrEqualTo(0L)));
+            }
+        }
+        assertThat(PressureStall.queryPressure("/nonexistent/memory.pressure"), is(nullValue()));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.software.os.OSProcess.State;
+
+class ProcessTableTest {
+
+    @Test
+    void testParseIo() {
+        byte[] io = ("rchar: 323934931\nwchar: 323929600\nsyscr: 632687\nsyscw: 632675\nread_bytes: 4096\n"
+                + "write_bytes: 323932160\ncancelled_write_bytes: 7\n").getBytes(StandardCharsets.US_ASCII);
+        long[] values = new long[2];
+        assertThat(ProcessStatTable.parseIo(io, io.length, values), is(true));
+        assertThat(values[0], is(4096L));
+        assertThat(values[1], is(323_932_160L));
+
+        byte[] partial = "rchar: 1\nread_bytes: 2\n".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ProcessStatTable.parseIo(partial, partial.length, values), is(false));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void testQuery() {
+        int pid = (int) ProcessHandle.current().pid();
+        ProcessStatTable table = ProcessStatTable.query(ProcessStat.getPids());
+        assertThat(table.size(), is(greaterThan(0)));
+        assertThat(table.hasIo(), is(false));
+        int self = -1;
+        for (int i = 0; i < table.size(); i++) {
+            if (table.getProcessId(i) == pid) {
+                self = i;
+            }
+        }
+        assertThat(self, is(greaterThanOrEqualTo(0)));
+        assertThat(table.getName(self), is(not(emptyString())));
+        assertThat(table.getState(self), is(not(State.INVALID)));
+        assertThat(table.getThreadCount(self), is(greaterThan(0)));
+        assertThat(table.getResidentPages(self), is(greaterThan(0L)));
+        assertThat(table.getBytesRead(self), is(-1L));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ProcessStatTable withIo = ProcessStatTable.query(ProcessStat.getPids(), true, executor);
+            assertThat(withIo.hasIo(), is(true));
+            for (int i = 0; i < withIo.size(); i++) {
+                if (withIo.getProcessId(i) == pid) {
+                    // Our own process's io is always readable
+                    assertThat(withIo.getBytesRead(i), is(greaterThanOrEqualTo(0L)));
+                    assertThat(withIo.getBytesWritten(i), is(greaterThanOrEqualTo(0L)));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -5,19 +5,27 @@
 package oshi.util.driver.linux.proc;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 import oshi.software.os.OSProcess;
 import oshi.software.os.OSProcess.State;
@@ -92,6 +100,36 @@ class ProcessStatTest {
         return !ProcessStat.getThreadIds(pid).isEmpty();
     }
 
+    @Test
+    void testGetPids() {
+        int[] pids = ProcessStat.getPids();
+        assertThat("Pids should be non-empty array", pids.length, greaterThan(0));
+        assertThat(Arrays.stream(pids).boxed().collect(Collectors.toList()),
+                hasItem((int) ProcessHandle.current().pid()));
+    }
+
+    @Test
+    void testListNumericEntries(@TempDir Path dir) throws IOException {
+        for (String name : new String[] { "1", "42", "007", "self", "4a", "12345678901", "" + Integer.MAX_VALUE }) {
+            Files.createFile(dir.resolve(name));
+        }
+        Files.createDirectory(dir.resolve("1234"));
+
+        assertThat(Arrays.stream(ProcessStat.listNumericEntries(dir.toString())).boxed().collect(Collectors.toList()),
+                containsInAnyOrder(1, 42, 7, 1234));
+        assertThat(ProcessStat.listNumericEntries(dir.resolve("missing").toString()).length, is(0));
+    }
+
+    @Test
+    void testParseNumericName() {
+        assertThat(ProcessStat.parseNumericName("0"), is(0));
+        assertThat(ProcessStat.parseNumericName("4194304"), is(4194304));
+        assertThat(ProcessStat.parseNumericName(""), is(-1));
+        assertThat(ProcessStat.parseNumericName("-1"), is(-1));
+        assertThat(ProcessStat.parseNumericName("12:"), is(-1));
+        assertThat(ProcessStat.parseNumericName("1234567890"), is(-1));
+    }
+
     @Test
     void testQuerySocketToPidMap() {
         // May be empty in containers with restricted /proc access
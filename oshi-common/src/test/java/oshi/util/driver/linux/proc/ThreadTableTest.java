@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.driver.linux.proc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.software.os.OSProcess.State;
+
+class ThreadTableTest {
+
+    @Test
+    void testParseStat() {
+        byte[] line = ("1234 (a (weird) name) S 1 1234 1234 0 -1 4194560 100 0 2 0 57 13 0 0 -21 0 3 0 98765 "
+                + "12345678 1000 18446744073709551615 1 1 0 0 0 0 0 0 0 0 0 0 17 3 0 0 0 0 0\n")
+                        .getBytes(StandardCharsets.US_ASCII);
+        long[] fields = new long[23];
+        assertThat(ThreadTable.parseStat(line, line.length, fields), is((byte) 'S'));
+        assertThat(fields[4], is(1L));
+        assertThat(fields[14], is(57L));
+        assertThat(fields[15], is(13L));
+        assertThat(fields[18], is(-21L));
+        assertThat(fields[22], is(98_765L));
+
+        byte[] truncated = "1234 (name) R 1 2".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ThreadTable.parseStat(truncated, truncated.length, fields), is((byte) 0));
+        byte[] garbage = "garbage".getBytes(StandardCharsets.US_ASCII);
+        assertThat(ThreadTable.parseStat(garbage, garbage.length, fields), is((byte) 0));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void testQuery() throws InterruptedException {
+        int pid = (int) ProcessHandle.current().pid();
+        ThreadTable first = ThreadTable.query(pid);
+        assertThat(first.size(), is(greaterThan(0)));
+        assertThat(first.getProcessId(), is(pid));
+        int main = first.indexOf(pid);
+        assertThat(main, is(greaterThanOrEqualTo(0)));
+        assertThat(first.getName(main), is(not(emptyString())));
+        assertThat(first.getState(main), is(not(State.INVALID)));
+        assertThat(first.indexOf(-1), is(-1));
+        for (int i = 1; i < first.size(); i++) {
+            assertThat(first.getThreadId(i), is(greaterThan(first.getThreadId(i - 1))));
+            assertThat(first.indexOf(first.getThreadId(i)), is(i));
+        }
+
+        // Burn some CPU on this thread so it shows up as hot
+        long spin = 0;
+        long end = System.nanoTime() + 200_000_000L;
+        while (System.nanoTime() < end) {
+            spin++;
+        }
+        assertThat(spin, is(greaterThan(0L)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ThreadTable second = ThreadTable.query(pid, executor);
+            assertThat(second.size(), is(greaterThan(0)));
+            assertThat(second.getTimestamp(), is(greaterThanOrEqualTo(first.getTimestamp())));
+            long[] deltas = second.getCpuDeltas(first);
+            assertThat(deltas.length, is(second.size()));
+            for (long d : deltas) {
+                assertThat(d, is(greaterThanOrEqualTo(0L)));
+            }
+            int[] hottest = second.getHottest(first, 3);
+            assertThat(hottest.length, is(lessThanOrEqualTo(3)));
+            for (int i = 1; i < hottest.length; i++) {
+                assertThat(deltas[hottest[i - 1]], is(greaterThanOrEqualTo(deltas[hottest[i]])));
+            }
+            assertThat(second.getHottest(first, 0).length, is(0));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ThreadTable.query(Integer.MAX_VALUE).size(), is(0));
+    }
+}
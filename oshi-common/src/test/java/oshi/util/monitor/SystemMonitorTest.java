@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.NetworkIF;
+import oshi.nativefree.SystemInfo;
+import oshi.software.os.OperatingSystem;
+import oshi.util.monitor.SystemMonitor.Subsystem;
+
+@EnabledOnOs(OS.LINUX)
+class SystemMonitorTest {
+
+    private static HardwareAbstractionLayer hal;
+    private static OperatingSystem os;
+
+    @BeforeAll
+    static void setUp() {
+        SystemInfo si = new SystemInfo();
+        hal = si.getHardware();
+        os = si.getOperatingSystem();
+    }
+
+    @Test
+    void testSampleEachSubsystem() {
+        try (SystemMonitor monitor = new SystemMonitor(hal, os)) {
+            MonitorSnapshot empty = monitor.getSnapshot();
+            for (Subsystem s : Subsystem.values()) {
+                assertThat(empty.getTimestamp(s), is(0L));
+                monitor.sample(s);
+                assertThat(monitor.getSnapshot().getTimestamp(s), is(greaterThan(0L)));
+            }
+            MonitorSnapshot snap = monitor.getSnapshot();
+            assertThat(snap, is(not(sameInstance(empty))));
+            assertThat(empty.getSystemCpuLoadTicks().length, is(0));
+            assertThat(snap.getSystemCpuLoadTicks().length, is(greaterThan(0)));
+            assertThat(snap.getProcessorCpuLoadTicks().length, is(hal.getProcessor().getLogicalProcessorCount()));
+            assertThat(snap.getMemoryTotal(), is(hal.getMemory().getTotal()));
+            assertThat(snap.getProcesses().isEmpty(), is(false));
+            assertThrows(UnsupportedOperationException.class, () -> snap.getProcesses().clear());
+
+            // Resampling one subsystem keeps the others and leaves the earlier snapshot unchanged
+            monitor.sample(Subsystem.MEMORY);
+            MonitorSnapshot next = monitor.getSnapshot();
+            assertThat(next.getProcesses(), is(sameInstance(snap.getProcesses())));
+            assertThat(next.getTimestamp(Subsystem.CPU_TICKS), is(snap.getTimestamp(Subsystem.CPU_TICKS)));
+            snap.getSystemCpuLoadTicks()[0] = -1L;
+            assertThat(snap.getSystemCpuLoadTicks()[0], is(not(-1L)));
+        }
+    }
+
+    @Test
+    void testScheduledSampling() throws InterruptedException {
+        Map<Subsystem, Long> intervals = new EnumMap<>(Subsystem.class);
+        intervals.put(Subsystem.CPU_TICKS, 20L);
+        intervals.put(Subsystem.MEMORY, 0L);
+        SystemMonitor monitor = new SystemMonitor(hal, os, intervals);
+        assertThat(monitor.getInterval(Subsystem.CPU_TICKS), is(20L));
+        assertThat(monitor.getInterval(Subsystem.MEMORY), is(0L));
+        assertThat(monitor.getInterval(Subsystem.PROCESSES), is(0L));
+
+        monitor.start();
+        monitor.start();
+        long first = 0L;
+        for (int i = 0; i < 500 && first == 0L; i++) {
+            Thread.sleep(10L);
+            first = monitor.getSnapshot().getTimestamp(Subsystem.CPU_TICKS);
+        }
+        assertThat(first, is(greaterThan(0L)));
+        long second = first;
+        for (int i = 0; i < 500 && second == first; i++) {
+            Thread.sleep(10L);
+            second = monitor.getSnapshot().getTimestamp(Subsystem.CPU_TICKS);
+        }
+        assertThat(second, is(greaterThan(first)));
+        monitor.close();
+
+        MonitorSnapshot last = monitor.getSnapshot();
+        assertThat(last.getTimestamp(Subsystem.MEMORY), is(0L));
+        assertThat(last.getTimestamp(Subsystem.PROCESSES), is(0L));
+        assertThat(monitor.getFailureCount(Subsystem.CPU_TICKS), is(0L));
+        assertThrows(IllegalStateException.class, monitor::start);
+    }
+
+    @Test
+    void testHistoryStoreListener() {
+        HistoryStore store = new HistoryStore(10, 60_000L, 5);
+        try (SystemMonitor monitor = new SystemMonitor(hal, os)) {
+            monitor.addListener(store);
+            monitor.sample(Subsystem.CPU_TICKS);
+            assertThat(store.get(HistoryStore.CPU_LOAD), is(nullValue()));
+            monitor.sample(Subsystem.MEMORY);
+            monitor.sample(Subsystem.NETWORK);
+            monitor.sample(Subsystem.PROCESSES);
+            monitor.removeListener(store);
+            monitor.sample(Subsystem.MEMORY);
+        }
+        TimeSeries memory = store.get(HistoryStore.MEMORY_USED);
+        assertThat(memory, is(notNullValue()));
+        assertThat(memory.size(), is(1));
+        assertThat(memory.getLatest(), is(greaterThan(0L)));
+        assertThat(store.getOrCreate(HistoryStore.PROCESS_COUNT, TimeSeries.Kind.GAUGE).getLatest(),
+                is(greaterThan(0L)));
+        for (NetworkIF nif : hal.getNetworkIFs()) {
+            assertThat(store.getNames(), hasItem("net." + nif.getName() + ".bytesRecv"));
+        }
+        store.remove(HistoryStore.MEMORY_USED);
+        assertThat(store.get(HistoryStore.MEMORY_USED), is(nullValue()));
+    }
+
+    @Test
+    void testSkippedIntervals() {
+        assertThat(SystemMonitor.skippedIntervals(0L, 5L, 10L), is(0L));
+        assertThat(SystemMonitor.skippedIntervals(0L, 9L, 10L), is(0L));
+        assertThat(SystemMonitor.skippedIntervals(0L, 10L, 10L), is(1L));
+        assertThat(SystemMonitor.skippedIntervals(0L, 35L, 10L), is(3L));
+        assertThat(SystemMonitor.skippedIntervals(100L, 105L, 10L), is(0L));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import oshi.util.monitor.TimeSeries.Kind;
+
+class TimeSeriesTest {
+
+    @Test
+    void testCounterRateAndDelta() {
+        TimeSeries ts = new TimeSeries(Kind.COUNTER, 10, 60_000L, 0);
+        assertThat(ts.delta(5000L), is(0L));
+        assertThat(ts.rate(5000L), is(0d));
+        for (int i = 0; i <= 5; i++) {
+            ts.add(i * 1000L, i * 100L);
+        }
+        assertThat(ts.size(), is(6));
+        assertThat(ts.getLatest(), is(500L));
+        assertThat(ts.getLatestTimestamp(), is(5000L));
+        assertThat(ts.delta(2000L), is(200L));
+        assertThat(ts.rate(2000L), is(closeTo(100d, 1e-9)));
+        // A window longer than the history covers all of it
+        assertThat(ts.delta(60_000L), is(500L));
+
+        // A reset counts as no increase, and increases after it count
+        ts.add(6000L, 50L);
+        ts.add(7000L, 150L);
+        assertThat(ts.delta(2000L), is(100L));
+
+        // Out of order samples are ignored
+        ts.add(7000L, 999L);
+        assertThat(ts.getLatest(), is(150L));
+    }
+
+    @Test
+    void testRingWraps() {
+        TimeSeries ts = new TimeSeries(Kind.GAUGE, 4, 60_000L, 0);
+        for (int i = 0; i < 10; i++) {
+            ts.add(i * 1000L, i);
+        }
+        assertThat(ts.size(), is(4));
+        assertThat(ts.percentile(0d, 60_000L), is(6d));
+        assertThat(ts.percentile(100d, 60_000L), is(9d));
+        assertThat(ts.delta(60_000L), is(3L));
+    }
+
+    @Test
+    void testGaugePercentile() {
+        TimeSeries ts = new TimeSeries(Kind.GAUGE, 200, 60_000L, 0);
+        assertThat(ts.percentile(50d, 1000L), is(0d));
+        // Add 1..100 in a scrambled order
+        for (int i = 0; i < 100; i++) {
+            ts.add(i * 1000L, (i * 37) % 100 + 1);
+        }
+        assertThat(ts.percentile(50d, 1_000_000L), is(50d));
+        assertThat(ts.percentile(95d, 1_000_000L), is(95d));
+        assertThat(ts.percentile(100d, 1_000_000L), is(100d));
+        // The window includes the samples at or after its start
+        assertThat(ts.percentile(0d, 0L), is((double) ts.getLatest()));
+        assertThrows(IllegalArgumentException.class, () -> ts.percentile(101d, 1000L));
+    }
+
+    @Test
+    void testCounterPercentileRanksRates() {
+        TimeSeries ts = new TimeSeries(Kind.COUNTER, 10, 60_000L, 0);
+        ts.add(0L, 0L);
+        ts.add(1000L, 10L);
+        ts.add(2000L, 30L);
+        ts.add(4000L, 70L);
+        // Rates are 10, 20 and 20 per second
+        assertThat(ts.percentile(0d, 60_000L), is(10d));
+        assertThat(ts.percentile(100d, 60_000L), is(20d));
+        assertThat(ts.percentile(0d, 2000L), is(20d));
+    }
+
+    @Test
+    void testEwma() {
+        TimeSeries gauge = new TimeSeries(Kind.GAUGE, 10, 60_000L, 0);
+        gauge.add(0L, 0L);
+        gauge.add(1000L, 100L);
+        // One half-life elapsed, so halfway to the new value
+        assertThat(gauge.ewma(1000L), is(closeTo(50d, 1e-9)));
+        assertThat(gauge.ewma(0L), is(100d));
+
+        TimeSeries counter = new TimeSeries(Kind.COUNTER, 10, 60_000L, 0);
+        for (int i = 0; i < 5; i++) {
+            counter.add(i * 1000L, i * 250L);
+        }
+        assertThat(counter.ewma(2000L), is(closeTo(250d, 1e-9)));
+    }
+
+    @Test
+    void testDownsampling() {
+        // Keep 5 one-second samples and 10 ten-second entries
+        TimeSeries gauge = new TimeSeries(Kind.GAUGE, 5, 10_000L, 10);
+        TimeSeries counter = new TimeSeries(Kind.COUNTER, 5, 10_000L, 10);
+        for (int i = 0; i < 60; i++) {
+            // The gauge averages i over each ten seconds; the counter grows by 10 per second
+            gauge.add(i * 1000L, i);
+            counter.add(i * 1000L, i * 10L);
+        }
+        assertThat(gauge.size(), is(5));
+        // The older history is reachable through the coarse entries, the first holding the count at 9 seconds
+        assertThat(counter.delta(60_000L), is(500L));
+        assertThat(counter.rate(60_000L), is(closeTo(10d, 1e-9)));
+        // The coarse gauge entries are period means 4.5, 14.5, ... rounded, then the raw samples 55 to 59
+        assertThat(gauge.percentile(0d, 60_000L), is(5d));
+        assertThat(gauge.percentile(100d, 60_000L), is(59d));
+        // Within the raw samples only raw values are used
+        assertThat(gauge.percentile(0d, 3000L), is(56d));
+
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeries(Kind.GAUGE, 1, 1000L, 0));
+    }
+
+    @Test
+    void testSelect() {
+        double[] a = { 5, 3, 9, 1, 7, 3, 8 };
+        assertThat(TimeSeries.select(a.clone(), a.length, 0), is(1d));
+        assertThat(TimeSeries.select(a.clone(), a.length, 2), is(3d));
+        assertThat(TimeSeries.select(a.clone(), a.length, 3), is(5d));
+        assertThat(TimeSeries.select(a.clone(), a.length, 6), is(9d));
+        assertThat(TimeSeries.select(a.clone(), 3, 1), is(5d));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.monitor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class TopProcessesTest {
+
+    @Test
+    void testRanking() {
+        TopProcesses top = new TopProcesses(true);
+        // The first scan only records counters
+        long elapsed = top.update(new FakeScan(1000L).add(1, 1L, 100L, 10L, 0L, 0L).add(2, 1L, 200L, 300L, 0L, 0L)
+                .add(3, 1L, 300L, 50L, 0L, 0L), 2);
+        assertThat(elapsed, is(0L));
+        assertThat(top.getTopByCpu(), is(empty()));
+        assertThat(top.getTopByIo(), is(empty()));
+        assertThat(pids(top.getTopByMemory()), contains(2, 3));
+
+        // Process 3 restarted with the same ID and is charged everything it did; process 4 is new
+        elapsed = top.update(new FakeScan(3000L).add(1, 1L, 150L, 10L, 500L, 500L).add(2, 1L, 210L, 300L, 0L, 0L)
+                .add(3, 2L, 30L, 50L, 0L, 0L).add(4, 2L, 5L, 400L, -1L, -1L), 2);
+        assertThat(elapsed, is(2000L));
+        assertThat(pids(top.getTopByCpu()), contains(1, 3));
+        assertThat(top.getTopByCpu().get(0).getCpuDelta(), is(50L));
+        assertThat(pids(top.getTopByMemory()), contains(4, 2));
+        assertThat(pids(top.getTopByIo()), contains(1));
+        assertThat(top.getTopByIo().get(0).getIoDelta(), is(1000L));
+        assertThat(top.getTopByMemory().get(0).getName(), is("proc4"));
+    }
+
+    private static List<Integer> pids(List<TopProcesses.Process> processes) {
+        return processes.stream().map(TopProcesses.Process::getProcessId).collect(Collectors.toList());
+    }
+
+    private static final class FakeScan implements TopProcesses.Scan {
+        private final long timestamp;
+        private final List<long[]> rows = new ArrayList<>();
+
+        FakeScan(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        FakeScan add(int pid, long startTime, long cpu, long rss, long read, long written) {
+            rows.add(new long[] { pid, startTime, cpu, rss, read, written });
+            return this;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+
+        @Override
+        public int getProcessId(int i) {
+            return (int) rows.get(i)[0];
+        }
+
+        @Override
+        public long getStartTime(int i) {
+            return rows.get(i)[1];
+        }
+
+        @Override
+        public long getCpuMillis(int i) {
+            return rows.get(i)[2];
+        }
+
+        @Override
+        public long getResidentBytes(int i) {
+            return rows.get(i)[3];
+        }
+
+        @Override
+        public long getBytesRead(int i) {
+            return rows.get(i)[4];
+        }
+
+        @Override
+        public long getBytesWritten(int i) {
+            return rows.get(i)[5];
+        }
+
+        @Override
+        public int getThreadCount(int i) {
+            return 1;
+        }
+
+        @Override
+        public String getName(int i) {
+            return "proc" + rows.get(i)[0];
+        }
+    }
+}
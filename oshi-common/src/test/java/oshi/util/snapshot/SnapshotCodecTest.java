@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.nativefree.SystemInfo;
+import oshi.software.os.OperatingSystem;
+
+@EnabledOnOs(OS.LINUX)
+class SnapshotCodecTest {
+
+    private static HardwareAbstractionLayer hal;
+    private static OperatingSystem os;
+
+    @BeforeAll
+    static void setUp() {
+        SystemInfo si = new SystemInfo();
+        hal = si.getHardware();
+        os = si.getOperatingSystem();
+    }
+
+    @Test
+    void testRoundTrip() {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        SnapshotEncoder encoder = new SnapshotEncoder();
+        SnapshotDecoder decoder = new SnapshotDecoder();
+
+        snapshot.update(hal, os);
+        ByteBuffer keyframe = encoder.encode(snapshot);
+        int keyframeSize = keyframe.remaining();
+        assertSnapshotsEqual(decoder.decode(keyframe), snapshot);
+        assertThat(keyframe.hasRemaining(), is(false));
+
+        snapshot.update(hal, os);
+        ByteBuffer delta = encoder.encode(snapshot);
+        // Most values are unchanged or have moved a little since the keyframe
+        assertThat(delta.remaining(), lessThan(keyframeSize));
+        assertSnapshotsEqual(decoder.decode(delta), snapshot);
+    }
+
+    @Test
+    void testChangedRows() {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        snapshot.update(hal, os);
+        SnapshotEncoder encoder = new SnapshotEncoder(0);
+        SnapshotDecoder decoder = new SnapshotDecoder();
+        decoder.decode(encoder.encode(snapshot));
+
+        // Remove the first process and move the last to the front, so rows must be matched by key
+        ProcessTable procs = snapshot.getProcesses();
+        int rows = procs.size();
+        ProcessTable reordered = new ProcessTable(snapshot.getDictionary());
+        reordered.copyFrom(procs);
+        procs.setRows(rows - 1);
+        copyRow(reordered, rows - 1, procs, 0);
+        procs.residentMemory[0] += 4096;
+        snapshot.getDictionary().intern("a string added after the keyframe");
+
+        assertSnapshotsEqual(decoder.decode(encoder.encode(snapshot)), snapshot);
+    }
+
+    @Test
+    void testChannelRoundTrip() throws IOException {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        SnapshotEncoder encoder = new SnapshotEncoder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel sink = Channels.newChannel(out);
+        snapshot.update(hal, os);
+        encoder.encode(snapshot, sink);
+        snapshot.update(hal, os);
+        encoder.encode(snapshot, sink);
+
+        SnapshotDecoder decoder = new SnapshotDecoder();
+        ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+        decoder.decode(source);
+        assertSnapshotsEqual(decoder.decode(source), snapshot);
+        assertThrows(EOFException.class, () -> decoder.decode(source));
+    }
+
+    @Test
+    void testFramesMustBeContiguous() {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        SnapshotEncoder encoder = new SnapshotEncoder(3);
+        SnapshotDecoder decoder = new SnapshotDecoder();
+        snapshot.update(hal, os);
+
+        // A delta frame cannot be decoded without the frames before it
+        encoder.encode(snapshot);
+        ByteBuffer delta = encoder.encode(snapshot);
+        assertThrows(IllegalStateException.class, () -> decoder.decode(delta));
+        ByteBuffer next = encoder.encode(snapshot);
+        assertThrows(IllegalStateException.class, () -> decoder.decode(next));
+
+        // The periodic keyframe resynchronizes
+        assertSnapshotsEqual(decoder.decode(encoder.encode(snapshot)), snapshot);
+        assertSnapshotsEqual(decoder.decode(encoder.encode(snapshot)), snapshot);
+
+        // As does a reset of the encoder
+        encoder.encode(snapshot);
+        encoder.reset();
+        assertSnapshotsEqual(decoder.decode(encoder.encode(snapshot)), snapshot);
+    }
+
+    @Test
+    void testInvalidFrames() {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        snapshot.update(hal, os);
+        SnapshotEncoder encoder = new SnapshotEncoder();
+        ByteBuffer frame = encoder.encode(snapshot);
+        byte[] bytes = Arrays.copyOf(frame.array(), frame.remaining());
+
+        SnapshotDecoder decoder = new SnapshotDecoder();
+        ByteBuffer partial = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+        assertThrows(BufferUnderflowException.class, () -> decoder.decode(partial));
+        assertThat(partial.position(), is(0));
+
+        byte[] badMagic = bytes.clone();
+        badMagic[SnapshotCodec.LENGTH_BYTES] = 'X';
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(ByteBuffer.wrap(badMagic)));
+
+        // A length prefix shorter than the content truncates the frame
+        byte[] truncated = bytes.clone();
+        truncated[SnapshotCodec.LENGTH_BYTES - 1] = (byte) (SnapshotCodec.HEADER_BYTES + 2);
+        truncated[SnapshotCodec.LENGTH_BYTES - 2] = 0;
+        truncated[SnapshotCodec.LENGTH_BYTES - 3] = 0;
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(ByteBuffer.wrap(truncated)));
+
+        assertThrows(BufferOverflowException.class, () -> encoder.encode(snapshot, ByteBuffer.allocate(8)));
+        ByteBuffer dst = ByteBuffer.allocate(bytes.length * 2);
+        encoder.encode(snapshot, dst);
+        dst.flip();
+        // The failed encode forced a keyframe, which a fresh decoder accepts
+        assertSnapshotsEqual(new SnapshotDecoder().decode(dst), snapshot);
+    }
+
+    private static void copyRow(ColumnarTable src, int from, ColumnarTable dst, int to) {
+        for (int c = 0; c < src.intColumns().length; c++) {
+            dst.intColumns()[c][to] = src.intColumns()[c][from];
+        }
+        for (int c = 0; c < src.longColumns().length; c++) {
+            dst.longColumns()[c][to] = src.longColumns()[c][from];
+        }
+    }
+
+    private static void assertSnapshotsEqual(SystemSnapshot actual, SystemSnapshot expected) {
+        assertThat(actual.getTimestamp(), is(expected.getTimestamp()));
+        assertThat(actual.getSystemCpuLoadTicks(), is(expected.getSystemCpuLoadTicks()));
+        assertThat(actual.getProcessorCount(), is(expected.getProcessorCount()));
+        int ticks = expected.getProcessorCount() * SystemSnapshot.TICK_TYPES;
+        assertThat(Arrays.copyOf(actual.processorCpuLoadTicks, ticks),
+                is(Arrays.copyOf(expected.processorCpuLoadTicks, ticks)));
+        assertThat(actual.getMemoryTotal(), is(expected.getMemoryTotal()));
+        assertThat(actual.getMemoryAvailable(), is(expected.getMemoryAvailable()));
+
+        ColumnarTable[] actualTables = actual.tables();
+        ColumnarTable[] expectedTables = expected.tables();
+        for (int t = 0; t < expectedTables.length; t++) {
+            int rows = expectedTables[t].size();
+            assertThat(actualTables[t].size(), is(rows));
+            int[][] ints = expectedTables[t].intColumns();
+            for (int c = 0; c < ints.length; c++) {
+                assertThat(Arrays.copyOf(actualTables[t].intColumns()[c], rows), is(Arrays.copyOf(ints[c], rows)));
+            }
+            long[][] longs = expectedTables[t].longColumns();
+            for (int c = 0; c < longs.length; c++) {
+                assertThat(Arrays.copyOf(actualTables[t].longColumns()[c], rows), is(Arrays.copyOf(longs[c], rows)));
+            }
+        }
+        // String columns hold indices, so compare a view to check the dictionaries agree
+        if (expected.getProcesses().size() > 0) {
+            assertThat(actual.getProcesses().getProcess(0).getName(),
+                    is(expected.getProcesses().getProcess(0).getName()));
+            assertThat(actual.getProcesses().getProcess(0).getUser(),
+                    is(expected.getProcesses().getProcess(0).getUser()));
+        }
+        for (int r = 0; r < expected.getConnections().size(); r++) {
+            assertThat(actual.getConnections().getConnection(r).toString(),
+                    is(expected.getConnections().getConnection(r).toString()));
+        }
+    }
+}
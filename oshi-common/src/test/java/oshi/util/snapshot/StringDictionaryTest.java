@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+
+    @Test
+    void testIntern() {
+        StringDictionary dict = new StringDictionary();
+        assertThat(dict.size(), is(1));
+        assertThat(dict.intern(null), is(0));
+        assertThat(dict.intern(""), is(0));
+
+        int root = dict.intern("root");
+        assertThat(root, is(1));
+        assertThat(dict.intern(new String("root")), is(root));
+        assertThat(dict.intern("daemon"), is(2));
+        assertThat(dict.get(root), is("root"));
+        assertThat(dict.get(0), is(""));
+        assertThat(dict.size(), is(3));
+
+        // Grows past the initial array
+        for (int i = 0; i < 1000; i++) {
+            assertThat(dict.get(dict.intern("s" + i)), is("s" + i));
+        }
+        assertThat(dict.size(), is(1003));
+
+        dict.clear();
+        assertThat(dict.size(), is(1));
+        assertThat(dict.intern("daemon"), is(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> dict.get(2));
+    }
+}
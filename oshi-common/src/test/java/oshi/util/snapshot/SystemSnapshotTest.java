@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.util.snapshot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.hardware.CentralProcessor.TickType;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.NetworkIF;
+import oshi.nativefree.SystemInfo;
+import oshi.software.common.os.linux.LinuxOperatingSystem;
+import oshi.software.os.InternetProtocolStats.IPConnection;
+import oshi.software.os.OSFileStore;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+import oshi.util.driver.linux.proc.ProcessStatTable;
+
+@EnabledOnOs(OS.LINUX)
+class SystemSnapshotTest {
+
+    private static HardwareAbstractionLayer hal;
+    private static OperatingSystem os;
+
+    @BeforeAll
+    static void setUp() {
+        SystemInfo si = new SystemInfo();
+        hal = si.getHardware();
+        os = si.getOperatingSystem();
+    }
+
+    @Test
+    void testProcessTable() {
+        List<OSProcess> procs = os.getProcesses();
+        ProcessTable table = new ProcessTable(new StringDictionary());
+        table.addAll(procs);
+        assertThat(table.size(), is(procs.size()));
+        for (int i = 0; i < procs.size(); i++) {
+            OSProcess p = procs.get(i);
+            OSProcess view = table.getProcess(i);
+            assertThat(view.getProcessID(), is(p.getProcessID()));
+            assertThat(table.getProcessID(i), is(p.getProcessID()));
+            assertThat(view.getParentProcessID(), is(p.getParentProcessID()));
+            assertThat(view.getName(), is(p.getName()));
+            assertThat(view.getUser(), is(p.getUser()));
+            assertThat(view.getState(), is(p.getState()));
+            assertThat(view.getResidentMemory(), is(p.getResidentMemory()));
+            assertThat(view.getUserTime(), is(p.getUserTime()));
+            assertThat(view.updateAttributes(), is(false));
+        }
+        assertThat(table.asList().size(), is(procs.size()));
+
+        // Repopulating reuses the arrays and views read the new rows
+        table.clear();
+        assertThat(table.size(), is(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getProcess(0));
+        table.add(os.getProcess(os.getProcessId()));
+        assertThat(table.getProcess(0).getProcessID(), is(os.getProcessId()));
+    }
+
+    @Test
+    void testProcessTableFromStat() {
+        LinuxOperatingSystem linux = (LinuxOperatingSystem) os;
+        ProcessTable table = new ProcessTable(new StringDictionary());
+        table.addAll(ProcessStatTable.query(linux.queryProcessIds(), true, null), linux.getHz(), linux.getPageSize(),
+                LinuxOperatingSystem.getBootTime());
+        assertThat(table.size(), greaterThan(0));
+        OSProcess self = os.getProcess(os.getProcessId());
+        int row = -1;
+        for (int i = 0; i < table.size(); i++) {
+            if (table.getProcessID(i) == os.getProcessId()) {
+                row = i;
+            }
+        }
+        assertThat(row, greaterThanOrEqualTo(0));
+        OSProcess view = table.getProcess(row);
+        assertThat(view.getName(), is(self.getName()));
+        assertThat(view.getParentProcessID(), is(self.getParentProcessID()));
+        assertThat(view.getPriority(), is(self.getPriority()));
+        assertThat(view.getStartTime(), is(self.getStartTime()));
+        assertThat(view.getUser(), is(""));
+        assertThat(view.getOpenFiles(), is(-1L));
+    }
+
+    @Test
+    void testOtherTables() {
+        StringDictionary dict = new StringDictionary();
+
+        List<NetworkIF> nets = hal.getNetworkIFs(true);
+        NetworkIFTable netTable = new NetworkIFTable(dict);
+        netTable.addAll(nets);
+        for (int i = 0; i < nets.size(); i++) {
+            assertThat(netTable.getNetworkIF(i).getName(), is(nets.get(i).getName()));
+            assertThat(netTable.getNetworkIF(i).getIfOperStatus(), is(nets.get(i).getIfOperStatus()));
+            assertThat(netTable.getBytesRecv(i), is(nets.get(i).getBytesRecv()));
+        }
+
+        List<OSFileStore> stores = os.getFileSystem().getFileStores();
+        FileStoreTable fsTable = new FileStoreTable(dict);
+        fsTable.addAll(stores);
+        for (int i = 0; i < stores.size(); i++) {
+            assertThat(fsTable.getFileStore(i).getMount(), is(stores.get(i).getMount()));
+            assertThat(fsTable.getFileStore(i).isLocal(), is(stores.get(i).isLocal()));
+            assertThat(fsTable.getTotalSpace(i), is(stores.get(i).getTotalSpace()));
+        }
+
+        List<IPConnection> conns = os.getInternetProtocolStats().getConnections();
+        ConnectionTable connTable = new ConnectionTable(dict);
+        connTable.addAll(conns);
+        for (int i = 0; i < conns.size(); i++) {
+            assertThat(connTable.getConnection(i).toString(), is(conns.get(i).toString()));
+        }
+    }
+
+    @Test
+    void testSnapshot() {
+        SystemSnapshot snapshot = new SystemSnapshot();
+        assertThat(snapshot.getTimestamp(), is(0L));
+        snapshot.update(hal, os);
+        assertThat(snapshot.getTimestamp(), greaterThan(0L));
+        assertThat(snapshot.getProcesses().size(), greaterThan(0));
+        assertThat(snapshot.getMemoryTotal(), greaterThan(0L));
+        assertThat(snapshot.getProcessorCount(), is(hal.getProcessor().getLogicalProcessorCount()));
+        assertThat(snapshot.getSystemCpuLoadTicks().length, is(TickType.values().length));
+        assertThat(snapshot.getProcessorCpuLoadTicks(0, TickType.USER),
+                is(snapshot.getProcessorCpuLoadTicks(0, TickType.USER)));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> snapshot.getProcessorCpuLoadTicks(snapshot.getProcessorCount(), TickType.USER));
+        // Every table shares the snapshot's dictionary
+        assertThat(snapshot.getFileStores().getDictionary(), is(snapshot.getDictionary()));
+
+        int dictSize = snapshot.getDictionary().size();
+        snapshot.update(hal, os);
+        assertThat(snapshot.getProcesses().size(), greaterThan(0));
+        // Strings retained from the first update are not added again
+        assertThat(snapshot.getDictionary().size() < dictSize * 2, is(true));
+    }
+}
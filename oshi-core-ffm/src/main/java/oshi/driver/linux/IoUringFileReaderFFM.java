@@ -0,0 +1,479 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.ffm.ForeignFunctions;
+import oshi.ffm.platform.linux.IoUringFunctions;
+import oshi.ffm.platform.linux.LinuxLibcFunctions;
+import oshi.util.FileUtil;
+import oshi.util.GlobalConfig;
+
+/**
+ * Reads many small files, such as the procfs and sysfs files of a bulk collection, with a few {@code io_uring}
+ * submissions in place of an {@code open}, {@code read} and {@code close} system call for each file.
+ * <p>
+ * Files are read in batches of up to 256, in three rounds: every file of the batch is opened, then every opened file is
+ * read into its own slot of a buffer reused across calls, then every file is closed. Linking the three operations of
+ * each file into a chain would need the kernel's fixed file table, which is not worth registering for files read once;
+ * a round trip per round is already a small constant per batch.
+ * <p>
+ * {@code io_uring} is used only if enabled with the {@code oshi.os.linux.iouring} configuration property and a ring can
+ * be set up, which needs kernel 5.6 or later and is commonly denied in containers. Otherwise, and for any file longer
+ * than its slot, {@link #readFiles(String...)} reads files sequentially with {@link FileUtil}. A file which the batch
+ * could not open or read is not read again, as a second attempt would fail the same way.
+ */
+@ThreadSafe
+public final class IoUringFileReaderFFM {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IoUringFileReaderFFM.class);
+
+    /** Submission queue size, and so the number of files read per batch. */
+    static final int RING_ENTRIES = 256;
+    /** Bytes read per file; a file which fills its slot may be longer and is read again sequentially. */
+    static final int SLOT_SIZE = 4096;
+
+    private static final VarHandle INT_HANDLE = JAVA_INT.varHandle();
+
+    // One ring serves all callers; the lock also guards its slot buffer
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static @Nullable Ring ring;
+    private static volatile boolean failed = !IoUringFunctions.isAvailable();
+
+    private IoUringFileReaderFFM() {
+    }
+
+    /**
+     * Whether {@link #readFiles(String...)} will use {@code io_uring}: it has been enabled in the configuration, and no
+     * attempt to set up or use a ring has failed.
+     *
+     * @return {@code true} if files will be read with {@code io_uring}
+     */
+    public static boolean isEnabled() {
+        return !failed && GlobalConfig.get(GlobalConfig.OSHI_OS_LINUX_IOURING, false);
+    }
+
+    /**
+     * Reads the whole contents of each file.
+     *
+     * @param paths the absolute paths of the files to read
+     * @return the contents of each file, decoded as UTF-8, in the same order; an empty string for any file which does
+     *         not exist or could not be read
+     */
+    public static String[] readFiles(String... paths) {
+        String[] contents = new String[paths.length];
+        if (isEnabled()) {
+            LOCK.lock();
+            try {
+                Ring r = getRing();
+                if (r != null) {
+                    int[] dirfds = new int[paths.length];
+                    Arrays.fill(dirfds, IoUringFunctions.AT_FDCWD);
+                    for (int start = 0; start < paths.length; start += r.entries) {
+                        r.readBatch(dirfds, paths, start, Math.min(r.entries, paths.length - start), contents);
+                    }
+                }
+            } catch (Throwable e) {
+                // The ring's state is unknown after a failed round, so stop using it
+                LOG.debug("io_uring read failed, will read files sequentially. {}", e.toString());
+                closeRing();
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        for (int i = 0; i < paths.length; i++) {
+            if (contents[i] == null) {
+                contents[i] = new String(FileUtil.readAllBytes(paths[i], false), StandardCharsets.UTF_8);
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * Reads the same files of each of many directories, opening each file relative to a descriptor of its directory
+     * rather than by its absolute path. A directory such as {@code /proc/[pid]} is so opened once for all its files,
+     * which all come from the process it was opened for even if the process exits and its PID is reused meanwhile.
+     *
+     * @param directories the absolute paths of the directories
+     * @param names       the names of the files to read in each directory
+     * @return for each directory, the contents of each named file decoded as UTF-8, in the same order, with an empty
+     *         string for any file which could not be opened or read, and all empty if the directory could not be
+     *         opened; or a {@code null} row if the directory was not read in full with {@code io_uring}, because it is
+     *         not enabled or failed, or a file was longer than its slot, for the caller to read itself
+     */
+    public static String[] @Nullable [] readFilesAt(String[] directories, String... names) {
+        String[] @Nullable [] contents = new String[directories.length][];
+        if (!isEnabled() || names.length == 0) {
+            return contents;
+        }
+        LOCK.lock();
+        try {
+            Ring r = getRing();
+            if (r != null) {
+                int perBatch = Math.max(1, r.entries / names.length);
+                for (int start = 0; start < directories.length; start += perBatch) {
+                    r.readDirectoryBatch(directories, names, start, Math.min(perBatch, directories.length - start),
+                            contents);
+                }
+            }
+        } catch (Throwable e) {
+            // The ring's state is unknown after a failed round, so stop using it
+            LOG.debug("io_uring read failed, will read files sequentially. {}", e.toString());
+            closeRing();
+        } finally {
+            LOCK.unlock();
+        }
+        return contents;
+    }
+
+    private static @Nullable Ring getRing() throws Throwable {
+        if (ring == null) {
+            ring = Ring.create(RING_ENTRIES);
+            if (ring == null) {
+                LOG.debug("io_uring_setup failed, will read files sequentially");
+                failed = true;
+            }
+        }
+        return ring;
+    }
+
+    private static void closeRing() {
+        failed = true;
+        if (ring != null) {
+            ring.close();
+            ring = null;
+        }
+    }
+
+    /**
+     * A ring with its submission queue, completion queue and entries mapped into this process, and the slot buffer
+     * files are read into. Used only with {@link #LOCK} held.
+     */
+    private static final class Ring {
+
+        private final int fd;
+        private final int entries;
+        private final MemorySegment[] mappings;
+        private final MemorySegment sqRing;
+        private final MemorySegment cqRing;
+        private final MemorySegment sqes;
+        private final long sqTailOffset;
+        private final long sqArrayOffset;
+        private final int sqMask;
+        private final long cqHeadOffset;
+        private final long cqTailOffset;
+        private final long cqesOffset;
+        private final int cqMask;
+        private final MemorySegment slots;
+        private final MemorySegment callState;
+
+        private Ring(int fd, MemorySegment params, MemorySegment sqRing, MemorySegment cqRing, MemorySegment sqes,
+                MemorySegment[] mappings) {
+            this.fd = fd;
+            this.entries = params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_ENTRIES_OFFSET);
+            this.mappings = mappings;
+            this.sqRing = sqRing;
+            this.cqRing = cqRing;
+            this.sqes = sqes;
+            this.sqTailOffset = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_TAIL_OFFSET));
+            this.sqArrayOffset = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_ARRAY_OFFSET));
+            this.sqMask = sqRing.get(JAVA_INT,
+                    Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_RING_MASK_OFFSET)));
+            this.cqHeadOffset = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_CQ_HEAD_OFFSET));
+            this.cqTailOffset = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_CQ_TAIL_OFFSET));
+            this.cqesOffset = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_CQ_CQES_OFFSET));
+            this.cqMask = cqRing.get(JAVA_INT,
+                    Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_CQ_RING_MASK_OFFSET)));
+            // Kept for the life of the ring, which normally is the life of the process
+            Arena arena = Arena.ofAuto();
+            this.slots = arena.allocate((long) entries * SLOT_SIZE, Long.BYTES);
+            this.callState = arena.allocate(ForeignFunctions.CAPTURED_STATE_LAYOUT);
+        }
+
+        static @Nullable Ring create(int entries) throws Throwable {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment params = arena.allocate(IoUringFunctions.PARAMS_LAYOUT);
+                int fd = IoUringFunctions.ioUringSetup(entries, params);
+                if (fd < 0) {
+                    return null;
+                }
+                long sqSize = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_ARRAY_OFFSET))
+                        + Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_ENTRIES_OFFSET))
+                                * Integer.BYTES;
+                long cqSize = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_CQ_CQES_OFFSET))
+                        + Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_CQ_ENTRIES_OFFSET))
+                                * IoUringFunctions.CQE_SIZE;
+                long sqesSize = Integer.toUnsignedLong(params.get(JAVA_INT, IoUringFunctions.PARAMS_SQ_ENTRIES_OFFSET))
+                        * IoUringFunctions.SQE_SIZE;
+                boolean singleMmap = (params.get(JAVA_INT, IoUringFunctions.PARAMS_FEATURES_OFFSET)
+                        & IoUringFunctions.IORING_FEAT_SINGLE_MMAP) != 0;
+                @Nullable
+                MemorySegment sqRing;
+                @Nullable
+                MemorySegment cqRing;
+                if (singleMmap) {
+                    sqRing = IoUringFunctions.mmapRing(Math.max(sqSize, cqSize), fd,
+                            IoUringFunctions.IORING_OFF_SQ_RING);
+                    cqRing = sqRing;
+                } else {
+                    sqRing = IoUringFunctions.mmapRing(sqSize, fd, IoUringFunctions.IORING_OFF_SQ_RING);
+                    cqRing = IoUringFunctions.mmapRing(cqSize, fd, IoUringFunctions.IORING_OFF_CQ_RING);
+                }
+                @Nullable
+                MemorySegment sqes = IoUringFunctions.mmapRing(sqesSize, fd, IoUringFunctions.IORING_OFF_SQES);
+                if (sqRing == null || cqRing == null || sqes == null) {
+                    unmap(sqRing, singleMmap ? null : cqRing, sqes);
+                    LinuxLibcFunctions.close(fd);
+                    return null;
+                }
+                MemorySegment[] mappings = singleMmap ? new MemorySegment[] { sqRing, sqes }
+                        : new MemorySegment[] { sqRing, cqRing, sqes };
+                return new Ring(fd, params, sqRing, cqRing, sqes, mappings);
+            }
+        }
+
+        void close() {
+            unmap(mappings);
+            try {
+                LinuxLibcFunctions.close(fd);
+            } catch (Throwable e) {
+                LOG.debug("Failed to close io_uring descriptor. {}", e.toString());
+            }
+        }
+
+        private static void unmap(@Nullable MemorySegment... mappings) {
+            for (MemorySegment mapping : mappings) {
+                if (mapping != null) {
+                    try {
+                        IoUringFunctions.munmap(mapping);
+                    } catch (Throwable e) {
+                        LOG.debug("Failed to unmap io_uring region. {}", e.toString());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads one batch, storing the contents of each file read in full, and an empty string for each file which
+         * could not be opened or read. Entries for files which filled their slot are left {@code null} for the caller
+         * to read in full.
+         *
+         * @param dirfds the descriptor of the directory each path is relative to, or {@code AT_FDCWD}
+         */
+        void readBatch(int[] dirfds, String[] paths, int start, int count, @Nullable String[] contents)
+                throws Throwable {
+            int[] fds = new int[count];
+            int[] lengths = new int[count];
+            int[] closed = new int[count];
+            try (Arena arena = Arena.ofConfined()) {
+                for (int i = 0; i < count; i++) {
+                    queue(i, IoUringFunctions.IORING_OP_OPENAT, dirfds[start + i],
+                            arena.allocateFrom(paths[start + i]).address(), 0,
+                            LinuxLibcFunctions.O_RDONLY | LinuxLibcFunctions.O_CLOEXEC, i);
+                }
+                submitAndWait(count, fds);
+            }
+
+            boolean closing = false;
+            try {
+                int opened = 0;
+                for (int i = 0; i < count; i++) {
+                    if (fds[i] >= 0) {
+                        queue(opened++, IoUringFunctions.IORING_OP_READ, fds[i],
+                                slots.address() + (long) i * SLOT_SIZE, SLOT_SIZE, 0, i);
+                    }
+                }
+                Arrays.fill(lengths, -1);
+                submitAndWait(opened, lengths);
+
+                opened = 0;
+                for (int i = 0; i < count; i++) {
+                    if (fds[i] >= 0) {
+                        queue(opened++, IoUringFunctions.IORING_OP_CLOSE, fds[i], 0L, 0, 0, i);
+                    }
+                }
+                // Not closed again if this round fails part way, as a descriptor may already be reused
+                closing = true;
+                submitAndWait(opened, closed);
+            } finally {
+                if (!closing) {
+                    for (int fd : fds) {
+                        if (fd >= 0) {
+                            LinuxLibcFunctions.close(fd);
+                        }
+                    }
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (fds[i] < 0 || lengths[i] < 0) {
+                    // Missing, or unreadable, as is another user's /proc/[pid]/io
+                    contents[start + i] = "";
+                } else if (lengths[i] < SLOT_SIZE) {
+                    contents[start + i] = new String(slots.asSlice((long) i * SLOT_SIZE, lengths[i]).toArray(JAVA_BYTE),
+                            StandardCharsets.UTF_8);
+                }
+            }
+        }
+
+        /**
+         * Opens a batch of directories, reads the named files of each relative to it, and closes them. A row is left
+         * {@code null} if any of its files filled its slot.
+         */
+        void readDirectoryBatch(String[] directories, String[] names, int start, int count,
+                String[] @Nullable [] contents) throws Throwable {
+            int[] dirfds = new int[count];
+            try (Arena arena = Arena.ofConfined()) {
+                for (int i = 0; i < count; i++) {
+                    queue(i, IoUringFunctions.IORING_OP_OPENAT, IoUringFunctions.AT_FDCWD,
+                            arena.allocateFrom(directories[start + i]).address(), 0,
+                            LinuxLibcFunctions.O_RDONLY | LinuxLibcFunctions.O_DIRECTORY | LinuxLibcFunctions.O_CLOEXEC,
+                            i);
+                }
+                submitAndWait(count, dirfds);
+            }
+            boolean closed = false;
+            try {
+                int[] fileDirfds = new int[count * names.length];
+                String[] paths = new String[count * names.length];
+                int files = 0;
+                for (int i = 0; i < count; i++) {
+                    if (dirfds[i] >= 0) {
+                        for (String name : names) {
+                            fileDirfds[files] = dirfds[i];
+                            paths[files++] = name;
+                        }
+                    }
+                }
+                @Nullable
+                String[] read = new String[files];
+                for (int first = 0; first < files; first += entries) {
+                    readBatch(fileDirfds, paths, first, Math.min(entries, files - first), read);
+                }
+                files = 0;
+                for (int i = 0; i < count; i++) {
+                    String[] row = new String[names.length];
+                    if (dirfds[i] < 0) {
+                        // The process has exited, so its files are as empty as a sequential read would find them
+                        Arrays.fill(row, "");
+                        contents[start + i] = row;
+                        continue;
+                    }
+                    boolean complete = true;
+                    for (int n = 0; n < names.length; n++) {
+                        @Nullable
+                        String file = read[files++];
+                        complete &= file != null;
+                        row[n] = file == null ? "" : file;
+                    }
+                    contents[start + i] = complete ? row : null;
+                }
+
+                int opened = 0;
+                for (int i = 0; i < count; i++) {
+                    if (dirfds[i] >= 0) {
+                        queue(opened++, IoUringFunctions.IORING_OP_CLOSE, dirfds[i], 0L, 0, 0, i);
+                    }
+                }
+                // Not closed again if this round fails part way, as a descriptor may already be reused
+                closed = true;
+                submitAndWait(opened, new int[count]);
+            } finally {
+                if (!closed) {
+                    for (int dirfd : dirfds) {
+                        if (dirfd >= 0) {
+                            LinuxLibcFunctions.close(dirfd);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Fills the submission queue entry {@code position} places past the current tail. Only this class submits to
+         * the ring, and every round is drained before the next, so the queue is empty when a round begins.
+         */
+        private void queue(int position, byte opcode, int fileDescriptor, long address, int length, int opFlags,
+                int userData) {
+            int tail = sqRing.get(JAVA_INT, sqTailOffset) + position;
+            int index = tail & sqMask;
+            MemorySegment sqe = sqes.asSlice(index * IoUringFunctions.SQE_SIZE, IoUringFunctions.SQE_SIZE)
+                    .fill((byte) 0);
+            sqe.set(JAVA_BYTE, IoUringFunctions.SQE_OPCODE_OFFSET, opcode);
+            sqe.set(JAVA_INT, IoUringFunctions.SQE_FD_OFFSET, fileDescriptor);
+            sqe.set(JAVA_LONG, IoUringFunctions.SQE_ADDR_OFFSET, address);
+            sqe.set(JAVA_INT, IoUringFunctions.SQE_LEN_OFFSET, length);
+            sqe.set(JAVA_INT, IoUringFunctions.SQE_OP_FLAGS_OFFSET, opFlags);
+            sqe.set(JAVA_LONG, IoUringFunctions.SQE_USER_DATA_OFFSET, userData);
+            sqRing.set(JAVA_INT, sqArrayOffset + (long) index * Integer.BYTES, index);
+        }
+
+        /**
+         * Publishes {@code count} queued entries, submits them and waits for all of their completions.
+         *
+         * @param count   the number of entries queued
+         * @param results receives the result of each operation, indexed by its user data
+         */
+        private void submitAndWait(int count, int[] results) throws Throwable {
+            if (count == 0) {
+                return;
+            }
+            int tail = sqRing.get(JAVA_INT, sqTailOffset);
+            // The kernel reads the tail with acquire semantics, so must see the entries written before it
+            INT_HANDLE.setRelease(sqRing, sqTailOffset, tail + count);
+            int submitted = 0;
+            int completed = 0;
+            while (completed < count) {
+                int toSubmit = count - submitted;
+                // The kernel only waits once all entries are submitted, when all not yet reaped are in flight
+                int ret = IoUringFunctions.ioUringEnter(callState, fd, toSubmit, count - completed,
+                        IoUringFunctions.IORING_ENTER_GETEVENTS);
+                int reaped = reap(results);
+                if (ret < 0) {
+                    int errno = ForeignFunctions.getErrno(callState);
+                    if (errno != IoUringFunctions.EINTR) {
+                        throw new IllegalStateException("io_uring_enter failed with errno " + errno);
+                    }
+                } else {
+                    submitted += ret;
+                    if (ret == 0 && toSubmit > 0 && reaped == 0) {
+                        throw new IllegalStateException("io_uring_enter made no progress");
+                    }
+                }
+                completed += reaped;
+            }
+        }
+
+        private int reap(int[] results) {
+            int head = cqRing.get(JAVA_INT, cqHeadOffset);
+            int tail = (int) INT_HANDLE.getAcquire(cqRing, cqTailOffset);
+            int reaped = 0;
+            for (; head != tail; head++) {
+                long cqe = cqesOffset + (long) (head & cqMask) * IoUringFunctions.CQE_SIZE;
+                int userData = (int) cqRing.get(JAVA_LONG, cqe + IoUringFunctions.CQE_USER_DATA_OFFSET);
+                results[userData] = cqRing.get(JAVA_INT, cqe + IoUringFunctions.CQE_RES_OFFSET);
+                reaped++;
+            }
+            // Frees the completion slots for the kernel
+            INT_HANDLE.setRelease(cqRing, cqHeadOffset, head);
+            return reaped;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+import static oshi.ffm.ForeignFunctions.callInArenaIntOrDefault;
+import static oshi.util.LogLevel.DEBUG;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.GuardedBy;
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.ffm.ForeignFunctions;
+import oshi.ffm.platform.linux.LinuxLibcFunctions;
+import oshi.util.driver.linux.proc.PressureStall;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
+import oshi.util.driver.linux.proc.PressureStall.StallType;
+
+/**
+ * Delivers Pressure Stall Information trigger events, so that a listener is called as soon as tasks have been stalled
+ * for longer than a threshold within a time window, rather than polling the averages of
+ * {@link PressureStall#queryPressure(Resource)}, which smooth over short stalls.
+ * <p>
+ * Each subscription writes a trigger such as {@code some 150000 1000000} to a pressure file, either system-wide under
+ * {@code /proc/pressure} or a cgroup's {@code memory.pressure}, {@code cpu.pressure} or {@code io.pressure}, and keeps
+ * the file open. The kernel then flags the descriptor with {@code POLLPRI} when the threshold is crossed, at most once
+ * per window. One thread per monitor waits in {@code poll} on all the descriptors, costing nothing while no stall
+ * occurs, and calls the listeners.
+ * <p>
+ * Triggers need Linux 5.2 or later. Before Linux 6.5 creating one needs {@code CAP_SYS_RESOURCE}; later kernels allow
+ * unprivileged triggers whose window is a multiple of 2 seconds.
+ */
+@ThreadSafe
+public final class PressureMonitorFFM implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PressureMonitorFFM.class);
+
+    /** The shortest trigger window the kernel accepts, in microseconds. */
+    public static final long MIN_WINDOW_MICROS = 500_000L;
+    /** The longest trigger window the kernel accepts, in microseconds. */
+    public static final long MAX_WINDOW_MICROS = 10_000_000L;
+
+    /**
+     * Receives trigger events.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called on the monitor's thread when the stall threshold of a subscription is crossed. Should return quickly,
+         * as events of other subscriptions wait for it.
+         *
+         * @param subscription the subscription whose trigger fired
+         */
+        void stalled(Subscription subscription);
+    }
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private int wakeFd = -1;
+    @GuardedBy("lock")
+    private boolean closed;
+    @GuardedBy("lock")
+    private boolean stopped;
+
+    /**
+     * Creates a monitor. Its thread is started by the first subscription.
+     */
+    public PressureMonitorFFM() {
+    }
+
+    /**
+     * Whether the kernel provides pressure stall information, without which no subscription can succeed.
+     *
+     * @return {@code true} if {@code /proc/pressure} exists
+     */
+    public static boolean isSupported() {
+        return PressureStall.isSupported();
+    }
+
+    /**
+     * Subscribes to system-wide stalls on a resource.
+     *
+     * @param resource     the resource
+     * @param type         whether to watch for some or all tasks being stalled
+     * @param stallMicros  the stall time within a window which fires the trigger, in microseconds
+     * @param windowMicros the window, in microseconds, from {@link #MIN_WINDOW_MICROS} to {@link #MAX_WINDOW_MICROS}
+     * @param listener     the listener to call
+     * @return the subscription, or null if the kernel does not support the trigger or denied it
+     * @see #subscribe(String, StallType, long, long, Listener)
+     */
+    public @Nullable Subscription subscribe(Resource resource, StallType type, long stallMicros, long windowMicros,
+            Listener listener) {
+        return subscribe(PressureStall.getPressurePath(resource), type, stallMicros, windowMicros, listener);
+    }
+
+    /**
+     * Subscribes to stalls reported by a pressure file, such as the {@code memory.pressure} file of a cgroup given by
+     * {@link PressureStall#getCgroupPressurePath(String, Resource)}. If the cgroup is removed the subscription ends.
+     *
+     * @param path         the path of the pressure file
+     * @param type         whether to watch for some or all tasks being stalled
+     * @param stallMicros  the stall time within a window which fires the trigger, in microseconds
+     * @param windowMicros the window, in microseconds, from {@link #MIN_WINDOW_MICROS} to {@link #MAX_WINDOW_MICROS}
+     * @param listener     the listener to call
+     * @return the subscription, or null if the file does not exist, the kernel does not support the trigger or denied
+     *         it
+     * @throws IllegalArgumentException if the window is out of range or the stall time is not within it
+     * @throws IllegalStateException    if this monitor has been closed
+     */
+    public @Nullable Subscription subscribe(String path, StallType type, long stallMicros, long windowMicros,
+            Listener listener) {
+        if (windowMicros < MIN_WINDOW_MICROS || windowMicros > MAX_WINDOW_MICROS || stallMicros <= 0
+                || stallMicros > windowMicros) {
+            throw new IllegalArgumentException(
+                    "Invalid PSI trigger: stall " + stallMicros + " us in window " + windowMicros + " us");
+        }
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("PressureMonitorFFM has been closed");
+            }
+        }
+        String trigger = type.getKeyword() + ' ' + stallMicros + ' ' + windowMicros;
+        int fd = openTrigger(path, trigger);
+        if (fd < 0) {
+            return null;
+        }
+        Subscription sub = new Subscription(path, type, stallMicros, windowMicros, listener, fd);
+        synchronized (lock) {
+            if (closed) {
+                sub.release();
+                throw new IllegalStateException("PressureMonitorFFM has been closed");
+            }
+            if (!startThread()) {
+                sub.release();
+                return null;
+            }
+            subscriptions.add(sub);
+            wake();
+        }
+        return sub;
+    }
+
+    /**
+     * Ends all subscriptions and stops the monitor's thread. Has no effect if already closed.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (wakeFd >= 0) {
+                wake();
+            } else {
+                for (Subscription sub : subscriptions) {
+                    sub.release();
+                }
+                subscriptions.clear();
+            }
+        }
+    }
+
+    private static int openTrigger(String path, String trigger) {
+        return callInArenaIntOrDefault(arena -> {
+            int fd = LinuxLibcFunctions.open(arena.allocateFrom(path),
+                    LinuxLibcFunctions.O_RDWR | LinuxLibcFunctions.O_CLOEXEC);
+            if (fd < 0) {
+                LOG.debug("Could not open {} to set a PSI trigger", path);
+                return -1;
+            }
+            try {
+                // The count includes the terminating null, as the kernel expects
+                if (LinuxLibcFunctions.write(fd, arena.allocateFrom(trigger)) < 0) {
+                    LOG.debug("PSI trigger '{}' was rejected for {}", trigger, path);
+                    LinuxLibcFunctions.close(fd);
+                    return -1;
+                }
+            } catch (Throwable e) {
+                LinuxLibcFunctions.close(fd);
+                throw e;
+            }
+            return fd;
+        }, -1, LOG, DEBUG, "Failed to set PSI trigger '{}' for {}", trigger, path);
+    }
+
+    @GuardedBy("lock")
+    private boolean startThread() {
+        if (stopped) {
+            return false;
+        }
+        if (wakeFd >= 0) {
+            return true;
+        }
+        int fd;
+        try {
+            fd = LinuxLibcFunctions.eventfd(0, LinuxLibcFunctions.EFD_CLOEXEC);
+        } catch (Throwable e) {
+            LOG.debug("eventfd failed, PSI triggers are unavailable. {}", e.toString());
+            fd = -1;
+        }
+        if (fd < 0) {
+            stopped = true;
+            return false;
+        }
+        wakeFd = fd;
+        Thread t = new Thread(this::pollLoop, "oshi-psi-monitor");
+        t.setDaemon(true);
+        t.start();
+        return true;
+    }
+
+    @GuardedBy("lock")
+    private void wake() {
+        if (wakeFd < 0) {
+            return;
+        }
+        int fd = wakeFd;
+        callInArenaIntOrDefault(arena -> (int) LinuxLibcFunctions.write(fd, arena.allocateFrom(JAVA_LONG, 1L)), -1, LOG,
+                DEBUG, "Failed to wake PSI monitor thread");
+    }
+
+    private void pollLoop() {
+        List<Subscription> polled = new ArrayList<>();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment callState = arena.allocate(ForeignFunctions.CAPTURED_STATE_LAYOUT);
+            MemorySegment counter = arena.allocate(JAVA_LONG);
+            MemorySegment fds = MemorySegment.NULL;
+            int capacity = 0;
+            while (true) {
+                int wake;
+                synchronized (lock) {
+                    if (closed) {
+                        break;
+                    }
+                    wake = wakeFd;
+                }
+                // Descriptors of ended subscriptions are closed only here, so that poll never sees a reused number
+                polled.clear();
+                for (Subscription sub : subscriptions) {
+                    if (sub.isActive()) {
+                        polled.add(sub);
+                    } else {
+                        subscriptions.remove(sub);
+                        sub.release();
+                    }
+                }
+                int n = polled.size() + 1;
+                if (n > capacity) {
+                    capacity = n * 2;
+                    fds = arena.allocate(LinuxLibcFunctions.POLLFD_SIZE * capacity, JAVA_INT.byteAlignment());
+                }
+                setPollFd(fds, 0, wake, LinuxLibcFunctions.POLLIN);
+                for (int i = 0; i < polled.size(); i++) {
+                    setPollFd(fds, i + 1, polled.get(i).fd, LinuxLibcFunctions.POLLPRI);
+                }
+                if (LinuxLibcFunctions.poll(callState, fds, n, -1) < 0) {
+                    int errno = ForeignFunctions.getErrno(callState);
+                    if (errno == LinuxLibcFunctions.EINTR) {
+                        continue;
+                    }
+                    LOG.warn("poll failed with errno {}, PSI triggers will no longer be delivered", errno);
+                    break;
+                }
+                if (revents(fds, 0) != 0) {
+                    LinuxLibcFunctions.read(wake, counter);
+                }
+                for (int i = 0; i < polled.size(); i++) {
+                    dispatch(polled.get(i), revents(fds, i + 1));
+                }
+            }
+        } catch (Throwable e) {
+            LOG.warn("PSI monitor thread failed, PSI triggers will no longer be delivered. {}", e.toString());
+        } finally {
+            synchronized (lock) {
+                stopped = true;
+                for (Subscription sub : subscriptions) {
+                    sub.release();
+                }
+                subscriptions.clear();
+                closeFd(wakeFd);
+                wakeFd = -1;
+            }
+        }
+    }
+
+    private static void dispatch(Subscription sub, short revents) {
+        // A trigger whose cgroup has been removed reports an error along with POLLPRI
+        if ((revents & (LinuxLibcFunctions.POLLERR | LinuxLibcFunctions.POLLHUP | LinuxLibcFunctions.POLLNVAL)) != 0) {
+            LOG.debug("PSI trigger for {} ended", sub.path);
+            sub.active = false;
+        } else if ((revents & LinuxLibcFunctions.POLLPRI) != 0 && sub.active) {
+            try {
+                sub.listener.stalled(sub);
+            } catch (RuntimeException e) {
+                LOG.warn("PSI listener for {} failed: {}", sub.path, e.getMessage());
+            }
+        }
+    }
+
+    private static void closeFd(int fd) {
+        try {
+            LinuxLibcFunctions.close(fd);
+        } catch (Throwable e) {
+            LOG.debug("Failed to close descriptor {}. {}", fd, e.toString());
+        }
+    }
+
+    private static void setPollFd(MemorySegment fds, int index, int fd, short events) {
+        long offset = index * LinuxLibcFunctions.POLLFD_SIZE;
+        fds.set(JAVA_INT, offset, fd);
+        fds.set(JAVA_SHORT, offset + LinuxLibcFunctions.POLLFD_EVENTS_OFFSET, events);
+        fds.set(JAVA_SHORT, offset + LinuxLibcFunctions.POLLFD_REVENTS_OFFSET, (short) 0);
+    }
+
+    private static short revents(MemorySegment fds, int index) {
+        return fds.get(JAVA_SHORT, index * LinuxLibcFunctions.POLLFD_SIZE + LinuxLibcFunctions.POLLFD_REVENTS_OFFSET);
+    }
+
+    /**
+     * A trigger registered with a {@link PressureMonitorFFM}. Closing it removes the trigger.
+     */
+    @ThreadSafe
+    public final class Subscription implements AutoCloseable {
+
+        private final String path;
+        private final StallType type;
+        private final long stallMicros;
+        private final long windowMicros;
+        private final Listener listener;
+        private final int fd;
+        private volatile boolean active = true;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Subscription(String path, StallType type, long stallMicros, long windowMicros, Listener listener,
+                int fd) {
+            this.path = path;
+            this.type = type;
+            this.stallMicros = stallMicros;
+            this.windowMicros = windowMicros;
+            this.listener = listener;
+            this.fd = fd;
+        }
+
+        /**
+         * Gets the pressure file of the trigger.
+         *
+         * @return the path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Gets whether the trigger watches for some or all tasks being stalled.
+         *
+         * @return the stall type
+         */
+        public StallType getType() {
+            return type;
+        }
+
+        /**
+         * Gets the stall time within a window which fires the trigger.
+         *
+         * @return the threshold in microseconds
+         */
+        public long getStallMicros() {
+            return stallMicros;
+        }
+
+        /**
+         * Gets the window of the trigger.
+         *
+         * @return the window in microseconds
+         */
+        public long getWindowMicros() {
+            return windowMicros;
+        }
+
+        /**
+         * Whether the trigger is still registered. A subscription ends when it or its monitor is closed, or when the
+         * pressure file goes away.
+         *
+         * @return {@code true} if events may still be delivered
+         */
+        public boolean isActive() {
+            return active && !released.get();
+        }
+
+        /**
+         * Removes the trigger. No events are delivered once this returns, except one already being dispatched.
+         */
+        @Override
+        public void close() {
+            active = false;
+            synchronized (lock) {
+                wake();
+            }
+        }
+
+        private void release() {
+            active = false;
+            if (released.compareAndSet(false, true)) {
+                closeFd(fd);
+            }
+        }
+    }
+}
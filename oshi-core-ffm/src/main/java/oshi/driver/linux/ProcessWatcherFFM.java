@@ -0,0 +1,438 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.GuardedBy;
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.ffm.ForeignFunctions;
+import oshi.ffm.platform.linux.LinuxLibcFunctions;
+import oshi.ffm.platform.linux.PidfdFunctions;
+
+/**
+ * Notifies listeners when watched processes exit, in place of calling {@code OSProcess.updateAttributes()} in a loop
+ * and checking for {@code State.INVALID}, which reads several procfs files on every check.
+ * <p>
+ * Each watched process is opened with {@code pidfd_open}, and one thread waits in {@code epoll_wait} on all the pidfds,
+ * which become readable when their process terminates. A watched process costs one file descriptor and nothing else
+ * while it runs, and its exit is delivered within milliseconds. On kernels before 5.3, which lack {@code pidfd_open},
+ * watched processes are instead probed with {@code kill(pid, 0)} at a fixed interval, and exits are delivered up to one
+ * interval late.
+ * <p>
+ * A process is identified by its PID only until it is opened, so a process which exits and whose PID is reused before
+ * {@link #watch(int, Listener)} opens it is not detected. A child process which has exited but not been reaped still
+ * exists for the {@code kill} probe, but not for a pidfd.
+ */
+@ThreadSafe
+public final class ProcessWatcherFFM implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessWatcherFFM.class);
+
+    /** The default interval of the {@code kill} probe on kernels without pidfds, in milliseconds. */
+    public static final long DEFAULT_SWEEP_MILLIS = 1000L;
+
+    // Exits handled per epoll_wait; more are left for the next call
+    private static final int MAX_EVENTS = 256;
+    // The epoll data of the wake eventfd; watches are numbered from 0
+    private static final long WAKE_ID = -1L;
+
+    /**
+     * Receives process exits.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called on the watcher's thread when a watched process has exited. The process is no longer watched. Should
+         * return quickly, as other exits wait for it.
+         *
+         * @param pid      the process ID
+         * @param exitTime the time the exit was detected, in milliseconds since the epoch
+         */
+        void exited(int pid, long exitTime);
+    }
+
+    private final long sweepMillis;
+    private final Map<Integer, Watch> watches = new ConcurrentHashMap<>();
+    private final Map<Long, Watch> watchesById = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private boolean closed;
+    @GuardedBy("lock")
+    private boolean pidfdFailed = !PidfdFunctions.isAvailable();
+    @GuardedBy("lock")
+    private int epollFd = -1;
+    @GuardedBy("lock")
+    private int wakeFd = -1;
+    @GuardedBy("lock")
+    private @Nullable ScheduledExecutorService sweeper;
+
+    /**
+     * Creates a watcher which probes processes every {@link #DEFAULT_SWEEP_MILLIS} milliseconds if pidfds are
+     * unavailable.
+     */
+    public ProcessWatcherFFM() {
+        this(DEFAULT_SWEEP_MILLIS);
+    }
+
+    /**
+     * Creates a watcher.
+     *
+     * @param sweepMillis the interval of the {@code kill} probe used if pidfds are unavailable, in milliseconds
+     */
+    public ProcessWatcherFFM(long sweepMillis) {
+        if (sweepMillis <= 0) {
+            throw new IllegalArgumentException("Sweep interval must be positive: " + sweepMillis);
+        }
+        this.sweepMillis = sweepMillis;
+    }
+
+    /**
+     * Starts watching a process. Watching a process which is already watched replaces its listener.
+     *
+     * @param pid      the process ID
+     * @param listener the listener to call when the process exits
+     * @return {@code true} if the process is watched, {@code false} if it does not exist
+     * @throws IllegalStateException if this watcher has been closed
+     */
+    public boolean watch(int pid, Listener listener) {
+        Watch existing = watches.get(pid);
+        if (existing != null) {
+            existing.listener = listener;
+            return true;
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment callState = arena.allocate(ForeignFunctions.CAPTURED_STATE_LAYOUT);
+            synchronized (lock) {
+                if (closed) {
+                    throw new IllegalStateException("ProcessWatcherFFM has been closed");
+                }
+                existing = watches.get(pid);
+                if (existing != null) {
+                    existing.listener = listener;
+                    return true;
+                }
+                if (startPolling()) {
+                    int fd = PidfdFunctions.pidfdOpen(callState, pid);
+                    if (fd >= 0) {
+                        return addPidfdWatch(arena, pid, fd, listener);
+                    }
+                    int errno = ForeignFunctions.getErrno(callState);
+                    if (errno == PidfdFunctions.ESRCH) {
+                        return false;
+                    }
+                    LOG.debug("pidfd_open failed with errno {}, will probe processes with kill", errno);
+                    if (errno == PidfdFunctions.ENOSYS) {
+                        pidfdFailed = true;
+                    }
+                }
+                if (!isAlive(callState, pid)) {
+                    return false;
+                }
+                watches.put(pid, new Watch(pid, -1, -1L, listener));
+                startSweeper();
+                return true;
+            }
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Throwable e) {
+            LOG.warn("Failed to watch process {}: {}", pid, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Stops watching a process.
+     *
+     * @param pid the process ID
+     * @return {@code true} if the process was watched
+     */
+    public boolean unwatch(int pid) {
+        Watch w = watches.remove(pid);
+        if (w == null) {
+            return false;
+        }
+        watchesById.remove(w.id);
+        w.release();
+        return true;
+    }
+
+    /**
+     * Gets the number of processes watched.
+     *
+     * @return the number of watched processes which have not yet exited
+     */
+    public int getWatchCount() {
+        return watches.size();
+    }
+
+    /**
+     * Whether exits are detected with pidfds, rather than by probing with {@code kill}.
+     *
+     * @return {@code true} if pidfds are in use or will be tried for the next process watched
+     */
+    public boolean isUsingPidfd() {
+        synchronized (lock) {
+            return !pidfdFailed;
+        }
+    }
+
+    /**
+     * Stops watching all processes and stops the watcher's threads. Has no effect if already closed.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            wake();
+            if (sweeper != null) {
+                sweeper.shutdownNow();
+            }
+        }
+        for (Integer pid : watches.keySet()) {
+            unwatch(pid);
+        }
+    }
+
+    @GuardedBy("lock")
+    private boolean addPidfdWatch(Arena arena, int pid, int fd, Listener listener) throws Throwable {
+        long id = nextId.getAndIncrement();
+        Watch w = new Watch(pid, fd, id, listener);
+        watchesById.put(id, w);
+        watches.put(pid, w);
+        if (PidfdFunctions.epollCtl(epollFd, PidfdFunctions.EPOLL_CTL_ADD, fd, epollEvent(arena, id)) < 0) {
+            // Not expected for a valid pidfd; probe this process instead
+            LOG.debug("epoll_ctl failed for process {}, will probe it with kill", pid);
+            watchesById.remove(id);
+            w.release();
+            watches.put(pid, new Watch(pid, -1, -1L, listener));
+            startSweeper();
+        }
+        return true;
+    }
+
+    private static MemorySegment epollEvent(Arena arena, long data) {
+        MemorySegment event = arena.allocate(PidfdFunctions.EPOLL_EVENT_SIZE, Integer.BYTES);
+        event.set(JAVA_INT, 0, PidfdFunctions.EPOLLIN);
+        event.set(JAVA_LONG_UNALIGNED, PidfdFunctions.EPOLL_EVENT_DATA_OFFSET, data);
+        return event;
+    }
+
+    /**
+     * Sets up the epoll descriptor and its thread if not yet done.
+     *
+     * @return {@code true} if pidfds may be watched
+     */
+    @GuardedBy("lock")
+    private boolean startPolling() throws Throwable {
+        if (pidfdFailed) {
+            return false;
+        }
+        if (epollFd >= 0) {
+            return true;
+        }
+        int ep = PidfdFunctions.epollCreate1(PidfdFunctions.EPOLL_CLOEXEC);
+        int wake = ep < 0 ? -1 : LinuxLibcFunctions.eventfd(0, LinuxLibcFunctions.EFD_CLOEXEC);
+        boolean added = false;
+        if (wake >= 0) {
+            try (Arena arena = Arena.ofConfined()) {
+                added = PidfdFunctions.epollCtl(ep, PidfdFunctions.EPOLL_CTL_ADD, wake,
+                        epollEvent(arena, WAKE_ID)) == 0;
+            }
+        }
+        if (!added) {
+            LOG.debug("Unable to set up epoll, will probe processes with kill");
+            closeFd(wake);
+            closeFd(ep);
+            pidfdFailed = true;
+            return false;
+        }
+        epollFd = ep;
+        wakeFd = wake;
+        Thread t = new Thread(() -> waitLoop(ep, wake), "oshi-process-watcher");
+        t.setDaemon(true);
+        t.start();
+        return true;
+    }
+
+    @GuardedBy("lock")
+    private void startSweeper() {
+        if (sweeper == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "oshi-process-watcher-sweep");
+                t.setDaemon(true);
+                return t;
+            });
+            executor.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+            sweeper = executor;
+        }
+    }
+
+    @GuardedBy("lock")
+    private void wake() {
+        if (wakeFd < 0) {
+            return;
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            LinuxLibcFunctions.write(wakeFd, arena.allocateFrom(JAVA_LONG, 1L));
+        } catch (Throwable e) {
+            LOG.debug("Failed to wake process watcher thread. {}", e.toString());
+        }
+    }
+
+    private void waitLoop(int ep, int wake) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment callState = arena.allocate(ForeignFunctions.CAPTURED_STATE_LAYOUT);
+            MemorySegment events = arena.allocate(PidfdFunctions.EPOLL_EVENT_SIZE * MAX_EVENTS, Long.BYTES);
+            MemorySegment counter = arena.allocate(JAVA_LONG);
+            while (true) {
+                synchronized (lock) {
+                    if (closed) {
+                        break;
+                    }
+                }
+                int n = PidfdFunctions.epollWait(callState, ep, events, -1);
+                if (n < 0) {
+                    int errno = ForeignFunctions.getErrno(callState);
+                    if (errno == PidfdFunctions.EINTR) {
+                        continue;
+                    }
+                    LOG.warn("epoll_wait failed with errno {}, will probe processes with kill", errno);
+                    fallBackToSweep();
+                    break;
+                }
+                long now = System.currentTimeMillis();
+                for (int i = 0; i < n; i++) {
+                    long id = events.get(JAVA_LONG_UNALIGNED,
+                            i * PidfdFunctions.EPOLL_EVENT_SIZE + PidfdFunctions.EPOLL_EVENT_DATA_OFFSET);
+                    if (id == WAKE_ID) {
+                        LinuxLibcFunctions.read(wake, counter);
+                        continue;
+                    }
+                    // Events of watches removed earlier in this batch, or unwatched meanwhile, find nothing
+                    Watch w = watchesById.remove(id);
+                    if (w != null && watches.remove(w.pid, w)) {
+                        w.release();
+                        notifyExit(w, now);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            LOG.warn("Process watcher thread failed, will probe processes with kill. {}", e.toString());
+            fallBackToSweep();
+        } finally {
+            synchronized (lock) {
+                closeFd(wakeFd);
+                closeFd(epollFd);
+                wakeFd = -1;
+                epollFd = -1;
+            }
+        }
+    }
+
+    /**
+     * Moves every pidfd watch to the {@code kill} probe once the epoll thread can no longer deliver exits.
+     */
+    private void fallBackToSweep() {
+        synchronized (lock) {
+            pidfdFailed = true;
+            if (closed) {
+                return;
+            }
+            for (Watch w : watches.values()) {
+                if (w.fd >= 0 && watches.replace(w.pid, w, new Watch(w.pid, -1, -1L, w.listener))) {
+                    watchesById.remove(w.id);
+                    w.release();
+                }
+            }
+            startSweeper();
+        }
+    }
+
+    private void sweep() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment callState = arena.allocate(ForeignFunctions.CAPTURED_STATE_LAYOUT);
+            long now = System.currentTimeMillis();
+            for (Watch w : watches.values()) {
+                if (w.fd < 0 && !isAlive(callState, w.pid) && watches.remove(w.pid, w)) {
+                    notifyExit(w, now);
+                }
+            }
+        } catch (Throwable e) {
+            LOG.warn("Process watcher sweep failed: {}", e.toString());
+        }
+    }
+
+    private static boolean isAlive(MemorySegment callState, int pid) throws Throwable {
+        // A process which may not be signalled fails with EPERM, but exists
+        return PidfdFunctions.kill(callState, pid, 0) == 0
+                || ForeignFunctions.getErrno(callState) != PidfdFunctions.ESRCH;
+    }
+
+    private static void notifyExit(Watch w, long exitTime) {
+        try {
+            w.listener.exited(w.pid, exitTime);
+        } catch (RuntimeException e) {
+            LOG.warn("Process exit listener for {} failed: {}", w.pid, e.getMessage());
+        }
+    }
+
+    private static void closeFd(int fd) {
+        if (fd < 0) {
+            return;
+        }
+        try {
+            LinuxLibcFunctions.close(fd);
+        } catch (Throwable e) {
+            LOG.debug("Failed to close descriptor {}. {}", fd, e.toString());
+        }
+    }
+
+    /**
+     * A watched process, with its pidfd, or -1 if it is probed with {@code kill}.
+     */
+    private static final class Watch {
+        private final int pid;
+        private final int fd;
+        private final long id;
+        private volatile Listener listener;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Watch(int pid, int fd, long id, Listener listener) {
+            this.pid = pid;
+            this.fd = fd;
+            this.id = id;
+            this.listener = listener;
+        }
+
+        // Closing the pidfd also removes it from the epoll set
+        void release() {
+            if (fd >= 0 && released.compareAndSet(false, true)) {
+                closeFd(fd);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux.proc;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+import static oshi.ffm.ForeignFunctions.callInArenaOrDefault;
+import static oshi.util.LogLevel.DEBUG;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.annotation.concurrent.ThreadSafe;
+import oshi.ffm.platform.linux.LinuxLibcFunctions;
+import oshi.util.driver.linux.proc.ProcessStat;
+
+/**
+ * FFM-based listing of the numeric entries of procfs directories, reading {@code struct linux_dirent64} records with
+ * {@code getdents64} and parsing the names in native memory. Unlike {@link ProcessStat#listNumericEntries(String)},
+ * which must create a {@code Path} and a {@code String} for each entry, the only allocation is the returned array.
+ */
+@ThreadSafe
+public final class ProcessStatFFM {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessStatFFM.class);
+
+    // Holds about 250 process entries, so /proc on a host with 30,000 processes takes some 120 calls
+    private static final long DIRENT_BUFFER_SIZE = 8192L;
+
+    private ProcessStatFFM() {
+    }
+
+    /**
+     * Lists the entries of a directory whose names are non-negative decimal integers. Falls back to
+     * {@link ProcessStat#listNumericEntries(String)} where libc has no {@code getdents64} wrapper.
+     *
+     * @param path the directory to list
+     * @return the numeric entry names, in directory order; empty if the directory does not exist or cannot be read
+     */
+    public static int[] listNumericEntries(String path) {
+        if (!LinuxLibcFunctions.hasGetdents64()) {
+            return ProcessStat.listNumericEntries(path);
+        }
+        int[] entries = callInArenaOrDefault(arena -> {
+            int fd = LinuxLibcFunctions.open(arena.allocateFrom(path),
+                    LinuxLibcFunctions.O_RDONLY | LinuxLibcFunctions.O_DIRECTORY | LinuxLibcFunctions.O_CLOEXEC);
+            if (fd < 0) {
+                return new int[0];
+            }
+            try {
+                return readNumericEntries(fd, arena.allocate(DIRENT_BUFFER_SIZE, Long.BYTES));
+            } finally {
+                LinuxLibcFunctions.close(fd);
+            }
+        }, null, LOG, DEBUG, "FFM getdents64 failed for {}", path);
+        return entries == null ? ProcessStat.listNumericEntries(path) : entries;
+    }
+
+    private static int[] readNumericEntries(int fd, MemorySegment buf) throws Throwable {
+        int[] entries = new int[64];
+        int count = 0;
+        long read;
+        // A negative return, such as ENOENT when a process exits while its task directory is read, ends the listing
+        while ((read = LinuxLibcFunctions.getdents64(fd, buf)) > 0) {
+            long pos = 0;
+            while (pos < read) {
+                int reclen = Short.toUnsignedInt(buf.get(JAVA_SHORT, pos + LinuxLibcFunctions.DIRENT64_RECLEN_OFFSET));
+                if (reclen == 0) {
+                    break;
+                }
+                int value = parseNumericName(buf, pos + LinuxLibcFunctions.DIRENT64_NAME_OFFSET, pos + reclen);
+                if (value >= 0) {
+                    if (count == entries.length) {
+                        entries = Arrays.copyOf(entries, count * 2);
+                    }
+                    entries[count++] = value;
+                }
+                pos += reclen;
+            }
+        }
+        return Arrays.copyOf(entries, count);
+    }
+
+    /**
+     * Parses a null-terminated {@code d_name} consisting only of decimal digits, with the same rules as
+     * {@link ProcessStat#listNumericEntries(String)}.
+     *
+     * @param buf   the buffer holding the record
+     * @param start the offset of the name
+     * @param end   the offset of the end of the record, which bounds the name
+     * @return the value, or -1 if the name is empty, contains a non-digit or has more than nine digits
+     */
+    static int parseNumericName(MemorySegment buf, long start, long end) {
+        int value = 0;
+        int digits = 0;
+        for (long i = start; i < end; i++) {
+            byte b = buf.get(JAVA_BYTE, i);
+            if (b == 0) {
+                break;
+            }
+            if (b < '0' || b > '9' || ++digits > 9) {
+                return -1;
+            }
+            value = value * 10 + b - '0';
+        }
+        return digits == 0 ? -1 : value;
+    }
+}
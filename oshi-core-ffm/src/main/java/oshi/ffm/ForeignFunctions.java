@@ -35,7 +35,7 @@ import oshi.util.LogLevel;
 public abstract class ForeignFunctions {
 
     /**
-     * Represents an operation that uses a confined {@link Arena} and returns an object.
+     * Represents an operation that uses a scoped {@link Arena} and returns an object.
      *
      * @param <T> the return type
      */
@@ -44,7 +44,7 @@ public abstract class ForeignFunctions {
         /**
          * Executes this operation with the provided arena.
          *
-         * @param arena the confined arena scoped to this operation
+         * @param arena the arena scoped to this operation
          * @return the operation result
          * @throws Throwable if the operation fails
          */
@@ -52,14 +52,14 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Represents an operation that uses a confined {@link Arena} and returns an {@code int}.
+     * Represents an operation that uses a scoped {@link Arena} and returns an {@code int}.
      */
     @FunctionalInterface
     public interface ArenaIntCallable {
         /**
          * Executes this operation with the provided arena.
          *
-         * @param arena the confined arena scoped to this operation
+         * @param arena the arena scoped to this operation
          * @return the operation result
          * @throws Throwable if the operation fails
          */
@@ -67,14 +67,14 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Represents an operation that uses a confined {@link Arena} and returns a {@code long}.
+     * Represents an operation that uses a scoped {@link Arena} and returns a {@code long}.
      */
     @FunctionalInterface
     public interface ArenaLongCallable {
         /**
          * Executes this operation with the provided arena.
          *
-         * @param arena the confined arena scoped to this operation
+         * @param arena the arena scoped to this operation
          * @return the operation result
          * @throws Throwable if the operation fails
          */
@@ -82,14 +82,14 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Represents an operation that uses a confined {@link Arena} and returns a {@code double}.
+     * Represents an operation that uses a scoped {@link Arena} and returns a {@code double}.
      */
     @FunctionalInterface
     public interface ArenaDoubleCallable {
         /**
          * Executes this operation with the provided arena.
          *
-         * @param arena the confined arena scoped to this operation
+         * @param arena the arena scoped to this operation
          * @return the operation result
          * @throws Throwable if the operation fails
          */
@@ -97,14 +97,14 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Represents an operation that uses a confined {@link Arena} and returns a {@code boolean}.
+     * Represents an operation that uses a scoped {@link Arena} and returns a {@code boolean}.
      */
     @FunctionalInterface
     public interface ArenaBooleanCallable {
         /**
          * Executes this operation with the provided arena.
          *
-         * @param arena the confined arena scoped to this operation
+         * @param arena the arena scoped to this operation
          * @return the operation result
          * @throws Throwable if the operation fails
          */
@@ -150,12 +150,13 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes an operation in a confined arena, returning a default value if the operation throws.
+     * Executes an operation in a scoped arena, returning a default value if the operation throws.
      * <p>
-     * This helper centralizes the common FFM call pattern where temporary native memory is scoped to a confined arena
-     * and failures from method-handle invocation or native binding are logged at the caller's chosen level. The
-     * provided arena is closed before this method returns, so returned objects must not depend on memory allocated from
-     * it.
+     * This helper centralizes the common FFM call pattern where temporary native memory is scoped to the operation and
+     * failures from method-handle invocation or native binding are logged at the caller's chosen level. On platform
+     * threads the arena is a per-thread scratch slab, so small structs cost no native allocation; on virtual threads it
+     * is a confined arena. Either way it is closed before this method returns and its memory may be reused by the next
+     * call, so returned objects must not depend on memory allocated from it.
      *
      * @param <T>          the return type
      * @param callable     the operation to execute
@@ -168,7 +169,7 @@ public abstract class ForeignFunctions {
     public static <T extends @Nullable Object> T callInArenaOrDefault(ArenaCallable<T> callable, Logger logger,
             LogLevel level, String message, T defaultValue) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t);
@@ -184,8 +185,8 @@ public abstract class ForeignFunctions {
     // resolution would silently pick the older one with message and default transposed.
 
     /**
-     * Executes an operation in a confined arena, returning a default value if the operation throws, and logging a
-     * message whose {@code {}} placeholders are filled by {@code args}.
+     * Executes an operation in a scoped arena, returning a default value if the operation throws, and logging a message
+     * whose {@code {}} placeholders are filled by {@code args}.
      *
      * @param <T>          the return type
      * @param callable     the operation to execute
@@ -199,7 +200,7 @@ public abstract class ForeignFunctions {
     public static <T extends @Nullable Object> T callInArenaOrDefault(ArenaCallable<T> callable, T defaultValue,
             Logger logger, LogLevel level, String message, @Nullable Object... args) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t, args);
@@ -208,8 +209,7 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes an {@code int}-returning operation in a confined arena, returning a default value if the operation
-     * throws.
+     * Executes an {@code int}-returning operation in a scoped arena, returning a default value if the operation throws.
      * <p>
      * Use this primitive-specialized variant to avoid boxing when wrapping FFM calls whose result is an {@code int}.
      * The provided arena is closed before this method returns.
@@ -224,7 +224,7 @@ public abstract class ForeignFunctions {
     public static int callInArenaIntOrDefault(ArenaIntCallable callable, Logger logger, LogLevel level, String message,
             int defaultValue) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t);
@@ -233,8 +233,8 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes an {@code int}-returning operation in a confined arena, returning a default value if the operation
-     * throws, and logging a message whose {@code {}} placeholders are filled by {@code args}.
+     * Executes an {@code int}-returning operation in a scoped arena, returning a default value if the operation throws,
+     * and logging a message whose {@code {}} placeholders are filled by {@code args}.
      *
      * @param callable     the operation to execute
      * @param defaultValue the value to return if the operation throws
@@ -247,7 +247,7 @@ public abstract class ForeignFunctions {
     public static int callInArenaIntOrDefault(ArenaIntCallable callable, int defaultValue, Logger logger,
             LogLevel level, String message, @Nullable Object... args) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t, args);
@@ -256,8 +256,7 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes a {@code long}-returning operation in a confined arena, returning a default value if the operation
-     * throws.
+     * Executes a {@code long}-returning operation in a scoped arena, returning a default value if the operation throws.
      * <p>
      * Use this primitive-specialized variant to avoid boxing when wrapping FFM calls whose result is a {@code long}.
      * The provided arena is closed before this method returns.
@@ -272,7 +271,7 @@ public abstract class ForeignFunctions {
     public static long callInArenaLongOrDefault(ArenaLongCallable callable, Logger logger, LogLevel level,
             String message, long defaultValue) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t);
@@ -281,8 +280,8 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes a {@code long}-returning operation in a confined arena, returning a default value if the operation
-     * throws, and logging a message whose {@code {}} placeholders are filled by {@code args}.
+     * Executes a {@code long}-returning operation in a scoped arena, returning a default value if the operation throws,
+     * and logging a message whose {@code {}} placeholders are filled by {@code args}.
      *
      * @param callable     the operation to execute
      * @param defaultValue the value to return if the operation throws
@@ -295,7 +294,7 @@ public abstract class ForeignFunctions {
     public static long callInArenaLongOrDefault(ArenaLongCallable callable, long defaultValue, Logger logger,
             LogLevel level, String message, @Nullable Object... args) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t, args);
@@ -304,7 +303,7 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes a {@code double}-returning operation in a confined arena, returning a default value if the operation
+     * Executes a {@code double}-returning operation in a scoped arena, returning a default value if the operation
      * throws.
      * <p>
      * Use this primitive-specialized variant to avoid boxing when wrapping FFM calls whose result is a {@code double}.
@@ -320,7 +319,7 @@ public abstract class ForeignFunctions {
     public static double callInArenaDoubleOrDefault(ArenaDoubleCallable callable, Logger logger, LogLevel level,
             String message, double defaultValue) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t);
@@ -329,7 +328,7 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes a {@code double}-returning operation in a confined arena, returning a default value if the operation
+     * Executes a {@code double}-returning operation in a scoped arena, returning a default value if the operation
      * throws, and logging a message whose {@code {}} placeholders are filled by {@code args}.
      *
      * @param callable     the operation to execute
@@ -343,7 +342,7 @@ public abstract class ForeignFunctions {
     public static double callInArenaDoubleOrDefault(ArenaDoubleCallable callable, double defaultValue, Logger logger,
             LogLevel level, String message, @Nullable Object... args) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t, args);
@@ -352,7 +351,7 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes a {@code boolean}-returning operation in a confined arena, returning a default value if the operation
+     * Executes a {@code boolean}-returning operation in a scoped arena, returning a default value if the operation
      * throws.
      * <p>
      * Use this primitive-specialized variant to avoid boxing when wrapping FFM calls whose result is a {@code boolean}.
@@ -368,7 +367,7 @@ public abstract class ForeignFunctions {
     public static boolean callInArenaBooleanOrDefault(ArenaBooleanCallable callable, Logger logger, LogLevel level,
             String message, boolean defaultValue) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t);
@@ -377,7 +376,7 @@ public abstract class ForeignFunctions {
     }
 
     /**
-     * Executes a {@code boolean}-returning operation in a confined arena, returning a default value if the operation
+     * Executes a {@code boolean}-returning operation in a scoped arena, returning a default value if the operation
      * throws, and logging a message whose {@code {}} placeholders are filled by {@code args}.
      *
      * @param callable     the operation to execute
@@ -391,7 +390,7 @@ public abstract class ForeignFunctions {
     public static boolean callInArenaBooleanOrDefault(ArenaBooleanCallable callable, boolean defaultValue,
             Logger logger, LogLevel level, String message, @Nullable Object... args) {
         Objects.requireNonNull(callable, "callable");
-        try (Arena arena = Arena.ofConfined()) {
+        try (Arena arena = ScratchArena.open()) {
             return callable.call(arena);
         } catch (Throwable t) {
             logThrowable(logger, level, message, t, args);
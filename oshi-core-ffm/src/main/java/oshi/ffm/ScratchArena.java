@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.ffm;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+import oshi.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A per-thread {@link Arena} which hands out slices of a preallocated slab and reclaims them when closed, so that the
+ * short-lived structs passed to hot native calls ({@code statvfs}, {@code getrlimit}, {@code sysinfo}, {@code sysctl})
+ * reuse the same native memory rather than costing a native {@code malloc} and {@code free} per call. The difference is
+ * measured by {@code ScratchArenaBenchmark} in the {@code oshi-benchmark} module.
+ * <p>
+ * Each {@link #open()} marks the current position in the slab and each {@link #close()} rewinds to the matching mark,
+ * so nested operations on the same thread each see their own region. Each operation also opens a confined arena, which
+ * owns any allocation that does not fit in the remainder of the slab, and whose scope is given to the slab slices it
+ * hands out. Closing the operation closes that arena, so as with any confined arena, a segment cannot be accessed after
+ * {@link #close()} even though its slab memory is reused by a later call.
+ * <p>
+ * Virtual threads may be moved between carrier threads at any blocking call, so a slab cannot be safely tied to the
+ * carrier; they receive a plain confined arena instead.
+ */
+@NotThreadSafe
+final class ScratchArena implements Arena {
+
+    /** Large enough for any struct OSHI passes by reference, and for typical sysctl and path buffers. */
+    static final long SLAB_SIZE = 16 * 1024L;
+
+    private static final ThreadLocal<ScratchArena> SCRATCH = ThreadLocal.withInitial(ScratchArena::new);
+
+    // An auto arena frees the slab once the owning thread, and so its thread-local, is gone
+    private final MemorySegment slab = Arena.ofAuto().allocate(SLAB_SIZE, Long.BYTES);
+    private long offset;
+    private int depth;
+    private long[] marks = new long[4];
+    // The confined arena of each open operation
+    private @Nullable Arena[] scopes = new Arena[4];
+
+    private ScratchArena() {
+    }
+
+    /**
+     * Opens an arena for one operation on the current thread. The caller must close it, normally with
+     * try-with-resources, on the same thread.
+     *
+     * @return the current thread's scratch arena, or a new confined arena on a virtual thread
+     */
+    static Arena open() {
+        if (Thread.currentThread().isVirtual()) {
+            return Arena.ofConfined();
+        }
+        ScratchArena arena = SCRATCH.get();
+        arena.push();
+        return arena;
+    }
+
+    private void push() {
+        if (depth == marks.length) {
+            marks = Arrays.copyOf(marks, depth * 2);
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        marks[depth] = offset;
+        scopes[depth++] = Arena.ofConfined();
+    }
+
+    private Arena current() {
+        Arena scope = depth == 0 ? null : scopes[depth - 1];
+        if (scope == null) {
+            throw new IllegalStateException("Scratch arena is not open");
+        }
+        return scope;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned segment is zeroed, as for the arenas of {@link Arena}'s factories.
+     */
+    @Override
+    public MemorySegment allocate(long byteSize, long byteAlignment) {
+        Arena scope = current();
+        if (byteSize < 0) {
+            throw new IllegalArgumentException("Invalid allocation size: " + byteSize);
+        }
+        if (byteAlignment <= 0 || Long.bitCount(byteAlignment) != 1) {
+            throw new IllegalArgumentException("Invalid alignment constraint: " + byteAlignment);
+        }
+        long base = slab.address();
+        long start = ((base + offset + byteAlignment - 1) & -byteAlignment) - base;
+        if (start >= offset && start <= SLAB_SIZE - byteSize) {
+            MemorySegment segment = slab.asSlice(start, byteSize).reinterpret(scope, null);
+            offset = start + byteSize;
+            return segment.fill((byte) 0);
+        }
+        return scope.allocate(byteSize, byteAlignment);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is the scope of the innermost open operation, which ends when it is closed.
+     *
+     * @throws IllegalStateException if no operation is open on this arena
+     */
+    @Override
+    public MemorySegment.Scope scope() {
+        return current().scope();
+    }
+
+    /**
+     * Ends the innermost open operation, making its slab region available for reuse, ending the scope of the segments
+     * it allocated and freeing any memory which overflowed the slab.
+     *
+     * @throws IllegalStateException if no operation is open on this arena
+     */
+    @Override
+    public void close() {
+        Arena scope = current();
+        scopes[--depth] = null;
+        offset = marks[depth];
+        scope.close();
+    }
+
+    /**
+     * Gets the number of operations currently open on this thread's arena, for testing.
+     *
+     * @return the nesting depth
+     */
+    static int openDepth() {
+        return SCRATCH.get().depth;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.ffm.platform.linux;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.ffm.ForeignFunctions;
+
+/**
+ * FFM bindings for the Linux {@code io_uring} asynchronous I/O interface, through the raw {@code io_uring_setup} and
+ * {@code io_uring_enter} system calls and {@code mmap}, so that liburing is not needed.
+ * <p>
+ * Only the operations OSHI submits are described: {@code IORING_OP_OPENAT}, {@code IORING_OP_READ} and
+ * {@code IORING_OP_CLOSE}, all available since kernel 5.6. Whether the kernel supports them, and allows
+ * {@code io_uring} at all, is only known once a ring is set up; {@link #isAvailable()} reports only that the symbols
+ * could be bound.
+ */
+public final class IoUringFunctions extends ForeignFunctions {
+
+    private IoUringFunctions() {
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(IoUringFunctions.class);
+
+    // io_uring was added after the syscall tables were unified, so these are the same on every architecture
+    private static final long SYS_IO_URING_SETUP = 425L;
+    private static final long SYS_IO_URING_ENTER = 426L;
+
+    // ---- Opcodes and flags ----
+    public static final byte IORING_OP_OPENAT = 18;
+    public static final byte IORING_OP_CLOSE = 19;
+    public static final byte IORING_OP_READ = 22;
+
+    /** {@code io_uring_enter} flag to wait for {@code min_complete} completions. */
+    public static final int IORING_ENTER_GETEVENTS = 1;
+    /** Feature flag: the submission and completion rings share one mapping. */
+    public static final int IORING_FEAT_SINGLE_MMAP = 1;
+
+    /** {@code mmap} offsets selecting which of the ring's regions to map. */
+    public static final long IORING_OFF_SQ_RING = 0L;
+    public static final long IORING_OFF_CQ_RING = 0x8000000L;
+    public static final long IORING_OFF_SQES = 0x10000000L;
+
+    /** Resolve relative paths from the working directory; OSHI only submits absolute paths. */
+    public static final int AT_FDCWD = -100;
+
+    public static final int PROT_READ = 0x1;
+    public static final int PROT_WRITE = 0x2;
+    public static final int MAP_SHARED = 0x01;
+    public static final int MAP_POPULATE = 0x8000;
+
+    public static final int EINTR = 4;
+
+    // ---- Struct layouts ----
+
+    private static final StructLayout SQRING_OFFSETS_LAYOUT = MemoryLayout.structLayout(JAVA_INT.withName("head"),
+            JAVA_INT.withName("tail"), JAVA_INT.withName("ring_mask"), JAVA_INT.withName("ring_entries"),
+            JAVA_INT.withName("flags"), JAVA_INT.withName("dropped"), JAVA_INT.withName("array"),
+            JAVA_INT.withName("resv1"), JAVA_LONG.withName("user_addr"));
+
+    private static final StructLayout CQRING_OFFSETS_LAYOUT = MemoryLayout.structLayout(JAVA_INT.withName("head"),
+            JAVA_INT.withName("tail"), JAVA_INT.withName("ring_mask"), JAVA_INT.withName("ring_entries"),
+            JAVA_INT.withName("overflow"), JAVA_INT.withName("cqes"), JAVA_INT.withName("flags"),
+            JAVA_INT.withName("resv1"), JAVA_LONG.withName("user_addr"));
+
+    /**
+     * {@code struct io_uring_params} layout, 120 bytes. The caller zeroes it; the kernel fills in the ring sizes,
+     * features and the offsets of the fields within the mapped rings.
+     */
+    public static final StructLayout PARAMS_LAYOUT = MemoryLayout.structLayout(JAVA_INT.withName("sq_entries"),
+            JAVA_INT.withName("cq_entries"), JAVA_INT.withName("flags"), JAVA_INT.withName("sq_thread_cpu"),
+            JAVA_INT.withName("sq_thread_idle"), JAVA_INT.withName("features"), JAVA_INT.withName("wq_fd"),
+            MemoryLayout.sequenceLayout(3, JAVA_INT).withName("resv"), SQRING_OFFSETS_LAYOUT.withName("sq_off"),
+            CQRING_OFFSETS_LAYOUT.withName("cq_off"));
+
+    public static final long PARAMS_SQ_ENTRIES_OFFSET = offset("sq_entries");
+    public static final long PARAMS_CQ_ENTRIES_OFFSET = offset("cq_entries");
+    public static final long PARAMS_FEATURES_OFFSET = offset("features");
+    public static final long PARAMS_SQ_HEAD_OFFSET = offset("sq_off", "head");
+    public static final long PARAMS_SQ_TAIL_OFFSET = offset("sq_off", "tail");
+    public static final long PARAMS_SQ_RING_MASK_OFFSET = offset("sq_off", "ring_mask");
+    public static final long PARAMS_SQ_ARRAY_OFFSET = offset("sq_off", "array");
+    public static final long PARAMS_CQ_HEAD_OFFSET = offset("cq_off", "head");
+    public static final long PARAMS_CQ_TAIL_OFFSET = offset("cq_off", "tail");
+    public static final long PARAMS_CQ_RING_MASK_OFFSET = offset("cq_off", "ring_mask");
+    public static final long PARAMS_CQ_CQES_OFFSET = offset("cq_off", "cqes");
+
+    // struct io_uring_sqe: u8 opcode (0), u8 flags (1), u16 ioprio (2), s32 fd (4), u64 off (8), u64 addr (16),
+    // u32 len (24), u32 op_flags (28), u64 user_data (32), then fields for operations OSHI does not use
+
+    /** Size of {@code struct io_uring_sqe}. */
+    public static final long SQE_SIZE = 64L;
+    public static final long SQE_OPCODE_OFFSET = 0L;
+    public static final long SQE_FD_OFFSET = 4L;
+    public static final long SQE_OFF_OFFSET = 8L;
+    public static final long SQE_ADDR_OFFSET = 16L;
+    public static final long SQE_LEN_OFFSET = 24L;
+    /** The per-operation flags union, holding {@code open_flags} for {@code IORING_OP_OPENAT}. */
+    public static final long SQE_OP_FLAGS_OFFSET = 28L;
+    public static final long SQE_USER_DATA_OFFSET = 32L;
+
+    // struct io_uring_cqe: u64 user_data (0), s32 res (8), u32 flags (12)
+
+    /** Size of {@code struct io_uring_cqe}. */
+    public static final long CQE_SIZE = 16L;
+    public static final long CQE_USER_DATA_OFFSET = 0L;
+    /** The result of the operation: as the system call would return, or a negated {@code errno}. */
+    public static final long CQE_RES_OFFSET = 8L;
+
+    private static long offset(String... names) {
+        MemoryLayout.PathElement[] path = new MemoryLayout.PathElement[names.length];
+        for (int i = 0; i < names.length; i++) {
+            path[i] = MemoryLayout.PathElement.groupElement(names[i]);
+        }
+        return PARAMS_LAYOUT.byteOffset(path);
+    }
+
+    // ---- Method handles ----
+
+    private static final boolean AVAILABLE;
+
+    private static final MethodHandle syscallSetup;
+    private static final MethodHandle syscallEnter;
+    private static final MethodHandle mmap;
+    private static final MethodHandle munmap;
+
+    static {
+        boolean available = false;
+        MethodHandle hSetup = null;
+        MethodHandle hEnter = null;
+        MethodHandle hMmap = null;
+        MethodHandle hMunmap = null;
+        try {
+            SymbolLookup libc = LINKER.defaultLookup();
+            MemorySegment syscall = libc.findOrThrow("syscall");
+            // syscall() reads each argument as a long, so every variadic argument is passed as one
+            hSetup = LINKER.downcallHandle(syscall, FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG, ADDRESS),
+                    Linker.Option.firstVariadicArg(1));
+            hEnter = LINKER.downcallHandle(syscall, FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG,
+                    JAVA_LONG, JAVA_LONG, ADDRESS, JAVA_LONG), CAPTURE_CALL_STATE, Linker.Option.firstVariadicArg(1));
+            hMmap = LINKER.downcallHandle(libc.findOrThrow("mmap"),
+                    FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG));
+            hMunmap = LINKER.downcallHandle(libc.findOrThrow("munmap"),
+                    FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG));
+            available = true;
+        } catch (Throwable e) {
+            LOG.debug("Unable to bind io_uring system calls, will read files sequentially. {}", e.toString());
+        }
+        syscallSetup = hSetup;
+        syscallEnter = hEnter;
+        mmap = hMmap;
+        munmap = hMunmap;
+        AVAILABLE = available;
+    }
+
+    /**
+     * Returns whether the system calls could be bound.
+     *
+     * @return {@code true} if the other methods of this class may be called
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Calls {@code io_uring_setup(entries, params)}.
+     *
+     * @param entries the requested submission queue size, a power of 2
+     * @param params  a zeroed segment of {@link #PARAMS_LAYOUT}, filled in on success
+     * @return the ring file descriptor, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int ioUringSetup(int entries, MemorySegment params) throws Throwable {
+        return (int) (long) syscallSetup.invokeExact(SYS_IO_URING_SETUP, (long) entries, params);
+    }
+
+    /**
+     * Calls {@code io_uring_enter(fd, toSubmit, minComplete, flags, NULL, 0)}.
+     *
+     * @param callState   segment of {@link #CAPTURED_STATE_LAYOUT} receiving {@code errno}
+     * @param fd          the ring file descriptor
+     * @param toSubmit    the number of new submission queue entries to submit
+     * @param minComplete the number of completions to wait for, with {@link #IORING_ENTER_GETEVENTS}
+     * @param flags       the {@code IORING_ENTER_*} flags
+     * @return the number of entries submitted, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int ioUringEnter(MemorySegment callState, int fd, int toSubmit, int minComplete, int flags)
+            throws Throwable {
+        return (int) (long) syscallEnter.invokeExact(callState, SYS_IO_URING_ENTER, (long) fd, (long) toSubmit,
+                (long) minComplete, (long) flags, MemorySegment.NULL, 0L);
+    }
+
+    /**
+     * Maps one of a ring's regions with {@code mmap(NULL, length, PROT_READ | PROT_WRITE, MAP_SHARED | MAP_POPULATE,
+     * fd, offset)}.
+     *
+     * @param length the length of the region
+     * @param fd     the ring file descriptor
+     * @param offset one of {@link #IORING_OFF_SQ_RING}, {@link #IORING_OFF_CQ_RING} or {@link #IORING_OFF_SQES}
+     * @return the mapping, sized to {@code length}, or {@code null} on error. It stays valid until passed to
+     *         {@link #munmap(MemorySegment)}.
+     * @throws Throwable on FFM invocation error
+     */
+    public static @Nullable MemorySegment mmapRing(long length, int fd, long offset) throws Throwable {
+        MemorySegment addr = (MemorySegment) mmap.invokeExact(MemorySegment.NULL, length, PROT_READ | PROT_WRITE,
+                MAP_SHARED | MAP_POPULATE, fd, offset);
+        // MAP_FAILED is (void *) -1
+        if (addr.address() == -1L || addr.address() == 0L) {
+            return null;
+        }
+        return addr.reinterpret(length);
+    }
+
+    /**
+     * Calls {@code munmap(addr, length)} for a mapping from {@link #mmapRing(long, int, long)}.
+     *
+     * @param mapping the mapping
+     * @return 0 on success, -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int munmap(MemorySegment mapping) throws Throwable {
+        return (int) munmap.invokeExact(mapping, mapping.byteSize());
+    }
+}
@@ -29,8 +29,10 @@ import oshi.ffm.platform.unix.PosixLibcFunctions;
  * FFM bindings for Linux libc functions used by OSHI.
  * <p>
  * Covers: {@code gettid}, {@code syscall}, {@code getloadavg}, {@code sysinfo}, {@code statvfs}, the
- * {@code getaddrinfo}/{@code freeaddrinfo}/{@code gai_strerror} surface, and {@code getrusage}. The POSIX bindings
- * ({@code getpid}, {@code getrlimit}, {@code gethostname}) are inherited from {@link PosixLibcFunctions}.
+ * {@code getaddrinfo}/{@code freeaddrinfo}/{@code gai_strerror} surface, {@code getrusage}, {@code open},
+ * {@code openat}, {@code read}, {@code close} and {@code getdents64} for procfs access, and {@code write}, {@code poll}
+ * and {@code eventfd} for waiting on kernel notifications. The POSIX bindings ({@code getpid}, {@code getrlimit},
+ * {@code gethostname}) are inherited from {@link PosixLibcFunctions}.
  */
 public final class LinuxLibcFunctions extends PosixLibcFunctions {
 
@@ -64,6 +66,46 @@ public final class LinuxLibcFunctions extends PosixLibcFunctions {
     // ---- RLIMIT_NOFILE ----
     public static final int RLIMIT_NOFILE = 7;
 
+    // ---- open(2) flags ----
+    public static final int O_RDONLY = 0;
+    public static final int O_RDWR = 2;
+    public static final int O_CLOEXEC = 0x80000;
+    /** {@code O_DIRECTORY}: 0200000 on x86, s390, RISC-V and LoongArch; 040000 on ARM and PowerPC. */
+    public static final int O_DIRECTORY;
+
+    static {
+        String arch = System.getProperty("os.arch", "").toLowerCase(Locale.ROOT);
+        O_DIRECTORY = arch.startsWith("aarch64") || arch.startsWith("arm") || arch.startsWith("ppc") ? 0x4000 : 0x10000;
+    }
+
+    // ---- struct linux_dirent64 ----
+    // u64 d_ino (0), s64 d_off (8), u16 d_reclen (16), u8 d_type (18), char d_name[] (19)
+
+    /** Offset of {@code d_reclen}, the length of the whole record, in {@code struct linux_dirent64}. */
+    public static final long DIRENT64_RECLEN_OFFSET = 16L;
+    /** Offset of the null-terminated {@code d_name} in {@code struct linux_dirent64}. */
+    public static final long DIRENT64_NAME_OFFSET = 19L;
+
+    // ---- poll(2) ----
+    // struct pollfd { int fd; short events; short revents; }
+
+    /** Size of {@code struct pollfd}. */
+    public static final long POLLFD_SIZE = 8L;
+    /** Offset of {@code events} in {@code struct pollfd}. */
+    public static final long POLLFD_EVENTS_OFFSET = 4L;
+    /** Offset of {@code revents} in {@code struct pollfd}. */
+    public static final long POLLFD_REVENTS_OFFSET = 6L;
+    public static final short POLLIN = 0x1;
+    public static final short POLLPRI = 0x2;
+    public static final short POLLERR = 0x8;
+    public static final short POLLHUP = 0x10;
+    public static final short POLLNVAL = 0x20;
+
+    // ---- eventfd(2) flags, equal to the O_ flags ----
+    public static final int EFD_CLOEXEC = O_CLOEXEC;
+
+    public static final int EINTR = 4;
+
     // ---- AI_CANONNAME ----
     public static final int AI_CANONNAME = 2;
 
@@ -121,6 +163,16 @@ public final class LinuxLibcFunctions extends PosixLibcFunctions {
 
     /** Size of {@code struct rusage} on LP64 Linux (18 longs = 144 bytes). */
     public static final long RUSAGE_SIZE = 144L;
+    /**
+     * Byte offset of {@code ru_utime}, a {@code struct timeval} of seconds and microseconds, in {@code struct rusage}.
+     */
+    public static final long RUSAGE_UTIME_OFFSET = 0L;
+    /** Byte offset of {@code ru_stime}, a {@code struct timeval}, in {@code struct rusage}. */
+    public static final long RUSAGE_STIME_OFFSET = 16L;
+    /** Byte offset of {@code ru_minflt} in {@code struct rusage} (8th long). */
+    public static final long RUSAGE_MINFLT_OFFSET = 64L;
+    /** Byte offset of {@code ru_majflt} in {@code struct rusage} (9th long). */
+    public static final long RUSAGE_MAJFLT_OFFSET = 72L;
     /** Byte offset of {@code ru_nvcsw} in {@code struct rusage} (16th long). */
     public static final long RUSAGE_NVCSW_OFFSET = 128L;
     /** Byte offset of {@code ru_nivcsw} in {@code struct rusage} (17th long). */
@@ -213,8 +265,17 @@ public final class LinuxLibcFunctions extends PosixLibcFunctions {
     private static final MethodHandle freeaddrinfo;
     private static final MethodHandle gai_strerror;
     private static final MethodHandle getrusage;
+    private static final MethodHandle open;
+    private static final MethodHandle openat;
+    private static final MethodHandle read;
+    private static final MethodHandle close;
+    private static final MethodHandle write;
+    private static final MethodHandle poll;
+    private static final MethodHandle eventfd;
+    private static final MethodHandle getdents64;
 
     private static final boolean HAS_GETTID;
+    private static final boolean HAS_GETDENTS64;
 
     static {
         setutxent = LINKER.downcallHandle(LIBC.findOrThrow("setutxent"), FunctionDescriptor.ofVoid());
@@ -234,6 +295,33 @@ public final class LinuxLibcFunctions extends PosixLibcFunctions {
                 FunctionDescriptor.of(ADDRESS, JAVA_INT));
         getrusage = LINKER.downcallHandle(LIBC.findOrThrow("getrusage"),
                 FunctionDescriptor.of(JAVA_INT, JAVA_INT, ADDRESS));
+        // open(path, flags, ...) — the optional mode is only read with O_CREAT, so no variadic args are passed
+        open = LINKER.downcallHandle(LIBC.findOrThrow("open"), FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT),
+                Linker.Option.firstVariadicArg(2));
+        openat = LINKER.downcallHandle(LIBC.findOrThrow("openat"),
+                FunctionDescriptor.of(JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT), Linker.Option.firstVariadicArg(3));
+        read = LINKER.downcallHandle(LIBC.findOrThrow("read"),
+                FunctionDescriptor.of(JAVA_LONG, JAVA_INT, ADDRESS, JAVA_LONG));
+        close = LINKER.downcallHandle(LIBC.findOrThrow("close"), FunctionDescriptor.of(JAVA_INT, JAVA_INT));
+        write = LINKER.downcallHandle(LIBC.findOrThrow("write"),
+                FunctionDescriptor.of(JAVA_LONG, JAVA_INT, ADDRESS, JAVA_LONG));
+        poll = LINKER.downcallHandle(LIBC.findOrThrow("poll"),
+                FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG, JAVA_INT), CAPTURE_CALL_STATE);
+        eventfd = LINKER.downcallHandle(LIBC.findOrThrow("eventfd"),
+                FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT));
+
+        // glibc added a getdents64 wrapper in 2.30; older glibc and musl have only the raw syscall
+        MethodHandle hGetdents64 = null;
+        boolean hasGetdents64 = false;
+        try {
+            hGetdents64 = LINKER.downcallHandle(LIBC.findOrThrow("getdents64"),
+                    FunctionDescriptor.of(JAVA_LONG, JAVA_INT, ADDRESS, JAVA_LONG));
+            hasGetdents64 = true;
+        } catch (Throwable e) {
+            LOG.debug("getdents64 not found in libc, will list directories in Java. {}", e.toString());
+        }
+        getdents64 = hGetdents64;
+        HAS_GETDENTS64 = hasGetdents64;
 
         MethodHandle hGettid = null;
         boolean hasGettid = false;
@@ -526,4 +614,114 @@ public final class LinuxLibcFunctions extends PosixLibcFunctions {
         return (int) getrusage.invokeExact(who, rusage);
     }
 
+    /**
+     * Calls {@code open(path, flags)}.
+     *
+     * @param path  path segment (null-terminated UTF-8)
+     * @param flags the {@code O_*} flags, which must not include {@code O_CREAT}
+     * @return the file descriptor, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int open(MemorySegment path, int flags) throws Throwable {
+        return (int) open.invokeExact(path, flags);
+    }
+
+    /**
+     * Calls {@code openat(dirfd, path, flags)}, resolving a relative path from an open directory rather than from the
+     * root or working directory.
+     *
+     * @param dirfd a file descriptor opened with {@link #O_DIRECTORY}
+     * @param path  relative path segment (null-terminated UTF-8)
+     * @param flags the {@code O_*} flags, which must not include {@code O_CREAT}
+     * @return the file descriptor, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int openat(int dirfd, MemorySegment path, int flags) throws Throwable {
+        return (int) openat.invokeExact(dirfd, path, flags);
+    }
+
+    /**
+     * Calls {@code read(fd, buf, count)}.
+     *
+     * @param fd  the file descriptor
+     * @param buf the buffer to fill; its whole size is passed as {@code count}
+     * @return the number of bytes read, 0 at end of file, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static long read(int fd, MemorySegment buf) throws Throwable {
+        return (long) read.invokeExact(fd, buf, buf.byteSize());
+    }
+
+    /**
+     * Calls {@code close(fd)}.
+     *
+     * @param fd the file descriptor
+     * @return 0 on success, -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int close(int fd) throws Throwable {
+        return (int) close.invokeExact(fd);
+    }
+
+    /**
+     * Calls {@code write(fd, buf, count)}.
+     *
+     * @param fd  the file descriptor
+     * @param buf the bytes to write; its whole size is passed as {@code count}
+     * @return the number of bytes written, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static long write(int fd, MemorySegment buf) throws Throwable {
+        return (long) write.invokeExact(fd, buf, buf.byteSize());
+    }
+
+    /**
+     * Calls {@code poll(fds, nfds, timeout)}, blocking until one of the descriptors has an event.
+     *
+     * @param callState segment of {@link #CAPTURED_STATE_LAYOUT} receiving {@code errno}
+     * @param fds       an array of {@code nfds} {@code struct pollfd} of {@link #POLLFD_SIZE} bytes each
+     * @param nfds      the number of descriptors
+     * @param timeout   the timeout in milliseconds, or -1 to wait indefinitely
+     * @return the number of descriptors with events, 0 on timeout, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int poll(MemorySegment callState, MemorySegment fds, long nfds, int timeout) throws Throwable {
+        return (int) poll.invokeExact(callState, fds, nfds, timeout);
+    }
+
+    /**
+     * Calls {@code eventfd(initval, flags)}, creating a descriptor which becomes readable when a count is written to
+     * it. Used to wake a thread blocked in {@link #poll(MemorySegment, MemorySegment, long, int)}.
+     *
+     * @param initval the initial count
+     * @param flags   the {@code EFD_*} flags
+     * @return the file descriptor, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int eventfd(int initval, int flags) throws Throwable {
+        return (int) eventfd.invokeExact(initval, flags);
+    }
+
+    /**
+     * Returns whether {@code getdents64()} is available in libc.
+     *
+     * @return {@code true} if {@link #getdents64(int, MemorySegment)} may be called
+     */
+    public static boolean hasGetdents64() {
+        return HAS_GETDENTS64;
+    }
+
+    /**
+     * Calls {@code getdents64(fd, dirp, count)}, filling the buffer with as many {@code struct linux_dirent64} records
+     * as fit. Only valid if {@link #hasGetdents64()} is true.
+     *
+     * @param fd  a file descriptor opened with {@link #O_DIRECTORY}
+     * @param buf the buffer to fill; its whole size is passed as {@code count}
+     * @return the number of bytes read, 0 at the end of the directory, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static long getdents64(int fd, MemorySegment buf) throws Throwable {
+        return (long) getdents64.invokeExact(fd, buf, buf.byteSize());
+    }
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.ffm.platform.linux;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.ffm.ForeignFunctions;
+
+/**
+ * FFM bindings for waiting on process exits: {@code pidfd_open} through the raw system call, since glibc added a
+ * wrapper only in 2.36, the {@code epoll} interface, and {@code kill} for probing processes on kernels without pidfds.
+ * <p>
+ * A pidfd becomes readable when its process terminates, so any number of them can be waited on in one
+ * {@code epoll_wait}. {@code pidfd_open} needs kernel 5.3; older kernels fail it with {@link #ENOSYS}.
+ */
+public final class PidfdFunctions extends ForeignFunctions {
+
+    private PidfdFunctions() {
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(PidfdFunctions.class);
+
+    // pidfd_open was added after the syscall tables were unified, so this is the same on every architecture
+    private static final long SYS_PIDFD_OPEN = 434L;
+
+    // ---- errno values ----
+    public static final int EPERM = 1;
+    public static final int ESRCH = 3;
+    public static final int EINTR = 4;
+    public static final int ENOSYS = 38;
+
+    // ---- epoll ----
+    public static final int EPOLL_CLOEXEC = LinuxLibcFunctions.O_CLOEXEC;
+    public static final int EPOLL_CTL_ADD = 1;
+    public static final int EPOLL_CTL_DEL = 2;
+    public static final int EPOLLIN = 0x1;
+
+    /**
+     * Size of {@code struct epoll_event}: a 32-bit {@code events} mask and a 64-bit {@code data} field, which x86 packs
+     * to 12 bytes and other architectures pad to 16.
+     */
+    public static final long EPOLL_EVENT_SIZE;
+    /** Offset of the {@code data} field in {@code struct epoll_event}. */
+    public static final long EPOLL_EVENT_DATA_OFFSET;
+
+    static {
+        String arch = System.getProperty("os.arch", "").toLowerCase(Locale.ROOT);
+        boolean packed = arch.contains("amd64") || arch.contains("x86") || arch.matches("i[3-6]86");
+        EPOLL_EVENT_SIZE = packed ? 12L : 16L;
+        EPOLL_EVENT_DATA_OFFSET = packed ? 4L : 8L;
+    }
+
+    // ---- Method handles ----
+
+    private static final boolean AVAILABLE;
+
+    private static final MethodHandle syscallPidfdOpen;
+    private static final MethodHandle epoll_create1;
+    private static final MethodHandle epoll_ctl;
+    private static final MethodHandle epoll_wait;
+    private static final MethodHandle kill;
+
+    static {
+        boolean available = false;
+        MethodHandle hPidfdOpen = null;
+        MethodHandle hCreate = null;
+        MethodHandle hCtl = null;
+        MethodHandle hWait = null;
+        MethodHandle hKill = null;
+        try {
+            SymbolLookup libc = LINKER.defaultLookup();
+            // syscall() reads each argument as a long, so every variadic argument is passed as one
+            hPidfdOpen = LINKER.downcallHandle(libc.findOrThrow("syscall"),
+                    FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG), CAPTURE_CALL_STATE,
+                    Linker.Option.firstVariadicArg(1));
+            hCreate = LINKER.downcallHandle(libc.findOrThrow("epoll_create1"),
+                    FunctionDescriptor.of(JAVA_INT, JAVA_INT));
+            hCtl = LINKER.downcallHandle(libc.findOrThrow("epoll_ctl"),
+                    FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, ADDRESS));
+            hWait = LINKER.downcallHandle(libc.findOrThrow("epoll_wait"),
+                    FunctionDescriptor.of(JAVA_INT, JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT), CAPTURE_CALL_STATE);
+            hKill = LINKER.downcallHandle(libc.findOrThrow("kill"), FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT),
+                    CAPTURE_CALL_STATE);
+            available = true;
+        } catch (Throwable e) {
+            LOG.debug("Unable to bind pidfd and epoll functions. {}", e.toString());
+        }
+        syscallPidfdOpen = hPidfdOpen;
+        epoll_create1 = hCreate;
+        epoll_ctl = hCtl;
+        epoll_wait = hWait;
+        kill = hKill;
+        AVAILABLE = available;
+    }
+
+    /**
+     * Returns whether the functions could be bound.
+     *
+     * @return {@code true} if the other methods of this class may be called
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Calls {@code pidfd_open(pid, 0)}.
+     *
+     * @param callState segment of {@link #CAPTURED_STATE_LAYOUT} receiving {@code errno}
+     * @param pid       the process ID
+     * @return a file descriptor referring to the process, or -1 on error: {@link #ESRCH} if there is no such process,
+     *         {@link #ENOSYS} before kernel 5.3
+     * @throws Throwable on FFM invocation error
+     */
+    public static int pidfdOpen(MemorySegment callState, int pid) throws Throwable {
+        return (int) (long) syscallPidfdOpen.invokeExact(callState, SYS_PIDFD_OPEN, (long) pid, 0L);
+    }
+
+    /**
+     * Calls {@code epoll_create1(flags)}.
+     *
+     * @param flags {@link #EPOLL_CLOEXEC} or 0
+     * @return the epoll file descriptor, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int epollCreate1(int flags) throws Throwable {
+        return (int) epoll_create1.invokeExact(flags);
+    }
+
+    /**
+     * Calls {@code epoll_ctl(epfd, op, fd, event)}.
+     *
+     * @param epfd  the epoll file descriptor
+     * @param op    {@link #EPOLL_CTL_ADD} or {@link #EPOLL_CTL_DEL}
+     * @param fd    the file descriptor to add or remove
+     * @param event a {@code struct epoll_event} of {@link #EPOLL_EVENT_SIZE} bytes, ignored for removal
+     * @return 0 on success, -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int epollCtl(int epfd, int op, int fd, MemorySegment event) throws Throwable {
+        return (int) epoll_ctl.invokeExact(epfd, op, fd, event);
+    }
+
+    /**
+     * Calls {@code epoll_wait(epfd, events, maxevents, timeout)}.
+     *
+     * @param callState segment of {@link #CAPTURED_STATE_LAYOUT} receiving {@code errno}
+     * @param epfd      the epoll file descriptor
+     * @param events    an array of {@code struct epoll_event}, whose size determines {@code maxevents}
+     * @param timeout   the timeout in milliseconds, or -1 to wait indefinitely
+     * @return the number of events filled in, 0 on timeout, or -1 on error
+     * @throws Throwable on FFM invocation error
+     */
+    public static int epollWait(MemorySegment callState, int epfd, MemorySegment events, int timeout) throws Throwable {
+        return (int) epoll_wait.invokeExact(callState, epfd, events, (int) (events.byteSize() / EPOLL_EVENT_SIZE),
+                timeout);
+    }
+
+    /**
+     * Calls {@code kill(pid, sig)}. With signal 0 nothing is sent, only the existence of the process is checked.
+     *
+     * @param callState segment of {@link #CAPTURED_STATE_LAYOUT} receiving {@code errno}
+     * @param pid       the process ID
+     * @param sig       the signal
+     * @return 0 on success, or -1 on error: {@link #ESRCH} if there is no such process, {@link #EPERM} if it exists but
+     *         may not be signalled
+     * @throws Throwable on FFM invocation error
+     */
+    public static int kill(MemorySegment callState, int pid, int sig) throws Throwable {
+        return (int) kill.invokeExact(callState, pid, sig);
+    }
+}
@@ -11,7 +11,6 @@ import oshi.hardware.CentralProcessor;
 import oshi.hardware.GlobalMemory;
 import oshi.hardware.GraphicsCard;
 import oshi.hardware.HWDiskStore;
-import oshi.hardware.LogicalVolumeGroup;
 import oshi.hardware.NetworkIF;
 import oshi.hardware.PowerSource;
 import oshi.hardware.Printer;
@@ -39,11 +38,6 @@ public final class LinuxHardwareAbstractionLayerFFM extends LinuxHardwareAbstrac
         return new LinuxCentralProcessorFFM();
     }
 
-    @Override
-    public List<LogicalVolumeGroup> getLogicalVolumeGroups() {
-        return LinuxLogicalVolumeGroupFFM.getLogicalVolumeGroups();
-    }
-
     @Override
     public List<NetworkIF> getNetworkIFs(boolean includeLocalInterfaces) {
         return LinuxNetworkIFFFM.getNetworks(includeLocalInterfaces);
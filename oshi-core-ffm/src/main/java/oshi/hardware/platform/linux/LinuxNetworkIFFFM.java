@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.driver.linux.IoUringFileReaderFFM;
 import oshi.ffm.NativeHandle;
 import oshi.ffm.platform.linux.UdevFunctions;
 import oshi.hardware.NetworkIF;
@@ -60,6 +61,26 @@ public final class LinuxNetworkIFFFM extends LinuxNetworkIF {
         }, LOG, WARN, "Error querying network interface model for " + name, name);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@code io_uring} is enabled, the files are read together.
+     */
+    @Override
+    protected String[] queryAttributeFiles(String[] paths) {
+        if (!IoUringFileReaderFFM.isEnabled()) {
+            return super.queryAttributeFiles(paths);
+        }
+        String[] values = IoUringFileReaderFFM.readFiles(paths);
+        for (int i = 0; i < values.length; i++) {
+            int newline = values[i].indexOf('\n');
+            if (newline >= 0) {
+                values[i] = values[i].substring(0, newline);
+            }
+        }
+        return values;
+    }
+
     /**
      * Gets network interfaces on this machine
      *
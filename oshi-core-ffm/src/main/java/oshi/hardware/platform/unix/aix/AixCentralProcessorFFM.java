@@ -4,7 +4,7 @@
  */
 package oshi.hardware.platform.unix.aix;
 
-import static oshi.util.Memoizer.defaultExpiration;
+import static oshi.util.Memoizer.cpuTicksExpiration;
 import static oshi.util.Memoizer.memoize;
 
 import java.util.function.Supplier;
@@ -21,8 +21,8 @@ import oshi.hardware.common.platform.unix.aix.AixCentralProcessor;
 final class AixCentralProcessorFFM extends AixCentralProcessor {
 
     private final Supplier<PerfstatCpuFFM.CpuTotal> cpuTotal = memoize(PerfstatCpuFFM::queryCpuTotal,
-            defaultExpiration());
-    private final Supplier<PerfstatCpuFFM.Cpu[]> cpuProc = memoize(PerfstatCpuFFM::queryCpu, defaultExpiration());
+            cpuTicksExpiration());
+    private final Supplier<PerfstatCpuFFM.Cpu[]> cpuProc = memoize(PerfstatCpuFFM::queryCpu, cpuTicksExpiration());
 
     @Override
     protected PartitionInfo queryPartitionInfo() {
@@ -4,8 +4,9 @@
  */
 package oshi.hardware.platform.unix.aix;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -21,8 +22,8 @@ import oshi.hardware.common.platform.unix.aix.AixGlobalMemory;
 @ThreadSafe
 final class AixGlobalMemoryFFM extends AixGlobalMemory {
 
-    private final Supplier<PerfstatMemoryFFM.MemoryTotal> perfstatMem = memoize(PerfstatMemoryFFM::queryMemoryTotal,
-            defaultExpiration());
+    private final Supplier<PerfstatMemoryFFM.MemoryTotal> perfstatMem = memoizeConfigured(
+            PerfstatMemoryFFM::queryMemoryTotal, memoryExpiration());
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
 
     AixGlobalMemoryFFM(Supplier<List<String>> lscfg) {
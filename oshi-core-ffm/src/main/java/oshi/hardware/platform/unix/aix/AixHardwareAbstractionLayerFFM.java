@@ -5,7 +5,9 @@
 package oshi.hardware.platform.unix.aix;
 
 import static oshi.util.Memoizer.defaultExpiration;
+import static oshi.util.Memoizer.diskExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -42,8 +44,8 @@ import oshi.hardware.platform.unix.CupsPrinterFFM;
 public final class AixHardwareAbstractionLayerFFM extends AbstractHardwareAbstractionLayer {
 
     private final Supplier<List<String>> lscfg = memoize(Lscfg::queryAllDevices, defaultExpiration());
-    private final Supplier<PerfstatDiskFFM.Disk[]> diskStats = memoize(PerfstatDiskFFM::queryDiskStats,
-            defaultExpiration());
+    private final Supplier<PerfstatDiskFFM.Disk[]> diskStats = memoizeConfigured(PerfstatDiskFFM::queryDiskStats,
+            diskExpiration());
 
     @Override
     public ComputerSystem createComputerSystem() {
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.platform.unix.aix;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.networkExpiration;
 
 import java.net.NetworkInterface;
 import java.util.List;
@@ -40,8 +40,8 @@ public final class AixNetworkIFFFM extends AixNetworkIF {
      * @return list of {@link NetworkIF} objects
      */
     public static List<NetworkIF> getNetworks(boolean includeLocalInterfaces) {
-        Supplier<PerfstatNetInterfaceFFM.NetInterface[]> netstats = memoize(PerfstatNetInterfaceFFM::queryNetInterfaces,
-                defaultExpiration());
+        Supplier<PerfstatNetInterfaceFFM.NetInterface[]> netstats = memoizeConfigured(
+                PerfstatNetInterfaceFFM::queryNetInterfaces, networkExpiration());
         return getNetworks(includeLocalInterfaces, ni -> new AixNetworkIFFFM(ni, netstats));
     }
 
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.platform.unix.solaris;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -17,8 +17,8 @@ import oshi.util.tuples.Pair;
 @ThreadSafe
 final class SolarisGlobalMemoryFFM extends SolarisGlobalMemory {
 
-    private final Supplier<Pair<Long, Long>> availTotal = memoize(SystemPagesFFM::queryAvailableTotal,
-            defaultExpiration());
+    private final Supplier<Pair<Long, Long>> availTotal = memoizeConfigured(SystemPagesFFM::queryAvailableTotal,
+            memoryExpiration());
 
     @Override
     protected long queryAvailable() {
@@ -4,32 +4,58 @@
  */
 package oshi.software.os.linux;
 
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
 import static oshi.ffm.ForeignFunctions.callInArenaLongOrDefault;
 import static oshi.ffm.ForeignFunctions.callInArenaOrDefault;
 import static oshi.util.LogLevel.DEBUG;
 import static oshi.util.LogLevel.WARN;
 
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.driver.linux.IoUringFileReaderFFM;
 import oshi.ffm.platform.linux.LinuxLibcFunctions;
 import oshi.ffm.platform.unix.PosixLibcFunctions;
 import oshi.software.common.os.linux.LinuxOSProcess;
 import oshi.software.common.os.linux.LinuxOperatingSystem;
+import oshi.util.ParseUtil;
+import oshi.util.PrivilegedUtil;
+import oshi.util.linux.ProcPath;
+import oshi.util.tuples.Quartet;
 
 /**
- * FFM-based Linux OS process. Implements {@code getrlimit} and {@code getrusage} via FFM.
+ * FFM-based Linux OS process. Implements {@code getrlimit} and {@code getrusage} via FFM, and reads the per-process
+ * procfs files relative to a single {@code /proc/[pid]} directory descriptor.
  */
 @ThreadSafe
 public class LinuxOSProcessFFM extends LinuxOSProcess {
 
     private static final Logger LOG = LoggerFactory.getLogger(LinuxOSProcessFFM.class);
 
+    // status is the largest of the files read on each update, at 1-2 KiB on typical hosts
+    private static final long PROC_FILE_BUFFER_SIZE = 4096L;
+    private static final String IO = "io";
+    private static final String STATUS = "status";
+    private static final String STAT = "stat";
+    private static final String STATM = "statm";
+    private static final Pattern NEWLINE = Pattern.compile("\n");
+
+    // Set by LinuxOperatingSystemFFM while it creates processes whose files it has read together
+    static final ThreadLocal<@Nullable Map<Integer, String[]>> PREFETCHED = new ThreadLocal<>();
+
     public LinuxOSProcessFFM(int pid, LinuxOperatingSystem os) {
         super(pid, os);
     }
@@ -46,6 +72,121 @@ public class LinuxOSProcessFFM extends LinuxOSProcess {
         }, LOG, DEBUG, "FFM getrusage failed", null);
     }
 
+    /**
+     * Opens {@code /proc/[pid]} once and reads {@code io}, {@code status}, {@code stat} and {@code statm} with
+     * {@code openat} relative to it. Beyond saving a path walk per file, this pins the files to one process: once the
+     * process exits its directory descriptor is stale, and later reads fail rather than reading a new process which has
+     * reused the PID. Files already read for this process by {@link #readProcPidFiles(Collection)} are used instead.
+     */
+    @Override
+    protected Quartet<Map<String, String>, Map<String, String>, String, String> queryProcPidFiles() {
+        Map<Integer, String[]> prefetched = PREFETCHED.get();
+        String @Nullable [] contents = prefetched == null ? null : prefetched.remove(getProcessID());
+        Quartet<Map<String, String>, Map<String, String>, String, String> files;
+        if (contents != null) {
+            files = toProcPidFiles(contents[0], contents[1], contents[2], contents[3]);
+        } else {
+            files = callInArenaOrDefault(arena -> {
+                int dirfd = LinuxLibcFunctions.open(arena.allocateFrom(ProcPath.PROC + "/" + getProcessID()),
+                        LinuxLibcFunctions.O_RDONLY | LinuxLibcFunctions.O_DIRECTORY | LinuxLibcFunctions.O_CLOEXEC);
+                if (dirfd < 0) {
+                    return new Quartet<>(new HashMap<>(), new HashMap<>(), "", "");
+                }
+                try {
+                    MemorySegment buf = arena.allocate(PROC_FILE_BUFFER_SIZE);
+                    String io = readAt(dirfd, IO, buf, arena);
+                    String status = readAt(dirfd, STATUS, buf, arena);
+                    // Read stat after the others so that a process which exits in between is detected
+                    String stat = readAt(dirfd, STAT, buf, arena);
+                    String statm = readAt(dirfd, STATM, buf, arena);
+                    return toProcPidFiles(io, status, stat, statm);
+                } finally {
+                    LinuxLibcFunctions.close(dirfd);
+                }
+            }, null, LOG, DEBUG, "FFM read of /proc/{} failed", getProcessID());
+            if (files == null) {
+                return super.queryProcPidFiles();
+            }
+        }
+        // Other users' io files need the configured privileged read, which only the default implementation makes
+        if (files.getA().isEmpty() && !files.getC().isEmpty() && !PrivilegedUtil.getPrefix().isEmpty()) {
+            return new Quartet<>(
+                    PrivilegedUtil.getKeyValueMapFromFilePrivileged(
+                            String.format(Locale.ROOT, ProcPath.PID_IO, getProcessID()), ":"),
+                    files.getB(), files.getC(), files.getD());
+        }
+        return files;
+    }
+
+    /**
+     * Reads the {@code io}, {@code status}, {@code stat} and {@code statm} files of many processes together with
+     * {@link IoUringFileReaderFFM}, for {@link #PREFETCHED}. As in {@link #queryProcPidFiles()}, the files are opened
+     * relative to a descriptor of each {@code /proc/[pid]} directory.
+     *
+     * @param pids the process IDs
+     * @return the contents of the four files of each process, in that order, keyed by process ID; processes not read
+     *         together are absent, and read when they are created
+     */
+    static Map<Integer, String[]> readProcPidFiles(Collection<Integer> pids) {
+        String[] directories = new String[pids.size()];
+        int i = 0;
+        for (int pid : pids) {
+            directories[i++] = ProcPath.PROC + "/" + pid;
+        }
+        String[] @Nullable [] contents = IoUringFileReaderFFM.readFilesAt(directories, IO, STATUS, STAT, STATM);
+        Map<Integer, String[]> files = new HashMap<>(pids.size() * 2);
+        i = 0;
+        for (int pid : pids) {
+            String[] row = contents[i++];
+            if (row != null) {
+                files.put(pid, row);
+            }
+        }
+        return files;
+    }
+
+    private static Quartet<Map<String, String>, Map<String, String>, String, String> toProcPidFiles(String io,
+            String status, String stat, String statm) {
+        return new Quartet<>(parseKeyValues(io), parseKeyValues(status), firstLine(stat), firstLine(statm));
+    }
+
+    private static String readAt(int dirfd, String name, MemorySegment buf, Arena arena) throws Throwable {
+        int fd = LinuxLibcFunctions.openat(dirfd, arena.allocateFrom(name),
+                LinuxLibcFunctions.O_RDONLY | LinuxLibcFunctions.O_CLOEXEC);
+        if (fd < 0) {
+            return "";
+        }
+        try {
+            MemorySegment target = buf;
+            long total = 0L;
+            long read;
+            do {
+                if (total == target.byteSize()) {
+                    // Only status on hosts with thousands of CPUs outgrows the buffer
+                    MemorySegment larger = arena.allocate(target.byteSize() * 2);
+                    larger.copyFrom(target);
+                    target = larger;
+                }
+                read = LinuxLibcFunctions.read(fd, target.asSlice(total));
+                if (read > 0) {
+                    total += read;
+                }
+            } while (read > 0);
+            return new String(target.asSlice(0L, total).toArray(JAVA_BYTE), StandardCharsets.UTF_8);
+        } finally {
+            LinuxLibcFunctions.close(fd);
+        }
+    }
+
+    private static Map<String, String> parseKeyValues(String contents) {
+        return ParseUtil.parseStringListToMap(Arrays.asList(NEWLINE.split(contents)), ":");
+    }
+
+    private static String firstLine(String contents) {
+        int newline = contents.indexOf('\n');
+        return newline < 0 ? contents : contents.substring(0, newline);
+    }
+
     @Override
     protected long queryRlimitSoft() {
         long limit = callInArenaLongOrDefault(arena -> {
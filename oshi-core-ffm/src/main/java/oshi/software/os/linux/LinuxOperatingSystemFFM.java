@@ -5,16 +5,20 @@
 package oshi.software.os.linux;
 
 import static oshi.ffm.ForeignFunctions.callInArenaIntOrDefault;
+import static oshi.ffm.ForeignFunctions.callInArenaOrDefault;
 import static oshi.util.ExceptionUtil.getBooleanOrDefault;
 import static oshi.util.ExceptionUtil.getIntOrDefault;
 import static oshi.util.ExceptionUtil.getOptionalInt;
+import static oshi.util.LogLevel.DEBUG;
 import static oshi.util.LogLevel.ERROR;
 import static oshi.util.LogLevel.WARN;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.file.Files;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
@@ -24,8 +28,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import oshi.annotation.concurrent.ThreadSafe;
+import oshi.driver.linux.IoUringFileReaderFFM;
 import oshi.driver.linux.WhoFFM;
 import oshi.driver.linux.proc.AuxvFFM;
+import oshi.driver.linux.proc.ProcessStatFFM;
 import oshi.ffm.platform.linux.LinuxLibcFunctions;
 import oshi.ffm.platform.linux.UdevFunctions;
 import oshi.software.common.os.linux.LinuxOperatingSystem;
@@ -139,6 +145,51 @@ public class LinuxOperatingSystemFFM extends LinuxOperatingSystem {
         return new LinuxOSProcessFFM(pid, this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@code io_uring} is enabled, the procfs files of all the processes are read together before the processes
+     * are created.
+     */
+    @Override
+    protected List<OSProcess> createOSProcesses(Collection<Integer> pids) {
+        if (!IoUringFileReaderFFM.isEnabled()) {
+            return super.createOSProcesses(pids);
+        }
+        LinuxOSProcessFFM.PREFETCHED.set(LinuxOSProcessFFM.readProcPidFiles(pids));
+        try {
+            return super.createOSProcesses(pids);
+        } finally {
+            LinuxOSProcessFFM.PREFETCHED.remove();
+        }
+    }
+
+    @Override
+    protected int[] queryNumericEntries(String path) {
+        return ProcessStatFFM.listNumericEntries(path);
+    }
+
+    @Override
+    protected long @Nullable [] querySelfRusage() {
+        return callInArenaOrDefault(arena -> {
+            MemorySegment rusage = arena.allocate(LinuxLibcFunctions.RUSAGE_SIZE);
+            if (0 == LinuxLibcFunctions.getrusage(LinuxLibcFunctions.RUSAGE_SELF, rusage)) {
+                return new long[] { timevalMillis(rusage, LinuxLibcFunctions.RUSAGE_UTIME_OFFSET),
+                        timevalMillis(rusage, LinuxLibcFunctions.RUSAGE_STIME_OFFSET),
+                        rusage.get(ValueLayout.JAVA_LONG, LinuxLibcFunctions.RUSAGE_MINFLT_OFFSET),
+                        rusage.get(ValueLayout.JAVA_LONG, LinuxLibcFunctions.RUSAGE_MAJFLT_OFFSET),
+                        rusage.get(ValueLayout.JAVA_LONG, LinuxLibcFunctions.RUSAGE_NVCSW_OFFSET),
+                        rusage.get(ValueLayout.JAVA_LONG, LinuxLibcFunctions.RUSAGE_NIVCSW_OFFSET) };
+            }
+            return null;
+        }, LOG, DEBUG, "FFM getrusage failed", null);
+    }
+
+    private static long timevalMillis(MemorySegment rusage, long offset) {
+        return rusage.get(ValueLayout.JAVA_LONG, offset) * 1000L
+                + rusage.get(ValueLayout.JAVA_LONG, offset + Long.BYTES) / 1000L;
+    }
+
     @Override
     public int getProcessId() {
         return getIntOrDefault(LinuxLibcFunctions::getpid, 0, LOG, WARN, "FFM getpid failed");
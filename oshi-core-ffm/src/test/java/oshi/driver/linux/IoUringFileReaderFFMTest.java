@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import oshi.util.GlobalConfig;
+
+@EnabledOnOs(OS.LINUX)
+class IoUringFileReaderFFMTest {
+
+    @AfterEach
+    void resetConfig() {
+        GlobalConfig.remove(GlobalConfig.OSHI_OS_LINUX_IOURING);
+    }
+
+    @Test
+    void testReadFilesSequential(@TempDir Path dir) throws IOException {
+        assertThat(IoUringFileReaderFFM.isEnabled(), is(false));
+        assertReadsFiles(dir);
+    }
+
+    @Test
+    void testReadFilesIoUring(@TempDir Path dir) throws IOException {
+        // Whether or not the kernel permits io_uring here, the results must be the same
+        GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, true);
+        assertReadsFiles(dir);
+    }
+
+    private static void assertReadsFiles(Path dir) throws IOException {
+        String small = "1500\n";
+        // Fills its slot exactly, so must be read again in case there is more
+        char[] exact = new char[IoUringFileReaderFFM.SLOT_SIZE];
+        Arrays.fill(exact, 'a');
+        char[] large = new char[IoUringFileReaderFFM.SLOT_SIZE * 3 + 7];
+        Arrays.fill(large, 'b');
+        Path smallFile = Files.write(dir.resolve("small"), small.getBytes(StandardCharsets.UTF_8));
+        Path emptyFile = Files.createFile(dir.resolve("empty"));
+        Path exactFile = Files.write(dir.resolve("exact"), new String(exact).getBytes(StandardCharsets.UTF_8));
+        Path largeFile = Files.write(dir.resolve("large"), new String(large).getBytes(StandardCharsets.UTF_8));
+        String missing = dir.resolve("missing").toString();
+
+        String[] contents = IoUringFileReaderFFM.readFiles(smallFile.toString(), emptyFile.toString(), missing,
+                exactFile.toString(), largeFile.toString());
+        assertThat(contents, arrayContaining(small, "", "", new String(exact), new String(large)));
+    }
+
+    @Test
+    void testReadFilesInSeveralBatches(@TempDir Path dir) throws IOException {
+        GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, true);
+        String[] paths = new String[IoUringFileReaderFFM.RING_ENTRIES * 2 + 3];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = Files
+                    .write(dir.resolve(Integer.toString(i)), Integer.toString(i).getBytes(StandardCharsets.UTF_8))
+                    .toString();
+        }
+        String[] contents = IoUringFileReaderFFM.readFiles(paths);
+        for (int i = 0; i < paths.length; i++) {
+            assertThat(contents[i], is(Integer.toString(i)));
+        }
+    }
+
+    @Test
+    void testReadFilesAt(@TempDir Path dir) throws IOException {
+        Path first = Files.createDirectory(dir.resolve("1"));
+        Files.write(first.resolve("stat"), "1 (init) S".getBytes(StandardCharsets.UTF_8));
+        Files.write(first.resolve("statm"), "100 50".getBytes(StandardCharsets.UTF_8));
+        Path second = Files.createDirectory(dir.resolve("2"));
+        Files.write(second.resolve("stat"), "2 (kthreadd) S".getBytes(StandardCharsets.UTF_8));
+        String[] directories = { first.toString(), second.toString(), dir.resolve("3").toString() };
+
+        // Not read unless enabled, for the caller to read
+        String[] @Nullable [] contents = IoUringFileReaderFFM.readFilesAt(directories, "stat", "statm");
+        assertThat(contents[0], is(nullValue()));
+
+        GlobalConfig.set(GlobalConfig.OSHI_OS_LINUX_IOURING, true);
+        contents = IoUringFileReaderFFM.readFilesAt(directories, "stat", "statm");
+        if (IoUringFileReaderFFM.isEnabled()) {
+            assertThat(contents[0], arrayContaining("1 (init) S", "100 50"));
+            // A missing file is not retried
+            assertThat(contents[1], arrayContaining("2 (kthreadd) S", ""));
+            // nor are the files of a missing directory
+            assertThat(contents[2], arrayContaining("", ""));
+        }
+    }
+}
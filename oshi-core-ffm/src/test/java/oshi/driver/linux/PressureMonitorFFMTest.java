@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import oshi.driver.linux.PressureMonitorFFM.Subscription;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
+import oshi.util.driver.linux.proc.PressureStall.StallType;
+
+@EnabledOnOs(OS.LINUX)
+class PressureMonitorFFMTest {
+
+    @Test
+    void testInvalidTrigger() {
+        try (PressureMonitorFFM monitor = new PressureMonitorFFM()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> monitor.subscribe(Resource.MEMORY, StallType.SOME, 150_000L, 100_000L, s -> {
+                    }));
+            assertThrows(IllegalArgumentException.class,
+                    () -> monitor.subscribe(Resource.MEMORY, StallType.SOME, 0L, 1_000_000L, s -> {
+                    }));
+            assertThrows(IllegalArgumentException.class, () -> monitor.subscribe(Resource.MEMORY, StallType.SOME,
+                    150_000L, PressureMonitorFFM.MAX_WINDOW_MICROS + 1, s -> {
+                    }));
+        }
+    }
+
+    @Test
+    void testMissingFile() {
+        try (PressureMonitorFFM monitor = new PressureMonitorFFM()) {
+            assertThat(monitor.subscribe("/nonexistent/memory.pressure", StallType.SOME, 150_000L, 2_000_000L, s -> {
+            }), is(nullValue()));
+        }
+    }
+
+    @Test
+    void testSubscribeAndClose() throws InterruptedException {
+        PressureMonitorFFM monitor = new PressureMonitorFFM();
+        // Triggers may be denied without privileges or PSI support, in which case there is nothing more to test
+        Subscription sub = monitor.subscribe(Resource.MEMORY, StallType.SOME, 150_000L, 2_000_000L, s -> {
+        });
+        if (sub != null) {
+            assertThat(sub.isActive(), is(true));
+            assertThat(sub.getType(), is(StallType.SOME));
+            assertThat(sub.getWindowMicros(), is(2_000_000L));
+            sub.close();
+            assertThat(sub.isActive(), is(false));
+
+            Subscription other = monitor.subscribe(Resource.CPU, StallType.SOME, 150_000L, 2_000_000L, s -> {
+            });
+            monitor.close();
+            if (other != null) {
+                // Released by the monitor's thread once it wakes
+                for (int i = 0; i < 100 && other.isActive(); i++) {
+                    Thread.sleep(10L);
+                }
+                assertThat(other.isActive(), is(false));
+            }
+            assertThrows(IllegalStateException.class,
+                    () -> monitor.subscribe(Resource.IO, StallType.SOME, 150_000L, 2_000_000L, s -> {
+                    }));
+        }
+        monitor.close();
+    }
+}
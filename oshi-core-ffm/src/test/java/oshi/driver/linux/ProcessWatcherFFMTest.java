@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+@EnabledOnOs(OS.LINUX)
+class ProcessWatcherFFMTest {
+
+    @Test
+    void testExitNotified() throws IOException, InterruptedException {
+        try (ProcessWatcherFFM watcher = new ProcessWatcherFFM(100L)) {
+            Process child = new ProcessBuilder("sleep", "0.2").start();
+            int pid = (int) child.pid();
+            long start = System.currentTimeMillis();
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicInteger exitedPid = new AtomicInteger();
+            AtomicLong exitTime = new AtomicLong();
+            assertThat(watcher.watch(pid, (p, t) -> {
+                exitedPid.set(p);
+                exitTime.set(t);
+                latch.countDown();
+            }), is(true));
+            assertThat(watcher.getWatchCount(), is(1));
+            // The JDK reaps the child, so the kill probe also sees it gone
+            assertThat(child.waitFor(10, TimeUnit.SECONDS), is(true));
+            assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(exitedPid.get(), is(pid));
+            assertThat(exitTime.get(), is(greaterThanOrEqualTo(start)));
+            assertThat(watcher.getWatchCount(), is(0));
+        }
+    }
+
+    @Test
+    void testUnwatchAndClose() throws IOException, InterruptedException {
+        ProcessWatcherFFM watcher = new ProcessWatcherFFM();
+        Process child = new ProcessBuilder("sleep", "30").start();
+        try {
+            int pid = (int) child.pid();
+            AtomicInteger calls = new AtomicInteger();
+            assertThat(watcher.watch(pid, (p, t) -> calls.incrementAndGet()), is(true));
+            assertThat(watcher.unwatch(pid), is(true));
+            assertThat(watcher.unwatch(pid), is(false));
+            assertThat(watcher.watch(pid, (p, t) -> calls.incrementAndGet()), is(true));
+            watcher.close();
+            assertThat(watcher.getWatchCount(), is(0));
+            child.destroy();
+            child.waitFor(10, TimeUnit.SECONDS);
+            Thread.sleep(100L);
+            assertThat(calls.get(), is(0));
+            assertThrows(IllegalStateException.class, () -> watcher.watch(pid, (p, t) -> {
+            }));
+        } finally {
+            child.destroyForcibly();
+            watcher.close();
+        }
+    }
+
+    @Test
+    void testNonexistentProcess() {
+        try (ProcessWatcherFFM watcher = new ProcessWatcherFFM()) {
+            // Above the kernel's maximum PID
+            assertThat(watcher.watch(Integer.MAX_VALUE, (p, t) -> {
+            }), is(false));
+            assertThat(watcher.getWatchCount(), is(0));
+            assertThrows(IllegalArgumentException.class, () -> new ProcessWatcherFFM(0L));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.driver.linux.proc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import oshi.util.driver.linux.proc.ProcessStat;
+
+@EnabledOnOs(OS.LINUX)
+class ProcessStatFFMTest {
+
+    @Test
+    void testListNumericEntries(@TempDir Path dir) throws IOException {
+        for (String name : new String[] { "1", "42", "007", "self", "4a", "12345678901" }) {
+            Files.createFile(dir.resolve(name));
+        }
+        // Enough entries to need several getdents64 calls
+        for (int i = 1000; i < 2000; i++) {
+            Files.createDirectory(dir.resolve(Integer.toString(i)));
+        }
+
+        List<Integer> entries = boxed(ProcessStatFFM.listNumericEntries(dir.toString()));
+        assertThat(entries.size(), is(1003));
+        assertThat(entries, hasItem(7));
+        assertThat(entries, hasItem(1999));
+        assertThat(ProcessStatFFM.listNumericEntries(dir.resolve("missing").toString()).length, is(0));
+    }
+
+    @Test
+    void testGetPids() {
+        List<Integer> pids = boxed(ProcessStatFFM.listNumericEntries("/proc"));
+        assertThat(pids, hasItem((int) ProcessHandle.current().pid()));
+    }
+
+    @Test
+    void testParseNumericName() {
+        try (Arena arena = Arena.ofConfined()) {
+            assertThat(parse(arena, "4194304"), is(4194304));
+            assertThat(parse(arena, "0"), is(0));
+            assertThat(parse(arena, ""), is(-1));
+            assertThat(parse(arena, "self"), is(-1));
+            assertThat(parse(arena, "1234567890"), is(-1));
+            // A name filling the record without a terminator is bounded by the record length
+            MemorySegment unterminated = arena.allocate(3);
+            unterminated.copyFrom(MemorySegment.ofArray(new byte[] { '1', '2', '3' }));
+            assertThat(ProcessStatFFM.parseNumericName(unterminated, 0, 2), is(12));
+        }
+    }
+
+    @Test
+    void testMatchesJavaListing(@TempDir Path dir) throws IOException {
+        for (String name : new String[] { "5", "17", "x1" }) {
+            Files.createFile(dir.resolve(name));
+        }
+        assertThat(boxed(ProcessStatFFM.listNumericEntries(dir.toString())),
+                containsInAnyOrder(boxed(ProcessStat.listNumericEntries(dir.toString())).toArray(new Integer[0])));
+    }
+
+    private static int parse(Arena arena, String name) {
+        MemorySegment seg = arena.allocateFrom(name);
+        return ProcessStatFFM.parseNumericName(seg, 0, seg.byteSize());
+    }
+
+    private static List<Integer> boxed(int[] values) {
+        return Arrays.stream(values).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.ffm;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static oshi.util.LogLevel.DEBUG;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link ScratchArena}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_25)
+class ScratchArenaTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScratchArenaTest.class);
+
+    @Test
+    void testReusesMemoryAcrossCalls() {
+        long first;
+        try (Arena arena = ScratchArena.open()) {
+            MemorySegment seg = arena.allocate(JAVA_LONG);
+            seg.set(JAVA_LONG, 0, -1L);
+            first = seg.address();
+        }
+        try (Arena arena = ScratchArena.open()) {
+            MemorySegment seg = arena.allocate(JAVA_LONG);
+            assertThat(seg.address(), is(first));
+            // Left over contents of the previous call must not be visible
+            assertThat(seg.get(JAVA_LONG, 0), is(0L));
+        }
+        assertThat(ScratchArena.openDepth(), is(0));
+    }
+
+    @Test
+    void testAlignment() {
+        try (Arena arena = ScratchArena.open()) {
+            arena.allocate(3);
+            MemorySegment aligned = arena.allocate(JAVA_LONG);
+            assertThat(aligned.address() % JAVA_LONG.byteAlignment(), is(0L));
+            assertThrows(IllegalArgumentException.class, () -> arena.allocate(8, 3));
+            assertThrows(IllegalArgumentException.class, () -> arena.allocate(-1, 1));
+        }
+    }
+
+    @Test
+    void testNestedOperations() {
+        try (Arena outer = ScratchArena.open()) {
+            MemorySegment outerSeg = outer.allocateFrom(JAVA_LONG, 42L);
+            long innerAddress;
+            try (Arena inner = ScratchArena.open()) {
+                assertThat(inner, is(sameInstance(outer)));
+                assertThat(ScratchArena.openDepth(), is(2));
+                MemorySegment innerSeg = inner.allocate(JAVA_LONG);
+                innerAddress = innerSeg.address();
+                assertThat(innerAddress, is(not(outerSeg.address())));
+            }
+            assertThat(outerSeg.get(JAVA_LONG, 0), is(42L));
+            // The inner region is reclaimed for the next allocation
+            assertThat(outer.allocate(JAVA_LONG).address(), is(innerAddress));
+        }
+    }
+
+    @Test
+    void testSegmentsEndWithOperation() {
+        MemorySegment seg;
+        try (Arena arena = ScratchArena.open()) {
+            seg = arena.allocate(JAVA_LONG);
+            assertThat(seg.scope(), is(equalTo(arena.scope())));
+            assertThat(seg.scope().isAlive(), is(true));
+        }
+        // The slab memory is reused, but the segment handed out for it can no longer be accessed
+        assertThat(seg.scope().isAlive(), is(false));
+        assertThrows(IllegalStateException.class, () -> seg.get(JAVA_LONG, 0));
+    }
+
+    @Test
+    void testOverflow() {
+        long slabStart;
+        try (Arena arena = ScratchArena.open()) {
+            slabStart = arena.allocate(JAVA_LONG).address();
+        }
+        MemorySegment large;
+        try (Arena arena = ScratchArena.open()) {
+            large = arena.allocate(ScratchArena.SLAB_SIZE + 1);
+            assertThat(large.byteSize(), is(ScratchArena.SLAB_SIZE + 1));
+            assertThat(large.get(JAVA_BYTE, ScratchArena.SLAB_SIZE), is((byte) 0));
+            // The slab is still used for what fits
+            assertThat(arena.allocate(JAVA_LONG).address(), is(slabStart));
+        }
+        // Overflow memory is freed with the operation
+        assertThat(large.scope().isAlive(), is(false));
+    }
+
+    @Test
+    void testCloseWithoutOpen() {
+        try (Arena arena = ScratchArena.open()) {
+            arena.close();
+            assertThrows(IllegalStateException.class, () -> arena.allocate(1));
+            assertThrows(IllegalStateException.class, arena::scope);
+            assertThrows(IllegalStateException.class, arena::close);
+            // Reopen so the try-with-resources close is balanced
+            ScratchArena.open();
+        }
+    }
+
+    @Test
+    void testVirtualThreadUsesConfinedArena() throws InterruptedException {
+        AtomicBoolean confined = new AtomicBoolean();
+        Thread.ofVirtual().start(() -> {
+            try (Arena arena = ScratchArena.open()) {
+                confined.set(!(arena instanceof ScratchArena));
+            }
+        }).join();
+        assertThat(confined.get(), is(true));
+    }
+
+    @Test
+    void testCallInArenaReleasesOnThrowable() {
+        long result = ForeignFunctions.callInArenaLongOrDefault(arena -> {
+            arena.allocate(JAVA_LONG);
+            throw new Throwable("long failure");
+        }, LOG, DEBUG, "long failure", -1L);
+
+        assertThat(result, is(-1L));
+        assertThat(ScratchArena.openDepth(), is(0));
+    }
+}
@@ -4,7 +4,7 @@
  */
 package oshi.hardware.platform.unix.aix;
 
-import static oshi.util.Memoizer.defaultExpiration;
+import static oshi.util.Memoizer.cpuTicksExpiration;
 import static oshi.util.Memoizer.memoize;
 
 import java.util.function.Supplier;
@@ -26,8 +26,9 @@ import oshi.hardware.common.platform.unix.aix.AixCentralProcessor;
 @ThreadSafe
 final class AixCentralProcessorJNA extends AixCentralProcessor {
 
-    private final Supplier<perfstat_cpu_total_t> cpuTotal = memoize(PerfstatCpuJNA::queryCpuTotal, defaultExpiration());
-    private final Supplier<perfstat_cpu_t[]> cpuProc = memoize(PerfstatCpuJNA::queryCpu, defaultExpiration());
+    private final Supplier<perfstat_cpu_total_t> cpuTotal = memoize(PerfstatCpuJNA::queryCpuTotal,
+            cpuTicksExpiration());
+    private final Supplier<perfstat_cpu_t[]> cpuProc = memoize(PerfstatCpuJNA::queryCpu, cpuTicksExpiration());
 
     @Override
     protected PartitionInfo queryPartitionInfo() {
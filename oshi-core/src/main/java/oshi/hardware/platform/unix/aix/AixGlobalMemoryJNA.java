@@ -4,8 +4,9 @@
  */
 package oshi.hardware.platform.unix.aix;
 
-import static oshi.util.Memoizer.defaultExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -24,8 +25,8 @@ import oshi.hardware.common.platform.unix.aix.AixGlobalMemory;
 @ThreadSafe
 final class AixGlobalMemoryJNA extends AixGlobalMemory {
 
-    private final Supplier<perfstat_memory_total_t> perfstatMem = memoize(PerfstatMemoryJNA::queryMemoryTotal,
-            defaultExpiration());
+    private final Supplier<perfstat_memory_total_t> perfstatMem = memoizeConfigured(PerfstatMemoryJNA::queryMemoryTotal,
+            memoryExpiration());
     private final Supplier<VirtualMemory> vm = memoize(this::createVirtualMemory);
 
     AixGlobalMemoryJNA(Supplier<List<String>> lscfg) {
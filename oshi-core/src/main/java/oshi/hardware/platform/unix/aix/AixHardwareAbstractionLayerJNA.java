@@ -5,7 +5,9 @@
 package oshi.hardware.platform.unix.aix;
 
 import static oshi.util.Memoizer.defaultExpiration;
+import static oshi.util.Memoizer.diskExpiration;
 import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -44,7 +46,8 @@ import oshi.hardware.platform.unix.CupsPrinterJNA;
 public final class AixHardwareAbstractionLayerJNA extends AbstractHardwareAbstractionLayer {
 
     private final Supplier<List<String>> lscfg = memoize(Lscfg::queryAllDevices, defaultExpiration());
-    private final Supplier<perfstat_disk_t[]> diskStats = memoize(PerfstatDiskJNA::queryDiskStats, defaultExpiration());
+    private final Supplier<perfstat_disk_t[]> diskStats = memoizeConfigured(PerfstatDiskJNA::queryDiskStats,
+            diskExpiration());
 
     @Override
     public ComputerSystem createComputerSystem() {
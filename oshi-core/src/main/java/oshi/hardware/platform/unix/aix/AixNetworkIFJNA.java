@@ -4,8 +4,8 @@
  */
 package oshi.hardware.platform.unix.aix;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.networkExpiration;
 
 import java.net.NetworkInterface;
 import java.util.List;
@@ -43,8 +43,8 @@ public final class AixNetworkIFJNA extends AixNetworkIF {
      * @return a list of {@link NetworkIF} objects representing the interfaces
      */
     public static List<NetworkIF> getNetworks(boolean includeLocalInterfaces) {
-        Supplier<perfstat_netinterface_t[]> netstats = memoize(PerfstatNetInterfaceJNA::queryNetInterfaces,
-                defaultExpiration());
+        Supplier<perfstat_netinterface_t[]> netstats = memoizeConfigured(PerfstatNetInterfaceJNA::queryNetInterfaces,
+                networkExpiration());
         return getNetworks(includeLocalInterfaces, ni -> new AixNetworkIFJNA(ni, netstats));
     }
 
@@ -4,8 +4,8 @@
  */
 package oshi.hardware.platform.unix.solaris;
 
-import static oshi.util.Memoizer.defaultExpiration;
-import static oshi.util.Memoizer.memoize;
+import static oshi.util.Memoizer.memoizeConfigured;
+import static oshi.util.Memoizer.memoryExpiration;
 
 import java.util.function.Supplier;
 
@@ -20,8 +20,8 @@ import oshi.util.tuples.Pair;
 @ThreadSafe
 final class SolarisGlobalMemoryJNA extends SolarisGlobalMemory {
 
-    private final Supplier<Pair<Long, Long>> availTotal = memoize(SystemPages::queryAvailableTotal,
-            defaultExpiration());
+    private final Supplier<Pair<Long, Long>> availTotal = memoizeConfigured(SystemPages::queryAvailableTotal,
+            memoryExpiration());
 
     @Override
     protected long queryAvailable() {
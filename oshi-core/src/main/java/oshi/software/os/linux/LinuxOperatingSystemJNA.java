@@ -4,6 +4,8 @@
  */
 package oshi.software.os.linux;
 
+import static oshi.jna.platform.unix.CLibrary.RUSAGE_SELF;
+
 import java.io.File;
 import java.nio.file.Files;
 import java.util.List;
@@ -133,6 +135,18 @@ public class LinuxOperatingSystemJNA extends LinuxOperatingSystem {
         return new LinuxOSProcessJNA(pid, this);
     }
 
+    @Override
+    protected long @Nullable [] querySelfRusage() {
+        LinuxLibc.Rusage rusage = new LinuxLibc.Rusage();
+        if (0 == LinuxLibc.INSTANCE.getrusage(RUSAGE_SELF, rusage)) {
+            return new long[] { rusage.ru_utime_sec.longValue() * 1000L + rusage.ru_utime_usec.longValue() / 1000L,
+                    rusage.ru_stime_sec.longValue() * 1000L + rusage.ru_stime_usec.longValue() / 1000L,
+                    rusage.ru_minflt.longValue(), rusage.ru_majflt.longValue(), rusage.ru_nvcsw.longValue(),
+                    rusage.ru_nivcsw.longValue() };
+        }
+        return null;
+    }
+
     @Override
     public int getProcessId() {
         return LinuxLibc.INSTANCE.getpid();
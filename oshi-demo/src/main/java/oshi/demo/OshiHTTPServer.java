@@ -4,147 +4,289 @@
  */
 package oshi.demo;
 
-import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Locale;
-import java.util.StringTokenizer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 
 import oshi.SystemInfo;
+import oshi.annotation.SuppressForbidden;
+import oshi.util.ParseUtil;
+import oshi.util.snapshot.SnapshotEncoder;
+import oshi.util.snapshot.SystemSnapshot;
 
 /**
- * Demo class to vend OSHI JSON data via an HTTP Webserver
+ * Demo class to vend OSHI data via an HTTP server.
  * <p>
- * This is for demonstration only not to be used in production code.
+ * A single background thread collects the data every few seconds and serializes it once, in plain and gzip form, so
+ * that each request only copies bytes already in memory no matter how many clients are polling. Requests are served by
+ * a bounded pool of threads; when its queue is full, the thread accepting connections runs the request itself, slowing
+ * acceptance rather than growing without limit. Clients may send {@code If-None-Match} with the {@code ETag} of their
+ * last response to receive {@code 304 Not Modified} until the next refresh.
  * <p>
- * Code based on tutorial found on SSaurel's Blog : https://www.ssaurel.com/blog/create-a-simple-http-web-server-in-java
- * Each Client Connection will be managed in a dedicated Thread
+ * Two representations are served:
+ * <ul>
+ * <li>{@code /} : the full {@link SystemInfo} object graph as JSON</li>
+ * <li>{@code /snapshot} : a {@link SystemSnapshot} encoded as a {@link SnapshotEncoder} keyframe</li>
+ * </ul>
+ * This is for demonstration only not to be used in production code.
  */
-public class OshiHTTPServer implements Runnable {
+@SuppressForbidden(reason = "The JDK HTTP server is a supported API of the jdk.httpserver module")
+public class OshiHTTPServer {
     // port to listen connection
     private static final int PORT = 8080;
+    // seconds between collections if not given on the command line
+    private static final int DEFAULT_REFRESH_SECONDS = 5;
+    // requests waiting for a handler thread before the accepting thread runs them itself
+    private static final int REQUEST_QUEUE_SIZE = 256;
+
+    private static final String JSON_PATH = "/";
+    private static final String SNAPSHOT_PATH = "/snapshot";
 
     private static final Logger logger = LoggerFactory.getLogger(OshiHTTPServer.class);
 
-    // Client Connection via Socket Class
-    private Socket connect;
+    private final HttpServer server;
+    private final ThreadPoolExecutor handlers;
+    private final ScheduledExecutorService collector;
+    private final int refreshSeconds;
+
+    private final SystemInfo si = new SystemInfo();
+    // Optional getters are serialized as beans rather than rejected without the jdk8 datatype module
+    private final ObjectWriter writer = JsonMapper.builder().disable(MapperFeature.REQUIRE_HANDLERS_FOR_JAVA8_OPTIONALS)
+            .build().writerWithDefaultPrettyPrinter();
+    private final SystemSnapshot snapshot = new SystemSnapshot();
+    private final SnapshotEncoder encoder = new SnapshotEncoder();
+
+    // Replaced as a whole on each refresh so a request never sees a mix of two collections
+    private volatile Payload json = Payload.EMPTY;
+    private volatile Payload binary = Payload.EMPTY;
 
     /**
-     * Creates an HTTP server handler for the given socket.
+     * Creates an HTTP server listening on the given port.
      *
-     * @param c the client socket
+     * @param port           the port to listen on
+     * @param refreshSeconds the interval between collections, in seconds
+     * @throws IOException if the server cannot be bound to the port
      */
-    public OshiHTTPServer(Socket c) {
-        connect = c;
-        logger.debug("Connecton opened.");
+    public OshiHTTPServer(int port, int refreshSeconds) throws IOException {
+        this.refreshSeconds = refreshSeconds;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.handlers = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(REQUEST_QUEUE_SIZE), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.collector = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "oshi-http-collector");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(handlers);
+        server.createContext(JSON_PATH, exchange -> handle(exchange, json, "application/json"));
+        server.createContext(SNAPSHOT_PATH, exchange -> handle(exchange, binary, "application/octet-stream"));
     }
 
     /**
      * Entry point.
      *
-     * @param args command line arguments
+     * @param args command line arguments: optionally the interval between collections, in seconds
      */
     public static void main(String[] args) {
-        try (ServerSocket serverConnect = new ServerSocket(PORT)) {
+        int refresh = args.length > 0 ? ParseUtil.parseIntOrDefault(args[0], DEFAULT_REFRESH_SECONDS)
+                : DEFAULT_REFRESH_SECONDS;
+        try {
+            OshiHTTPServer oshiServer = new OshiHTTPServer(PORT, Math.max(1, refresh));
+            oshiServer.start();
             logger.info("Server started. Listening for connections on port {}", PORT);
-
-            // we listen until user halts server execution
-            while (true) { // NOSONAR java:S2189
-                OshiHTTPServer myServer = new OshiHTTPServer(serverConnect.accept());
-
-                // create dedicated thread to manage the client connection
-                Thread thread = new Thread(myServer);
-                thread.start();
-            }
         } catch (IOException e) {
             logger.error("Server Connection error", e);
         }
     }
 
-    @Override
-    public void run() {
-        try ( // read characters from the client via input stream on the socket
-                BufferedReader in = new BufferedReader(
-                        new InputStreamReader(connect.getInputStream(), StandardCharsets.UTF_8));
-                // get character output stream to client (for headers)
-                PrintWriter out = new PrintWriter(
-                        new OutputStreamWriter(connect.getOutputStream(), StandardCharsets.UTF_8));
-                // get binary output stream to client (for requested data)
-                BufferedOutputStream dataOut = new BufferedOutputStream(connect.getOutputStream())) {
-
-            // get first line of the request from the client
-            String input = in.readLine();
-            if (input == null) {
-                throw new IOException("No characters read from input stream.");
-            }
-            // we parse the request with a string tokenizer
-            StringTokenizer parse = new StringTokenizer(input);
-            String method = parse.nextToken().toUpperCase(Locale.ROOT); // we get the HTTP method of the client
-            // we get fields requested
-            String fileRequested = parse.nextToken().toLowerCase(Locale.ROOT);
+    /**
+     * Collects the data once, so the first request has something to serve, then starts the periodic collection and
+     * begins accepting connections.
+     */
+    public void start() {
+        refresh();
+        collector.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        server.start();
+    }
 
-            // we support only GET and HEAD methods, we check
+    /**
+     * Stops accepting connections, waiting up to a second for requests in progress, and stops collecting.
+     */
+    public void stop() {
+        server.stop(1);
+        collector.shutdownNow();
+        handlers.shutdown();
+    }
+
+    private void refresh() {
+        // On failure keep serving the previous collection, and keep the schedule running
+        try {
+            json = Payload.of(writer.writeValueAsBytes(si));
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.error("Unable to serialize system information", e);
+        }
+        try {
+            snapshot.update(si.getHardware(), si.getOperatingSystem());
+            // Each request is independent, so always send a self-contained frame
+            encoder.reset();
+            ByteBuffer frame = encoder.encode(snapshot);
+            binary = Payload.of(Arrays.copyOfRange(frame.array(), frame.position(), frame.limit()));
+        } catch (RuntimeException e) {
+            logger.error("Unable to collect system snapshot", e);
+        }
+        logger.debug("Refreshed: JSON {} bytes, snapshot {} bytes", json.identity.length, binary.identity.length);
+    }
+
+    private void handle(HttpExchange exchange, Payload payload, String contentType) throws IOException {
+        try {
+            String method = exchange.getRequestMethod().toUpperCase(Locale.ROOT);
+            Headers responseHeaders = exchange.getResponseHeaders();
+            responseHeaders.set("Server", "OSHI HTTP Server");
+            String path = exchange.getRequestURI().getPath();
+            if (!path.equals(exchange.getHttpContext().getPath())) {
+                logger.debug("404 Not Found: {}", path);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            // we support only GET and HEAD methods
             if (!method.equals("GET") && !method.equals("HEAD")) {
-                logger.debug("501 Not Implemented: {}", method);
-                String contentMimeType = "text/html";
-
-                // we send HTTP Headers with data to client
-                out.println("HTTP/1.1 501 Not Implemented");
-                out.println("Server: OSHI HTTP Server");
-                out.println("Date: " + Instant.now());
-                out.println("Content-type: " + contentMimeType);
-                out.println("Content-length: " + 0);
-                out.println(); // blank line between headers and content, very important !
-                out.flush(); // flush character output stream buffer
-
-                // Could return other information here...
+                logger.debug("405 Method Not Allowed: {}", method);
+                responseHeaders.set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (payload.identity.length == 0) {
+                responseHeaders.set("Retry-After", Integer.toString(refreshSeconds));
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            boolean gzip = acceptsGzip(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            // The gzip representation has different bytes so needs its own validator
+            String etag = gzip ? payload.gzipEtag : payload.etag;
+            responseHeaders.set("ETag", etag);
+            responseHeaders.set("Vary", "Accept-Encoding");
+            responseHeaders.set("Last-Modified", payload.lastModified);
+            responseHeaders.set("Cache-Control", "max-age=" + refreshSeconds);
+            if (matchesEtag(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            byte[] content = gzip ? payload.gzip : payload.identity;
+            responseHeaders.set("Content-Type", contentType);
+            if (gzip) {
+                responseHeaders.set("Content-Encoding", "gzip");
+            }
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
             } else {
-                // Possibly could use the fileRequested value from user input to work down
-                // OSHI's JSON tree and only return the relevant info instead of the entire
-                // SystemInfo object.
-                SystemInfo si = new SystemInfo();
-                ObjectMapper mapper = new ObjectMapper();
-                byte[] content = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(si)
-                        .getBytes(StandardCharsets.UTF_8);
-
-                if (method.equals("GET")) { // GET method so we return content
-                    // send HTTP Headers
-                    out.println("HTTP/1.1 200 OK");
-                    out.println("Server: OSHI HTTP Server");
-                    out.println("Date: " + Instant.now());
-                    out.println("Content-type: application/json");
-                    out.println("Content-length: " + content.length);
-                    out.println(); // blank line between headers and content, very important !
-                    out.flush(); // flush character output stream buffer
-
-                    dataOut.write(content, 0, content.length);
-                    dataOut.flush();
+                exchange.sendResponseHeaders(200, content.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(content);
                 }
-
-                logger.debug("Data {} returned", fileRequested);
             }
-        } catch (IOException ioe) {
-            logger.error("Server error", ioe);
+            logger.debug("Data {} returned", path);
         } finally {
-            try {
-                // close socket connection, defined for this thread
-                connect.close();
-            } catch (Exception e) {
-                logger.error("Error closing connection", e);
+            exchange.close();
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            if (params[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=") && ParseUtil.parseDoubleOrDefault(param.substring(2), 1d) <= 0d) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match uses the weak comparison, ignoring any W/ prefix
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One collection, serialized in both the representations a client may ask for.
+     */
+    private static final class Payload {
+        static final Payload EMPTY = new Payload(new byte[0], new byte[0], "\"\"", "\"\"", "");
+
+        final byte[] identity;
+        final byte[] gzip;
+        final String etag;
+        final String gzipEtag;
+        final String lastModified;
+
+        private Payload(byte[] identity, byte[] gzip, String etag, String gzipEtag, String lastModified) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = gzipEtag;
+            this.lastModified = lastModified;
+        }
+
+        static Payload of(byte[] content) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+            try (GZIPOutputStream gz = new GZIPOutputStream(compressed)) {
+                gz.write(content);
+            } catch (IOException e) {
+                // Not possible writing to memory
+                throw new IllegalStateException(e);
             }
-            logger.debug("Connection closed.");
+            CRC32 crc = new CRC32();
+            crc.update(content, 0, content.length);
+            String tag = Long.toHexString(crc.getValue()) + '-' + Integer.toHexString(content.length);
+            return new Payload(content, compressed.toByteArray(), '"' + tag + '"', "\"" + tag + "-gzip\"",
+                    DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.now().atOffset(ZoneOffset.UTC)));
         }
     }
 }
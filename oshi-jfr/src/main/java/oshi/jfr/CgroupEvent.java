@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import java.util.function.Function;
+
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.common.platform.linux.LinuxHardwareAbstractionLayer;
+import oshi.software.common.os.linux.LinuxCgroupInfo;
+import oshi.software.os.CgroupInfo;
+import oshi.util.driver.linux.proc.PressureStall.Pressure;
+import oshi.util.driver.linux.proc.PressureStall.Resource;
+import oshi.util.driver.linux.proc.PressureStall.Stall;
+import oshi.util.driver.linux.proc.PressureStall.StallType;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The limits and usage of this process's cgroup, and its Pressure Stall Information.
+ * <p>
+ * Pressure is the group's own where it is in a cgroup v2 group, and otherwise the system's where the kernel provides
+ * PSI, as {@link #pressureScope} tells.
+ */
+@Name(CgroupEvent.NAME)
+@Label("Cgroup")
+@Description("Limits, usage and stall pressure of this process's cgroup")
+@Category({ OshiEvents.CATEGORY, "Container" })
+@Period("10 s")
+@StackTrace(false)
+final class CgroupEvent extends Event {
+
+    static final String NAME = "oshi.Cgroup";
+
+    @Label("Version")
+    @Description("The cgroup version, or 0 if not in a cgroup")
+    int version;
+
+    @Label("Containerized")
+    boolean containerized;
+
+    @Label("CPU Quota")
+    @Description("CPU time allowed per period in microseconds, or -1 if unlimited")
+    long cpuQuota;
+
+    @Label("CPU Period")
+    @Description("The CPU quota period in microseconds")
+    long cpuPeriod;
+
+    @Label("Effective CPUs")
+    @Description("The quota divided by the period, or -1 if unlimited")
+    double effectiveCpus;
+
+    @Label("CPU Usage")
+    @Description("Total CPU time used by the group")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuUsage;
+
+    @Label("Memory Limit")
+    @DataAmount
+    long memoryLimit;
+
+    @Label("Memory Usage")
+    @DataAmount
+    long memoryUsage;
+
+    @Label("PID Limit")
+    @Description("The most processes allowed, or -1 if unlimited")
+    long pidLimit;
+
+    @Label("PID Count")
+    long pidCurrent;
+
+    @Label("Pressure Scope")
+    @Description("Where the stall pressure was read: cgroup, system or none")
+    String pressureScope;
+
+    @Label("CPU Some Pressure")
+    @Description("Share of the last 10 seconds in which some tasks waited for a CPU")
+    @Percentage
+    float cpuSomePressure;
+
+    @Label("Memory Some Pressure")
+    @Description("Share of the last 10 seconds in which some tasks waited for memory")
+    @Percentage
+    float memorySomePressure;
+
+    @Label("Memory Full Pressure")
+    @Description("Share of the last 10 seconds in which all non-idle tasks waited for memory")
+    @Percentage
+    float memoryFullPressure;
+
+    @Label("I/O Some Pressure")
+    @Description("Share of the last 10 seconds in which some tasks waited for block I/O")
+    @Percentage
+    float ioSomePressure;
+
+    @Label("I/O Full Pressure")
+    @Description("Share of the last 10 seconds in which all non-idle tasks waited for block I/O")
+    @Percentage
+    float ioFullPressure;
+
+    /**
+     * Creates the periodic hook.
+     *
+     * @param cgroup the cgroup information
+     * @param hal    the hardware abstraction layer, for system-wide pressure
+     * @return the hook
+     */
+    static Runnable hook(CgroupInfo cgroup, HardwareAbstractionLayer hal) {
+        return () -> {
+            CgroupEvent event = new CgroupEvent();
+            event.version = cgroup.getVersion();
+            event.containerized = cgroup.isContainerized();
+            event.cpuQuota = cgroup.getCpuQuota();
+            event.cpuPeriod = cgroup.getCpuPeriod();
+            event.effectiveCpus = cgroup.getEffectiveCpus();
+            event.cpuUsage = cgroup.getCpuUsage();
+            event.memoryLimit = cgroup.getMemoryLimit();
+            event.memoryUsage = cgroup.getMemoryUsage();
+            event.pidLimit = cgroup.getPidLimit();
+            event.pidCurrent = cgroup.getPidCurrent();
+
+            Function<Resource, Pressure> pressure = null;
+            Pressure cpu = null;
+            if (cgroup instanceof LinuxCgroupInfo linuxCgroup) {
+                pressure = linuxCgroup::getPressure;
+                cpu = pressure.apply(Resource.CPU);
+                event.pressureScope = "cgroup";
+            }
+            if (cpu == null && hal instanceof LinuxHardwareAbstractionLayer linuxHal) {
+                pressure = linuxHal::getPressure;
+                cpu = pressure.apply(Resource.CPU);
+                event.pressureScope = "system";
+            }
+            if (cpu == null) {
+                event.pressureScope = "none";
+            } else {
+                Pressure memory = pressure.apply(Resource.MEMORY);
+                Pressure io = pressure.apply(Resource.IO);
+                event.cpuSomePressure = share(cpu, StallType.SOME);
+                event.memorySomePressure = share(memory, StallType.SOME);
+                event.memoryFullPressure = share(memory, StallType.FULL);
+                event.ioSomePressure = share(io, StallType.SOME);
+                event.ioFullPressure = share(io, StallType.FULL);
+            }
+            event.commit();
+        };
+    }
+
+    private static float share(Pressure pressure, StallType type) {
+        Stall stall = pressure == null ? null : pressure.getStall(type);
+        return stall == null ? 0f : (float) (stall.getAvg10() / 100d);
+    }
+}
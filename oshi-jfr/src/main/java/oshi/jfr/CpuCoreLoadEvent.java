@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.CentralProcessor.TickType;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * The share of one logical processor's time spent in each state since the previous event, from its tick counters.
+ */
+@Name(CpuCoreLoadEvent.NAME)
+@Label("CPU Core Load")
+@Description("Share of a logical processor's ticks in each state since the previous event")
+@Category({ OshiEvents.CATEGORY, "Processor" })
+@Period("1 s")
+@StackTrace(false)
+final class CpuCoreLoadEvent extends Event {
+
+    static final String NAME = "oshi.CpuCoreLoad";
+
+    @Label("Processor")
+    @Description("The logical processor number")
+    int processor;
+
+    @Label("User")
+    @Percentage
+    float user;
+
+    @Label("Nice")
+    @Percentage
+    float nice;
+
+    @Label("System")
+    @Percentage
+    float system;
+
+    @Label("Idle")
+    @Percentage
+    float idle;
+
+    @Label("I/O Wait")
+    @Percentage
+    float ioWait;
+
+    @Label("IRQ")
+    @Percentage
+    float irq;
+
+    @Label("Soft IRQ")
+    @Percentage
+    float softIrq;
+
+    @Label("Steal")
+    @Percentage
+    float steal;
+
+    /**
+     * Creates the periodic hook, which keeps the previous ticks of each processor.
+     *
+     * @param processor the processor
+     * @return the hook
+     */
+    static Runnable hook(CentralProcessor processor) {
+        return new Runnable() {
+            private long[][] previous = processor.getProcessorCpuLoadTicks();
+
+            @Override
+            public void run() {
+                long[][] ticks = processor.getProcessorCpuLoadTicks();
+                for (int cpu = 0; cpu < ticks.length && cpu < previous.length; cpu++) {
+                    long[] delta = new long[ticks[cpu].length];
+                    long total = 0L;
+                    for (int t = 0; t < delta.length; t++) {
+                        // Ticks can run backwards when a processor goes offline and returns
+                        delta[t] = Math.max(0L, ticks[cpu][t] - previous[cpu][t]);
+                        total += delta[t];
+                    }
+                    if (total == 0L) {
+                        continue;
+                    }
+                    CpuCoreLoadEvent event = new CpuCoreLoadEvent();
+                    event.processor = cpu;
+                    event.user = share(delta, TickType.USER, total);
+                    event.nice = share(delta, TickType.NICE, total);
+                    event.system = share(delta, TickType.SYSTEM, total);
+                    event.idle = share(delta, TickType.IDLE, total);
+                    event.ioWait = share(delta, TickType.IOWAIT, total);
+                    event.irq = share(delta, TickType.IRQ, total);
+                    event.softIrq = share(delta, TickType.SOFTIRQ, total);
+                    event.steal = share(delta, TickType.STEAL, total);
+                    event.commit();
+                }
+                previous = ticks;
+            }
+        };
+    }
+
+    private static float share(long[] delta, TickType type, long total) {
+        return (float) delta[type.getIndex()] / total;
+    }
+}
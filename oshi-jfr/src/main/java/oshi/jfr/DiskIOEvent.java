@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.HardwareAbstractionLayer;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * One disk's transfer rates since the previous event.
+ */
+@Name(DiskIOEvent.NAME)
+@Label("Disk I/O")
+@Description("A disk's transfer rates since the previous event")
+@Category({ OshiEvents.CATEGORY, "Disk" })
+@Period("10 s")
+@StackTrace(false)
+final class DiskIOEvent extends Event {
+
+    static final String NAME = "oshi.DiskIO";
+
+    @Label("Disk")
+    String disk;
+
+    @Label("Read Rate")
+    @DataAmount
+    @Frequency
+    long readRate;
+
+    @Label("Write Rate")
+    @DataAmount
+    @Frequency
+    long writeRate;
+
+    @Label("Read Operations")
+    @Frequency
+    long readOperations;
+
+    @Label("Write Operations")
+    @Frequency
+    long writeOperations;
+
+    @Label("Busy")
+    @Description("Share of the elapsed time in which the disk was transferring")
+    @Percentage
+    float busy;
+
+    @Label("Queue Length")
+    @Description("Operations in progress when read")
+    long queueLength;
+
+    /**
+     * Creates the periodic hook, which keeps the previous counters of each disk, by name. Disks are listed again at
+     * each event, so that disks attached since are included.
+     *
+     * @param hal the hardware abstraction layer
+     * @return the hook
+     */
+    static Runnable hook(HardwareAbstractionLayer hal) {
+        return new Runnable() {
+            // Read bytes, written bytes, reads, writes, transfer time, timestamp
+            private Map<String, long[]> previous = new HashMap<>();
+
+            @Override
+            public void run() {
+                Map<String, long[]> current = new HashMap<>();
+                for (HWDiskStore disk : hal.getDiskStores()) {
+                    long[] now = { disk.getReadBytes(), disk.getWriteBytes(), disk.getReads(), disk.getWrites(),
+                            disk.getTransferTime(), disk.getTimeStamp() };
+                    current.put(disk.getName(), now);
+                    long[] before = previous.get(disk.getName());
+                    long elapsed = before == null ? 0L : now[5] - before[5];
+                    if (elapsed <= 0L) {
+                        continue;
+                    }
+                    DiskIOEvent event = new DiskIOEvent();
+                    event.disk = disk.getName();
+                    event.readRate = OshiEvents.rate(now[0], before[0], elapsed);
+                    event.writeRate = OshiEvents.rate(now[1], before[1], elapsed);
+                    event.readOperations = OshiEvents.rate(now[2], before[2], elapsed);
+                    event.writeOperations = OshiEvents.rate(now[3], before[3], elapsed);
+                    event.busy = Math.min(1f, (float) Math.max(0L, now[4] - before[4]) / elapsed);
+                    event.queueLength = disk.getCurrentQueueLength();
+                    event.commit();
+                }
+                previous = current;
+            }
+        };
+    }
+}
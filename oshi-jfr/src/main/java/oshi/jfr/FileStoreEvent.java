@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import oshi.software.os.FileSystem;
+import oshi.software.os.OSFileStore;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * One mounted file store's space and inodes.
+ */
+@Name(FileStoreEvent.NAME)
+@Label("File Store")
+@Description("A mounted file store's space and inodes")
+@Category({ OshiEvents.CATEGORY, "File System" })
+@Period("60 s")
+@StackTrace(false)
+final class FileStoreEvent extends Event {
+
+    static final String NAME = "oshi.FileStore";
+
+    @Label("Mount Point")
+    String mount;
+
+    @Label("Volume")
+    String volume;
+
+    @Label("Type")
+    String type;
+
+    @Label("Total Space")
+    @DataAmount
+    long totalSpace;
+
+    @Label("Free Space")
+    @DataAmount
+    long freeSpace;
+
+    @Label("Usable Space")
+    @Description("Free space available to this process")
+    @DataAmount
+    long usableSpace;
+
+    @Label("Total Inodes")
+    long totalInodes;
+
+    @Label("Free Inodes")
+    long freeInodes;
+
+    /**
+     * Creates the periodic hook. File stores are listed again at each event, so that mounts since are included.
+     *
+     * @param fileSystem the file system
+     * @return the hook
+     */
+    static Runnable hook(FileSystem fileSystem) {
+        return () -> {
+            for (OSFileStore fs : fileSystem.getFileStores(true)) {
+                FileStoreEvent event = new FileStoreEvent();
+                event.mount = fs.getMount();
+                event.volume = fs.getVolume();
+                event.type = fs.getType();
+                event.totalSpace = fs.getTotalSpace();
+                event.freeSpace = fs.getFreeSpace();
+                event.usableSpace = fs.getUsableSpace();
+                event.totalInodes = fs.getTotalInodes();
+                event.freeInodes = fs.getFreeInodes();
+                event.commit();
+            }
+        };
+    }
+}
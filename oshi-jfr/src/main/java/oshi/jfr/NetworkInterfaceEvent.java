@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.NetworkIF;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * One network interface's transfer rates and error counts since the previous event.
+ * <p>
+ * Unlike the JDK's {@code jdk.NetworkUtilization}, which reports bits, rates are in bytes, as OSHI's counters are.
+ */
+@Name(NetworkInterfaceEvent.NAME)
+@Label("Network Interface")
+@Description("A network interface's transfer rates and errors since the previous event")
+@Category({ OshiEvents.CATEGORY, "Network" })
+@Period("10 s")
+@StackTrace(false)
+final class NetworkInterfaceEvent extends Event {
+
+    static final String NAME = "oshi.NetworkInterface";
+
+    @Label("Interface")
+    String networkInterface;
+
+    @Label("Receive Rate")
+    @DataAmount
+    @Frequency
+    long receiveRate;
+
+    @Label("Transmit Rate")
+    @DataAmount
+    @Frequency
+    long transmitRate;
+
+    @Label("Packets Received")
+    @Frequency
+    long packetsReceived;
+
+    @Label("Packets Sent")
+    @Frequency
+    long packetsSent;
+
+    @Label("Receive Errors")
+    @Description("Receive errors since the previous event")
+    long receiveErrors;
+
+    @Label("Transmit Errors")
+    @Description("Transmit errors since the previous event")
+    long transmitErrors;
+
+    @Label("Receive Drops")
+    @Description("Incoming packets dropped since the previous event")
+    long receiveDrops;
+
+    @Label("Speed")
+    @Description("The interface's link speed in bits per second, or 0 if unknown")
+    long speed;
+
+    /**
+     * Creates the periodic hook, which keeps the previous counters of each interface, by name. Interfaces are listed
+     * again at each event, so that interfaces created since are included.
+     *
+     * @param hal the hardware abstraction layer
+     * @return the hook
+     */
+    static Runnable hook(HardwareAbstractionLayer hal) {
+        return new Runnable() {
+            // Received bytes, sent bytes, received packets, sent packets, in errors, out errors, in drops, timestamp
+            private Map<String, long[]> previous = new HashMap<>();
+
+            @Override
+            public void run() {
+                Map<String, long[]> current = new HashMap<>();
+                for (NetworkIF net : hal.getNetworkIFs()) {
+                    long[] now = { net.getBytesRecv(), net.getBytesSent(), net.getPacketsRecv(), net.getPacketsSent(),
+                            net.getInErrors(), net.getOutErrors(), net.getInDrops(), net.getTimeStamp() };
+                    current.put(net.getName(), now);
+                    long[] before = previous.get(net.getName());
+                    long elapsed = before == null ? 0L : now[7] - before[7];
+                    if (elapsed <= 0L) {
+                        continue;
+                    }
+                    NetworkInterfaceEvent event = new NetworkInterfaceEvent();
+                    event.networkInterface = net.getName();
+                    event.receiveRate = OshiEvents.rate(now[0], before[0], elapsed);
+                    event.transmitRate = OshiEvents.rate(now[1], before[1], elapsed);
+                    event.packetsReceived = OshiEvents.rate(now[2], before[2], elapsed);
+                    event.packetsSent = OshiEvents.rate(now[3], before[3], elapsed);
+                    event.receiveErrors = Math.max(0L, now[4] - before[4]);
+                    event.transmitErrors = Math.max(0L, now[5] - before[5]);
+                    event.receiveDrops = Math.max(0L, now[6] - before[6]);
+                    event.speed = net.getSpeed();
+                    event.commit();
+                }
+                previous = current;
+            }
+        };
+    }
+}
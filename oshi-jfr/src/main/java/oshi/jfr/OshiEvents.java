@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.software.os.OperatingSystem;
+import oshi.spi.SystemInfoProvider;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Registers OSHI's periodic JDK Flight Recorder events, so that host telemetry is recorded in the same buffer and
+ * timeline as the JVM's own events, such as garbage collection and allocation.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * OshiEvents events = OshiEvents.register(SystemInfoFactory.create());
+ * // ... record ...
+ * events.close();
+ * }</pre>
+ *
+ * <p>
+ * Registers:
+ * <ul>
+ * <li>{@code oshi.CpuCoreLoad} — share of each logical processor's ticks in each state, every 1 s</li>
+ * <li>{@code oshi.DiskIO} — each disk's transfer rates and busy time, every 10 s</li>
+ * <li>{@code oshi.NetworkInterface} — each network interface's transfer rates and errors, every 10 s</li>
+ * <li>{@code oshi.FileStore} — each local file store's space and inodes, every 60 s</li>
+ * <li>{@code oshi.Cgroup} — this process's cgroup limits, usage and stall pressure, every 10 s</li>
+ * <li>{@code oshi.TopProcess} — the processes which used the most CPU time, every 10 s; disabled by default</li>
+ * </ul>
+ *
+ * <p>
+ * Each event is collected by a hook that Flight Recorder runs on its own periodic thread, and only while a recording
+ * has the event enabled, so there is no polling thread and no cost when nothing is recording. Periods and enablement
+ * are ordinary event settings, set in a {@code .jfc} file, in the recording's options, or through
+ * {@link jdk.jfr.Recording#enable(String)}:
+ *
+ * <pre>{@code
+ * recording.enable("oshi.DiskIO").withPeriod(Duration.ofSeconds(1));
+ * recording.enable("oshi.TopProcess").withPeriod(Duration.ofSeconds(15)).with("limit", "10");
+ * recording.disable("oshi.CpuCoreLoad");
+ * }</pre>
+ *
+ * <p>
+ * Only one registration may be active at a time, since Flight Recorder allows one hook per event.
+ */
+public final class OshiEvents implements AutoCloseable {
+
+    /** The category shared by the events, under which tools such as JDK Mission Control group them. */
+    static final String CATEGORY = "OSHI";
+
+    private static final Object LOCK = new Object();
+    // Guarded by LOCK
+    private static OshiEvents active;
+
+    private final Map<Class<? extends Event>, Runnable> hooks;
+    // Guarded by LOCK
+    private boolean closed;
+
+    private OshiEvents(Map<Class<? extends Event>, Runnable> hooks) {
+        this.hooks = hooks;
+    }
+
+    /**
+     * Registers the events.
+     *
+     * @param si the system info provider
+     * @return the registration, to close when the events are no longer wanted
+     * @throws IllegalStateException if another registration is active
+     */
+    public static OshiEvents register(SystemInfoProvider si) {
+        Objects.requireNonNull(si, "si must not be null");
+        return register(si.getHardware(), si.getOperatingSystem());
+    }
+
+    /**
+     * Registers the events.
+     *
+     * @param hal the hardware abstraction layer
+     * @param os  the operating system
+     * @return the registration, to close when the events are no longer wanted
+     * @throws IllegalStateException if another registration is active
+     */
+    public static OshiEvents register(HardwareAbstractionLayer hal, OperatingSystem os) {
+        Objects.requireNonNull(hal, "hal must not be null");
+        Objects.requireNonNull(os, "os must not be null");
+        synchronized (LOCK) {
+            if (active != null) {
+                throw new IllegalStateException("OSHI events are already registered");
+            }
+            // Hooks keep their previous readings, so each registration creates its own
+            Map<Class<? extends Event>, Runnable> hooks = new LinkedHashMap<>();
+            hooks.put(CpuCoreLoadEvent.class, CpuCoreLoadEvent.hook(hal.getProcessor()));
+            hooks.put(DiskIOEvent.class, DiskIOEvent.hook(hal));
+            hooks.put(NetworkInterfaceEvent.class, NetworkInterfaceEvent.hook(hal));
+            hooks.put(FileStoreEvent.class, FileStoreEvent.hook(os.getFileSystem()));
+            hooks.put(CgroupEvent.class, CgroupEvent.hook(os.getCgroupInfo(), hal));
+            hooks.put(TopProcessEvent.class, TopProcessEvent.hook(os, hal.getProcessor().getLogicalProcessorCount()));
+            for (Map.Entry<Class<? extends Event>, Runnable> e : hooks.entrySet()) {
+                FlightRecorder.register(e.getKey());
+                FlightRecorder.addPeriodicEvent(e.getKey(), e.getValue());
+            }
+            active = new OshiEvents(hooks);
+            return active;
+        }
+    }
+
+    /**
+     * Gets the names of the events registered.
+     *
+     * @return the event names
+     */
+    public static List<String> getEventNames() {
+        List<String> names = new ArrayList<>();
+        Collections.addAll(names, CpuCoreLoadEvent.NAME, DiskIOEvent.NAME, NetworkInterfaceEvent.NAME,
+                FileStoreEvent.NAME, CgroupEvent.NAME, TopProcessEvent.NAME);
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Removes the hooks and unregisters the events. Recordings in progress keep the events already committed.
+     */
+    @Override
+    public void close() {
+        synchronized (LOCK) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Map.Entry<Class<? extends Event>, Runnable> e : hooks.entrySet()) {
+                FlightRecorder.removePeriodicEvent(e.getValue());
+                FlightRecorder.unregister(e.getKey());
+            }
+            if (active == this) {
+                active = null;
+            }
+        }
+    }
+
+    /**
+     * Computes a per-second rate from two readings of a counter.
+     *
+     * @param now           the later reading
+     * @param before        the earlier reading
+     * @param elapsedMillis the time between them, positive
+     * @return the rate, or 0 if the counter went backwards, as it does when reset
+     */
+    static long rate(long now, long before, long elapsedMillis) {
+        return Math.max(0L, now - before) * 1000L / elapsedMillis;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import oshi.software.os.OperatingSystem;
+import oshi.util.monitor.TopProcesses;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+
+/**
+ * One of the processes which used the most CPU time since the previous event. The number of processes per period is the
+ * event's {@code limit} setting, 5 by default. Since every process is read at each period, the event is disabled unless
+ * a recording enables it.
+ * <p>
+ * On Linux the processes are read from {@code /proc/[pid]/stat} alone; elsewhere from
+ * {@link OperatingSystem#getProcesses()}.
+ */
+@Name(TopProcessEvent.NAME)
+@Label("Top Process")
+@Description("A process which used the most CPU time since the previous event")
+@Category({ OshiEvents.CATEGORY, "Process" })
+@Period("10 s")
+@Enabled(false)
+@StackTrace(false)
+final class TopProcessEvent extends Event {
+
+    static final String NAME = "oshi.TopProcess";
+
+    @Label("Rank")
+    @Description("1 for the process which used the most CPU time")
+    int rank;
+
+    @Label("PID")
+    int pid;
+
+    @Label("Name")
+    String name;
+
+    @Label("CPU Load")
+    @Description("CPU time used since the previous event, divided by the elapsed time and the logical processor count")
+    @Percentage
+    float cpuLoad;
+
+    @Label("Resident Memory")
+    @DataAmount
+    long residentMemory;
+
+    @Label("Threads")
+    int threads;
+
+    /**
+     * Declares the {@code limit} setting. Every event in the period is committed; the setting only sizes the scan.
+     *
+     * @param setting the setting
+     * @return {@code true}
+     */
+    @Name("limit")
+    @Label("Limit")
+    @Description("The number of processes per period")
+    @SettingDefinition
+    boolean limit(TopProcessLimitSetting setting) {
+        return true;
+    }
+
+    /**
+     * Creates the periodic hook, which keeps the previous CPU time of each process.
+     *
+     * @param os                    the operating system
+     * @param logicalProcessorCount the logical processor count, which scales the load
+     * @return the hook
+     */
+    static Runnable hook(OperatingSystem os, int logicalProcessorCount) {
+        Supplier<TopProcesses.Scan> scanner = TopProcesses.scanner(os, false);
+        TopProcesses ranking = new TopProcesses(false);
+        return () -> {
+            long elapsed = ranking.update(scanner.get(), TopProcessLimitSetting.getLimit());
+            if (elapsed <= 0L) {
+                return;
+            }
+            List<TopProcesses.Process> busiest = ranking.getTopByCpu();
+            for (int i = 0; i < busiest.size(); i++) {
+                TopProcesses.Process p = busiest.get(i);
+                TopProcessEvent event = new TopProcessEvent();
+                event.rank = i + 1;
+                event.pid = p.getProcessId();
+                event.name = p.getName();
+                event.cpuLoad = (float) p.getCpuDelta() / elapsed / Math.max(1, logicalProcessorCount);
+                event.residentMemory = p.getResidentBytes();
+                event.threads = p.getThreadCount();
+                event.commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import java.util.Set;
+
+import oshi.util.ParseUtil;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.MetadataDefinition;
+import jdk.jfr.Name;
+import jdk.jfr.SettingControl;
+
+/**
+ * The {@code limit} setting of the {@code oshi.TopProcess} event: the number of processes committed per period. Set it
+ * like any other event setting, for example {@code oshi.TopProcess#limit=10} in a recording's options or
+ * {@code <setting name="limit">10</setting>} in a {@code .jfc} file.
+ * <p>
+ * When several recordings set it, the largest value applies. It must be public for Flight Recorder to instantiate it,
+ * but is not meant to be used directly.
+ */
+@MetadataDefinition
+@Name("oshi.TopProcessLimit")
+@Label("Limit")
+@Description("The number of processes per period")
+public final class TopProcessLimitSetting extends SettingControl {
+
+    /** The limit applied when no recording sets one. */
+    static final int DEFAULT_LIMIT = 5;
+
+    // The limit's one consumer is the periodic hook, which Flight Recorder runs on its own thread
+    private static volatile int limit = DEFAULT_LIMIT;
+
+    private String value = Integer.toString(DEFAULT_LIMIT);
+
+    /**
+     * Creates the setting; called by Flight Recorder.
+     */
+    public TopProcessLimitSetting() {
+        super();
+    }
+
+    @Override
+    public String combine(Set<String> values) {
+        int max = 0;
+        for (String v : values) {
+            max = Math.max(max, parse(v));
+        }
+        return Integer.toString(max == 0 ? DEFAULT_LIMIT : max);
+    }
+
+    @Override
+    public void setValue(String value) {
+        this.value = value;
+        int parsed = parse(value);
+        limit = parsed == 0 ? DEFAULT_LIMIT : parsed;
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the limit in effect.
+     *
+     * @return the number of processes per period
+     */
+    static int getLimit() {
+        return limit;
+    }
+
+    private static int parse(String value) {
+        return Math.max(0, ParseUtil.parseIntOrDefault(value.trim(), 0));
+    }
+}
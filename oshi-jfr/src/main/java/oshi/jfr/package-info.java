@@ -0,0 +1,8 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+/**
+ * JDK Flight Recorder periodic events for OSHI system metrics.
+ */
+package oshi.jfr;
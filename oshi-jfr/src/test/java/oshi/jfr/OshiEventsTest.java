@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import oshi.SystemInfo;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class OshiEventsTest {
+
+    @Test
+    void recordsOnlyEnabledEvents() throws Exception {
+        Path file = Files.createTempFile("oshi", ".jfr");
+        OshiEvents events = OshiEvents.register(new SystemInfo());
+        try (events; Recording recording = new Recording()) {
+            recording.enable(CpuCoreLoadEvent.NAME).withPeriod(Duration.ofMillis(100));
+            recording.enable(CgroupEvent.NAME).withPeriod(Duration.ofMillis(100));
+            recording.enable(TopProcessEvent.NAME).withPeriod(Duration.ofMillis(200)).with("limit", "2");
+            recording.disable(DiskIOEvent.NAME);
+            recording.disable(NetworkInterfaceEvent.NAME);
+            recording.disable(FileStoreEvent.NAME);
+            recording.start();
+            Thread.sleep(1000);
+            recording.stop();
+            recording.dump(file);
+
+            Set<String> names = new HashSet<>();
+            int topProcesses = 0;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                String name = event.getEventType().getName();
+                names.add(name);
+                if (TopProcessEvent.NAME.equals(name)) {
+                    topProcesses++;
+                    int rank = event.getInt("rank");
+                    assertTrue(rank >= 1 && rank <= 2, "Rank should be within the limit");
+                }
+            }
+            assertTrue(names.contains(CpuCoreLoadEvent.NAME), CpuCoreLoadEvent.NAME);
+            assertTrue(names.contains(CgroupEvent.NAME), CgroupEvent.NAME);
+            assertTrue(topProcesses > 0, "Top processes should be recorded");
+            assertFalse(names.contains(DiskIOEvent.NAME), DiskIOEvent.NAME);
+            assertFalse(names.contains(NetworkInterfaceEvent.NAME), NetworkInterfaceEvent.NAME);
+            assertFalse(names.contains(FileStoreEvent.NAME), FileStoreEvent.NAME);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void onlyOneRegistrationIsActive() {
+        SystemInfo si = new SystemInfo();
+        OshiEvents events = OshiEvents.register(si);
+        try (events) {
+            assertThrows(IllegalStateException.class, () -> OshiEvents.register(si));
+        }
+        // Closing frees the registration
+        OshiEvents.register(si).close();
+    }
+
+    @Test
+    void rateIgnoresCounterResets() {
+        assertEquals(1000L, OshiEvents.rate(3000, 1000, 2000));
+        assertEquals(0L, OshiEvents.rate(10, 1000, 2000));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.metrics;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the devices a reconciling binder registers meters for, by name, and caps how many it registers.
+ *
+ * <p>
+ * A name is selected if it matches the include pattern, when one is given, and does not match the exclude pattern, when
+ * one is given. Patterns must match the whole name. For example, to leave out container interfaces:
+ *
+ * <pre>{@code
+ * DeviceFilter.of(null, "veth.*|cali.*|docker\\d+", 64)
+ * }</pre>
+ */
+public final class DeviceFilter implements Predicate<String> {
+
+    /** Selects every device, without a cap. */
+    public static final DeviceFilter ALL = new DeviceFilter(null, null, Integer.MAX_VALUE);
+
+    private final Pattern include;
+    private final Pattern exclude;
+    private final int maxDevices;
+
+    private DeviceFilter(Pattern include, Pattern exclude, int maxDevices) {
+        this.include = include;
+        this.exclude = exclude;
+        this.maxDevices = maxDevices;
+    }
+
+    /**
+     * Creates a filter.
+     *
+     * @param include    regular expression names must match, or {@code null} to include every name
+     * @param exclude    regular expression names must not match, or {@code null} to exclude none
+     * @param maxDevices the most devices to register meters for; devices beyond the cap are left out until others
+     *                   vanish
+     * @return the filter
+     * @throws IllegalArgumentException               if {@code maxDevices} is not positive
+     * @throws java.util.regex.PatternSyntaxException if a pattern is invalid
+     */
+    public static DeviceFilter of(String include, String exclude, int maxDevices) {
+        if (maxDevices <= 0) {
+            throw new IllegalArgumentException("maxDevices must be positive: " + maxDevices);
+        }
+        return new DeviceFilter(include == null ? null : Pattern.compile(include),
+                exclude == null ? null : Pattern.compile(exclude), maxDevices);
+    }
+
+    /**
+     * Whether a device is selected, before the cap is applied.
+     *
+     * @param name the device name
+     * @return {@code true} if the name passes the include and exclude patterns
+     */
+    @Override
+    public boolean test(String name) {
+        return (include == null || include.matcher(name).matches())
+                && (exclude == null || !exclude.matcher(name).matches());
+    }
+
+    /**
+     * Gets the cap on the number of devices.
+     *
+     * @return the most devices to register meters for
+     */
+    public int getMaxDevices() {
+        return maxDevices;
+    }
+
+    @Override
+    public String toString() {
+        return "DeviceFilter [include=" + include + ", exclude=" + exclude + ", maxDevices=" + maxDevices + "]";
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the meters of a per-device binder in step with the devices present, for hosts where devices come and go, such
+ * as container interfaces and volume mounts on Kubernetes nodes.
+ *
+ * <p>
+ * Each reconciliation registers meters for devices which appeared and removes the meters of devices which vanished, so
+ * that the meter count, and the refresh work done when sampling, follow the live device set. Enumerating the devices
+ * can be costly, so a cheap change token, such as a directory listing, is compared first and the full enumeration is
+ * skipped while it is unchanged, except every {@value #FULL_ENUMERATION_EVERY}th time.
+ *
+ * @param <T> the device type
+ */
+final class DeviceReconciler<T> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceReconciler.class);
+
+    // Enumerate devices at least this often even if the change token is unchanged, in case it misses a change
+    static final int FULL_ENUMERATION_EVERY = 10;
+
+    /**
+     * Registers the meters of one device.
+     *
+     * @param <T> the device type
+     */
+    @FunctionalInterface
+    interface Registrar<T> {
+        /**
+         * Registers the meters of a device.
+         *
+         * @param registry the registry
+         * @param device   the device
+         * @param meters   receives the meters registered
+         * @return an object to keep strongly reachable while the meters are registered, since Micrometer holds the
+         *         state of function counters weakly
+         */
+        Object register(MeterRegistry registry, T device, List<Meter> meters);
+    }
+
+    private static final class Registration {
+        private final List<Meter> meters;
+        @SuppressWarnings({ "java:S1068", "UnusedVariable" }) // deliberate GC root, never read
+        private final Object strongReference;
+
+        Registration(List<Meter> meters, Object strongReference) {
+            this.meters = meters;
+            this.strongReference = strongReference;
+        }
+    }
+
+    // One daemon thread serves every reconciler and process scan; both are brief and infrequent
+    private static final class ExecutorHolder {
+        static final ScheduledExecutorService EXECUTOR = createExecutor();
+
+        private static ScheduledExecutorService createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "oshi-metrics-scheduler");
+                t.setDaemon(true);
+                return t;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Supplier<? extends List<T>> devices;
+    private final Function<T, String> name;
+    private final DeviceFilter filter;
+    private final Supplier<?> changeToken;
+    private final Registrar<T> registrar;
+
+    // Guarded by this
+    private final Map<String, Registration> live = new LinkedHashMap<>();
+    private Object lastToken;
+    private int unchangedCount;
+    private ScheduledFuture<?> future;
+    private boolean closed;
+
+    /**
+     * Creates a reconciler.
+     *
+     * @param registry    the registry to register meters with
+     * @param devices     enumerates the devices
+     * @param name        gets a device's name, which identifies it between enumerations
+     * @param filter      selects the devices to register
+     * @param changeToken returns a value which changes when the devices may have changed, or {@code null} if it cannot
+     *                    tell; may itself be {@code null} to enumerate every time
+     * @param registrar   registers a device's meters
+     */
+    DeviceReconciler(MeterRegistry registry, Supplier<? extends List<T>> devices, Function<T, String> name,
+            DeviceFilter filter, Supplier<?> changeToken, Registrar<T> registrar) {
+        this.registry = registry;
+        this.devices = devices;
+        this.name = name;
+        this.filter = filter;
+        this.changeToken = changeToken;
+        this.registrar = registrar;
+    }
+
+    /**
+     * Gets the daemon thread shared by the binders which update their meters in the background.
+     *
+     * @return the scheduler
+     */
+    static ScheduledExecutorService scheduler() {
+        return ExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Reconciles now, then every interval until closed.
+     *
+     * @param interval the time between reconciliations
+     */
+    synchronized void start(Duration interval) {
+        reconcile();
+        if (!closed && future == null) {
+            long millis = Math.max(1L, interval.toMillis());
+            future = scheduler().scheduleWithFixedDelay(this::reconcileQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to reconcile device meters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registers meters for new devices and removes the meters of vanished ones.
+     *
+     * @return {@code true} if the devices were enumerated, {@code false} if the change token showed no change
+     */
+    synchronized boolean reconcile() {
+        if (closed) {
+            return false;
+        }
+        Object token = changeToken == null ? null : changeToken.get();
+        if (token != null && token.equals(lastToken) && ++unchangedCount < FULL_ENUMERATION_EVERY) {
+            return false;
+        }
+        lastToken = token;
+        unchangedCount = 0;
+
+        Map<String, T> present = new LinkedHashMap<>();
+        for (T device : devices.get()) {
+            String key = name.apply(device);
+            if (filter.test(key)) {
+                present.putIfAbsent(key, device);
+            }
+        }
+        // Drop vanished devices first, so their places under the cap go to new ones
+        live.entrySet().removeIf(e -> {
+            if (present.containsKey(e.getKey())) {
+                return false;
+            }
+            for (Meter meter : e.getValue().meters) {
+                registry.remove(meter);
+            }
+            return true;
+        });
+        for (Map.Entry<String, T> e : present.entrySet()) {
+            if (live.size() >= filter.getMaxDevices()) {
+                break;
+            }
+            if (!live.containsKey(e.getKey())) {
+                List<Meter> meters = new ArrayList<>();
+                Object strongReference = registrar.register(registry, e.getValue(), meters);
+                live.put(e.getKey(), new Registration(meters, strongReference));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the names of the devices with registered meters.
+     *
+     * @return the device names, in registration order
+     */
+    synchronized Set<String> getDeviceNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(live.keySet()));
+    }
+
+    /**
+     * Stops reconciling. The meters registered remain, with their last devices.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * A change token of the sorted entries of a directory, such as {@code /sys/block}.
+     *
+     * @param path the directory
+     * @return the token supplier, which returns {@code null} if the directory cannot be listed
+     */
+    static Supplier<Object> directoryListing(String path) {
+        return () -> {
+            String[] names = new File(path).list();
+            return names == null ? null : new TreeSet<>(Arrays.asList(names));
+        };
+    }
+
+    /**
+     * A change token of a file's contents, such as {@code /proc/self/mounts}.
+     *
+     * @param path the file
+     * @return the token supplier, which returns {@code null} if the file cannot be read
+     */
+    static Supplier<Object> fileContents(String path) {
+        return () -> {
+            try {
+                return Arrays.hashCode(Files.readAllBytes(Paths.get(path)));
+            } catch (IOException | SecurityException e) {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * A change token of the names of the network interfaces the JDK reports, which are listed without reading their
+     * statistics.
+     *
+     * @return the token supplier, which returns {@code null} if the interfaces cannot be listed
+     */
+    static Supplier<Object> networkInterfaceNames() {
+        return () -> {
+            try {
+                Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+                if (interfaces == null) {
+                    return null;
+                }
+                Set<String> names = new TreeSet<>();
+                while (interfaces.hasMoreElements()) {
+                    names.add(interfaces.nextElement().getName());
+                }
+                return names;
+            } catch (SocketException e) {
+                return null;
+            }
+        };
+    }
+}
@@ -4,8 +4,9 @@
  */
 package oshi.metrics;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 
@@ -14,6 +15,7 @@ import oshi.util.Memoizer;
 
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.MeterBinder;
 
@@ -39,10 +41,15 @@ import io.micrometer.core.instrument.binder.MeterBinder;
  * </ul>
  *
  * <p>
- * A disk's counters are re-read as its meters are sampled, once per disk per {@link Memoizer#defaultExpiration()}
- * window rather than once per meter, so that all of a disk's meters within a scrape report the same reading.
+ * A disk's counters are re-read as its meters are sampled, once per disk per {@link Memoizer#diskExpiration()} window
+ * rather than once per meter, so that all of a disk's meters within a scrape report the same reading.
+ *
+ * <p>
+ * By default the disks are enumerated once, when bound. A binder created with a reconcile interval instead keeps its
+ * meters in step with the disks present, registering meters for disks that appear and removing those of disks that
+ * vanish; see {@link #DiskMetrics(Supplier, DeviceFilter, Duration)}.
  */
-public class DiskMetrics implements MeterBinder {
+public class DiskMetrics implements MeterBinder, AutoCloseable {
 
     private static final String DISK_IO = "system.disk.io";
     private static final String DISK_OPERATIONS = "system.disk.operations";
@@ -52,14 +59,18 @@ public class DiskMetrics implements MeterBinder {
     private static final String DIRECTION_KEY = "disk.io.direction";
     private static final double MS_PER_SECOND = 1000.0;
 
+    // Changes when a block device is added or removed, without reading any disk's statistics
+    private static final String SYS_BLOCK = "/sys/block";
+
     private final Supplier<List<HWDiskStore>> diskStoreSupplier;
-    // Intentionally retained though never read: holds a strong reference to the refreshing suppliers, and through
-    // them the disk stores they close over, so the GC cannot clear the WeakReferences that Micrometer's
-    // FunctionCounter keeps to them (see bindTo). Removing this would silently break the disk metrics after a
-    // garbage collection. FunctionCounter has no strongReference() of its own, as Gauge does, so this is the only
-    // way to keep the measured object reachable.
-    @SuppressWarnings({ "java:S1068", "UnusedVariable" }) // intentionally unused field — see above
-    private List<Supplier<HWDiskStore>> refreshedDisks;
+    private final DeviceFilter filter;
+    private final Duration reconcileInterval;
+    private final Supplier<?> changeToken;
+    // Each reconciler holds strong references to the refreshing suppliers it registered, and through them the disk
+    // stores they close over, so the GC cannot clear the WeakReferences that Micrometer's FunctionCounter keeps to
+    // them. FunctionCounter has no strongReference() of its own, as Gauge does, so this is the only way to keep the
+    // measured object reachable.
+    private final List<DeviceReconciler<HWDiskStore>> reconcilers = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new {@code DiskMetrics} binder.
@@ -67,55 +78,106 @@ public class DiskMetrics implements MeterBinder {
      * @param diskStoreSupplier supplier that returns the current list of {@link HWDiskStore} instances
      */
     public DiskMetrics(Supplier<List<HWDiskStore>> diskStoreSupplier) {
+        this(diskStoreSupplier, DeviceFilter.ALL, null);
+    }
+
+    /**
+     * Creates a new {@code DiskMetrics} binder which registers meters only for the disks the filter selects and, if
+     * given a reconcile interval, keeps them in step with the disks present.
+     *
+     * <p>
+     * Each reconciliation first compares the listing of {@code /sys/block}, where there is one, and only enumerates the
+     * disks through the supplier if it changed, or if it has not for several intervals. Meters of vanished disks are
+     * removed with {@link MeterRegistry#remove(Meter)}. Reconciling runs on a shared daemon thread until the binder is
+     * {@linkplain #close() closed}.
+     *
+     * @param diskStoreSupplier supplier that returns the current list of {@link HWDiskStore} instances
+     * @param filter            selects disks by name and caps how many have meters
+     * @param reconcileInterval the time between reconciliations, or {@code null} to enumerate the disks only when bound
+     */
+    public DiskMetrics(Supplier<List<HWDiskStore>> diskStoreSupplier, DeviceFilter filter, Duration reconcileInterval) {
+        this(diskStoreSupplier, filter, reconcileInterval, DeviceReconciler.directoryListing(SYS_BLOCK));
+    }
+
+    DiskMetrics(Supplier<List<HWDiskStore>> diskStoreSupplier, DeviceFilter filter, Duration reconcileInterval,
+            Supplier<?> changeToken) {
         this.diskStoreSupplier = diskStoreSupplier;
+        this.filter = filter;
+        this.reconcileInterval = reconcileInterval;
+        this.changeToken = changeToken;
     }
 
     @Override
     public void bindTo(MeterRegistry registry) {
-        List<HWDiskStore> disks = diskStoreSupplier.get();
-        List<Supplier<HWDiskStore>> refreshing = new ArrayList<>(disks.size());
-
-        for (HWDiskStore disk : disks) {
-            String device = disk.getName();
-            // A bound HWDiskStore holds the counters read when the binder was created, so it has to be refreshed as
-            // it is sampled. The six meters below read it through one memoized supplier, both to spare the disk five
-            // redundant queries per scrape and so that a single scrape reads one snapshot: bytes and operations are
-            // otherwise counted from different moments, and a rate computed across the pair is not comparable.
-            Supplier<HWDiskStore> refreshed = Memoizer.memoize(() -> {
-                disk.updateAttributes();
-                return disk;
-            }, Memoizer.defaultExpiration());
-            refreshing.add(refreshed);
-
-            // system.disk.io — Counter, unit "By", attrs: disk.io.direction, system.device
-            registerDiskCounter(registry, refreshed, device, "read", DISK_IO, "Disk bytes transferred", "By",
-                    HWDiskStore::getReadBytes);
-            registerDiskCounter(registry, refreshed, device, "write", DISK_IO, "Disk bytes transferred", "By",
-                    HWDiskStore::getWriteBytes);
-
-            // system.disk.operations — Counter, unit "{operation}", attrs: disk.io.direction, system.device
-            registerDiskCounter(registry, refreshed, device, "read", DISK_OPERATIONS, "Disk operations count",
-                    "{operation}", HWDiskStore::getReads);
-            registerDiskCounter(registry, refreshed, device, "write", DISK_OPERATIONS, "Disk operations count",
-                    "{operation}", HWDiskStore::getWrites);
-
-            // system.disk.io_time — Counter, unit "s", attr: system.device
-            FunctionCounter.builder(DISK_IO_TIME, refreshed, s -> s.get().getTransferTime() / MS_PER_SECOND)
-                    .tag(DEVICE_KEY, device).description("Time disk spent activated").baseUnit("s").register(registry);
-
-            // system.disk.limit — UpDownCounter (Gauge), unit "By", attr: system.device
-            Gauge.builder(DISK_LIMIT, refreshed, s -> s.get().getSize()).tag(DEVICE_KEY, device)
-                    .description("The total storage capacity of the disk").baseUnit("By").strongReference(true)
-                    .register(registry);
+        DeviceReconciler<HWDiskStore> reconciler = new DeviceReconciler<>(registry, diskStoreSupplier,
+                HWDiskStore::getName, filter, reconcileInterval == null ? null : changeToken,
+                DiskMetrics::registerDisk);
+        reconcilers.add(reconciler);
+        if (reconcileInterval == null) {
+            reconciler.reconcile();
+        } else {
+            reconciler.start(reconcileInterval);
+        }
+    }
+
+    /**
+     * Registers meters for disks that appeared and removes those of disks that vanished, now rather than at the next
+     * interval.
+     */
+    void reconcile() {
+        for (DeviceReconciler<HWDiskStore> reconciler : reconcilers) {
+            reconciler.reconcile();
+        }
+    }
+
+    /**
+     * Stops reconciling. Meters already registered remain.
+     */
+    @Override
+    public void close() {
+        for (DeviceReconciler<HWDiskStore> reconciler : reconcilers) {
+            reconciler.close();
         }
+    }
+
+    private static Object registerDisk(MeterRegistry registry, HWDiskStore disk, List<Meter> meters) {
+        String device = disk.getName();
+        // A bound HWDiskStore holds the counters read when the binder was created, so it has to be refreshed as it is
+        // sampled. The six meters below read it through one memoized supplier, both to spare the disk five redundant
+        // queries per scrape and so that a single scrape reads one snapshot: bytes and operations are otherwise
+        // counted from different moments, and a rate computed across the pair is not comparable.
+        Supplier<HWDiskStore> refreshed = Memoizer.memoize(() -> {
+            disk.updateAttributes();
+            return disk;
+        }, Memoizer.diskExpiration());
+
+        // system.disk.io — Counter, unit "By", attrs: disk.io.direction, system.device
+        meters.add(registerDiskCounter(registry, refreshed, device, "read", DISK_IO, "Disk bytes transferred", "By",
+                HWDiskStore::getReadBytes));
+        meters.add(registerDiskCounter(registry, refreshed, device, "write", DISK_IO, "Disk bytes transferred", "By",
+                HWDiskStore::getWriteBytes));
+
+        // system.disk.operations — Counter, unit "{operation}", attrs: disk.io.direction, system.device
+        meters.add(registerDiskCounter(registry, refreshed, device, "read", DISK_OPERATIONS, "Disk operations count",
+                "{operation}", HWDiskStore::getReads));
+        meters.add(registerDiskCounter(registry, refreshed, device, "write", DISK_OPERATIONS, "Disk operations count",
+                "{operation}", HWDiskStore::getWrites));
+
+        // system.disk.io_time — Counter, unit "s", attr: system.device
+        meters.add(FunctionCounter.builder(DISK_IO_TIME, refreshed, s -> s.get().getTransferTime() / MS_PER_SECOND)
+                .tag(DEVICE_KEY, device).description("Time disk spent activated").baseUnit("s").register(registry));
 
-        // Hold strong references to prevent GC (FunctionCounter uses WeakReference)
-        this.refreshedDisks = refreshing;
+        // system.disk.limit — UpDownCounter (Gauge), unit "By", attr: system.device
+        meters.add(Gauge.builder(DISK_LIMIT, refreshed, s -> s.get().getSize()).tag(DEVICE_KEY, device)
+                .description("The total storage capacity of the disk").baseUnit("By").strongReference(true)
+                .register(registry));
+        return refreshed;
     }
 
-    private static void registerDiskCounter(MeterRegistry registry, Supplier<HWDiskStore> refreshed, String device,
-            String direction, String name, String description, String baseUnit, ToDoubleFunction<HWDiskStore> value) {
-        FunctionCounter.builder(name, refreshed, s -> value.applyAsDouble(s.get())).tag(DEVICE_KEY, device)
+    private static FunctionCounter registerDiskCounter(MeterRegistry registry, Supplier<HWDiskStore> refreshed,
+            String device, String direction, String name, String description, String baseUnit,
+            ToDoubleFunction<HWDiskStore> value) {
+        return FunctionCounter.builder(name, refreshed, s -> value.applyAsDouble(s.get())).tag(DEVICE_KEY, device)
                 .tag(DIRECTION_KEY, direction).description(description).baseUnit(baseUnit).register(registry);
     }
 }
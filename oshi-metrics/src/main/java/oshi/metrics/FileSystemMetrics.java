@@ -4,8 +4,10 @@
  */
 package oshi.metrics;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 
@@ -13,6 +15,7 @@ import oshi.software.os.OSFileStore;
 import oshi.util.Memoizer;
 
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -40,11 +43,15 @@ import io.micrometer.core.instrument.binder.MeterBinder;
  * at this layer, such as ZFS and APFS, report {@code reserved} as 0.
  *
  * <p>
- * A filesystem's space is re-read as its gauges are sampled, once per filesystem per
- * {@link Memoizer#defaultExpiration()} window rather than once per gauge, so that all of its gauges within a scrape
- * report the same reading.
+ * A filesystem's space is re-read as its gauges are sampled, once per filesystem per {@link Memoizer#diskExpiration()}
+ * window rather than once per gauge, so that all of its gauges within a scrape report the same reading.
+ *
+ * <p>
+ * By default the filesystems are enumerated once, when bound. A binder created with a reconcile interval instead keeps
+ * its gauges in step with the filesystems mounted, registering gauges for filesystems that are mounted and removing
+ * those of filesystems that are unmounted; see {@link #FileSystemMetrics(Supplier, DeviceFilter, Duration)}.
  */
-public class FileSystemMetrics implements MeterBinder {
+public class FileSystemMetrics implements MeterBinder, AutoCloseable {
 
     private static final String FS_USAGE = "system.filesystem.usage";
     private static final String FS_UTILIZATION = "system.filesystem.utilization";
@@ -58,69 +65,136 @@ public class FileSystemMetrics implements MeterBinder {
     private static final Tag STATE_FREE = Tag.of(STATE_KEY, "free");
     private static final Tag STATE_RESERVED = Tag.of(STATE_KEY, "reserved");
 
+    // Changes when a filesystem is mounted or unmounted, without querying any filesystem's space
+    private static final String PROC_MOUNTS = "/proc/self/mounts";
+
     private final Supplier<List<OSFileStore>> fileStoreSupplier;
+    private final DeviceFilter filter;
+    private final Duration reconcileInterval;
+    private final Supplier<?> changeToken;
+    private final List<DeviceReconciler<OSFileStore>> reconcilers = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new {@code FileSystemMetrics} binder.
      *
      * <p>
      * Note: {@link #bindTo(MeterRegistry)} calls the supplier once to capture a snapshot of filesystems. Filesystems
-     * mounted after binding will not be tracked; unmounted filesystems may leave stale meters. To refresh, create and
-     * bind a new instance.
+     * mounted after binding will not be tracked; unmounted filesystems may leave stale meters. To track them, use
+     * {@link #FileSystemMetrics(Supplier, DeviceFilter, Duration)} with a reconcile interval.
      *
      * @param fileStoreSupplier supplier that returns the current list of {@link OSFileStore} instances
      */
     public FileSystemMetrics(Supplier<List<OSFileStore>> fileStoreSupplier) {
+        this(fileStoreSupplier, DeviceFilter.ALL, null);
+    }
+
+    /**
+     * Creates a new {@code FileSystemMetrics} binder which registers gauges only for the filesystems whose mount points
+     * the filter selects and, if given a reconcile interval, keeps them in step with the filesystems mounted.
+     *
+     * <p>
+     * Each reconciliation first compares the contents of {@code /proc/self/mounts}, where there is one, and only
+     * enumerates the filesystems through the supplier if they changed, or if they have not for several intervals.
+     * Gauges of unmounted filesystems are removed with {@link MeterRegistry#remove(Meter)}. Reconciling runs on a
+     * shared daemon thread until the binder is {@linkplain #close() closed}.
+     *
+     * @param fileStoreSupplier supplier that returns the current list of {@link OSFileStore} instances
+     * @param filter            selects filesystems by mount point and caps how many have gauges
+     * @param reconcileInterval the time between reconciliations, or {@code null} to enumerate the filesystems only when
+     *                          bound
+     */
+    public FileSystemMetrics(Supplier<List<OSFileStore>> fileStoreSupplier, DeviceFilter filter,
+            Duration reconcileInterval) {
+        this(fileStoreSupplier, filter, reconcileInterval, DeviceReconciler.fileContents(PROC_MOUNTS));
+    }
+
+    FileSystemMetrics(Supplier<List<OSFileStore>> fileStoreSupplier, DeviceFilter filter, Duration reconcileInterval,
+            Supplier<?> changeToken) {
         this.fileStoreSupplier = fileStoreSupplier;
+        this.filter = filter;
+        this.reconcileInterval = reconcileInterval;
+        this.changeToken = changeToken;
     }
 
     @Override
     public void bindTo(MeterRegistry registry) {
-        for (OSFileStore fs : fileStoreSupplier.get()) {
-            String opts = fs.getOptions();
-            String mode = Arrays.asList(opts.split(",")).contains("rw") ? "rw" : "ro";
-            Tags tags = Tags.of(DEVICE_KEY, fs.getVolume(), MOUNTPOINT_KEY, fs.getMount(), TYPE_KEY, fs.getType(),
-                    MODE_KEY, mode);
-            // A bound OSFileStore is a snapshot taken when the binder was created, so it has to be refreshed as it is
-            // sampled. The seven gauges below read it through one memoized supplier, both to spare the filesystem six
-            // redundant queries per scrape and so that a single scrape reads one snapshot: the states can only be shown
-            // to partition the filesystem if they were all measured against the same reading of it.
-            Supplier<OSFileStore> refreshed = Memoizer.memoize(() -> {
-                fs.updateAttributes();
-                return fs;
-            }, Memoizer.defaultExpiration());
-
-            // system.filesystem.usage — UpDownCounter (Gauge), unit "By", attr: state, device, mount, type, mode.
-            // OSFileStore guarantees usable <= free <= total, so none of these differences can be negative and the
-            // three states sum to the total.
-            registerUsage(registry, refreshed, tags, STATE_USED, f -> f.getTotalSpace() - f.getFreeSpace());
-            registerUsage(registry, refreshed, tags, STATE_FREE, OSFileStore::getUsableSpace);
-            registerUsage(registry, refreshed, tags, STATE_RESERVED, f -> f.getFreeSpace() - f.getUsableSpace());
-
-            // system.filesystem.utilization — Gauge, unit "1", attr: state, device, mount, type, mode
-            registerUtilization(registry, refreshed, tags, STATE_USED,
-                    f -> fraction(f.getTotalSpace() - f.getFreeSpace(), f.getTotalSpace()));
-            registerUtilization(registry, refreshed, tags, STATE_FREE,
-                    f -> fraction(f.getUsableSpace(), f.getTotalSpace()));
-            registerUtilization(registry, refreshed, tags, STATE_RESERVED,
-                    f -> fraction(f.getFreeSpace() - f.getUsableSpace(), f.getTotalSpace()));
-
-            // system.filesystem.limit — UpDownCounter (Gauge), unit "By", attr: device, mount, type, mode
-            Gauge.builder(FS_LIMIT, refreshed, s -> s.get().getTotalSpace()).tags(tags)
-                    .description("Total capacity of the filesystem").baseUnit("By").strongReference(true)
-                    .register(registry);
+        DeviceReconciler<OSFileStore> reconciler = new DeviceReconciler<>(registry, fileStoreSupplier,
+                OSFileStore::getMount, filter, reconcileInterval == null ? null : changeToken,
+                FileSystemMetrics::registerFileStore);
+        reconcilers.add(reconciler);
+        if (reconcileInterval == null) {
+            reconciler.reconcile();
+        } else {
+            reconciler.start(reconcileInterval);
         }
     }
 
-    private static void registerUsage(MeterRegistry registry, Supplier<OSFileStore> refreshed, Tags tags, Tag state,
+    /**
+     * Registers gauges for filesystems that were mounted and removes those of filesystems that were unmounted, now
+     * rather than at the next interval.
+     */
+    void reconcile() {
+        for (DeviceReconciler<OSFileStore> reconciler : reconcilers) {
+            reconciler.reconcile();
+        }
+    }
+
+    /**
+     * Stops reconciling. Gauges already registered remain.
+     */
+    @Override
+    public void close() {
+        for (DeviceReconciler<OSFileStore> reconciler : reconcilers) {
+            reconciler.close();
+        }
+    }
+
+    private static Object registerFileStore(MeterRegistry registry, OSFileStore fs, List<Meter> meters) {
+        String opts = fs.getOptions();
+        String mode = Arrays.asList(opts.split(",")).contains("rw") ? "rw" : "ro";
+        Tags tags = Tags.of(DEVICE_KEY, fs.getVolume(), MOUNTPOINT_KEY, fs.getMount(), TYPE_KEY, fs.getType(), MODE_KEY,
+                mode);
+        // A bound OSFileStore is a snapshot taken when the binder was created, so it has to be refreshed as it is
+        // sampled. The seven gauges below read it through one memoized supplier, both to spare the filesystem six
+        // redundant queries per scrape and so that a single scrape reads one snapshot: the states can only be shown to
+        // partition the filesystem if they were all measured against the same reading of it.
+        Supplier<OSFileStore> refreshed = Memoizer.memoize(() -> {
+            fs.updateAttributes();
+            return fs;
+        }, Memoizer.diskExpiration());
+
+        // system.filesystem.usage — UpDownCounter (Gauge), unit "By", attr: state, device, mount, type, mode.
+        // OSFileStore guarantees usable <= free <= total, so none of these differences can be negative and the three
+        // states sum to the total.
+        meters.add(registerUsage(registry, refreshed, tags, STATE_USED, f -> f.getTotalSpace() - f.getFreeSpace()));
+        meters.add(registerUsage(registry, refreshed, tags, STATE_FREE, OSFileStore::getUsableSpace));
+        meters.add(
+                registerUsage(registry, refreshed, tags, STATE_RESERVED, f -> f.getFreeSpace() - f.getUsableSpace()));
+
+        // system.filesystem.utilization — Gauge, unit "1", attr: state, device, mount, type, mode
+        meters.add(registerUtilization(registry, refreshed, tags, STATE_USED,
+                f -> fraction(f.getTotalSpace() - f.getFreeSpace(), f.getTotalSpace())));
+        meters.add(registerUtilization(registry, refreshed, tags, STATE_FREE,
+                f -> fraction(f.getUsableSpace(), f.getTotalSpace())));
+        meters.add(registerUtilization(registry, refreshed, tags, STATE_RESERVED,
+                f -> fraction(f.getFreeSpace() - f.getUsableSpace(), f.getTotalSpace())));
+
+        // system.filesystem.limit — UpDownCounter (Gauge), unit "By", attr: device, mount, type, mode
+        meters.add(Gauge.builder(FS_LIMIT, refreshed, s -> s.get().getTotalSpace()).tags(tags)
+                .description("Total capacity of the filesystem").baseUnit("By").strongReference(true)
+                .register(registry));
+        return refreshed;
+    }
+
+    private static Gauge registerUsage(MeterRegistry registry, Supplier<OSFileStore> refreshed, Tags tags, Tag state,
             ToDoubleFunction<OSFileStore> bytes) {
-        Gauge.builder(FS_USAGE, refreshed, s -> bytes.applyAsDouble(s.get())).tags(tags.and(state))
+        return Gauge.builder(FS_USAGE, refreshed, s -> bytes.applyAsDouble(s.get())).tags(tags.and(state))
                 .description("Filesystem space usage").baseUnit("By").strongReference(true).register(registry);
     }
 
-    private static void registerUtilization(MeterRegistry registry, Supplier<OSFileStore> refreshed, Tags tags,
+    private static Gauge registerUtilization(MeterRegistry registry, Supplier<OSFileStore> refreshed, Tags tags,
             Tag state, ToDoubleFunction<OSFileStore> ratio) {
-        Gauge.builder(FS_UTILIZATION, refreshed, s -> ratio.applyAsDouble(s.get())).tags(tags.and(state))
+        return Gauge.builder(FS_UTILIZATION, refreshed, s -> ratio.applyAsDouble(s.get())).tags(tags.and(state))
                 .description("Filesystem utilization").strongReference(true).register(registry);
     }
 
@@ -4,24 +4,25 @@
  */
 package oshi.metrics;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 
 import oshi.hardware.NetworkIF;
 import oshi.software.os.InternetProtocolStats;
-import oshi.software.os.InternetProtocolStats.IPConnection;
+import oshi.software.os.InternetProtocolStats.ConnectionStateCounts;
 import oshi.software.os.InternetProtocolStats.TcpState;
 import oshi.util.Memoizer;
 
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.MeterBinder;
 
@@ -47,10 +48,15 @@ import io.micrometer.core.instrument.binder.MeterBinder;
  *
  * <p>
  * An interface's counters are re-read as its meters are sampled, once per interface per
- * {@link Memoizer#defaultExpiration()} window rather than once per meter, so that all of an interface's meters within a
+ * {@link Memoizer#networkExpiration()} window rather than once per meter, so that all of an interface's meters within a
  * scrape report the same reading. The connection counts are cached the same way, for one second.
+ *
+ * <p>
+ * By default the interfaces are enumerated once, when bound. A binder created with a reconcile interval instead keeps
+ * its meters in step with the interfaces present, registering meters for interfaces that appear and removing those of
+ * interfaces that vanish; see {@link #NetworkMetrics(Supplier, InternetProtocolStats, DeviceFilter, Duration)}.
  */
-public class NetworkMetrics implements MeterBinder {
+public class NetworkMetrics implements MeterBinder, AutoCloseable {
 
     private static final String NET_IO = "system.network.io";
     private static final String NET_PACKETS = "system.network.packet.count";
@@ -65,14 +71,15 @@ public class NetworkMetrics implements MeterBinder {
 
     private final Supplier<List<NetworkIF>> networkIFSupplier;
     private final InternetProtocolStats ipStats;
-
-    // Strong reference to prevent GC of the refreshing suppliers, and through them the NetworkIF objects they close
-    // over, used by FunctionCounter (Micrometer holds them weakly). FunctionCounter has no strongReference() of its
-    // own, as Gauge does, so this field is the only thing keeping the measured object reachable.
-    @SuppressWarnings({ "java:S1068", "UnusedVariable" }) // deliberate GC root; must outlive bindTo(), never read
-    private List<Supplier<NetworkIF>> refreshedNetworkIFs;
-
-    // Connection count cache to avoid repeated getConnections() calls per scrape
+    private final DeviceFilter filter;
+    private final Duration reconcileInterval;
+    private final Supplier<?> changeToken;
+    // Each reconciler holds strong references to the refreshing suppliers it registered, and through them the
+    // NetworkIF objects they close over, used by FunctionCounter (Micrometer holds them weakly). FunctionCounter has no
+    // strongReference() of its own, as Gauge does, so this is the only thing keeping the measured object reachable.
+    private final List<DeviceReconciler<NetworkIF>> reconcilers = new CopyOnWriteArrayList<>();
+
+    // Connection count cache to avoid repeated getConnectionStateCounts() calls per scrape
     private volatile long cacheTimestamp;
     private final AtomicReference<Map<TcpState, Long>> tcpCounts = new AtomicReference<>(Collections.emptyMap());
     private volatile long udpCount;
@@ -84,62 +91,116 @@ public class NetworkMetrics implements MeterBinder {
      * @param ipStats           the {@link InternetProtocolStats} instance for connection counting
      */
     public NetworkMetrics(Supplier<List<NetworkIF>> networkIFSupplier, InternetProtocolStats ipStats) {
+        this(networkIFSupplier, ipStats, DeviceFilter.ALL, null);
+    }
+
+    /**
+     * Creates a new {@code NetworkMetrics} binder which registers meters only for the interfaces the filter selects
+     * and, if given a reconcile interval, keeps them in step with the interfaces present.
+     *
+     * <p>
+     * Each reconciliation first compares the names of the interfaces the JDK lists, and only enumerates the interfaces
+     * through the supplier, reading their statistics, if they changed, or if they have not for several intervals.
+     * Meters of vanished interfaces are removed with {@link MeterRegistry#remove(Meter)}. Reconciling runs on a shared
+     * daemon thread until the binder is {@linkplain #close() closed}. The connection counts are not per interface and
+     * are registered once.
+     *
+     * @param networkIFSupplier supplier that returns the current list of {@link NetworkIF} instances
+     * @param ipStats           the {@link InternetProtocolStats} instance for connection counting
+     * @param filter            selects interfaces by name and caps how many have meters
+     * @param reconcileInterval the time between reconciliations, or {@code null} to enumerate the interfaces only when
+     *                          bound
+     */
+    public NetworkMetrics(Supplier<List<NetworkIF>> networkIFSupplier, InternetProtocolStats ipStats,
+            DeviceFilter filter, Duration reconcileInterval) {
+        this(networkIFSupplier, ipStats, filter, reconcileInterval, DeviceReconciler.networkInterfaceNames());
+    }
+
+    NetworkMetrics(Supplier<List<NetworkIF>> networkIFSupplier, InternetProtocolStats ipStats, DeviceFilter filter,
+            Duration reconcileInterval, Supplier<?> changeToken) {
         this.networkIFSupplier = networkIFSupplier;
         this.ipStats = ipStats;
+        this.filter = filter;
+        this.reconcileInterval = reconcileInterval;
+        this.changeToken = changeToken;
     }
 
     @Override
     public void bindTo(MeterRegistry registry) {
-        List<NetworkIF> nets = networkIFSupplier.get();
-        List<Supplier<NetworkIF>> refreshing = new ArrayList<>(nets.size());
-
-        for (NetworkIF net : nets) {
-            String device = net.getName();
-            // A bound NetworkIF holds the counters read when the binder was created, so it has to be refreshed as it
-            // is sampled. The seven meters below read it through one memoized supplier, both to spare the interface six
-            // redundant queries per scrape and so that a single scrape reads one snapshot: bytes, packets, drops and
-            // errors are otherwise counted from different moments, and a drop or error rate computed against a byte
-            // or packet count from another reading is not comparable.
-            Supplier<NetworkIF> refreshed = Memoizer.memoize(() -> {
-                net.updateAttributes();
-                return net;
-            }, Memoizer.defaultExpiration());
-            refreshing.add(refreshed);
-
-            // system.network.io — Counter, unit "By", attrs: network.io.direction, system.device
-            registerNetCounter(registry, refreshed, device, "receive", NET_IO, "Network bytes transferred", "By",
-                    NetworkIF::getBytesRecv);
-            registerNetCounter(registry, refreshed, device, "transmit", NET_IO, "Network bytes transferred", "By",
-                    NetworkIF::getBytesSent);
-
-            // system.network.packet.count — Counter, unit "{packet}", attrs: network.io.direction, system.device
-            registerNetCounter(registry, refreshed, device, "receive", NET_PACKETS, "Network packets transferred",
-                    "{packet}", NetworkIF::getPacketsRecv);
-            registerNetCounter(registry, refreshed, device, "transmit", NET_PACKETS, "Network packets transferred",
-                    "{packet}", NetworkIF::getPacketsSent);
-
-            // system.network.packet.dropped — Counter, unit "{packet}", attrs: network.io.direction, system.device
-            registerNetCounter(registry, refreshed, device, "receive", NET_DROPPED, "Count of packets dropped",
-                    "{packet}", NetworkIF::getInDrops);
-
-            // system.network.errors — Counter, unit "{error}", attrs: network.io.direction, system.device
-            registerNetCounter(registry, refreshed, device, "receive", NET_ERRORS, "Network errors", "{error}",
-                    NetworkIF::getInErrors);
-            registerNetCounter(registry, refreshed, device, "transmit", NET_ERRORS, "Network errors", "{error}",
-                    NetworkIF::getOutErrors);
+        DeviceReconciler<NetworkIF> reconciler = new DeviceReconciler<>(registry, networkIFSupplier, NetworkIF::getName,
+                filter, reconcileInterval == null ? null : changeToken, NetworkMetrics::registerNetworkIF);
+        reconcilers.add(reconciler);
+        if (reconcileInterval == null) {
+            reconciler.reconcile();
+        } else {
+            reconciler.start(reconcileInterval);
         }
 
-        // Hold strong references to prevent GC (FunctionCounter uses WeakReference)
-        this.refreshedNetworkIFs = refreshing;
-
         // system.network.connection.count — UpDownCounter (Gauge), unit "{connection}",
         // attrs: network.transport, network.connection.state
         registerConnectionCountGauges(registry);
     }
 
-    private static void registerNetCounter(MeterRegistry registry, Supplier<NetworkIF> refreshed, String device,
-            String direction, String name, String description, String baseUnit, ToDoubleFunction<NetworkIF> value) {
-        FunctionCounter.builder(name, refreshed, s -> value.applyAsDouble(s.get())).tag(DEVICE_KEY, device)
+    /**
+     * Registers meters for interfaces that appeared and removes those of interfaces that vanished, now rather than at
+     * the next interval.
+     */
+    void reconcile() {
+        for (DeviceReconciler<NetworkIF> reconciler : reconcilers) {
+            reconciler.reconcile();
+        }
+    }
+
+    /**
+     * Stops reconciling. Meters already registered remain.
+     */
+    @Override
+    public void close() {
+        for (DeviceReconciler<NetworkIF> reconciler : reconcilers) {
+            reconciler.close();
+        }
+    }
+
+    private static Object registerNetworkIF(MeterRegistry registry, NetworkIF net, List<Meter> meters) {
+        String device = net.getName();
+        // A bound NetworkIF holds the counters read when the binder was created, so it has to be refreshed as it is
+        // sampled. The seven meters below read it through one memoized supplier, both to spare the interface six
+        // redundant queries per scrape and so that a single scrape reads one snapshot: bytes, packets, drops and errors
+        // are otherwise counted from different moments, and a drop or error rate computed against a byte or packet
+        // count from another reading is not comparable.
+        Supplier<NetworkIF> refreshed = Memoizer.memoize(() -> {
+            net.updateAttributes();
+            return net;
+        }, Memoizer.networkExpiration());
+
+        // system.network.io — Counter, unit "By", attrs: network.io.direction, system.device
+        meters.add(registerNetCounter(registry, refreshed, device, "receive", NET_IO, "Network bytes transferred", "By",
+                NetworkIF::getBytesRecv));
+        meters.add(registerNetCounter(registry, refreshed, device, "transmit", NET_IO, "Network bytes transferred",
+                "By", NetworkIF::getBytesSent));
+
+        // system.network.packet.count — Counter, unit "{packet}", attrs: network.io.direction, system.device
+        meters.add(registerNetCounter(registry, refreshed, device, "receive", NET_PACKETS,
+                "Network packets transferred", "{packet}", NetworkIF::getPacketsRecv));
+        meters.add(registerNetCounter(registry, refreshed, device, "transmit", NET_PACKETS,
+                "Network packets transferred", "{packet}", NetworkIF::getPacketsSent));
+
+        // system.network.packet.dropped — Counter, unit "{packet}", attrs: network.io.direction, system.device
+        meters.add(registerNetCounter(registry, refreshed, device, "receive", NET_DROPPED, "Count of packets dropped",
+                "{packet}", NetworkIF::getInDrops));
+
+        // system.network.errors — Counter, unit "{error}", attrs: network.io.direction, system.device
+        meters.add(registerNetCounter(registry, refreshed, device, "receive", NET_ERRORS, "Network errors", "{error}",
+                NetworkIF::getInErrors));
+        meters.add(registerNetCounter(registry, refreshed, device, "transmit", NET_ERRORS, "Network errors", "{error}",
+                NetworkIF::getOutErrors));
+        return refreshed;
+    }
+
+    private static FunctionCounter registerNetCounter(MeterRegistry registry, Supplier<NetworkIF> refreshed,
+            String device, String direction, String name, String description, String baseUnit,
+            ToDoubleFunction<NetworkIF> value) {
+        return FunctionCounter.builder(name, refreshed, s -> value.applyAsDouble(s.get())).tag(DEVICE_KEY, device)
                 .tag(DIRECTION_KEY, direction).description(description).baseUnit(baseUnit).register(registry);
     }
 
@@ -163,18 +224,9 @@ public class NetworkMetrics implements MeterBinder {
             synchronized (this) {
                 long now = System.currentTimeMillis();
                 if (now - cacheTimestamp > CACHE_TTL_MS) {
-                    List<IPConnection> connections = ipStats.getConnections();
-                    Map<TcpState, Long> tcp = new EnumMap<>(TcpState.class);
-                    long udp = 0;
-                    for (IPConnection conn : connections) {
-                        if (conn.getType().startsWith("tcp")) {
-                            tcp.merge(conn.getState(), 1L, Long::sum);
-                        } else if (conn.getType().startsWith("udp")) {
-                            udp++;
-                        }
-                    }
-                    this.tcpCounts.set(Collections.unmodifiableMap(tcp));
-                    this.udpCount = udp;
+                    ConnectionStateCounts counts = ipStats.getConnectionStateCounts();
+                    this.tcpCounts.set(counts.getTcpCounts());
+                    this.udpCount = counts.getUdpCount();
                     this.cacheTimestamp = now;
                 }
             }
@@ -4,7 +4,10 @@
  */
 package oshi.metrics;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import oshi.hardware.HardwareAbstractionLayer;
 import oshi.software.os.OperatingSystem;
@@ -36,11 +39,23 @@ import io.micrometer.core.instrument.binder.MeterBinder;
  * }</pre>
  *
  * <p>
+ * On hosts where disks, interfaces and mounts come and go, such as Kubernetes nodes, the per-device metrics can be kept
+ * in step with the devices present, and their number capped:
+ *
+ * <pre>{@code
+ * OshiMetrics metrics = OshiMetrics.builder(SystemInfoFactory.create()).reconcileDevices(Duration.ofSeconds(30))
+ *         .deviceFilter(DeviceFilter.of(null, "veth.*|/var/lib/kubelet/.*", 256)).build();
+ * metrics.bindTo(registry);
+ * // ...
+ * metrics.close();
+ * }</pre>
+ *
+ * <p>
  * Since this class accepts {@link HardwareAbstractionLayer} and {@link OperatingSystem} interfaces from
  * {@code oshi-common}, it works identically with both the JNA ({@code oshi-core}) and FFM ({@code oshi-core-ffm})
  * implementations.
  */
-public final class OshiMetrics implements MeterBinder {
+public final class OshiMetrics implements MeterBinder, AutoCloseable {
 
     private final HardwareAbstractionLayer hal;
     private final OperatingSystem os;
@@ -53,6 +68,10 @@ public final class OshiMetrics implements MeterBinder {
     private final boolean network;
     private final boolean process;
     private final boolean container;
+    private final DeviceFilter deviceFilter;
+    private final Duration reconcileInterval;
+    private final int topProcesses;
+    private final List<Runnable> reconciling = new CopyOnWriteArrayList<>();
 
     private OshiMetrics(Builder builder) {
         this.hal = builder.hal;
@@ -66,6 +85,9 @@ public final class OshiMetrics implements MeterBinder {
         this.network = builder.network;
         this.process = builder.process;
         this.container = builder.container;
+        this.deviceFilter = builder.deviceFilter;
+        this.reconcileInterval = builder.reconcileInterval;
+        this.topProcesses = builder.topProcesses;
     }
 
     /**
@@ -95,6 +117,9 @@ public final class OshiMetrics implements MeterBinder {
         this.network = true;
         this.process = true;
         this.container = true;
+        this.deviceFilter = DeviceFilter.ALL;
+        this.reconcileInterval = null;
+        this.topProcesses = 0;
     }
 
     /**
@@ -134,20 +159,45 @@ public final class OshiMetrics implements MeterBinder {
             new CpuMetrics(hal.getProcessor()).bindTo(registry);
         }
         if (disk) {
-            new DiskMetrics(hal::getDiskStores).bindTo(registry);
+            DiskMetrics diskMetrics = new DiskMetrics(hal::getDiskStores, deviceFilter, reconcileInterval);
+            diskMetrics.bindTo(registry);
+            reconciling.add(diskMetrics::close);
         }
         if (fileSystem) {
-            new FileSystemMetrics(os.getFileSystem()::getFileStores).bindTo(registry);
+            FileSystemMetrics fileSystemMetrics = new FileSystemMetrics(os.getFileSystem()::getFileStores, deviceFilter,
+                    reconcileInterval);
+            fileSystemMetrics.bindTo(registry);
+            reconciling.add(fileSystemMetrics::close);
         }
         if (network) {
-            new NetworkMetrics(hal::getNetworkIFs, os.getInternetProtocolStats()).bindTo(registry);
+            NetworkMetrics networkMetrics = new NetworkMetrics(hal::getNetworkIFs, os.getInternetProtocolStats(),
+                    deviceFilter, reconcileInterval);
+            networkMetrics.bindTo(registry);
+            reconciling.add(networkMetrics::close);
         }
         if (process) {
-            new ProcessMetrics(os::getCurrentProcess).bindTo(registry);
+            ProcessMetrics.forCurrentProcess(os).bindTo(registry);
         }
         if (container) {
             new ContainerMetrics(os, os.getCgroupInfo()).bindTo(registry);
         }
+        if (topProcesses > 0) {
+            TopProcessesMetrics topProcessesMetrics = new TopProcessesMetrics(os, hal.getProcessor(), topProcesses);
+            topProcessesMetrics.bindTo(registry);
+            reconciling.add(topProcessesMetrics::close);
+        }
+    }
+
+    /**
+     * Stops reconciling the per-device metrics, and scanning for the top processes, of every registry this instance was
+     * bound to. Meters already registered remain. Does nothing unless {@link Builder#reconcileDevices(Duration)} or
+     * {@link Builder#topProcesses(int)} was set.
+     */
+    @Override
+    public void close() {
+        for (Runnable close : reconciling) {
+            close.run();
+        }
     }
 
     /**
@@ -191,6 +241,9 @@ public final class OshiMetrics implements MeterBinder {
         private boolean network = true;
         private boolean process = true;
         private boolean container = true;
+        private DeviceFilter deviceFilter = DeviceFilter.ALL;
+        private Duration reconcileInterval;
+        private int topProcesses;
 
         private Builder(HardwareAbstractionLayer hal, OperatingSystem os) {
             this.hal = Objects.requireNonNull(hal, "hal must not be null");
@@ -296,6 +349,45 @@ public final class OshiMetrics implements MeterBinder {
             return this;
         }
 
+        /**
+         * Keep the disk, filesystem and network metrics in step with the devices present, registering meters for
+         * devices that appear and removing those of devices that vanish. Reconciling stops when the built instance is
+         * {@linkplain OshiMetrics#close() closed}.
+         *
+         * @param interval the time between reconciliations, or {@code null} to enumerate the devices only when bound,
+         *                 the default
+         * @return this builder
+         */
+        public Builder reconcileDevices(Duration interval) {
+            this.reconcileInterval = interval;
+            return this;
+        }
+
+        /**
+         * Select the disks and network interfaces, by name, and the filesystems, by mount point, to register metrics
+         * for, and cap how many of each have meters.
+         *
+         * @param filter the device filter; {@link DeviceFilter#ALL} by default
+         * @return this builder
+         */
+        public Builder deviceFilter(DeviceFilter filter) {
+            this.deviceFilter = Objects.requireNonNull(filter, "filter must not be null");
+            return this;
+        }
+
+        /**
+         * Register metrics for the heaviest processes on the host; see {@link TopProcessesMetrics}. Off by default,
+         * since it scans every process every {@link TopProcessesMetrics#DEFAULT_SCAN_INTERVAL}. Scanning stops when the
+         * built instance is {@linkplain OshiMetrics#close() closed}.
+         *
+         * @param limit the number of processes to keep by each of CPU, memory and disk I/O, or 0 to disable
+         * @return this builder
+         */
+        public Builder topProcesses(int limit) {
+            this.topProcesses = Math.max(0, limit);
+            return this;
+        }
+
         /**
          * Builds the {@link OshiMetrics} instance with the configured settings.
          *
@@ -4,9 +4,12 @@
  */
 package oshi.metrics;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+import oshi.util.Memoizer;
 
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
@@ -18,7 +21,7 @@ import io.micrometer.core.instrument.binder.MeterBinder;
  * <a href="https://opentelemetry.io/docs/specs/semconv/system/process-metrics/">OpenTelemetry semantic conventions</a>.
  *
  * <p>
- * Typically used to monitor the current JVM process via {@code os.getCurrentProcess()}.
+ * Typically used to monitor the current JVM process via {@link #forCurrentProcess(OperatingSystem)}.
  *
  * <p>
  * Registers:
@@ -53,6 +56,8 @@ public class ProcessMetrics implements MeterBinder {
     private static final String CONTEXT_SWITCHES = "process.context_switches";
     private static final String UPTIME = "process.uptime";
     private static final double MS_PER_SECOND = 1000.0;
+    // Long enough for every meter of one scrape to read the same snapshot, short compared to scrape intervals
+    private static final long SNAPSHOT_TTL_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     private final Supplier<OSProcess> processSupplier;
 
@@ -66,6 +71,18 @@ public class ProcessMetrics implements MeterBinder {
         this.processSupplier = processSupplier;
     }
 
+    /**
+     * Creates a {@code ProcessMetrics} binder for the current process. All meters read during one scrape share one
+     * {@link OperatingSystem#getCurrentProcessSnapshot()}, rather than each reading a full
+     * {@link OperatingSystem#getCurrentProcess()}.
+     *
+     * @param os the operating system
+     * @return a new {@code ProcessMetrics} binder
+     */
+    public static ProcessMetrics forCurrentProcess(OperatingSystem os) {
+        return new ProcessMetrics(Memoizer.memoize(os::getCurrentProcessSnapshot, SNAPSHOT_TTL_NANOS));
+    }
+
     @Override
     public void bindTo(MeterRegistry registry) {
         // process.cpu.time — Counter, unit "s", attr cpu.mode (Required)
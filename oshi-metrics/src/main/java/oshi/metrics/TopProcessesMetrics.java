@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.hardware.CentralProcessor;
+import oshi.software.os.OperatingSystem;
+import oshi.util.monitor.TopProcesses;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link MeterBinder} for the heaviest processes on the host, by CPU time, resident memory and disk I/O since the
+ * previous scan.
+ *
+ * <p>
+ * Registers per process in the top set, tagged with {@code process.pid} and {@code process.executable.name}:
+ * <ul>
+ * <li>{@code process.top.cpu.utilization} — CPU time used since the previous scan, divided by the elapsed time and the
+ * number of logical processors (0.0–1.0)</li>
+ * <li>{@code process.top.memory.usage} — physical memory (RSS) in bytes</li>
+ * <li>{@code process.top.disk.io} — disk bytes by direction (read, write), where the process's I/O counters can be
+ * read</li>
+ * </ul>
+ *
+ * <p>
+ * The names differ from those of {@link ProcessMetrics}, whose meters carry no process attributes, since some
+ * registries require every meter of a name to have the same tag keys.
+ *
+ * <p>
+ * All processes are scanned once per interval on a shared daemon thread and ranked by {@link TopProcesses}, which keeps
+ * each process's previous counters to compute the deltas. The top set is the union of the {@code limit} processes with
+ * the largest CPU delta, the largest resident memory and the largest I/O delta, each kept in a bounded heap, so no more
+ * than three times {@code limit} processes have meters at once. A process's meters are removed with
+ * {@link MeterRegistry#remove(Meter)} when it drops out of the top set or exits.
+ *
+ * <p>
+ * On Linux the scan reads only {@code /proc/[pid]/stat} for each process, plus {@code /proc/[pid]/io} when I/O is
+ * ranked, so that it stays affordable at short intervals on hosts with tens of thousands of processes. Elsewhere it
+ * uses {@link OperatingSystem#getProcesses()}.
+ */
+public class TopProcessesMetrics implements MeterBinder, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TopProcessesMetrics.class);
+
+    private static final String CPU_UTILIZATION = "process.top.cpu.utilization";
+    private static final String MEMORY_USAGE = "process.top.memory.usage";
+    private static final String DISK_IO = "process.top.disk.io";
+    private static final String PID_KEY = "process.pid";
+    private static final String NAME_KEY = "process.executable.name";
+    private static final String DIRECTION_KEY = "disk.io.direction";
+
+    /** The default time between scans, a common scrape interval. */
+    public static final Duration DEFAULT_SCAN_INTERVAL = Duration.ofSeconds(15);
+
+    /** A process in the top set, holding the values its meters read. */
+    private static final class Tracked {
+        final TopProcesses.Process process;
+        final int pid;
+        final String name;
+        // Read by meters on other threads
+        volatile double utilization;
+        volatile long residentBytes;
+        volatile long readTotal;
+        volatile long writtenTotal;
+
+        Tracked(TopProcesses.Process process) {
+            this.process = process;
+            this.pid = process.getProcessId();
+            this.name = process.getName();
+        }
+    }
+
+    /** The meters registered with one registry, by process ID. */
+    private static final class Binding {
+        final MeterRegistry registry;
+        final Map<Integer, Tracked> tracked = new HashMap<>();
+        final Map<Integer, List<Meter>> meters = new HashMap<>();
+
+        Binding(MeterRegistry registry) {
+            this.registry = registry;
+        }
+    }
+
+    private final Supplier<TopProcesses.Scan> scanner;
+    private final int logicalProcessorCount;
+    private final int limit;
+    private final Duration scanInterval;
+    private final boolean io;
+    private final List<Binding> bindings = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private final TopProcesses ranking;
+    private Map<Integer, Tracked> top = new LinkedHashMap<>();
+    private boolean scanned;
+    private ScheduledFuture<?> future;
+    private boolean closed;
+
+    /**
+     * Creates a new {@code TopProcessesMetrics} binder which scans every {@link #DEFAULT_SCAN_INTERVAL} and ranks
+     * processes by CPU, memory and disk I/O.
+     *
+     * @param os        the operating system
+     * @param processor the processor, whose logical processor count scales CPU utilization
+     * @param limit     the number of processes to keep by each measure
+     */
+    public TopProcessesMetrics(OperatingSystem os, CentralProcessor processor, int limit) {
+        this(os, processor, limit, DEFAULT_SCAN_INTERVAL, true);
+    }
+
+    /**
+     * Creates a new {@code TopProcessesMetrics} binder.
+     *
+     * @param os           the operating system
+     * @param processor    the processor, whose logical processor count scales CPU utilization
+     * @param limit        the number of processes to keep by each measure
+     * @param scanInterval the time between scans
+     * @param io           whether to rank processes by disk I/O and register their I/O counters; on Linux this reads a
+     *                     second file per process at each scan
+     */
+    public TopProcessesMetrics(OperatingSystem os, CentralProcessor processor, int limit, Duration scanInterval,
+            boolean io) {
+        this(TopProcesses.scanner(os, io), processor.getLogicalProcessorCount(), limit, scanInterval, io);
+    }
+
+    TopProcessesMetrics(Supplier<TopProcesses.Scan> scanner, int logicalProcessorCount, int limit,
+            Duration scanInterval, boolean io) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        this.scanner = scanner;
+        this.logicalProcessorCount = Math.max(1, logicalProcessorCount);
+        this.limit = limit;
+        this.scanInterval = scanInterval;
+        this.io = io;
+        this.ranking = new TopProcesses(io);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Binding binding = new Binding(registry);
+        bindings.add(binding);
+        synchronized (this) {
+            if (!scanned) {
+                scan();
+            } else {
+                publish(binding);
+            }
+            if (!closed && future == null) {
+                long millis = Math.max(1L, scanInterval.toMillis());
+                future = DeviceReconciler.scheduler().scheduleWithFixedDelay(this::scanQuietly, millis, millis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Stops scanning. The meters registered remain, with the values of the last scan.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private void scanQuietly() {
+        try {
+            scan();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to scan processes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Scans the processes, then registers meters for the processes which entered the top set and removes those of the
+     * processes which left it.
+     */
+    synchronized void scan() {
+        if (closed) {
+            return;
+        }
+        long elapsed = ranking.update(scanner.get(), limit);
+        scanned = true;
+        Map<Integer, Tracked> next = new LinkedHashMap<>();
+        for (List<TopProcesses.Process> ranked : Arrays.asList(ranking.getTopByCpu(), ranking.getTopByMemory(),
+                ranking.getTopByIo())) {
+            for (TopProcesses.Process p : ranked) {
+                Tracked t = next.get(p.getProcessId());
+                if (t == null) {
+                    t = top.get(p.getProcessId());
+                    if (t == null || t.process != p) {
+                        t = new Tracked(p);
+                    }
+                    next.put(t.pid, t);
+                }
+                t.residentBytes = p.getResidentBytes();
+                t.utilization = elapsed <= 0L ? 0d : (double) p.getCpuDelta() / elapsed / logicalProcessorCount;
+                t.readTotal = Math.max(0L, p.getBytesRead());
+                t.writtenTotal = Math.max(0L, p.getBytesWritten());
+            }
+        }
+        this.top = next;
+        for (Binding binding : bindings) {
+            publish(binding);
+        }
+    }
+
+    private void publish(Binding binding) {
+        Iterator<Map.Entry<Integer, Tracked>> it = binding.tracked.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Tracked> e = it.next();
+            if (top.get(e.getKey()) != e.getValue()) {
+                for (Meter meter : binding.meters.remove(e.getKey())) {
+                    binding.registry.remove(meter);
+                }
+                it.remove();
+            }
+        }
+        for (Tracked t : top.values()) {
+            if (!binding.tracked.containsKey(t.pid)) {
+                binding.tracked.put(t.pid, t);
+                binding.meters.put(t.pid, register(binding.registry, t));
+            }
+        }
+    }
+
+    private List<Meter> register(MeterRegistry registry, Tracked t) {
+        String pid = Integer.toString(t.pid);
+        List<Meter> meters = new ArrayList<>(4);
+        // process.top.cpu.utilization — Gauge, unit "1"
+        meters.add(Gauge.builder(CPU_UTILIZATION, t, x -> x.utilization).tag(PID_KEY, pid).tag(NAME_KEY, t.name)
+                .description("CPU utilization of the process since the previous scan").baseUnit("1")
+                .strongReference(true).register(registry));
+        // process.top.memory.usage — Gauge, unit "By"
+        meters.add(Gauge.builder(MEMORY_USAGE, t, x -> x.residentBytes).tag(PID_KEY, pid).tag(NAME_KEY, t.name)
+                .description("The amount of physical memory in use").baseUnit("By").strongReference(true)
+                .register(registry));
+        // process.top.disk.io — Counter, unit "By", attr disk.io.direction; the tracked process, which holds the
+        // counters, is kept reachable by the binding while the meter is registered
+        if (io && t.process.getBytesRead() >= 0L) {
+            meters.add(FunctionCounter.builder(DISK_IO, t, x -> x.readTotal).tag(PID_KEY, pid).tag(NAME_KEY, t.name)
+                    .tag(DIRECTION_KEY, "read").description("Disk bytes transferred").baseUnit("By")
+                    .register(registry));
+            meters.add(FunctionCounter.builder(DISK_IO, t, x -> x.writtenTotal).tag(PID_KEY, pid).tag(NAME_KEY, t.name)
+                    .tag(DIRECTION_KEY, "write").description("Disk bytes transferred").baseUnit("By")
+                    .register(registry));
+        }
+        return meters;
+    }
+}
@@ -6,8 +6,13 @@ package oshi.metrics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,7 +45,11 @@ class DiskMetricsTest {
         private int refreshes;
 
         CountingHWDiskStore() {
-            super("disk0", "model", "serial", 1000L, "SSD");
+            this("disk0");
+        }
+
+        CountingHWDiskStore(String name) {
+            super(name, "model", "serial", 1000L, "SSD");
         }
 
         @Override
@@ -115,4 +124,68 @@ class DiskMetricsTest {
         new DiskMetrics(() -> Collections.<HWDiskStore>singletonList(disk)).bindTo(registry);
         assertEquals(1000d, limit(), "The limit gauge should report the disk's size");
     }
+
+    @Test
+    void reconcilingTracksTheDisksPresent() {
+        List<HWDiskStore> disks = new ArrayList<>();
+        disks.add(new CountingHWDiskStore("disk0"));
+        AtomicInteger token = new AtomicInteger();
+        AtomicInteger enumerations = new AtomicInteger();
+        // An hour apart, so only the explicit reconcile() calls below run
+        try (DiskMetrics metrics = new DiskMetrics(() -> {
+            enumerations.incrementAndGet();
+            return new ArrayList<>(disks);
+        }, DeviceFilter.ALL, Duration.ofHours(1), token::get)) {
+            metrics.bindTo(registry);
+            assertEquals(6, registry.getMeters().size(), "One disk should have six meters");
+            assertEquals(1, enumerations.get(), "Binding should enumerate the disks once");
+
+            // A disk appears, but the change token has not moved yet, so it is not enumerated
+            disks.add(new CountingHWDiskStore("disk1"));
+            metrics.reconcile();
+            assertEquals(1, enumerations.get(), "An unchanged token should skip the enumeration");
+            assertNull(registry.find(DISK_LIMIT).tag(DEVICE, "disk1").gauge());
+
+            token.incrementAndGet();
+            metrics.reconcile();
+            assertEquals(2, enumerations.get(), "A changed token should enumerate the disks");
+            assertNotNull(registry.find(DISK_LIMIT).tag(DEVICE, "disk1").gauge(), "A new disk should get meters");
+            assertEquals(12, registry.getMeters().size(), "Two disks should have twelve meters");
+
+            disks.remove(0);
+            token.incrementAndGet();
+            metrics.reconcile();
+            assertNull(registry.find(DISK_LIMIT).tag(DEVICE, "disk0").gauge(), "A vanished disk's meters should go");
+            assertEquals(6, registry.getMeters().size(), "One disk should be left with six meters");
+        }
+    }
+
+    @Test
+    void reconcilingEnumeratesPeriodicallyWithoutATokenChange() {
+        AtomicInteger enumerations = new AtomicInteger();
+        try (DiskMetrics metrics = new DiskMetrics(() -> {
+            enumerations.incrementAndGet();
+            return Collections.<HWDiskStore>emptyList();
+        }, DeviceFilter.ALL, Duration.ofHours(1), () -> "unchanged")) {
+            metrics.bindTo(registry);
+            for (int i = 0; i < DeviceReconciler.FULL_ENUMERATION_EVERY; i++) {
+                metrics.reconcile();
+            }
+            assertEquals(2, enumerations.get(), "A token that never changes should not hide devices for good");
+        }
+    }
+
+    @Test
+    void filterSelectsAndCapsTheDisks() {
+        List<HWDiskStore> disks = new ArrayList<>();
+        for (String name : new String[] { "sda", "sdb", "sdc", "loop0", "loop1" }) {
+            disks.add(new CountingHWDiskStore(name));
+        }
+        new DiskMetrics(() -> disks, DeviceFilter.of("sd.*|loop.*", "loop1", 3), null).bindTo(registry);
+        assertNotNull(registry.find(DISK_LIMIT).tag(DEVICE, "sda").gauge());
+        assertNotNull(registry.find(DISK_LIMIT).tag(DEVICE, "sdb").gauge());
+        assertNotNull(registry.find(DISK_LIMIT).tag(DEVICE, "sdc").gauge());
+        assertNull(registry.find(DISK_LIMIT).tag(DEVICE, "loop0").gauge(), "Disks past the cap should be left out");
+        assertNull(registry.find(DISK_LIMIT).tag(DEVICE, "loop1").gauge(), "Excluded disks should be left out");
+    }
 }
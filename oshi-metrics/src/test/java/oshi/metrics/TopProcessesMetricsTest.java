@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import oshi.util.monitor.TopProcesses;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the ranking and eviction of {@link TopProcessesMetrics} against scripted scans, which a live process list
+ * cannot provide.
+ */
+class TopProcessesMetricsTest {
+
+    private static final String CPU_UTILIZATION = "process.top.cpu.utilization";
+    private static final String MEMORY_USAGE = "process.top.memory.usage";
+    private static final String DISK_IO = "process.top.disk.io";
+    private static final String PID = "process.pid";
+
+    private MeterRegistry registry;
+
+    /** A scripted scan: each row is pid, cpu ms, rss bytes, bytes read, bytes written. */
+    private static final class FakeScan implements TopProcesses.Scan {
+        private final long timestamp;
+        private final List<long[]> rows = new ArrayList<>();
+
+        FakeScan(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        FakeScan add(int pid, long cpu, long rss, long read, long written) {
+            rows.add(new long[] { pid, cpu, rss, read, written });
+            return this;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+
+        @Override
+        public int getProcessId(int i) {
+            return (int) rows.get(i)[0];
+        }
+
+        @Override
+        public long getStartTime(int i) {
+            return 1L;
+        }
+
+        @Override
+        public long getCpuMillis(int i) {
+            return rows.get(i)[1];
+        }
+
+        @Override
+        public long getResidentBytes(int i) {
+            return rows.get(i)[2];
+        }
+
+        @Override
+        public long getBytesRead(int i) {
+            return rows.get(i)[3];
+        }
+
+        @Override
+        public long getBytesWritten(int i) {
+            return rows.get(i)[4];
+        }
+
+        @Override
+        public int getThreadCount(int i) {
+            return 1;
+        }
+
+        @Override
+        public String getName(int i) {
+            return "proc" + rows.get(i)[0];
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private Gauge gauge(String name, int pid) {
+        return registry.find(name).tag(PID, Integer.toString(pid)).gauge();
+    }
+
+    @Test
+    void keepsTheTopProcessesAndEvictsTheRest() {
+        AtomicReference<FakeScan> next = new AtomicReference<>(new FakeScan(1000L).add(1, 0L, 100L, 0L, 0L)
+                .add(2, 0L, 900L, 0L, 0L).add(3, 0L, 500L, 0L, 0L).add(4, 0L, 10L, 0L, 0L));
+        // An hour apart, so only the explicit scan() calls below run
+        try (TopProcessesMetrics metrics = new TopProcessesMetrics(next::get, 2, 1, Duration.ofHours(1), true)) {
+            metrics.bindTo(registry);
+            // No CPU or I/O deltas yet, so only the largest process by memory is kept
+            assertNotNull(gauge(MEMORY_USAGE, 2));
+            assertEquals(900d, gauge(MEMORY_USAGE, 2).value());
+            assertNull(gauge(MEMORY_USAGE, 1));
+            assertEquals(2, registry.getMeters().size() - registry.find(DISK_IO).meters().size());
+
+            // Process 4 burns a second of CPU in one second on two processors; process 1 writes a lot
+            next.set(new FakeScan(2000L).add(1, 0L, 100L, 0L, 5000L).add(2, 10L, 900L, 0L, 0L).add(3, 0L, 500L, 0L, 0L)
+                    .add(4, 1000L, 10L, 0L, 0L));
+            metrics.scan();
+            assertEquals(0.5, gauge(CPU_UTILIZATION, 4).value(), 1e-9);
+            assertNotNull(gauge(MEMORY_USAGE, 2), "Still the largest by memory");
+            assertNotNull(gauge(MEMORY_USAGE, 1), "The largest by I/O");
+            assertNull(gauge(MEMORY_USAGE, 3), "In no top set");
+            assertEquals(5000d,
+                    registry.find(DISK_IO).tag(PID, "1").tag("disk.io.direction", "write").functionCounter().count());
+
+            // Process 2 exits and process 4 goes idle: their meters go
+            next.set(new FakeScan(3000L).add(1, 0L, 100L, 0L, 5000L).add(3, 0L, 500L, 0L, 0L).add(4, 1000L, 10L, 0L,
+                    0L));
+            metrics.scan();
+            assertNull(gauge(MEMORY_USAGE, 2), "An exited process's meters should be removed");
+            assertNull(gauge(MEMORY_USAGE, 4), "A process out of every top set should lose its meters");
+            assertNotNull(gauge(MEMORY_USAGE, 3), "Now the largest by memory");
+            assertNull(gauge(MEMORY_USAGE, 1), "No longer doing I/O");
+            assertEquals(1, registry.find(MEMORY_USAGE).meters().size());
+        }
+    }
+
+    @Test
+    void limitMustBePositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TopProcessesMetrics(() -> new FakeScan(1L), 1, 0, Duration.ofHours(1), true));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.CentralProcessor.TickType;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * CPU instruments: time by mode, physical and logical counts, and per-processor frequency.
+ */
+final class CpuInstruments extends Instruments {
+
+    private static final AttributeKey<String> CPU_MODE_KEY = AttributeKey.stringKey("cpu.mode");
+    private static final AttributeKey<String> CPU_LOGICAL_NUMBER_KEY = AttributeKey.stringKey("cpu.logical_number");
+    private static final double MS_PER_SECOND = 1000.0;
+
+    private static final Map<TickType, String> TICK_TO_MODE = new EnumMap<>(TickType.class);
+
+    static {
+        TICK_TO_MODE.put(TickType.USER, "user");
+        TICK_TO_MODE.put(TickType.NICE, "nice");
+        TICK_TO_MODE.put(TickType.SYSTEM, "system");
+        TICK_TO_MODE.put(TickType.IDLE, "idle");
+        TICK_TO_MODE.put(TickType.IOWAIT, "iowait");
+        TICK_TO_MODE.put(TickType.IRQ, "interrupt");
+        TICK_TO_MODE.put(TickType.SOFTIRQ, "softirq");
+        TICK_TO_MODE.put(TickType.STEAL, "steal");
+    }
+
+    private final CentralProcessor processor;
+    private final ObservableDoubleMeasurement time;
+    private final ObservableLongMeasurement physicalCount;
+    private final ObservableLongMeasurement logicalCount;
+    private final ObservableDoubleMeasurement frequency;
+    // Built once, so a collection allocates no attributes
+    private final Attributes[] modes = new Attributes[TickType.values().length];
+    private final Attributes[] logicalNumbers;
+
+    CpuInstruments(Meter meter, CentralProcessor processor) {
+        this.processor = processor;
+        for (TickType type : TickType.values()) {
+            String mode = TICK_TO_MODE.getOrDefault(type, type.name().toLowerCase(Locale.ROOT));
+            modes[type.getIndex()] = Attributes.of(CPU_MODE_KEY, mode);
+        }
+        this.logicalNumbers = new Attributes[processor.getLogicalProcessorCount()];
+        for (int i = 0; i < logicalNumbers.length; i++) {
+            logicalNumbers[i] = Attributes.of(CPU_LOGICAL_NUMBER_KEY, String.valueOf(i));
+        }
+        // system.cpu.time — Counter, unit "s", attr cpu.mode
+        this.time = add(meter.counterBuilder("system.cpu.time").setDescription("Seconds spent in each CPU mode")
+                .setUnit("s").ofDoubles().buildObserver());
+        // system.cpu.physical.count — UpDownCounter, unit "{cpu}"
+        this.physicalCount = add(meter.upDownCounterBuilder("system.cpu.physical.count")
+                .setDescription("Reports the number of actual physical processor cores on the hardware")
+                .setUnit("{cpu}").buildObserver());
+        // system.cpu.logical.count — UpDownCounter, unit "{cpu}"
+        this.logicalCount = add(meter.upDownCounterBuilder("system.cpu.logical.count").setDescription(
+                "Reports the number of logical (virtual) processor cores created by the operating system to manage multitasking")
+                .setUnit("{cpu}").buildObserver());
+        // system.cpu.frequency — Gauge, unit "Hz", attr cpu.logical_number
+        this.frequency = add(meter.gaugeBuilder("system.cpu.frequency")
+                .setDescription("Operating frequency of the logical CPU in Hertz").setUnit("Hz").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        long[] ticks = processor.getSystemCpuLoadTicks();
+        for (int i = 0; i < ticks.length && i < modes.length; i++) {
+            time.record(ticks[i] / MS_PER_SECOND, modes[i]);
+        }
+        physicalCount.record(processor.getPhysicalProcessorCount());
+        logicalCount.record(processor.getLogicalProcessorCount());
+        long[] freqs = processor.getCurrentFreq();
+        for (int i = 0; i < logicalNumbers.length; i++) {
+            long freq = i < freqs.length ? freqs[i] : 0L;
+            frequency.record(freq > 0 ? (double) freq : 0d, logicalNumbers[i]);
+        }
+    }
+}
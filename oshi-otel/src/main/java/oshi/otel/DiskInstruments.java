@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import oshi.hardware.HWDiskStore;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Disk instruments: bytes and operations by direction, busy time and capacity, per disk.
+ *
+ * <p>
+ * The disks are enumerated once, when the instruments are created, and each is refreshed once per collection.
+ */
+final class DiskInstruments extends Instruments {
+
+    private static final AttributeKey<String> DEVICE_KEY = AttributeKey.stringKey("system.device");
+    private static final AttributeKey<String> DIRECTION_KEY = AttributeKey.stringKey("disk.io.direction");
+    private static final double MS_PER_SECOND = 1000.0;
+
+    private static final class Disk {
+        private final HWDiskStore store;
+        private final Attributes device;
+        private final Attributes read;
+        private final Attributes write;
+
+        Disk(HWDiskStore store) {
+            this.store = store;
+            this.device = Attributes.of(DEVICE_KEY, store.getName());
+            this.read = Attributes.of(DEVICE_KEY, store.getName(), DIRECTION_KEY, "read");
+            this.write = Attributes.of(DEVICE_KEY, store.getName(), DIRECTION_KEY, "write");
+        }
+    }
+
+    private final List<Disk> disks = new ArrayList<>();
+    private final ObservableLongMeasurement io;
+    private final ObservableLongMeasurement operations;
+    private final ObservableDoubleMeasurement ioTime;
+    private final ObservableLongMeasurement limit;
+
+    DiskInstruments(Meter meter, Supplier<List<HWDiskStore>> diskStoreSupplier) {
+        for (HWDiskStore store : diskStoreSupplier.get()) {
+            disks.add(new Disk(store));
+        }
+        // system.disk.io — Counter, unit "By", attrs: disk.io.direction, system.device
+        this.io = add(meter.counterBuilder("system.disk.io").setDescription("Disk bytes transferred").setUnit("By")
+                .buildObserver());
+        // system.disk.operations — Counter, unit "{operation}", attrs: disk.io.direction, system.device
+        this.operations = add(meter.counterBuilder("system.disk.operations").setDescription("Disk operations count")
+                .setUnit("{operation}").buildObserver());
+        // system.disk.io_time — Counter, unit "s", attr: system.device
+        this.ioTime = add(meter.counterBuilder("system.disk.io_time").setDescription("Time disk spent activated")
+                .setUnit("s").ofDoubles().buildObserver());
+        // system.disk.limit — UpDownCounter, unit "By", attr: system.device
+        this.limit = add(meter.upDownCounterBuilder("system.disk.limit")
+                .setDescription("The total storage capacity of the disk").setUnit("By").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        for (Disk disk : disks) {
+            HWDiskStore store = disk.store;
+            store.updateAttributes();
+            io.record(store.getReadBytes(), disk.read);
+            io.record(store.getWriteBytes(), disk.write);
+            operations.record(store.getReads(), disk.read);
+            operations.record(store.getWrites(), disk.write);
+            ioTime.record(store.getTransferTime() / MS_PER_SECOND, disk.device);
+            limit.record(store.getSize(), disk.device);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import oshi.software.os.OSFileStore;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Filesystem instruments: usage and utilization by state, and capacity, per file store.
+ *
+ * <p>
+ * The file stores are enumerated once, when the instruments are created, and each is refreshed once per collection.
+ */
+final class FileSystemInstruments extends Instruments {
+
+    private static final AttributeKey<String> DEVICE_KEY = AttributeKey.stringKey("system.device");
+    private static final AttributeKey<String> MOUNTPOINT_KEY = AttributeKey.stringKey("system.filesystem.mountpoint");
+    private static final AttributeKey<String> TYPE_KEY = AttributeKey.stringKey("system.filesystem.type");
+    private static final AttributeKey<String> MODE_KEY = AttributeKey.stringKey("system.filesystem.mode");
+    private static final AttributeKey<String> STATE_KEY = AttributeKey.stringKey("system.filesystem.state");
+
+    private static final class FileStore {
+        private final OSFileStore fs;
+        private final Attributes attributes;
+        private final Attributes used;
+        private final Attributes free;
+        private final Attributes reserved;
+
+        FileStore(OSFileStore fs) {
+            this.fs = fs;
+            String mode = Arrays.asList(fs.getOptions().split(",")).contains("rw") ? "rw" : "ro";
+            this.attributes = Attributes.of(DEVICE_KEY, fs.getVolume(), MOUNTPOINT_KEY, fs.getMount(), TYPE_KEY,
+                    fs.getType(), MODE_KEY, mode);
+            this.used = attributes.toBuilder().put(STATE_KEY, "used").build();
+            this.free = attributes.toBuilder().put(STATE_KEY, "free").build();
+            this.reserved = attributes.toBuilder().put(STATE_KEY, "reserved").build();
+        }
+    }
+
+    private final List<FileStore> fileStores = new ArrayList<>();
+    private final ObservableLongMeasurement usage;
+    private final ObservableDoubleMeasurement utilization;
+    private final ObservableLongMeasurement limit;
+
+    FileSystemInstruments(Meter meter, Supplier<List<OSFileStore>> fileStoreSupplier) {
+        for (OSFileStore fs : fileStoreSupplier.get()) {
+            fileStores.add(new FileStore(fs));
+        }
+        // system.filesystem.usage — UpDownCounter, unit "By", attr: state, device, mount, type, mode
+        this.usage = add(meter.upDownCounterBuilder("system.filesystem.usage").setDescription("Filesystem space usage")
+                .setUnit("By").buildObserver());
+        // system.filesystem.utilization — Gauge, unit "1", attr: state, device, mount, type, mode
+        this.utilization = add(meter.gaugeBuilder("system.filesystem.utilization")
+                .setDescription("Filesystem utilization").setUnit("1").buildObserver());
+        // system.filesystem.limit — UpDownCounter, unit "By", attr: device, mount, type, mode
+        this.limit = add(meter.upDownCounterBuilder("system.filesystem.limit")
+                .setDescription("Total capacity of the filesystem").setUnit("By").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        for (FileStore store : fileStores) {
+            OSFileStore fs = store.fs;
+            fs.updateAttributes();
+            // OSFileStore guarantees usable <= free <= total, so the three states partition the total
+            long total = fs.getTotalSpace();
+            long free = fs.getFreeSpace();
+            long usable = fs.getUsableSpace();
+            usage.record(total - free, store.used);
+            usage.record(usable, store.free);
+            usage.record(free - usable, store.reserved);
+            utilization.record(fraction(total - free, total), store.used);
+            utilization.record(fraction(usable, total), store.free);
+            utilization.record(fraction(free - usable, total), store.reserved);
+            limit.record(total, store.attributes);
+        }
+    }
+}
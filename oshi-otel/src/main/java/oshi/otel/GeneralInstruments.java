@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import oshi.software.os.OperatingSystem;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * General system instruments: uptime and process count.
+ */
+final class GeneralInstruments extends Instruments {
+
+    private final OperatingSystem os;
+    private final ObservableDoubleMeasurement uptime;
+    private final ObservableLongMeasurement processCount;
+
+    GeneralInstruments(Meter meter, OperatingSystem os) {
+        this.os = os;
+        // system.uptime — Gauge, unit "s"
+        this.uptime = add(meter.gaugeBuilder("system.uptime").setDescription("The time the system has been running")
+                .setUnit("s").buildObserver());
+        // system.process.count — UpDownCounter, unit "{process}"
+        this.processCount = add(meter.upDownCounterBuilder("system.process.count")
+                .setDescription("Total number of processes on the system").setUnit("{process}").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        uptime.record(os.getSystemUptime());
+        processCount.record(os.getProcessCount());
+    }
+}
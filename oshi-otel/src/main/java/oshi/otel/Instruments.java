@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.opentelemetry.api.metrics.ObservableMeasurement;
+
+/**
+ * The observable instruments of one category of metrics, all recorded from one reading of their source.
+ *
+ * <p>
+ * Subclasses create their instruments when constructed, registering each with {@link #add(ObservableMeasurement)}, and
+ * record them in {@link #observe()}, which {@link OshiTelemetry} calls once per collection from its batch callback.
+ */
+abstract class Instruments {
+
+    private final List<ObservableMeasurement> measurements = new ArrayList<>();
+
+    /**
+     * Adds an instrument to those observed by the batch callback.
+     *
+     * @param <T>         the measurement type
+     * @param measurement the instrument
+     * @return the instrument
+     */
+    protected <T extends ObservableMeasurement> T add(T measurement) {
+        measurements.add(measurement);
+        return measurement;
+    }
+
+    /**
+     * Gets the instruments this category records.
+     *
+     * @return the instruments
+     */
+    List<ObservableMeasurement> getMeasurements() {
+        return Collections.unmodifiableList(measurements);
+    }
+
+    /**
+     * Divides, reporting 0 for an empty whole, as the Micrometer binders in {@code oshi-metrics} do.
+     *
+     * @param value the part
+     * @param total the whole
+     * @return the fraction
+     */
+    static double fraction(long value, long total) {
+        return total == 0 ? 0d : (double) value / total;
+    }
+
+    /**
+     * Reads the source once and records every instrument from that reading.
+     */
+    abstract void observe();
+}
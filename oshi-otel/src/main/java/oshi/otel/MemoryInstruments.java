@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import oshi.hardware.GlobalMemory;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Physical memory instruments: usage, limit and utilization.
+ */
+final class MemoryInstruments extends Instruments {
+
+    private static final AttributeKey<String> STATE_KEY = AttributeKey.stringKey("system.memory.state");
+    private static final Attributes STATE_USED = Attributes.of(STATE_KEY, "used");
+    private static final Attributes STATE_FREE = Attributes.of(STATE_KEY, "free");
+
+    private final GlobalMemory memory;
+    private final ObservableLongMeasurement usage;
+    private final ObservableLongMeasurement limit;
+    private final ObservableDoubleMeasurement utilization;
+
+    MemoryInstruments(Meter meter, GlobalMemory memory) {
+        this.memory = memory;
+        // system.memory.usage — UpDownCounter, unit "By", attr system.memory.state
+        this.usage = add(meter.upDownCounterBuilder("system.memory.usage")
+                .setDescription("Reports memory in use by state").setUnit("By").buildObserver());
+        // system.memory.limit — UpDownCounter, unit "By"
+        this.limit = add(meter.upDownCounterBuilder("system.memory.limit")
+                .setDescription("Total memory available in the system").setUnit("By").buildObserver());
+        // system.memory.utilization — Gauge, unit "1", attr system.memory.state
+        this.utilization = add(meter.gaugeBuilder("system.memory.utilization")
+                .setDescription("Fraction of memory in each state").setUnit("1").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        // Total is fixed, but available is read once, so used and free always sum to the limit
+        long total = memory.getTotal();
+        long available = memory.getAvailable();
+        usage.record(total - available, STATE_USED);
+        usage.record(available, STATE_FREE);
+        limit.record(total);
+        utilization.record(fraction(total - available, total), STATE_USED);
+        utilization.record(fraction(available, total), STATE_FREE);
+    }
+}
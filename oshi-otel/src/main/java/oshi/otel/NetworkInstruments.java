@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import oshi.hardware.NetworkIF;
+import oshi.software.os.InternetProtocolStats;
+import oshi.software.os.InternetProtocolStats.ConnectionStateCounts;
+import oshi.software.os.InternetProtocolStats.TcpState;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Network instruments: bytes, packets, drops and errors by direction, per interface, and connection counts by state.
+ *
+ * <p>
+ * The interfaces are enumerated once, when the instruments are created, and each is refreshed once per collection.
+ */
+final class NetworkInstruments extends Instruments {
+
+    private static final AttributeKey<String> DEVICE_KEY = AttributeKey.stringKey("system.device");
+    private static final AttributeKey<String> DIRECTION_KEY = AttributeKey.stringKey("network.io.direction");
+    private static final AttributeKey<String> TRANSPORT_KEY = AttributeKey.stringKey("network.transport");
+    private static final AttributeKey<String> STATE_KEY = AttributeKey.stringKey("network.connection.state");
+    private static final Attributes TRANSPORT_UDP = Attributes.of(TRANSPORT_KEY, "udp");
+
+    private static final class Interface {
+        private final NetworkIF net;
+        private final Attributes receive;
+        private final Attributes transmit;
+
+        Interface(NetworkIF net) {
+            this.net = net;
+            this.receive = Attributes.of(DEVICE_KEY, net.getName(), DIRECTION_KEY, "receive");
+            this.transmit = Attributes.of(DEVICE_KEY, net.getName(), DIRECTION_KEY, "transmit");
+        }
+    }
+
+    private final List<Interface> interfaces = new ArrayList<>();
+    private final InternetProtocolStats ipStats;
+    private final Map<TcpState, Attributes> tcpStates = new EnumMap<>(TcpState.class);
+    private final ObservableLongMeasurement io;
+    private final ObservableLongMeasurement packets;
+    private final ObservableLongMeasurement dropped;
+    private final ObservableLongMeasurement errors;
+    private final ObservableLongMeasurement connections;
+
+    NetworkInstruments(Meter meter, Supplier<List<NetworkIF>> networkIFSupplier, InternetProtocolStats ipStats) {
+        for (NetworkIF net : networkIFSupplier.get()) {
+            interfaces.add(new Interface(net));
+        }
+        this.ipStats = ipStats;
+        for (TcpState state : TcpState.values()) {
+            if (state != TcpState.NONE) {
+                tcpStates.put(state,
+                        Attributes.of(TRANSPORT_KEY, "tcp", STATE_KEY, state.name().toLowerCase(Locale.ROOT)));
+            }
+        }
+        // system.network.io — Counter, unit "By", attrs: network.io.direction, system.device
+        this.io = add(meter.counterBuilder("system.network.io").setDescription("Network bytes transferred")
+                .setUnit("By").buildObserver());
+        // system.network.packet.count — Counter, unit "{packet}", attrs: network.io.direction, system.device
+        this.packets = add(meter.counterBuilder("system.network.packet.count")
+                .setDescription("Network packets transferred").setUnit("{packet}").buildObserver());
+        // system.network.packet.dropped — Counter, unit "{packet}", attrs: network.io.direction, system.device
+        this.dropped = add(meter.counterBuilder("system.network.packet.dropped")
+                .setDescription("Count of packets dropped").setUnit("{packet}").buildObserver());
+        // system.network.errors — Counter, unit "{error}", attrs: network.io.direction, system.device
+        this.errors = add(meter.counterBuilder("system.network.errors").setDescription("Network errors")
+                .setUnit("{error}").buildObserver());
+        // system.network.connection.count — UpDownCounter, unit "{connection}",
+        // attrs: network.transport, network.connection.state
+        this.connections = add(meter.upDownCounterBuilder("system.network.connection.count")
+                .setDescription("Total number of connections in each state").setUnit("{connection}").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        for (Interface nif : interfaces) {
+            NetworkIF net = nif.net;
+            net.updateAttributes();
+            io.record(net.getBytesRecv(), nif.receive);
+            io.record(net.getBytesSent(), nif.transmit);
+            packets.record(net.getPacketsRecv(), nif.receive);
+            packets.record(net.getPacketsSent(), nif.transmit);
+            dropped.record(net.getInDrops(), nif.receive);
+            errors.record(net.getInErrors(), nif.receive);
+            errors.record(net.getOutErrors(), nif.transmit);
+        }
+        ConnectionStateCounts counts = ipStats.getConnectionStateCounts();
+        Map<TcpState, Long> tcp = counts.getTcpCounts();
+        for (Map.Entry<TcpState, Attributes> e : tcpStates.entrySet()) {
+            connections.record(tcp.getOrDefault(e.getKey(), 0L), e.getValue());
+        }
+        connections.record(counts.getUdpCount(), TRANSPORT_UDP);
+    }
+}
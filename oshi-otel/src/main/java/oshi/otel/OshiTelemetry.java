@@ -0,0 +1,354 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.software.os.OperatingSystem;
+import oshi.spi.SystemInfoProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableMeasurement;
+
+/**
+ * Entry point for OSHI system metrics on the OpenTelemetry metrics API. Registers the {@code system.*} and
+ * {@code process.*} instruments that {@code oshi-metrics} registers with Micrometer, under the same names, units and
+ * attributes.
+ *
+ * <p>
+ * Rather than one callback per instrument, every instrument is observed from a single {@linkplain Meter#batchCallback
+ * batch callback}. Each collection reads each source once — the CPU ticks, the memory counters, each disk, interface
+ * and file store, and one snapshot of the current process — and records every instrument of that source from the one
+ * reading, so values which are compared, such as the states of a filesystem or the bytes and operations of a disk, are
+ * always consistent.
+ *
+ * <p>
+ * Usage (all metrics):
+ *
+ * <pre>{@code
+ * OshiTelemetry.register(openTelemetry, SystemInfoFactory.create());
+ * }</pre>
+ *
+ * <p>
+ * Usage (selective):
+ *
+ * <pre>{@code
+ * OshiTelemetry telemetry = OshiTelemetry.builder(SystemInfoFactory.create()).enableDisk(false).build();
+ * telemetry.register(openTelemetry);
+ * // ...
+ * telemetry.close();
+ * }</pre>
+ *
+ * <p>
+ * Disks, network interfaces and file stores are enumerated when registered; devices which appear later are not observed
+ * until the instruments are registered again.
+ */
+public final class OshiTelemetry implements AutoCloseable {
+
+    /** The instrumentation scope name under which the instruments are registered. */
+    public static final String INSTRUMENTATION_SCOPE = "com.github.oshi";
+
+    private static final Logger LOG = LoggerFactory.getLogger(OshiTelemetry.class);
+
+    private final HardwareAbstractionLayer hal;
+    private final OperatingSystem os;
+    private final boolean general;
+    private final boolean cpu;
+    private final boolean memory;
+    private final boolean paging;
+    private final boolean disk;
+    private final boolean fileSystem;
+    private final boolean network;
+    private final boolean process;
+    private final List<BatchCallback> callbacks = new CopyOnWriteArrayList<>();
+
+    private OshiTelemetry(Builder builder) {
+        this.hal = builder.hal;
+        this.os = builder.os;
+        this.general = builder.general;
+        this.cpu = builder.cpu;
+        this.memory = builder.memory;
+        this.paging = builder.paging;
+        this.disk = builder.disk;
+        this.fileSystem = builder.fileSystem;
+        this.network = builder.network;
+        this.process = builder.process;
+    }
+
+    /**
+     * Creates a new {@code OshiTelemetry} instance that registers all metrics.
+     *
+     * @param si the system info provider
+     */
+    public OshiTelemetry(SystemInfoProvider si) {
+        this(builder(si));
+    }
+
+    /**
+     * Creates a new {@code OshiTelemetry} instance that registers all metrics.
+     *
+     * @param hal the hardware abstraction layer
+     * @param os  the operating system
+     */
+    public OshiTelemetry(HardwareAbstractionLayer hal, OperatingSystem os) {
+        this(builder(hal, os));
+    }
+
+    /**
+     * Convenience method to create and register all OSHI metrics in one call.
+     *
+     * @param openTelemetry the OpenTelemetry instance whose meter provider to register with
+     * @param si            the system info provider
+     * @return the registered instance, to close when the metrics are no longer wanted
+     */
+    public static OshiTelemetry register(OpenTelemetry openTelemetry, SystemInfoProvider si) {
+        OshiTelemetry telemetry = new OshiTelemetry(si);
+        telemetry.register(openTelemetry);
+        return telemetry;
+    }
+
+    /**
+     * Registers the instruments with the meter provider of an OpenTelemetry instance, under the
+     * {@value #INSTRUMENTATION_SCOPE} scope.
+     *
+     * @param openTelemetry the OpenTelemetry instance
+     */
+    public void register(OpenTelemetry openTelemetry) {
+        Objects.requireNonNull(openTelemetry, "openTelemetry must not be null");
+        register(openTelemetry.getMeter(INSTRUMENTATION_SCOPE));
+    }
+
+    /**
+     * Registers the instruments with a meter, and one batch callback which observes them all.
+     *
+     * @param meter the meter
+     */
+    public void register(Meter meter) {
+        Objects.requireNonNull(meter, "meter must not be null");
+        List<Instruments> categories = new ArrayList<>();
+        if (general) {
+            categories.add(new GeneralInstruments(meter, os));
+        }
+        if (memory) {
+            categories.add(new MemoryInstruments(meter, hal.getMemory()));
+        }
+        if (paging) {
+            categories.add(new PagingInstruments(meter, hal.getMemory().getVirtualMemory()));
+        }
+        if (cpu) {
+            categories.add(new CpuInstruments(meter, hal.getProcessor()));
+        }
+        if (disk) {
+            categories.add(new DiskInstruments(meter, hal::getDiskStores));
+        }
+        if (fileSystem) {
+            categories.add(new FileSystemInstruments(meter, os.getFileSystem()::getFileStores));
+        }
+        if (network) {
+            categories.add(new NetworkInstruments(meter, hal::getNetworkIFs, os.getInternetProtocolStats()));
+        }
+        if (process) {
+            categories.add(new ProcessInstruments(meter, os::getCurrentProcessSnapshot));
+        }
+        BatchCallback callback = batchCallback(meter, categories);
+        if (callback != null) {
+            callbacks.add(callback);
+        }
+    }
+
+    /**
+     * Registers one batch callback observing every instrument of the categories.
+     *
+     * @param meter      the meter the instruments were created with
+     * @param categories the categories
+     * @return the callback, or {@code null} if there are no instruments
+     */
+    static BatchCallback batchCallback(Meter meter, List<Instruments> categories) {
+        List<ObservableMeasurement> measurements = new ArrayList<>();
+        for (Instruments category : categories) {
+            measurements.addAll(category.getMeasurements());
+        }
+        if (measurements.isEmpty()) {
+            return null;
+        }
+        // Each category is observed separately, so that one failing source does not cost the others their values
+        Runnable observe = () -> {
+            for (Instruments category : categories) {
+                try {
+                    category.observe();
+                } catch (RuntimeException e) {
+                    LOG.warn("Failed to observe {}: {}", category.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        };
+        return meter.batchCallback(observe, measurements.get(0),
+                measurements.subList(1, measurements.size()).toArray(new ObservableMeasurement[0]));
+    }
+
+    /**
+     * Removes the batch callbacks of every meter this instance was registered with, so their instruments are no longer
+     * observed.
+     */
+    @Override
+    public void close() {
+        for (BatchCallback callback : callbacks) {
+            callback.close();
+        }
+        callbacks.clear();
+    }
+
+    /**
+     * Creates a new builder for selective metric registration.
+     *
+     * @param si the system info provider
+     * @return a new {@link Builder}
+     */
+    public static Builder builder(SystemInfoProvider si) {
+        Objects.requireNonNull(si, "si must not be null");
+        return builder(si.getHardware(), si.getOperatingSystem());
+    }
+
+    /**
+     * Creates a new builder for selective metric registration.
+     *
+     * @param hal the hardware abstraction layer
+     * @param os  the operating system
+     * @return a new {@link Builder}
+     */
+    public static Builder builder(HardwareAbstractionLayer hal, OperatingSystem os) {
+        return new Builder(hal, os);
+    }
+
+    /**
+     * Builder for selective metric registration.
+     *
+     * <p>
+     * By default all metric categories are enabled. Use the {@code enable*} methods to disable specific categories.
+     */
+    public static final class Builder {
+
+        private final HardwareAbstractionLayer hal;
+        private final OperatingSystem os;
+        private boolean general = true;
+        private boolean cpu = true;
+        private boolean memory = true;
+        private boolean paging = true;
+        private boolean disk = true;
+        private boolean fileSystem = true;
+        private boolean network = true;
+        private boolean process = true;
+
+        private Builder(HardwareAbstractionLayer hal, OperatingSystem os) {
+            this.hal = Objects.requireNonNull(hal, "hal must not be null");
+            this.os = Objects.requireNonNull(os, "os must not be null");
+        }
+
+        /**
+         * Enable or disable general metrics (uptime, process count).
+         *
+         * @param enabled whether to register general metrics
+         * @return this builder
+         */
+        public Builder enableGeneral(boolean enabled) {
+            this.general = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable CPU metrics (time, frequency, counts).
+         *
+         * @param enabled whether to register CPU metrics
+         * @return this builder
+         */
+        public Builder enableCpu(boolean enabled) {
+            this.cpu = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable memory metrics (usage, limit, utilization).
+         *
+         * @param enabled whether to register memory metrics
+         * @return this builder
+         */
+        public Builder enableMemory(boolean enabled) {
+            this.memory = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable paging/swap metrics (usage, utilization, operations).
+         *
+         * @param enabled whether to register paging metrics
+         * @return this builder
+         */
+        public Builder enablePaging(boolean enabled) {
+            this.paging = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable disk metrics (io, operations, io_time, limit).
+         *
+         * @param enabled whether to register disk metrics
+         * @return this builder
+         */
+        public Builder enableDisk(boolean enabled) {
+            this.disk = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable filesystem metrics (usage, utilization, limit).
+         *
+         * @param enabled whether to register filesystem metrics
+         * @return this builder
+         */
+        public Builder enableFileSystem(boolean enabled) {
+            this.fileSystem = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable network metrics (io, packets, errors, connections).
+         *
+         * @param enabled whether to register network metrics
+         * @return this builder
+         */
+        public Builder enableNetwork(boolean enabled) {
+            this.network = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable current process metrics (cpu, memory, disk, threads, faults, uptime).
+         *
+         * @param enabled whether to register process metrics
+         * @return this builder
+         */
+        public Builder enableProcess(boolean enabled) {
+            this.process = enabled;
+            return this;
+        }
+
+        /**
+         * Builds the {@link OshiTelemetry} instance with the configured settings.
+         *
+         * @return a new {@link OshiTelemetry}
+         */
+        public OshiTelemetry build() {
+            return new OshiTelemetry(this);
+        }
+    }
+}
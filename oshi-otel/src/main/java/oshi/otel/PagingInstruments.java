@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import oshi.hardware.VirtualMemory;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Paging (swap) instruments: usage, utilization and operations.
+ */
+final class PagingInstruments extends Instruments {
+
+    private static final AttributeKey<String> STATE_KEY = AttributeKey.stringKey("system.paging.state");
+    private static final AttributeKey<String> DIRECTION_KEY = AttributeKey.stringKey("system.paging.direction");
+    private static final Attributes STATE_USED = Attributes.of(STATE_KEY, "used");
+    private static final Attributes STATE_FREE = Attributes.of(STATE_KEY, "free");
+    private static final Attributes DIRECTION_IN = Attributes.of(DIRECTION_KEY, "in");
+    private static final Attributes DIRECTION_OUT = Attributes.of(DIRECTION_KEY, "out");
+
+    private final VirtualMemory vm;
+    private final ObservableLongMeasurement usage;
+    private final ObservableDoubleMeasurement utilization;
+    private final ObservableLongMeasurement operations;
+
+    PagingInstruments(Meter meter, VirtualMemory vm) {
+        this.vm = vm;
+        // system.paging.usage — UpDownCounter, unit "By", attr system.paging.state
+        this.usage = add(meter.upDownCounterBuilder("system.paging.usage")
+                .setDescription("Unix swap or Windows pagefile usage").setUnit("By").buildObserver());
+        // system.paging.utilization — Gauge, unit "1", attr system.paging.state
+        this.utilization = add(meter.gaugeBuilder("system.paging.utilization")
+                .setDescription("Fraction of swap/pagefile in each state").setUnit("1").buildObserver());
+        // system.paging.operations — Counter, unit "{operation}", attr system.paging.direction
+        this.operations = add(meter.counterBuilder("system.paging.operations").setDescription("Paging operations")
+                .setUnit("{operation}").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        long total = vm.getSwapTotal();
+        long used = vm.getSwapUsed();
+        usage.record(used, STATE_USED);
+        usage.record(total - used, STATE_FREE);
+        utilization.record(fraction(used, total), STATE_USED);
+        utilization.record(fraction(total - used, total), STATE_FREE);
+        operations.record(vm.getSwapPagesIn(), DIRECTION_IN);
+        operations.record(vm.getSwapPagesOut(), DIRECTION_OUT);
+    }
+}
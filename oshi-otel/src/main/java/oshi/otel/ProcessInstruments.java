@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import java.util.function.Supplier;
+
+import oshi.software.os.OSProcess;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Current process instruments: CPU time, memory, disk I/O, threads, file descriptors, page faults, context switches and
+ * uptime, all read from one process snapshot per collection.
+ */
+final class ProcessInstruments extends Instruments {
+
+    private static final double MS_PER_SECOND = 1000.0;
+    private static final AttributeKey<String> CPU_MODE_KEY = AttributeKey.stringKey("cpu.mode");
+    private static final AttributeKey<String> DIRECTION_KEY = AttributeKey.stringKey("disk.io.direction");
+    private static final AttributeKey<String> FAULT_TYPE_KEY = AttributeKey.stringKey("system.paging.fault.type");
+    private static final AttributeKey<String> SWITCH_TYPE_KEY = AttributeKey.stringKey("process.context_switch.type");
+    private static final Attributes MODE_USER = Attributes.of(CPU_MODE_KEY, "user");
+    private static final Attributes MODE_SYSTEM = Attributes.of(CPU_MODE_KEY, "system");
+    private static final Attributes DIRECTION_READ = Attributes.of(DIRECTION_KEY, "read");
+    private static final Attributes DIRECTION_WRITE = Attributes.of(DIRECTION_KEY, "write");
+    private static final Attributes FAULT_MINOR = Attributes.of(FAULT_TYPE_KEY, "minor");
+    private static final Attributes FAULT_MAJOR = Attributes.of(FAULT_TYPE_KEY, "major");
+    private static final Attributes SWITCH_VOLUNTARY = Attributes.of(SWITCH_TYPE_KEY, "voluntary");
+    private static final Attributes SWITCH_INVOLUNTARY = Attributes.of(SWITCH_TYPE_KEY, "involuntary");
+    private static final Attributes SWITCH_TOTAL = Attributes.of(SWITCH_TYPE_KEY, "total");
+
+    private final Supplier<OSProcess> processSupplier;
+    private final boolean contextSwitchSplit;
+    private final ObservableDoubleMeasurement cpuTime;
+    private final ObservableLongMeasurement memoryUsage;
+    private final ObservableLongMeasurement memoryVirtual;
+    private final ObservableLongMeasurement diskIo;
+    private final ObservableLongMeasurement threadCount;
+    private final ObservableLongMeasurement openFileDescriptors;
+    private final ObservableLongMeasurement pagingFaults;
+    private final ObservableLongMeasurement contextSwitches;
+    private final ObservableDoubleMeasurement uptime;
+
+    /**
+     * Creates the instruments.
+     *
+     * @param meter           the meter
+     * @param processSupplier returns a fresh snapshot of the process, such as {@code os::getCurrentProcessSnapshot};
+     *                        called once per collection
+     */
+    ProcessInstruments(Meter meter, Supplier<OSProcess> processSupplier) {
+        this.processSupplier = processSupplier;
+        // Only report voluntary/involuntary if the platform provides the split; otherwise report the total only
+        OSProcess probe = processSupplier.get();
+        long total = probe.getContextSwitches();
+        this.contextSwitchSplit = total > 0
+                && probe.getVoluntaryContextSwitches() + probe.getInvoluntaryContextSwitches() == total;
+
+        // process.cpu.time — Counter, unit "s", attr cpu.mode
+        this.cpuTime = add(meter.counterBuilder("process.cpu.time")
+                .setDescription("Total CPU seconds broken down by different CPU modes").setUnit("s").ofDoubles()
+                .buildObserver());
+        // process.memory.usage — UpDownCounter, unit "By"
+        this.memoryUsage = add(meter.upDownCounterBuilder("process.memory.usage")
+                .setDescription("The amount of physical memory in use").setUnit("By").buildObserver());
+        // process.memory.virtual — UpDownCounter, unit "By"
+        this.memoryVirtual = add(meter.upDownCounterBuilder("process.memory.virtual")
+                .setDescription("The amount of committed virtual memory").setUnit("By").buildObserver());
+        // process.disk.io — Counter, unit "By", attr disk.io.direction
+        this.diskIo = add(meter.counterBuilder("process.disk.io").setDescription("Disk bytes transferred").setUnit("By")
+                .buildObserver());
+        // process.thread.count — UpDownCounter, unit "{thread}"
+        this.threadCount = add(meter.upDownCounterBuilder("process.thread.count")
+                .setDescription("Process threads count").setUnit("{thread}").buildObserver());
+        // process.open_file_descriptor.count — UpDownCounter, unit "{file_descriptor}"
+        this.openFileDescriptors = add(meter.upDownCounterBuilder("process.open_file_descriptor.count")
+                .setDescription("Number of file descriptors in use by the process").setUnit("{file_descriptor}")
+                .buildObserver());
+        // process.paging.faults — Counter, unit "{fault}", attr system.paging.fault.type
+        this.pagingFaults = add(meter.counterBuilder("process.paging.faults")
+                .setDescription("Number of page faults the process has made").setUnit("{fault}").buildObserver());
+        // process.context_switches — Counter, unit "{context_switch}", attr process.context_switch.type
+        this.contextSwitches = add(meter.counterBuilder("process.context_switches")
+                .setDescription("Number of times the process has been context switched").setUnit("{context_switch}")
+                .buildObserver());
+        // process.uptime — Gauge, unit "s"
+        this.uptime = add(meter.gaugeBuilder("process.uptime").setDescription("The time the process has been running")
+                .setUnit("s").buildObserver());
+    }
+
+    @Override
+    void observe() {
+        OSProcess p = processSupplier.get();
+        cpuTime.record(p.getUserTime() / MS_PER_SECOND, MODE_USER);
+        cpuTime.record(p.getKernelTime() / MS_PER_SECOND, MODE_SYSTEM);
+        memoryUsage.record(p.getResidentMemory());
+        memoryVirtual.record(p.getVirtualSize());
+        diskIo.record(p.getBytesRead(), DIRECTION_READ);
+        diskIo.record(p.getBytesWritten(), DIRECTION_WRITE);
+        threadCount.record(p.getThreadCount());
+        openFileDescriptors.record(p.getOpenFiles());
+        pagingFaults.record(p.getMinorFaults(), FAULT_MINOR);
+        pagingFaults.record(p.getMajorFaults(), FAULT_MAJOR);
+        if (contextSwitchSplit) {
+            contextSwitches.record(p.getVoluntaryContextSwitches(), SWITCH_VOLUNTARY);
+            contextSwitches.record(p.getInvoluntaryContextSwitches(), SWITCH_INVOLUNTARY);
+        } else if (p.getContextSwitches() > 0) {
+            contextSwitches.record(p.getContextSwitches(), SWITCH_TOTAL);
+        }
+        uptime.record(p.getUpTime() / MS_PER_SECOND);
+    }
+}
@@ -0,0 +1,9 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+/**
+ * OpenTelemetry instrumentation for OSHI system metrics, following OpenTelemetry semantic conventions and observed with
+ * batch callbacks.
+ */
+package oshi.otel;
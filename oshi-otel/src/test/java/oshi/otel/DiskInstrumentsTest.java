@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import oshi.hardware.common.AbstractHWDiskStore;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+
+/**
+ * Tests that the batch callback reads a disk once per collection rather than once per instrument.
+ */
+class DiskInstrumentsTest {
+
+    /** A disk whose counters advance on every refresh, and which counts how often it was refreshed. */
+    private static class CountingHWDiskStore extends AbstractHWDiskStore {
+        private int refreshes;
+
+        CountingHWDiskStore(String name) {
+            super(name, "model", "serial", 1000L, "SSD");
+        }
+
+        @Override
+        public boolean updateAttributes() {
+            this.refreshes++;
+            // Advance every counter by the same amount, so any two of them read from one refresh agree
+            long n = this.refreshes;
+            setDiskStats(n, n, n, n, 0L, n, 0L);
+            return true;
+        }
+    }
+
+    @Test
+    void oneRefreshPerDiskPerCollection() {
+        CountingHWDiskStore disk0 = new CountingHWDiskStore("disk0");
+        CountingHWDiskStore disk1 = new CountingHWDiskStore("disk1");
+        InMemoryMetricReader reader = InMemoryMetricReader.create();
+        try (SdkMeterProvider provider = SdkMeterProvider.builder().registerMetricReader(reader).build()) {
+            Meter meter = provider.get("test");
+            DiskInstruments instruments = new DiskInstruments(meter, () -> Arrays.asList(disk0, disk1));
+            OshiTelemetry.batchCallback(meter, Collections.singletonList(instruments));
+
+            for (int collection = 1; collection <= 3; collection++) {
+                Collection<MetricData> metrics = reader.collectAllMetrics();
+                assertEquals(collection, disk0.refreshes, "Each collection should refresh disk0 once");
+                assertEquals(collection, disk1.refreshes, "Each collection should refresh disk1 once");
+                for (MetricData m : metrics) {
+                    if (m.getName().equals("system.disk.io") || m.getName().equals("system.disk.operations")) {
+                        for (LongPointData p : m.getLongSumData().getPoints()) {
+                            assertEquals(collection, p.getValue(),
+                                    m.getName() + " should read this collection's refresh");
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
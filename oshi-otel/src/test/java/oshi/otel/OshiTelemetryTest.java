@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 The OSHI Project Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package oshi.otel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import oshi.SystemInfo;
+
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+
+class OshiTelemetryTest {
+
+    private static final SystemInfo SI = new SystemInfo();
+
+    private InMemoryMetricReader reader;
+    private SdkMeterProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        reader = InMemoryMetricReader.create();
+        provider = SdkMeterProvider.builder().registerMetricReader(reader).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.close();
+    }
+
+    private Set<String> collectNames() {
+        Collection<MetricData> metrics = reader.collectAllMetrics();
+        return metrics.stream().map(MetricData::getName).collect(Collectors.toSet());
+    }
+
+    @Test
+    void registersSemanticConventionInstruments() {
+        try (OshiTelemetry telemetry = new OshiTelemetry(SI)) {
+            telemetry.register(provider.get(OshiTelemetry.INSTRUMENTATION_SCOPE));
+            Set<String> names = collectNames();
+            for (String name : new String[] { "system.uptime", "system.process.count", "system.cpu.time",
+                    "system.cpu.logical.count", "system.memory.usage", "system.memory.limit",
+                    "system.memory.utilization", "system.paging.usage", "process.cpu.time", "process.memory.usage",
+                    "process.thread.count", "process.uptime" }) {
+                assertTrue(names.contains(name), name + " should be observed");
+            }
+        }
+    }
+
+    @Test
+    void memoryStatesSumToLimit() {
+        try (OshiTelemetry telemetry = OshiTelemetry.builder(SI).enableGeneral(false).enableCpu(false)
+                .enablePaging(false).enableDisk(false).enableFileSystem(false).enableNetwork(false).enableProcess(false)
+                .build()) {
+            telemetry.register(provider.get(OshiTelemetry.INSTRUMENTATION_SCOPE));
+            Collection<MetricData> metrics = reader.collectAllMetrics();
+            long usage = metrics.stream().filter(m -> m.getName().equals("system.memory.usage"))
+                    .flatMap(m -> m.getLongSumData().getPoints().stream()).mapToLong(p -> p.getValue()).sum();
+            long limit = metrics.stream().filter(m -> m.getName().equals("system.memory.limit"))
+                    .flatMap(m -> m.getLongSumData().getPoints().stream()).mapToLong(p -> p.getValue()).sum();
+            assertEquals(limit, usage, "Used and free memory should sum to the limit");
+        }
+    }
+
+    @Test
+    void builderSelectiveRegistration() {
+        try (OshiTelemetry telemetry = OshiTelemetry.builder(SI).enableMemory(false).enableDisk(false)
+                .enableFileSystem(false).enableNetwork(false).enableProcess(false).build()) {
+            telemetry.register(provider.get(OshiTelemetry.INSTRUMENTATION_SCOPE));
+            Set<String> names = collectNames();
+            assertTrue(names.contains("system.cpu.time"), "CPU metrics should be observed");
+            assertFalse(names.contains("system.memory.usage"), "Memory metrics should not be registered");
+            assertFalse(names.contains("process.cpu.time"), "Process metrics should not be registered");
+        }
+    }
+
+    @Test
+    void closeStopsObserving() {
+        OshiTelemetry telemetry = OshiTelemetry.builder(SI).enableDisk(false).enableFileSystem(false)
+                .enableNetwork(false).build();
+        telemetry.register(provider.get(OshiTelemetry.INSTRUMENTATION_SCOPE));
+        assertFalse(collectNames().isEmpty(), "Metrics should be observed while registered");
+        telemetry.close();
+        assertTrue(collectNames().isEmpty(), "No metrics should be observed after close");
+    }
+}